@@ -2,6 +2,7 @@ package de.tum.cit.aet.application.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import de.tum.cit.aet.application.constants.ApplicationState;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -36,4 +37,35 @@ public record AdminApplicationOverviewDTO(
     String supervisingProfessorName,
     ApplicationState state,
     LocalDateTime createdAt
-) {}
+) {
+    public AdminApplicationOverviewDTO(
+        UUID applicationId,
+        UUID applicantUserId,
+        String applicantName,
+        String applicantAvatar,
+        String applicantAvatarVariantWidths,
+        UUID jobId,
+        String jobTitle,
+        UUID researchGroupId,
+        String researchGroupName,
+        UUID supervisingProfessorId,
+        String supervisingProfessorName,
+        ApplicationState state,
+        LocalDateTime createdAt
+    ) {
+        this(
+            applicationId,
+            applicantUserId,
+            applicantName,
+            ImageVariantUtil.avatarOf(applicantAvatar, applicantAvatarVariantWidths),
+            jobId,
+            jobTitle,
+            researchGroupId,
+            researchGroupName,
+            supervisingProfessorId,
+            supervisingProfessorName,
+            state,
+            createdAt
+        );
+    }
+}
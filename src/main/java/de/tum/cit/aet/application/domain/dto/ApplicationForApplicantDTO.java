@@ -7,6 +7,7 @@ import de.tum.cit.aet.core.util.HtmlSanitizer;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.dto.JobCardDTO;
 import de.tum.cit.aet.reference.dto.ReferenceRequestDTO;
+import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.dto.ApplicantDTO;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -90,6 +91,7 @@ public record ApplicationForApplicantDTO(
             return null;
         }
         Job job = application.getJob();
+        User professor = job.getSupervisingProfessor();
         return new ApplicationForApplicantDTO(
             application.getApplicationId(),
             ApplicantDTO.getFromApplicationSnapshot(application),
@@ -97,19 +99,19 @@ public record ApplicationForApplicantDTO(
                 job.getJobId(),
                 job.getTitle(),
                 job.getLocation(),
-                job.getSupervisingProfessor().getLastName(),
+                professor.getLastName(),
                 job.getSubjectArea(),
-                job.getSupervisingProfessor().getAvatar(),
-                application.getApplicationId(),
-                application.getState(),
+                professor.getAvatar(),
+                professor.getAvatarVariantWidths(),
                 job.getWorkload(),
                 job.getStartDate(),
                 job.getEndDate(),
                 job.getContractDuration(),
                 job.getReferenceLettersRequired(),
                 job.getRecommendationType(),
-                job.getImage() != null ? job.getImage().getUrl() : null
-            ),
+                job.getImage() != null ? job.getImage().getUrl() : null,
+                job.getImage() != null ? job.getImage().getVariantWidths() : null
+            ).withApplication(application.getApplicationId(), application.getState()),
             application.getState(),
             application.getDesiredStartDate(),
             HtmlSanitizer.sanitize(application.getProjects()),
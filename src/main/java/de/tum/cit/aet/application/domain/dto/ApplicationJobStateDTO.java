@@ -0,0 +1,16 @@
+package de.tum.cit.aet.application.domain.dto;
+
+import de.tum.cit.aet.application.constants.ApplicationState;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight view of one of an applicant's applications, used to decorate job cards
+ * with the caller's own application state.
+ *
+ * @param jobId            the ID of the job the application belongs to
+ * @param applicationId    the ID of the application
+ * @param applicationState the current state of the application
+ * @param createdAt        the creation time, used to pick the latest application per job
+ */
+public record ApplicationJobStateDTO(UUID jobId, UUID applicationId, ApplicationState applicationState, LocalDateTime createdAt) {}
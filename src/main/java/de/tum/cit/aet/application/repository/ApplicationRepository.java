@@ -4,9 +4,12 @@ import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.application.domain.dto.AdminApplicationOverviewDTO;
 import de.tum.cit.aet.application.domain.dto.ApplicationForApplicantDTO;
+import de.tum.cit.aet.application.domain.dto.ApplicationJobStateDTO;
 import de.tum.cit.aet.application.domain.dto.ApplicationOverviewDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationRefDTO;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +37,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                         ap.user.userId,
                         a.applicantEmail,
                         ap.user.avatar,
+                        ap.user.avatarVariantWidths,
                         a.applicantFirstName,
                         a.applicantLastName,
                         a.applicantGender,
@@ -67,6 +71,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                     CONCAT(j.supervisingProfessor.firstName, ' ', j.supervisingProfessor.lastName),
                     j.subjectArea,
                     j.supervisingProfessor.avatar,
+                    j.supervisingProfessor.avatarVariantWidths,
                     a.applicationId,
                     a.state,
                     j.workload,
@@ -75,7 +80,8 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                     j.contractDuration,
                     j.referenceLettersRequired,
                     j.recommendationType,
-                    i.url
+                    i.url,
+                    i.variantWidths
                 ),
                 a.state,
                 a.desiredStartDate,
@@ -102,6 +108,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                         ap.user.userId,
                         a.applicantEmail,
                         ap.user.avatar,
+                        ap.user.avatarVariantWidths,
                         a.applicantFirstName,
                         a.applicantLastName,
                         a.applicantGender,
@@ -135,6 +142,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                     CONCAT(j.supervisingProfessor.firstName, ' ', j.supervisingProfessor.lastName),
                     j.subjectArea,
                     j.supervisingProfessor.avatar,
+                    j.supervisingProfessor.avatarVariantWidths,
                     a.applicationId,
                     a.state,
                     j.workload,
@@ -143,7 +151,8 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                     j.contractDuration,
                     j.referenceLettersRequired,
                     j.recommendationType,
-                    i.url
+                    i.url,
+                    i.variantWidths
                 ),
                 a.state,
                 a.desiredStartDate,
@@ -205,6 +214,32 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
     @Query("SELECT a FROM Application a WHERE a.applicant.user.userId = :userId AND a.job.jobId = :jobId")
     Application getByApplicantByUserIdAndJobId(@Param("userId") UUID userId, @Param("jobId") UUID jobId);
 
+    /**
+     * Finds the caller's applications for the given jobs in a single query.
+     * Used to overlay the user-independent job cards with the caller's own application state.
+     *
+     * @param userId the ID of the applicant (user ID)
+     * @param jobIds the IDs of the jobs on the current page
+     * @return the applications of the user for the given jobs
+     */
+    @Query(
+        """
+            SELECT new de.tum.cit.aet.application.domain.dto.ApplicationJobStateDTO(
+                a.job.jobId,
+                a.applicationId,
+                a.state,
+                a.createdAt
+            )
+            FROM Application a
+            WHERE a.applicant.userId = :userId
+              AND a.job.jobId IN :jobIds
+        """
+    )
+    List<ApplicationJobStateDTO> findApplicationStatesByUserIdAndJobIds(
+        @Param("userId") UUID userId,
+        @Param("jobIds") Collection<UUID> jobIds
+    );
+
     @Query("SELECT COUNT(a) FROM Application a WHERE a.applicant.user.userId = :applicantId")
     long countByApplicantId(@Param("applicantId") UUID applicantId);
 
@@ -344,6 +379,27 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
     )
     Slice<UUID> findApplicationsToBeDeletedBeforeCutoff(LocalDateTime cutoff, Pageable pageable);
 
+    /**
+     * Returns the research groups owning the jobs of the given applications, so their cached list
+     * counts can be invalidated after a bulk change.
+     *
+     * @param applicationIds the application ids
+     * @return the distinct research group ids
+     */
+    @Query("SELECT DISTINCT a.job.researchGroup.researchGroupId FROM Application a WHERE a.applicationId IN :applicationIds")
+    List<UUID> findResearchGroupIdsByApplicationIds(@Param("applicationIds") List<UUID> applicationIds);
+
+    /**
+     * Bulk-deletes the given applications. The caller must delete the child rows first; the JPA
+     * cascades on {@link Application} are not applied.
+     *
+     * @param applicationIds the application ids
+     * @return the number of deleted rows
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Application a WHERE a.applicationId IN :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+
     /**
      * Finds all applications for a specific applicant as overview DTOs, with
      * pagination and sorting.
@@ -394,8 +450,9 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
      * @param supervisingProfessorIds optional list of supervising-professor user ids to include
      * @param jobIds                  optional list of job ids to include
      * @param searchQuery             optional search string for applicant name or job title
-     * @param pageable                the pagination configuration
-     * @return a page of matching applications as {@link AdminApplicationOverviewDTO}
+     * @param pageable                the pagination configuration; the total is counted separately by
+     *                                {@link #countAllApplicationsForAdmin} so it can be cached
+     * @return the requested page of matching applications as {@link AdminApplicationOverviewDTO}
      */
     @Query(
         """
@@ -404,6 +461,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
                 a.applicant.user.userId,
                 CONCAT(a.applicant.user.firstName, ' ', a.applicant.user.lastName),
                 a.applicant.user.avatar,
+                a.applicant.user.avatarVariantWidths,
                 a.job.jobId,
                 a.job.title,
                 a.job.researchGroup.researchGroupId,
@@ -424,7 +482,7 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
             )
         """
     )
-    Page<AdminApplicationOverviewDTO> findAllApplicationsForAdmin(
+    List<AdminApplicationOverviewDTO> findAllApplicationsForAdmin(
         @Param("states") List<ApplicationState> states,
         @Param("researchGroupIds") List<UUID> researchGroupIds,
         @Param("supervisingProfessorIds") List<UUID> supervisingProfessorIds,
@@ -432,4 +490,77 @@ public interface ApplicationRepository extends TumApplyJpaRepository<Application
         @Param("searchQuery") String searchQuery,
         Pageable pageable
     );
+
+    /**
+     * Counts the applications matching the filters of {@link #findAllApplicationsForAdmin}.
+     *
+     * @param states                  optional list of application states to include
+     * @param researchGroupIds        optional list of research-group ids to include
+     * @param supervisingProfessorIds optional list of supervising-professor user ids to include
+     * @param jobIds                  optional list of job ids to include
+     * @param searchQuery             optional search string for applicant name or job title
+     * @return the number of matching applications
+     */
+    @Query(
+        """
+            SELECT COUNT(a)
+            FROM Application a
+            WHERE (:states IS NULL OR a.state IN :states)
+            AND (:researchGroupIds IS NULL OR a.job.researchGroup.researchGroupId IN :researchGroupIds)
+            AND (:supervisingProfessorIds IS NULL OR a.job.supervisingProfessor.userId IN :supervisingProfessorIds)
+            AND (:jobIds IS NULL OR a.job.jobId IN :jobIds)
+            AND (:searchQuery IS NULL OR
+                a.job.title LIKE CONCAT('%', :searchQuery, '%') OR
+                CONCAT(a.applicant.user.firstName, ' ', a.applicant.user.lastName) LIKE CONCAT('%', :searchQuery, '%')
+            )
+        """
+    )
+    long countAllApplicationsForAdmin(
+        @Param("states") List<ApplicationState> states,
+        @Param("researchGroupIds") List<UUID> researchGroupIds,
+        @Param("supervisingProfessorIds") List<UUID> supervisingProfessorIds,
+        @Param("jobIds") List<UUID> jobIds,
+        @Param("searchQuery") String searchQuery
+    );
+
+    /**
+     * Returns a lightweight reference to every application, ordered by id. Used by the
+     * applications-only export to group applications by applicant before loading them.
+     *
+     * @return one reference per application
+     */
+    @Query(
+        """
+            SELECT new de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationRefDTO(
+                a.applicationId,
+                ap.userId,
+                a.applicantLastName,
+                a.applicantFirstName
+            )
+            FROM Application a
+            LEFT JOIN a.applicant ap
+            ORDER BY a.applicationId
+        """
+    )
+    List<AdminApplicationRefDTO> findAllExportRefs();
+
+    /**
+     * Returns the next chunk of applications in id order, starting after the given id. Used by
+     * the admin bulk export to walk the whole table with keyset pagination.
+     *
+     * @param after    the id of the last application of the previous chunk, or {@code null} for the first chunk
+     * @param pageable the chunk size; the page number must be 0
+     * @return the applications of the chunk, ordered by id
+     */
+    @Query("SELECT a FROM Application a WHERE (:after IS NULL OR a.applicationId > :after) ORDER BY a.applicationId")
+    List<Application> findExportChunkAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Counts the applications of a job, regardless of their state.
+     *
+     * @param jobId the job id
+     * @return the number of applications for that job
+     */
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.job.jobId = :jobId")
+    long countAllByJobId(@Param("jobId") UUID jobId);
 }
@@ -20,6 +20,7 @@ import de.tum.cit.aet.core.exception.EntityNotFoundException;
 import de.tum.cit.aet.core.exception.InvalidParameterException;
 import de.tum.cit.aet.core.exception.OperationNotAllowedException;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
 import de.tum.cit.aet.core.util.HtmlSanitizer;
 import de.tum.cit.aet.core.util.PageUtil;
 import de.tum.cit.aet.core.util.StringUtil;
@@ -69,6 +70,7 @@ public class ApplicationService {
     private final CurrentUserService currentUserService;
     private final AsyncEmailSender sender;
     private final ReferenceRequestService referenceRequestService;
+    private final FilteredCountCache filteredCountCache;
 
     /**
      * Creates a new job application for the given applicant and job.
@@ -138,6 +140,7 @@ public class ApplicationService {
 
         // 6) Persist the application
         Application savedApplication = applicationRepository.save(newApplication);
+        invalidateCounts(savedApplication);
 
         // 7) Prefill profile documents (CV, transcripts, references) onto the new application
         documentService.copyApplicantDocumentsToApplication(applicant, savedApplication, PROFILE_SYNCED_DOCUMENT_TYPES);
@@ -231,6 +234,7 @@ public class ApplicationService {
         application.setApplicantMasterUniversity(applicantDTO.masterUniversity());
 
         application = applicationRepository.save(application);
+        invalidateCounts(application);
 
         if (isSubmitting) {
             syncSnapshotDataToApplicant(application);
@@ -351,6 +355,7 @@ public class ApplicationService {
 
         application.setState(ApplicationState.WITHDRAWN);
         application = applicationRepository.save(application);
+        invalidateCounts(application);
 
         referenceRequestService.cancelPendingForWithdrawnApplication(application);
 
@@ -371,8 +376,18 @@ public class ApplicationService {
      * @param applicationId the UUID of the application to delete
      */
     public void deleteApplication(UUID applicationId) {
-        assertCanManageApplication(applicationId);
+        Application application = assertCanManageApplication(applicationId);
         applicationRepository.deleteById(applicationId);
+        invalidateCounts(application);
+    }
+
+    /**
+     * Invalidates the cached list counts of the research group the application was sent to.
+     *
+     * @param application the created, changed or deleted application
+     */
+    private void invalidateCounts(Application application) {
+        filteredCountCache.invalidate(application.getJob().getResearchGroup().getResearchGroupId());
     }
 
     /**
@@ -402,7 +417,8 @@ public class ApplicationService {
     /**
      * Returns a paginated list of applications across every research group for admin views.
      * Supports optional filters for state, research group, supervising professor, and job,
-     * plus a search string matching applicant full name or job title.
+     * plus a search string matching applicant full name or job title. The total is only
+     * recounted once an application, job or research group has changed.
      *
      * @param pageDTO     pagination configuration
      * @param adminFilter DTO containing all optionally filterable fields
@@ -417,14 +433,35 @@ public class ApplicationService {
         String searchQuery
     ) {
         Pageable pageable = PageUtil.createPageRequest(pageDTO, sortDTO, PageUtil.ColumnMapping.APPLICANT_APPLICATIONS, true);
-        return applicationRepository.findAllApplicationsForAdmin(
-            mapStateFilter(adminFilter.states()),
-            nullIfEmpty(adminFilter.researchGroupIds()),
-            nullIfEmpty(adminFilter.supervisingProfessorIds()),
-            nullIfEmpty(adminFilter.jobIds()),
-            StringUtil.normalizeSearchQuery(searchQuery),
+        List<ApplicationState> states = mapStateFilter(adminFilter.states());
+        List<UUID> researchGroupIds = nullIfEmpty(adminFilter.researchGroupIds());
+        List<UUID> supervisingProfessorIds = nullIfEmpty(adminFilter.supervisingProfessorIds());
+        List<UUID> jobIds = nullIfEmpty(adminFilter.jobIds());
+        String normalizedSearchQuery = StringUtil.normalizeSearchQuery(searchQuery);
+
+        List<AdminApplicationOverviewDTO> content = applicationRepository.findAllApplicationsForAdmin(
+            states,
+            researchGroupIds,
+            supervisingProfessorIds,
+            jobIds,
+            normalizedSearchQuery,
             pageable
         );
+        return filteredCountCache.page(
+            content,
+            pageable,
+            "admin-applications",
+            null,
+            Arrays.asList(states, researchGroupIds, supervisingProfessorIds, jobIds, normalizedSearchQuery),
+            () ->
+                applicationRepository.countAllApplicationsForAdmin(
+                    states,
+                    researchGroupIds,
+                    supervisingProfessorIds,
+                    jobIds,
+                    normalizedSearchQuery
+                )
+        );
     }
 
     /**
@@ -1,7 +1,9 @@
 package de.tum.cit.aet.core.config;
 
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import de.tum.cit.aet.notification.service.EmailTemplateService;
 import de.tum.cit.aet.usermanagement.domain.User;
+import java.time.Duration;
 import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
 import org.hibernate.cache.jcache.ConfigSettings;
@@ -53,16 +55,34 @@ public class CacheConfiguration {
         return cm -> {
             createCache(cm, User.class.getName());
             createCache(cm, User.class.getName() + ".authorities");
+            // Resolved email content is evicted locally on every template change; the short TTL bounds staleness on other nodes
+            createCache(cm, EmailTemplateService.RESOLVED_CONTENT_CACHE, Duration.ofMinutes(5));
             // jhipster-needle-caffeine-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, jcacheConfiguration);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, Duration timeToLive) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>(
+            (CaffeineConfiguration<Object, Object>) jcacheConfiguration
+        );
+        configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        createCache(cm, cacheName, configuration);
+    }
+
+    private void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        javax.cache.configuration.Configuration<Object, Object> configuration
+    ) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configuration);
         }
     }
 
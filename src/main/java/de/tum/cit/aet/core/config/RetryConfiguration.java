@@ -1,8 +0,0 @@
-package de.tum.cit.aet.core.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
-
-@Configuration
-@EnableRetry
-public class RetryConfiguration {}
@@ -0,0 +1,15 @@
+package de.tum.cit.aet.core.constants;
+
+/**
+ * Lifecycle of an admin bulk export run.
+ * <ul>
+ *   <li>{@code IN_PROGRESS} — a node holds the lease and builds the ZIP, or the run waits to be resumed</li>
+ *   <li>{@code READY} — the ZIP is complete on the shared storage and downloadable</li>
+ *   <li>{@code FAILED} — the build gave up; the error is recorded and partial files are deleted</li>
+ * </ul>
+ */
+public enum AdminExportStatus {
+    IN_PROGRESS,
+    READY,
+    FAILED,
+}
@@ -9,7 +9,6 @@ public enum ErrorCode {
     INTERNAL_ERROR,
     INVALID_PARAMETER,
     TEMPLATE_ERROR,
-    MAILING_ERROR,
     OPERATION_NOT_ALLOWED,
     RESOURCE_ALREADY_EXISTS,
     UNAUTHORIZED,
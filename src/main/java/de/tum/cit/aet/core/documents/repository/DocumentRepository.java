@@ -7,10 +7,12 @@ import de.tum.cit.aet.core.documents.domain.ApplicationDocument;
 import de.tum.cit.aet.core.documents.domain.Document;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.job.domain.Job;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -56,6 +58,15 @@ public interface DocumentRepository extends TumApplyJpaRepository<Document, UUID
     @Query("SELECT d FROM ApplicationDocument d WHERE d.application.applicationId = :applicationId")
     Set<ApplicationDocument> findAllApplicationDocuments(@Param("applicationId") UUID applicationId);
 
+    /**
+     * Returns all documents attached to any of the given applications, oldest first.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return the documents of these applications
+     */
+    @Query("SELECT d FROM ApplicationDocument d WHERE d.application.applicationId IN :applicationIds ORDER BY d.createdAt, d.documentId")
+    List<ApplicationDocument> findAllApplicationDocumentsByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
     /**
      * Returns the application-scoped documents of a specific type for the given application.
      *
@@ -81,6 +92,35 @@ public interface DocumentRepository extends TumApplyJpaRepository<Document, UUID
     @Query("SELECT COUNT(d) FROM Document d WHERE d.path = :path AND d.documentId <> :excludeId")
     long countOtherReferencesByPath(@Param("path") String path, @Param("excludeId") UUID excludeId);
 
+    /**
+     * Returns the distinct on-disk paths of the documents attached to the given applications.
+     *
+     * @param applicationIds the application ids
+     * @return the paths of their documents
+     */
+    @Query("SELECT DISTINCT d.path FROM ApplicationDocument d WHERE d.application.applicationId IN :applicationIds")
+    Set<String> findApplicationDocumentPaths(@Param("applicationIds") Collection<UUID> applicationIds);
+
+    /**
+     * Bulk-deletes the documents attached to the given applications.
+     *
+     * @param applicationIds the application ids
+     * @return the number of deleted rows
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ApplicationDocument d WHERE d.application.applicationId IN :applicationIds")
+    int deleteApplicationDocumentsByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
+    /**
+     * Returns those of the given paths that are still referenced by any document. Used by the batched
+     * orphan-file cleanup after a bulk delete.
+     *
+     * @param paths the on-disk paths to check
+     * @return the subset of {@code paths} that must be kept
+     */
+    @Query("SELECT DISTINCT d.path FROM Document d WHERE d.path IN :paths")
+    Set<String> findReferencedPaths(@Param("paths") Collection<String> paths);
+
     /**
      * Returns every document uploaded by the given user, regardless of subtype. Used by the
      * user-data export to bundle all uploads belonging to that user.
@@ -24,15 +24,20 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
@@ -48,16 +53,18 @@ import org.springframework.web.multipart.MultipartFile;
  * {@link ApplicationDocument} rows are snapshot copies created when the applicant submits a job application.
  * Both reference the same hash-named file on disk; deletion removes the file only when no other row references it.
  */
+@Slf4j
 @Service
 public class DocumentService {
 
     private static final EnumSet<FileExtension> ALLOWED_EXTENSIONS = EnumSet.allOf(FileExtension.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
     private final DocumentRepository documentRepository;
     private final CurrentUserService currentUserService;
     private final Path root;
     private final long maxFileSize;
-    private final MessageDigest sha256;
 
     /**
      * Initialises the service and ensures the storage root directory exists on disk.
@@ -79,7 +86,8 @@ public class DocumentService {
         this.currentUserService = currentUserService;
         this.root = Paths.get(rootDir).toAbsolutePath().normalize();
         this.maxFileSize = maxFileSize;
-        this.sha256 = MessageDigest.getInstance("SHA-256");
+        // Fail fast on startup; uploads create their own digest per call since MessageDigest is not thread-safe
+        MessageDigest.getInstance(HASH_ALGORITHM);
 
         try {
             Files.createDirectories(root);
@@ -266,6 +274,23 @@ public class DocumentService {
         return documentRepository.findAllApplicationDocuments(application.getApplicationId());
     }
 
+    /**
+     * Returns the documents attached to the given applications with a single query,
+     * grouped by application and ordered by upload time.
+     *
+     * @param applicationIds the IDs of the applications whose documents should be listed
+     * @return the documents per application ID; applications without documents are absent
+     */
+    public Map<UUID, List<ApplicationDocument>> listForApplications(Collection<UUID> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return Map.of();
+        }
+        return documentRepository
+            .findAllApplicationDocumentsByApplicationIds(applicationIds)
+            .stream()
+            .collect(Collectors.groupingBy(document -> document.getApplication().getApplicationId(), Collectors.toList()));
+    }
+
     /**
      * Returns the application-scoped documents of a specific type.
      *
@@ -394,22 +419,27 @@ public class DocumentService {
     }
 
     /**
-     * Deletes every document attached to the given application and removes any orphaned
-     * files from disk. Used by retention and application-deletion flows.
+     * Deletes every document attached to the given applications and removes any orphaned
+     * files from disk. Used by retention flows; issues one path query, one bulk delete and
+     * one orphan check for the whole batch instead of per-document round-trips.
      *
-     * @param applicationId the id of the application whose documents should be removed
+     * @param applicationIds the ids of the applications whose documents should be removed
+     * @return the number of deleted document rows
      */
-    public void deleteAllByApplicationId(UUID applicationId) {
-        // 1) Fetch the docs first because we need each path for orphan-file cleanup
-        Set<ApplicationDocument> applicationDocuments = documentRepository.findAllApplicationDocuments(applicationId);
+    public int deleteAllByApplicationIds(Collection<UUID> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
 
-        // 2) Bulk delete the rows; Hibernate batches via hibernate.jdbc.batch_size
-        documentRepository.deleteAll(applicationDocuments);
+        // 1) Collect the paths first because we need them for orphan-file cleanup
+        Set<String> paths = documentRepository.findApplicationDocumentPaths(applicationIds);
 
-        // 3) Remove each file from disk if no other Document row still references that path
-        for (ApplicationDocument applicationDocument : applicationDocuments) {
-            removeFileIfOrphan(applicationDocument.getPath(), applicationDocument.getDocumentId());
-        }
+        // 2) Delete all rows in a single statement
+        int deleted = documentRepository.deleteApplicationDocumentsByApplicationIds(applicationIds);
+
+        // 3) Remove the files no remaining Document row references
+        removeFilesIfOrphan(paths);
+        return deleted;
     }
 
     // ---------------------------------------------------------------------
@@ -553,6 +583,30 @@ public class DocumentService {
         }
     }
 
+    /**
+     * Batch variant of {@link #removeFileIfOrphan}: checks all paths in one query after their rows
+     * were deleted and removes the files that are no longer referenced.
+     *
+     * @param storedPaths the paths of the deleted documents
+     * @throws UncheckedIOException if a file deletion fails for an I/O reason
+     */
+    private void removeFilesIfOrphan(Set<String> storedPaths) {
+        if (storedPaths.isEmpty()) {
+            return;
+        }
+        Set<String> stillReferenced = documentRepository.findReferencedPaths(storedPaths);
+        for (String storedPath : storedPaths) {
+            if (stillReferenced.contains(storedPath)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(resolveStoredPath(storedPath));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete orphaned document file at " + storedPath, e);
+            }
+        }
+    }
+
     /**
      * Copies the immutable storage attributes from {@code stored} onto a new Document row,
      * and stamps the type, display name, and uploader.
@@ -567,34 +621,44 @@ public class DocumentService {
     }
 
     /**
-     * Validates the upload, computes its content hash, and writes it to the storage root if not already there.
+     * Validates the upload and writes it to the storage root in a single pass: the content is hashed
+     * while it is streamed into a temporary file, which is then atomically moved to its hash-derived name
+     * (or discarded if a file with identical content already exists).
      *
      * @param file the multipart upload to persist on disk
      * @return a {@link StoredFile} record carrying the on-disk path, mime type, and size
      * @throws UploadException if the file is invalid or cannot be stored
      */
     private StoredFile storeFile(MultipartFile file) {
-        // 1) Validate basic upload constraints (non-empty, allowed extension, size limit)
+        // 1) Validate basic upload constraints (non-empty, allowed extension, declared size)
         validate(file);
-        try {
-            FileExtension ext = parseExtension(file);
+        FileExtension ext = parseExtension(file);
 
-            // 2) Hash the content to derive a deterministic filename, deduplicating identical bytes on disk
-            String hash = computeFileHash(file);
-            String storageFilename = hash + '.' + ext.getExtension();
-            Path target = root.resolve(storageFilename);
+        Path temp = null;
+        try {
+            // 2) Stream the content into a temp file inside the storage root (same file system, so the move below
+            //    is atomic), hashing it on the way and enforcing the size limit on the bytes actually received
+            temp = Files.createTempFile(root, "upload-", ".part");
+            MessageDigest digest = newDigest();
+            long sizeBytes;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest); OutputStream out = Files.newOutputStream(temp)) {
+                sizeBytes = copyWithLimit(in, out);
+            }
 
-            // 3) Only write if the target does not already exist (content hashes match means same bytes)
+            // 3) Derive the deterministic filename from the hash, deduplicating identical bytes on disk
+            String hash = HexFormat.of().withLowerCase().formatHex(digest.digest());
+            Path target = root.resolve(hash + '.' + ext.getExtension());
             if (Files.notExists(target)) {
-                try (InputStream in = file.getInputStream()) {
-                    Files.copy(in, target);
-                }
+                // A concurrent upload of the same bytes may win the race; replacing its file is harmless
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
             }
 
             String mime = Optional.ofNullable(file.getContentType()).orElse("application/octet-stream");
-            return new StoredFile(target.toString(), mime, file.getSize());
+            return new StoredFile(target.toString(), mime, sizeBytes);
         } catch (IOException ioe) {
             throw new UploadException("Cannot store file", ioe);
+        } finally {
+            deleteTempFile(temp);
         }
     }
 
@@ -682,14 +746,46 @@ public class DocumentService {
     }
 
     /**
-     * Streams the file through SHA-256 to compute its content hash without loading it fully into memory.
+     * Copies the stream and aborts as soon as more than {@code maxFileSize} bytes have been read,
+     * independent of the size the client declared.
+     *
+     * @throws UploadException if the content exceeds the size limit
+     */
+    private long copyWithLimit(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxFileSize) {
+                throw new UploadException("File exceeds maximum size of " + maxFileSize + " bytes");
+            }
+            out.write(buffer, 0, read);
+        }
+        return total;
+    }
+
+    /**
+     * Creates a fresh digest per upload; {@link MessageDigest} instances must not be shared between threads.
      */
-    private String computeFileHash(MultipartFile file) throws IOException {
-        sha256.reset();
-        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), sha256)) {
-            in.transferTo(OutputStream.nullOutputStream());
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static void deleteTempFile(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            // Leftover .part files are harmless; they are never referenced by a document row
+            log.debug("Could not delete temporary upload file {}: {}", temp, e.getMessage());
         }
-        return HexFormat.of().withLowerCase().formatHex(sha256.digest());
     }
 
     /** Snapshot of an upload after it has been validated, hashed, and written to disk. */
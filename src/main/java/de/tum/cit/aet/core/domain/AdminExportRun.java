@@ -0,0 +1,83 @@
+package de.tum.cit.aet.core.domain;
+
+import de.tum.cit.aet.core.constants.AdminExportStatus;
+import de.tum.cit.aet.core.constants.AdminExportType;
+import de.tum.cit.aet.core.domain.export.NoUserDataExportRequired;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One admin bulk export, shared by all application nodes.
+ *
+ * The node building the export holds a lease on the row and periodically renews it together with
+ * the progress snapshot. The checkpoints list the sections of the ZIP that are already complete on
+ * the shared storage, so a run whose lease expired is resumed by another node from there.
+ * Rows are deleted together with their files once the export TTL has passed.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "admin_export_runs")
+@NoUserDataExportRequired(reason = "Short-lived operational state of admin bulk exports, deleted after the export TTL")
+public class AdminExportRun extends AbstractAuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "admin_export_run_id", nullable = false, updatable = false)
+    private UUID adminExportRunId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "export_type", nullable = false, updatable = false)
+    private AdminExportType exportType;
+
+    @Column(name = "requested_by", nullable = false, updatable = false)
+    private UUID requestedBy;
+
+    /**
+     * The requesting admin while the run is in progress, {@code null} once it finished. The unique
+     * constraint on this column allows one running export per admin across all nodes.
+     */
+    @Column(name = "active_requested_by", unique = true)
+    private UUID activeRequestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private AdminExportStatus status = AdminExportStatus.IN_PROGRESS;
+
+    /**
+     * JSON snapshot of the export manifest, refreshed with every lease renewal.
+     */
+    @Column(name = "progress", columnDefinition = "LONGTEXT")
+    private String progress;
+
+    /**
+     * JSON list of the completed sections, their part files and what they added to the manifest.
+     */
+    @Column(name = "checkpoints", columnDefinition = "LONGTEXT")
+    private String checkpoints;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "lease_expires_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime finishedAt;
+}
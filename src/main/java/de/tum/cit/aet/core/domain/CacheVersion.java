@@ -0,0 +1,37 @@
+package de.tum.cit.aet.core.domain;
+
+import de.tum.cit.aet.core.domain.export.NoUserDataExportRequired;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cluster-wide version of a node-local cache, shared by all application nodes.
+ *
+ * Writers bump the version in the transaction that changes the cached data, so every node sees the
+ * new version exactly when the change becomes visible and stops serving snapshots of older versions.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "cache_versions")
+@NoUserDataExportRequired(reason = "Operational cache coordination state without user data")
+public class CacheVersion {
+
+    @Id
+    @Column(name = "cache_name", nullable = false, updatable = false)
+    private String cacheName;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public CacheVersion(String cacheName, long version) {
+        this.cacheName = cacheName;
+        this.version = version;
+    }
+}
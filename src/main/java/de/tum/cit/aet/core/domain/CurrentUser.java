@@ -1,12 +1,28 @@
 package de.tum.cit.aet.core.domain;
 
 import de.tum.cit.aet.usermanagement.constants.UserRole;
+import de.tum.cit.aet.usermanagement.domain.User;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 public record CurrentUser(UUID userId, String email, String firstName, String lastName, List<ResearchGroupRole> researchGroupRoles) {
+    /**
+     * Creates an immutable snapshot of the given user and their research group roles.
+     *
+     * @param user the user entity with its research group roles loaded
+     * @return the snapshot
+     */
+    public static CurrentUser getFromEntity(User user) {
+        List<ResearchGroupRole> roles = user
+            .getResearchGroupRoles()
+            .stream()
+            .map(r -> new ResearchGroupRole(r.getRole(), r.getResearchGroup() != null ? r.getResearchGroup().getResearchGroupId() : null))
+            .toList();
+        return new CurrentUser(user.getUserId(), user.getEmail(), user.getFirstName(), user.getLastName(), roles);
+    }
+
     public boolean isAdmin() {
         return researchGroupRoles.stream().anyMatch(r -> r.role() == UserRole.ADMIN);
     }
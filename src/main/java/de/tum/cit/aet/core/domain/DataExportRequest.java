@@ -54,4 +54,14 @@ public class DataExportRequest extends AbstractAuditingEntity {
 
     @Column(name = "file_path")
     private String filePath;
+
+    // Set while a worker builds the export; requests with an expired lease are claimed again
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "progress_done")
+    private Integer progressDone;
+
+    @Column(name = "progress_total")
+    private Integer progressTotal;
 }
@@ -3,6 +3,7 @@ package de.tum.cit.aet.core.domain;
 import de.tum.cit.aet.core.domain.export.NoUserDataExportRequired;
 import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
@@ -43,4 +44,24 @@ public abstract class Image extends AbstractAuditingEntity {
     @ManyToOne
     @JoinColumn(name = "uploaded_by")
     private User uploadedBy;
+
+    /**
+     * Comma-separated widths of the downscaled variants stored next to the original (e.g. "160,480,1200").
+     * Null until the variants have been generated, empty if the original is smaller than every variant.
+     */
+    @Column(name = "variant_widths", length = 64)
+    private String variantWidths;
+
+    /**
+     * Number of failed attempts to generate the variants. Generation is given up after
+     * {@code aet.storage.image-variants.max-attempts} failures.
+     */
+    @Column(name = "variant_attempts", nullable = false)
+    private int variantAttempts;
+
+    /**
+     * Time of the last failed attempt to generate the variants (UTC).
+     */
+    @Column(name = "variant_attempted_at")
+    private LocalDateTime variantAttemptedAt;
 }
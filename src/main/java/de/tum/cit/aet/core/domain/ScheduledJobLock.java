@@ -0,0 +1,44 @@
+package de.tum.cit.aet.core.domain;
+
+import de.tum.cit.aet.core.domain.export.NoUserDataExportRequired;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cluster-wide lock of one scheduled job, shared by all application nodes.
+ *
+ * A node may run the job while it holds an unexpired lease on the row. Long runs keep extending
+ * the lease; if the node dies, the lease expires and the next trigger on any node takes over.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "scheduled_job_locks")
+@NoUserDataExportRequired(reason = "Operational coordination state of scheduled jobs without user data")
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "lock_name", nullable = false, updatable = false)
+    private String lockName;
+
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    public ScheduledJobLock(String lockName, LocalDateTime lockedUntil) {
+        this.lockName = lockName;
+        this.lockedUntil = lockedUntil;
+    }
+}
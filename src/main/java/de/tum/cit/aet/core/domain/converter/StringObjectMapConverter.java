@@ -0,0 +1,39 @@
+package de.tum.cit.aet.core.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+@Converter
+public class StringObjectMapConverter implements AttributeConverter<Map<String, Object>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Object> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Could not serialize Map<String, Object> to JSON", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> convertToEntityAttribute(String dbData) {
+        if (StringUtils.isBlank(dbData)) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(dbData, new TypeReference<>() {});
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Could not deserialize JSON to Map<String, Object>", e);
+        }
+    }
+}
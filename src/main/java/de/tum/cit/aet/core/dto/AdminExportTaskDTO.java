@@ -41,9 +41,9 @@ public record AdminExportTaskDTO(
     boolean downloadAvailable
 ) {
     /**
-     * Mirror of {@code AdminExportTask.Status} kept in the dto layer so the
-     * DTO does not import from the service layer. The names must stay in
-     * sync — the controller maps between the two by enum name.
+     * Mirror of {@code AdminExportStatus} kept in the wire shape so the API
+     * contract does not change with the persisted status. The names must stay
+     * in sync — the controller maps between the two by enum name.
      */
     public enum Status {
         IN_PROGRESS,
@@ -10,5 +10,7 @@ public record DataExportStatusDTO(
     LocalDateTime lastRequestedAt,
     LocalDateTime nextAllowedAt,
     long cooldownSeconds,
-    String downloadToken
+    String downloadToken,
+    Integer progressDone,
+    Integer progressTotal
 ) {}
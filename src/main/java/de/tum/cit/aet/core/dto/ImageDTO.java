@@ -7,6 +7,8 @@ import de.tum.cit.aet.core.domain.Image;
 import de.tum.cit.aet.core.domain.ProfileImage;
 import de.tum.cit.aet.core.domain.ResearchGroupImage;
 import de.tum.cit.aet.core.exception.UnknownImageTypeException;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
+import java.util.Map;
 import java.util.UUID;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -15,6 +17,7 @@ public record ImageDTO(
     UUID researchGroupId,
     UUID departmentId,
     String url,
+    Map<Integer, String> variants,
     ImageType imageType,
     Long sizeBytes,
     UUID uploadedById,
@@ -54,6 +57,7 @@ public record ImageDTO(
             researchGroupId,
             departmentId,
             image.getUrl(),
+            ImageVariantUtil.variantUrls(image.getUrl(), image.getVariantWidths()),
             imageType,
             image.getSizeBytes(),
             uploadedById,
@@ -78,6 +82,7 @@ public record ImageDTO(
             dto.researchGroupId(),
             dto.departmentId(),
             dto.url(),
+            dto.variants(),
             dto.imageType(),
             dto.sizeBytes(),
             dto.uploadedById(),
@@ -0,0 +1,15 @@
+package de.tum.cit.aet.core.dto.exportdata.admin;
+
+import java.util.UUID;
+
+/**
+ * Lightweight reference to an application, carrying only the columns the
+ * applications-only export needs to group applications by applicant before
+ * loading each applicant's applications on their own.
+ *
+ * @param applicationId      the ID of the application
+ * @param applicantId        the user ID of the applicant, or {@code null} if the applicant row is gone
+ * @param applicantLastName  the last name snapshot stored on the application
+ * @param applicantFirstName the first name snapshot stored on the application
+ */
+public record AdminApplicationRefDTO(UUID applicationId, UUID applicantId, String applicantLastName, String applicantFirstName) {}
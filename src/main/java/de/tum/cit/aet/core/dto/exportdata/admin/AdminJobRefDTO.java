@@ -0,0 +1,18 @@
+package de.tum.cit.aet.core.dto.exportdata.admin;
+
+import de.tum.cit.aet.job.constants.JobState;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight reference to a job, carrying only the columns the admin bulk export
+ * needs to bucket and order jobs before loading each one on its own.
+ *
+ * @param jobId           the ID of the job
+ * @param researchGroupId the ID of the job's research group, or {@code null} for orphaned jobs
+ * @param state           the current state of the job
+ * @param endDate         the application deadline, or {@code null} if there is none
+ * @param createdAt       the creation time, used to order jobs newest-first
+ */
+public record AdminJobRefDTO(UUID jobId, UUID researchGroupId, JobState state, LocalDate endDate, LocalDateTime createdAt) {}
@@ -0,0 +1,14 @@
+package de.tum.cit.aet.core.dto.exportdata.admin;
+
+import de.tum.cit.aet.usermanagement.constants.ResearchGroupState;
+import java.util.UUID;
+
+/**
+ * Lightweight reference to a research group, carrying only the columns the admin
+ * bulk export needs to select and order groups before loading each one on its own.
+ *
+ * @param researchGroupId the ID of the research group
+ * @param name            the full name of the research group
+ * @param state           the current state of the research group
+ */
+public record AdminResearchGroupRefDTO(UUID researchGroupId, String name, ResearchGroupState state) {}
@@ -5,6 +5,7 @@ import de.tum.cit.aet.core.dto.ApiError;
 import de.tum.cit.aet.core.exception.*;
 import de.tum.cit.aet.core.exception.errors.ValidationFieldError;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Instant;
 import java.util.List;
@@ -61,7 +62,6 @@ public class GlobalExceptionHandler {
         Map.entry(UnauthorizedException.class, new ExceptionMetadata(HttpStatus.UNAUTHORIZED, ErrorCode.UNAUTHORIZED)),
         Map.entry(InterviewProcessClosedException.class, new ExceptionMetadata(HttpStatus.FORBIDDEN, ErrorCode.INTERVIEW_PROCESS_CLOSED)),
         Map.entry(TooManyRequestsException.class, new ExceptionMetadata(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS)),
-        Map.entry(MailingException.class, new ExceptionMetadata(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.MAILING_ERROR)),
         Map.entry(InternalServerException.class, new ExceptionMetadata(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR)),
         Map.entry(UnknownImageTypeException.class, new ExceptionMetadata(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN_IMAGE_TYPE)),
         Map.entry(
@@ -78,13 +78,24 @@ public class GlobalExceptionHandler {
     /**
      * Handles all runtime exceptions and validation errors.
      * Maps them to appropriate HTTP responses and error codes.
+     * <p>
+     * Exceptions of streamed responses that are already committed are rethrown instead: the status
+     * has been sent, and an error body would be appended to the partial content. The container
+     * then aborts the connection, so the client does not mistake the truncated content for a
+     * complete response.
      *
-     * @param ex      the exception that was thrown
-     * @param request the current HTTP request
+     * @param ex       the exception that was thrown
+     * @param request  the current HTTP request
+     * @param response the current HTTP response
      * @return a ResponseEntity with a structured ApiError body
+     * @throws Exception the given exception if the response is already committed
      */
     @ExceptionHandler({ Exception.class })
-    public ResponseEntity<Object> handleRuntime(Exception ex, HttpServletRequest request) {
+    public ResponseEntity<Object> handleRuntime(Exception ex, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (response.isCommitted()) {
+            log.error("Aborting committed response after exception - Path: {}", request.getRequestURI(), ex);
+            throw ex;
+        }
         if (ex instanceof HandlerMethodValidationException hmve) {
             log.warn("Handled handler-method validation: {} - Path: {}", hmve.getMessage(), request.getRequestURI());
             return buildErrorResponse(
@@ -150,10 +161,6 @@ public class GlobalExceptionHandler {
             log.warn("Handled template processing exception: {} - Path: {}", tpe.getClass().getSimpleName(), request.getRequestURI(), ex);
             return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.TEMPLATE_ERROR, ex, request.getRequestURI(), null);
         }
-        if (ex instanceof MailingException me) {
-            log.warn("Handled mailing exception: {} - Path: {}", me.getClass().getSimpleName(), request.getRequestURI(), ex);
-            return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.MAILING_ERROR, ex, request.getRequestURI(), null);
-        }
         if (ex instanceof EmailSettingException ese) {
             log.warn("Handled mailing exception: {} - Path: {}", ese.getClass().getSimpleName(), request.getRequestURI(), ex);
             return buildErrorResponse(HttpStatus.BAD_REQUEST, ErrorCode.EMAIL_SETTING_ERROR, ex, request.getRequestURI(), null);
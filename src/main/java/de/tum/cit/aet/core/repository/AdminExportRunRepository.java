@@ -0,0 +1,164 @@
+package de.tum.cit.aet.core.repository;
+
+import de.tum.cit.aet.core.constants.AdminExportStatus;
+import de.tum.cit.aet.core.domain.AdminExportRun;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AdminExportRunRepository extends TumApplyJpaRepository<AdminExportRun, UUID> {
+    Optional<AdminExportRun> findByActiveRequestedBy(UUID requestedBy);
+
+    List<AdminExportRun> findAllByRequestedByOrderByCreatedAtDesc(UUID requestedBy);
+
+    /**
+     * Returns the runs created before the cutoff that no node is building anymore: finished runs and
+     * runs in progress whose lease expired.
+     *
+     * @param cutoff the creation time before which runs expire (UTC)
+     * @param now    the current time (UTC)
+     * @return the expired runs
+     */
+    @Query(
+        """
+        SELECT r FROM AdminExportRun r
+        WHERE r.createdAt < :cutoff
+            AND (r.status <> 'IN_PROGRESS' OR r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)
+        """
+    )
+    List<AdminExportRun> findExpired(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    /**
+     * Returns the runs that are still in progress but not owned by any live node, because their
+     * lease expired (e.g. the node crashed or was restarted).
+     *
+     * @param now the current time (UTC)
+     * @return the ids of the abandoned runs, oldest first
+     */
+    @Query(
+        """
+        SELECT r.adminExportRunId FROM AdminExportRun r
+        WHERE r.status = 'IN_PROGRESS'
+            AND (r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)
+        ORDER BY r.createdAt
+        """
+    )
+    List<UUID> findAbandonedIds(@Param("now") LocalDateTime now);
+
+    /**
+     * Takes over an abandoned run. Only one node can succeed, because the condition on the
+     * expired lease no longer holds once the first claim is committed.
+     *
+     * @param id         the id of the run
+     * @param node       the claiming node
+     * @param leaseUntil the end of the new lease (UTC)
+     * @param now        the current time (UTC)
+     * @return {@code 1} if the run was claimed, {@code 0} if another node was faster
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE AdminExportRun r
+        SET r.ownerNode = :node, r.leaseExpiresAt = :leaseUntil, r.attempts = r.attempts + 1
+        WHERE r.adminExportRunId = :id
+            AND r.status = 'IN_PROGRESS'
+            AND (r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)
+        """
+    )
+    int claim(
+        @Param("id") UUID id,
+        @Param("node") String node,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Extends the lease of a run owned by the given node and stores its current progress.
+     *
+     * @param id         the id of the run
+     * @param node       the owning node
+     * @param leaseUntil the end of the extended lease (UTC)
+     * @param progress   the JSON snapshot of the manifest
+     * @return {@code 1} if the node still owns the run, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE AdminExportRun r
+        SET r.leaseExpiresAt = :leaseUntil, r.progress = :progress
+        WHERE r.adminExportRunId = :id
+            AND r.ownerNode = :node
+            AND r.status = 'IN_PROGRESS'
+        """
+    )
+    int renewLease(
+        @Param("id") UUID id,
+        @Param("node") String node,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("progress") String progress
+    );
+
+    /**
+     * Stores the completed sections of a run owned by the given node.
+     *
+     * @param id          the id of the run
+     * @param node        the owning node
+     * @param checkpoints the JSON list of completed sections
+     * @param progress    the JSON snapshot of the manifest
+     * @return {@code 1} if the node still owns the run, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE AdminExportRun r
+        SET r.checkpoints = :checkpoints, r.progress = :progress
+        WHERE r.adminExportRunId = :id
+            AND r.ownerNode = :node
+            AND r.status = 'IN_PROGRESS'
+        """
+    )
+    int saveCheckpoints(
+        @Param("id") UUID id,
+        @Param("node") String node,
+        @Param("checkpoints") String checkpoints,
+        @Param("progress") String progress
+    );
+
+    /**
+     * Moves a run owned by the given node to its final status and releases the lease and the
+     * admin's active slot.
+     *
+     * @param id         the id of the run
+     * @param node       the owning node
+     * @param status     {@code READY} or {@code FAILED}
+     * @param progress   the final JSON snapshot of the manifest
+     * @param error      the failure reason, {@code null} for successful runs
+     * @param finishedAt the completion time (UTC)
+     * @return {@code 1} if the node still owned the run, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE AdminExportRun r
+        SET r.status = :status, r.progress = :progress, r.error = :error, r.finishedAt = :finishedAt,
+            r.ownerNode = NULL, r.leaseExpiresAt = NULL, r.activeRequestedBy = NULL
+        WHERE r.adminExportRunId = :id
+            AND r.ownerNode = :node
+            AND r.status = 'IN_PROGRESS'
+        """
+    )
+    int finish(
+        @Param("id") UUID id,
+        @Param("node") String node,
+        @Param("status") AdminExportStatus status,
+        @Param("progress") String progress,
+        @Param("error") String error,
+        @Param("finishedAt") LocalDateTime finishedAt
+    );
+}
@@ -0,0 +1,34 @@
+package de.tum.cit.aet.core.repository;
+
+import de.tum.cit.aet.core.domain.CacheVersion;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CacheVersionRepository extends TumApplyJpaRepository<CacheVersion, String> {
+    /**
+     * Reads the current version of a cache. Always queries the database, so versions bumped by
+     * other nodes are seen as soon as they are committed.
+     *
+     * @param name the name of the cache
+     * @return the current version, or empty if the cache has no version row yet
+     */
+    @Query("SELECT v.version FROM CacheVersion v WHERE v.cacheName = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    /**
+     * Increments the version of a cache. Joins the caller's transaction, so the new version becomes
+     * visible together with the change it describes.
+     *
+     * @param name the name of the cache
+     * @return {@code 1} if the version was incremented, {@code 0} if the cache has no version row
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CacheVersion v SET v.version = v.version + 1 WHERE v.cacheName = :name")
+    int bump(@Param("name") String name);
+}
@@ -2,12 +2,18 @@ package de.tum.cit.aet.core.repository;
 
 import de.tum.cit.aet.core.constants.DataExportState;
 import de.tum.cit.aet.core.domain.DataExportRequest;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -21,10 +27,143 @@ public interface DataExportRequestRepository extends TumApplyJpaRepository<DataE
 
     Optional<DataExportRequest> findByDownloadToken(String downloadToken);
 
-    List<DataExportRequest> findAllByStatusOrderByCreatedAtAsc(DataExportState status);
+    long countByStatus(DataExportState status);
 
     List<DataExportRequest> findAllByStatusInOrderByCreatedAtAsc(Collection<DataExportState> statuses);
 
     @Query("select max(d.lastRequestedAt) from DataExportRequest d where d.user.userId = :userId")
     Optional<LocalDateTime> findLastRequestedAtForUser(@Param("userId") UUID userId);
+
+    /**
+     * Locks up to {@code pageable.getPageSize()} requested exports, skipping rows already locked by
+     * another worker (the lock timeout of {@code -2} is translated to {@code SKIP LOCKED}).
+     *
+     * @param pageable limits the number of claimed requests
+     * @return the locked requests, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+        """
+        SELECT d FROM DataExportRequest d
+        WHERE d.status = 'REQUESTED'
+        ORDER BY d.createdAt
+        """
+    )
+    List<DataExportRequest> findRequestedForUpdate(Pageable pageable);
+
+    /**
+     * Returns exports whose worker lease expired (e.g. because the node crashed) to the queue.
+     * Requests without a lease were left behind by the former sequential job and are released as well.
+     *
+     * @param now the current time (UTC)
+     * @return the number of released requests
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE DataExportRequest d
+        SET d.status = 'REQUESTED', d.leaseExpiresAt = NULL, d.progressDone = NULL, d.progressTotal = NULL
+        WHERE d.status = 'IN_CREATION'
+            AND (d.leaseExpiresAt IS NULL OR d.leaseExpiresAt < :now)
+        """
+    )
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    /**
+     * Returns a claimed export to the queue, e.g. when no worker could accept it.
+     *
+     * @param id the id of the export request
+     * @return {@code 1} if the request was released, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE DataExportRequest d
+        SET d.status = 'REQUESTED', d.leaseExpiresAt = NULL, d.progressDone = NULL, d.progressTotal = NULL
+        WHERE d.exportRequestId = :id
+            AND d.status = 'IN_CREATION'
+        """
+    )
+    int release(@Param("id") UUID id);
+
+    /**
+     * Stores the progress of an export in creation and extends the lease of its worker. The lease
+     * identifies the claim: the update only applies while the request still holds the lease last
+     * written by the caller, i.e. it was neither released nor claimed by another worker since.
+     *
+     * @param id         the id of the export request
+     * @param heldLease  the end of the lease held by the caller
+     * @param done       the number of completed steps
+     * @param total      the total number of steps
+     * @param leaseUntil the end of the extended lease (UTC)
+     * @return {@code 1} if the caller still holds the claim, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE DataExportRequest d
+        SET d.progressDone = :done, d.progressTotal = :total, d.leaseExpiresAt = :leaseUntil
+        WHERE d.exportRequestId = :id
+            AND d.status = 'IN_CREATION'
+            AND d.leaseExpiresAt = :heldLease
+        """
+    )
+    int updateProgress(
+        @Param("id") UUID id,
+        @Param("heldLease") LocalDateTime heldLease,
+        @Param("done") int done,
+        @Param("total") int total,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * Marks a built export as EMAIL_SENT if the caller still holds its claim.
+     *
+     * @param id            the id of the export request
+     * @param heldLease     the end of the lease held by the caller
+     * @param filePath      the path of the built archive
+     * @param readyAt       when the archive was built (UTC)
+     * @param expiresAt     when the download expires (UTC)
+     * @param downloadToken the token of the download link
+     * @return {@code 1} if the request was completed, {@code 0} if the claim was lost
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE DataExportRequest d
+        SET d.status = 'EMAIL_SENT', d.filePath = :filePath, d.readyAt = :readyAt, d.expiresAt = :expiresAt,
+            d.downloadToken = :downloadToken, d.leaseExpiresAt = NULL, d.progressDone = d.progressTotal
+        WHERE d.exportRequestId = :id
+            AND d.status = 'IN_CREATION'
+            AND d.leaseExpiresAt = :heldLease
+        """
+    )
+    int complete(
+        @Param("id") UUID id,
+        @Param("heldLease") LocalDateTime heldLease,
+        @Param("filePath") String filePath,
+        @Param("readyAt") LocalDateTime readyAt,
+        @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("downloadToken") String downloadToken
+    );
+
+    /**
+     * Marks an export as FAILED if the caller still holds its claim.
+     *
+     * @param id        the id of the export request
+     * @param heldLease the end of the lease held by the caller
+     * @return {@code 1} if the request was marked as failed, {@code 0} if the claim was lost
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE DataExportRequest d
+        SET d.status = 'FAILED', d.leaseExpiresAt = NULL
+        WHERE d.exportRequestId = :id
+            AND d.status = 'IN_CREATION'
+            AND d.leaseExpiresAt = :heldLease
+        """
+    )
+    int fail(@Param("id") UUID id, @Param("heldLease") LocalDateTime heldLease);
 }
@@ -5,13 +5,16 @@ import de.tum.cit.aet.core.domain.Image;
 import de.tum.cit.aet.core.domain.ProfileImage;
 import de.tum.cit.aet.core.domain.ResearchGroupImage;
 import de.tum.cit.aet.usermanagement.domain.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ImageRepository extends TumApplyJpaRepository<Image, UUID> {
@@ -120,4 +123,45 @@ public interface ImageRepository extends TumApplyJpaRepository<Image, UUID> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Image i SET i.uploadedBy = :deletedUser WHERE i.uploadedBy = :user")
     void dissociateImagesFromUser(@Param("user") User user, @Param("deletedUser") User deletedUser);
+
+    /**
+     * Finds images whose downscaled variants have not been generated yet, oldest first.
+     * Images whose last failed attempt is not older than {@code attemptedBefore} are skipped,
+     * so a failing image is retried at most once per backfill run.
+     *
+     * @param attemptedBefore only images without a failed attempt since this time are returned
+     * @param pageable        the batch to load
+     * @return the images without variants
+     */
+    @Query(
+        """
+        SELECT i FROM Image i
+        WHERE i.variantWidths IS NULL
+          AND (i.variantAttemptedAt IS NULL OR i.variantAttemptedAt < :attemptedBefore)
+        ORDER BY i.createdAt ASC
+        """
+    )
+    List<Image> findWithoutVariants(@Param("attemptedBefore") LocalDateTime attemptedBefore, Pageable pageable);
+
+    /**
+     * Records a failed attempt to generate the variants of an image, leaving it pending.
+     *
+     * @param imageId     the ID of the image
+     * @param attemptedAt the time of the attempt (UTC)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.variantAttempts = i.variantAttempts + 1, i.variantAttemptedAt = :attemptedAt WHERE i.imageId = :imageId")
+    void recordFailedVariantAttempt(@Param("imageId") UUID imageId, @Param("attemptedAt") LocalDateTime attemptedAt);
+
+    /**
+     * Records the widths of the generated variants of an image without touching its other columns.
+     *
+     * @param imageId       the ID of the image
+     * @param variantWidths the comma-separated widths of the generated variants
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.variantWidths = :variantWidths WHERE i.imageId = :imageId")
+    void updateVariantWidths(@Param("imageId") UUID imageId, @Param("variantWidths") String variantWidths);
 }
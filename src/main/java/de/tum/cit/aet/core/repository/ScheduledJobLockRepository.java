@@ -0,0 +1,76 @@
+package de.tum.cit.aet.core.repository;
+
+import de.tum.cit.aet.core.domain.ScheduledJobLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledJobLockRepository extends TumApplyJpaRepository<ScheduledJobLock, String> {
+    /**
+     * Takes the lock if its lease has expired. Only one node can succeed, because the condition on
+     * the expired lease no longer holds once the first acquisition is committed.
+     *
+     * @param name        the name of the lock
+     * @param node        the acquiring node
+     * @param lockedUntil the end of the lease (UTC)
+     * @param now         the current time (UTC)
+     * @return {@code 1} if the lock was acquired, {@code 0} if another node holds it
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE ScheduledJobLock l
+        SET l.ownerNode = :node, l.lockedAt = :now, l.lockedUntil = :lockedUntil
+        WHERE l.lockName = :name
+            AND l.lockedUntil <= :now
+        """
+    )
+    int acquire(
+        @Param("name") String name,
+        @Param("node") String node,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Extends the lease of a lock held by the given node.
+     *
+     * @param name        the name of the lock
+     * @param node        the owning node
+     * @param lockedUntil the end of the extended lease (UTC)
+     * @return {@code 1} if the node still holds the lock, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE ScheduledJobLock l
+        SET l.lockedUntil = :lockedUntil
+        WHERE l.lockName = :name
+            AND l.ownerNode = :node
+        """
+    )
+    int extend(@Param("name") String name, @Param("node") String node, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Releases a lock held by the given node. The lease is shortened to the given time rather than
+     * cleared, so a job that finished quickly is not triggered again by a node whose clock lags behind.
+     *
+     * @param name        the name of the lock
+     * @param node        the owning node
+     * @param lockedUntil the earliest time another node may acquire the lock (UTC)
+     * @return {@code 1} if the node still held the lock, {@code 0} otherwise
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE ScheduledJobLock l
+        SET l.ownerNode = NULL, l.lockedUntil = :lockedUntil
+        WHERE l.lockName = :name
+            AND l.ownerNode = :node
+        """
+    )
+    int release(@Param("name") String name, @Param("node") String node, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -2,6 +2,7 @@ package de.tum.cit.aet.core.retention;
 
 import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.config.ApplicantRetentionProperties;
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -35,6 +36,7 @@ public class ApplicantRetentionJob {
      */
     // Runs daily at 03:27 UTC (override with applicant.retention.cron)
     @Scheduled(cron = "${applicant.retention.cron:0 27 3 * * *}", zone = "UTC")
+    @SchedulerLock(name = "applicant-retention-delete")
     public void deleteApplicantData() {
         if (!Boolean.TRUE.equals(properties.getEnabled())) {
             return;
@@ -73,6 +75,7 @@ public class ApplicantRetentionJob {
      * </p>
      */
     @Scheduled(cron = "${applicant.retention.cron:0 27 3 * * *}", zone = "UTC")
+    @SchedulerLock(name = "applicant-retention-warn")
     public void warnApplicantOfDataDeletion() {
         LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
         Integer daysBeforeDeletion = properties.getDaysBeforeDeletion();
@@ -1,19 +1,24 @@
 package de.tum.cit.aet.core.retention;
 
-import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.documents.service.DocumentService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
 import de.tum.cit.aet.evaluation.repository.ApplicationReviewRepository;
 import de.tum.cit.aet.evaluation.repository.InternalCommentRepository;
+import de.tum.cit.aet.evaluation.repository.RatingRepository;
 import de.tum.cit.aet.interview.repository.IntervieweeRepository;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.service.AsyncEmailSender;
 import de.tum.cit.aet.notification.service.mail.Email;
+import de.tum.cit.aet.reference.repository.ReferenceRequestRepository;
 import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,14 +37,24 @@ public class ApplicantRetentionService {
     private final AsyncEmailSender sender;
     private final InternalCommentRepository internalCommentRepository;
     private final DocumentService documentService;
+    private final FilteredCountCache filteredCountCache;
     private final IntervieweeRepository intervieweeRepository;
+    private final MeterRegistry meterRegistry;
+    private final RatingRepository ratingRepository;
+    private final ReferenceRequestRepository referenceRequestRepository;
     private final UserRepository userRepository;
 
     /**
      * Processes a slice of application IDs for deletion based on the specified cutoff date.
      * If dryRun is true, it logs the actions that would be performed without executing them.
-     * Otherwise, it deletes the application and all related data, including reviews, comments,
-     * document dictionaries, interviewees, and associated documents.
+     * Otherwise, it deletes the applications and all related data, including interviewees, reviews,
+     * ratings, comments, reference requests and documents.
+     * <p>
+     * The whole slice is deleted set-based: one {@code DELETE ... WHERE application_id IN (:ids)}
+     * per child table in dependency order, followed by the applications themselves, so the number
+     * of statements does not grow with the slice size. Document files are removed through a single
+     * orphan check for the slice.
+     * </p>
      *
      * @param applicationIds a slice of UUIDs representing the application IDs to process
      * @param dryRun if true, performs a dry run by logging actions without deleting data;
@@ -48,32 +63,46 @@ public class ApplicantRetentionService {
      */
     @Transactional
     public void processApplications(Slice<UUID> applicationIds, Boolean dryRun, LocalDateTime cutoff) {
-        for (UUID applicationId : applicationIds) {
-            if (dryRun) {
+        if (dryRun) {
+            for (UUID applicationId : applicationIds) {
                 log.info("Dry run: would process application with ID {} (cutoff={})", applicationId, cutoff);
-                continue;
-            }
-
-            Optional<Application> applicationOpt = applicationRepository.findWithDetailsById(applicationId);
-            if (applicationOpt.isEmpty()) {
-                log.warn("Application with ID {} not found for deletion", applicationId);
-                continue;
             }
+            return;
+        }
 
-            Application application = applicationOpt.get();
+        List<UUID> ids = applicationIds.getContent();
+        if (ids.isEmpty()) {
+            return;
+        }
 
-            log.info("Processing deletion for application with ID {}", applicationId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<UUID> researchGroupIds = applicationRepository.findResearchGroupIdsByApplicationIds(ids);
 
-            // Delete related data first (no CASCADE)
-            applicationReviewRepository.deleteByApplication(application);
-            internalCommentRepository.deleteByApplication(application);
-            documentService.deleteAllByApplicationId(application.getApplicationId());
-            intervieweeRepository.deleteByApplicationIdIn(List.of(application.getApplicationId()));
+        // Delete related data first; application_reviews has no ON DELETE CASCADE and the JPA cascades are bypassed
+        int interviewees = countDeleted("interviewees", intervieweeRepository.deleteByApplicationIdIn(ids));
+        int reviews = countDeleted("application_reviews", applicationReviewRepository.deleteByApplicationIdIn(ids));
+        int ratings = countDeleted("ratings", ratingRepository.deleteByApplicationIdIn(ids));
+        int comments = countDeleted("internal_comments", internalCommentRepository.deleteByApplicationIdIn(ids));
+        int referenceRequests = countDeleted("reference_requests", referenceRequestRepository.deleteByApplicationIdIn(ids));
+        int documents = countDeleted("documents", documentService.deleteAllByApplicationIds(ids));
 
-            applicationRepository.delete(application);
+        int applications = countDeleted("applications", applicationRepository.deleteByApplicationIdIn(ids));
+        researchGroupIds.forEach(filteredCountCache::invalidate);
+        sample.stop(meterRegistry.timer("tumapply.retention.applicant.chunk.duration"));
 
-            log.info("Deleted application and related data for application ID {}", applicationId);
+        if (applications < ids.size()) {
+            log.warn("{} of {} applications were not found for deletion", ids.size() - applications, ids.size());
         }
+        log.info(
+            "Deleted {} applications and related data: interviewees={} reviews={} ratings={} comments={} referenceRequests={} documents={}",
+            applications,
+            interviewees,
+            reviews,
+            ratings,
+            comments,
+            referenceRequests,
+            documents
+        );
     }
 
     /**
@@ -87,6 +116,7 @@ public class ApplicantRetentionService {
      */
     public void warnApplicantOfDataDeletion(LocalDateTime warningCutoff) {
         List<UUID> userIds = applicationRepository.findApplicantsToBeWarnedBeforeDeletion(warningCutoff);
+        List<Email> emails = new ArrayList<>();
         for (UUID userId : userIds) {
             Optional<User> userOpt = userRepository.findById(userId);
             if (userOpt.isEmpty()) {
@@ -103,7 +133,13 @@ public class ApplicantRetentionService {
                 .content(user)
                 .build();
 
-            sender.sendAsync(email);
+            emails.add(email);
         }
+        sender.sendAllAsync(emails);
+    }
+
+    private int countDeleted(String table, int rows) {
+        meterRegistry.counter("tumapply.retention.applicant.rows.deleted", "table", table).increment(rows);
+        return rows;
     }
 }
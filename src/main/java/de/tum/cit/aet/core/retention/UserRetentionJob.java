@@ -1,6 +1,7 @@
 package de.tum.cit.aet.core.retention;
 
 import de.tum.cit.aet.core.config.UserRetentionProperties;
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import java.time.Duration;
 import java.time.Instant;
@@ -36,6 +37,7 @@ public class UserRetentionJob {
      */
     // Runs daily at 03:17 UTC (override with user.retention.cron)
     @Scheduled(cron = "${user.retention.cron:0 17 3 * * *}", zone = "UTC")
+    @SchedulerLock(name = "user-retention-delete")
     public void deleteUserData() {
         if (!Boolean.TRUE.equals(properties.getEnabled())) {
             return;
@@ -73,6 +75,7 @@ public class UserRetentionJob {
      * </p>
      */
     @Scheduled(cron = "${user.retention.cron:0 0 3 * * *}", zone = "UTC")
+    @SchedulerLock(name = "user-retention-warn")
     public void warnUserOfDataDeletion() {
         if (!Boolean.TRUE.equals(properties.getEnabled())) {
             return;
@@ -6,6 +6,8 @@ import de.tum.cit.aet.core.config.UserRetentionProperties;
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.documents.service.DocumentService;
 import de.tum.cit.aet.core.repository.ImageRepository;
+import de.tum.cit.aet.core.security.PrincipalCache;
+import de.tum.cit.aet.core.service.FilteredCountCache;
 import de.tum.cit.aet.core.service.ImageService;
 import de.tum.cit.aet.evaluation.repository.ApplicationReviewRepository;
 import de.tum.cit.aet.evaluation.repository.InternalCommentRepository;
@@ -14,6 +16,7 @@ import de.tum.cit.aet.interview.repository.InterviewSlotRepository;
 import de.tum.cit.aet.interview.repository.IntervieweeRepository;
 import de.tum.cit.aet.job.constants.JobState;
 import de.tum.cit.aet.job.repository.JobRepository;
+import de.tum.cit.aet.job.service.JobBoardCache;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.repository.EmailSettingRepository;
 import de.tum.cit.aet.notification.repository.EmailTemplateRepository;
@@ -27,6 +30,7 @@ import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import de.tum.cit.aet.usermanagement.repository.UserResearchGroupRoleRepository;
 import de.tum.cit.aet.usermanagement.repository.UserSettingRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -52,12 +56,15 @@ public class UserRetentionService {
     private final DocumentService documentService;
     private final EmailSettingRepository emailSettingRepository;
     private final EmailTemplateRepository emailTemplateRepository;
+    private final FilteredCountCache filteredCountCache;
     private final ImageRepository imageRepository;
     private final ImageService imageService;
     private final InternalCommentRepository internalCommentRepository;
     private final InterviewSlotRepository interviewSlotRepository;
     private final IntervieweeRepository intervieweeRepository;
     private final JobRepository jobRepository;
+    private final JobBoardCache jobBoardCache;
+    private final PrincipalCache principalCache;
     private final RatingRepository ratingRepository;
     private final UserResearchGroupRoleRepository userResearchGroupRoleRepository;
     private final UserSettingRepository userSettingRepository;
@@ -128,6 +135,7 @@ public class UserRetentionService {
      */
     public void warnUserOfDataDeletion(LocalDateTime warningDate) {
         List<UUID> userIds = userRepository.findInactiveNonAdminUserIdsForWarning(warningDate);
+        List<Email> emails = new ArrayList<>();
 
         for (UUID userId : userIds) {
             Optional<User> userOpt = userRepository.findById(userId);
@@ -151,8 +159,9 @@ public class UserRetentionService {
                 .content(user)
                 .build();
 
-            sender.sendAsync(email);
+            emails.add(email);
         }
+        sender.sendAllAsync(emails);
     }
 
     // Helper methods for handling different categories
@@ -198,10 +207,13 @@ public class UserRetentionService {
             ratingRepository.deleteByApplicationIdIn(applicationIds);
             internalCommentRepository.deleteByApplicationIdIn(applicationIds);
 
-            for (UUID applicationId : applicationIds) {
-                documentService.deleteAllByApplicationId(applicationId);
-            }
+            documentService.deleteAllByApplicationIds(applicationIds);
             applicationRepository.deleteAllInBatch(applications);
+            applications
+                .stream()
+                .map(application -> application.getJob().getResearchGroup().getResearchGroupId())
+                .distinct()
+                .forEach(filteredCountCache::invalidate);
         }
 
         // 2. Delete applicant-owned profile/custom documents (rows + orphan files atomically)
@@ -227,6 +239,8 @@ public class UserRetentionService {
         User deletedUser = userRepository.getReferenceById(deletedUserId);
         imageRepository.dissociateImagesFromUser(user, deletedUser);
         jobRepository.anonymiseJobByUserId(user, deletedUser, JobState.CLOSED);
+        jobBoardCache.invalidate();
+        filteredCountCache.invalidateAll();
         internalCommentRepository.anonymiseByCreatedBy(user, deletedUser);
         emailTemplateRepository.anonymiseByCreatedBy(user, deletedUser);
     }
@@ -245,5 +259,6 @@ public class UserRetentionService {
         userSettingRepository.deleteByUser(user);
         userResearchGroupRoleRepository.deleteByUserId(resolvedUserId);
         userRepository.deleteByUserId(resolvedUserId);
+        principalCache.evict(resolvedUserId);
     }
 }
@@ -2,45 +2,53 @@ package de.tum.cit.aet.core.security;
 
 import de.tum.cit.aet.core.service.AuthenticationService;
 import de.tum.cit.aet.usermanagement.domain.User;
-import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
+import de.tum.cit.aet.usermanagement.service.UserActivityTracker;
+import java.util.Optional;
+import java.util.UUID;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 /**
  * Converts a JWT into an authenticated Spring Security user with authorities based on the database roles.
+ * Recently provisioned users are served from the {@link PrincipalCache} without touching the database.
  */
 @Component
 public class CustomJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
     private final AuthenticationService authenticationService;
-
-    public CustomJwtAuthenticationConverter(AuthenticationService authenticationService) {
+    private final PrincipalCache principalCache;
+    private final UserActivityTracker userActivityTracker;
+
+    public CustomJwtAuthenticationConverter(
+        AuthenticationService authenticationService,
+        PrincipalCache principalCache,
+        UserActivityTracker userActivityTracker
+    ) {
         this.authenticationService = authenticationService;
+        this.principalCache = principalCache;
+        this.userActivityTracker = userActivityTracker;
     }
 
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
-        // Create user if missing and fetch database entity
-        User user = authenticationService.provisionUserIfMissing(jwt);
+        String subject = jwt.getSubject();
+        String email = jwt.getClaimAsString("email");
 
-        List<String> roles = user
-            .getResearchGroupRoles()
-            .stream()
-            .map(r -> r.getRole().name())
-            .toList();
+        Optional<PrincipalCache.CachedPrincipal> cached = principalCache.getForAuthentication(subject, email);
+        if (cached.isPresent()) {
+            userActivityTracker.touch(UUID.fromString(subject));
+            return new JwtAuthenticationToken(jwt, cached.get().authorities());
+        }
 
-        Collection<GrantedAuthority> authorities = roles
-            .stream()
-            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-            .collect(Collectors.toList());
+        // Capture the version before loading so that a concurrent eviction invalidates this snapshot
+        long version = principalCache.currentVersion(subject);
+        // Create user if missing and fetch database entity
+        User user = authenticationService.provisionUserIfMissing(jwt);
+        PrincipalCache.CachedPrincipal principal = principalCache.put(subject, version, email, user);
 
-        return new JwtAuthenticationToken(jwt, authorities);
+        return new JwtAuthenticationToken(jwt, principal.authorities());
     }
 }
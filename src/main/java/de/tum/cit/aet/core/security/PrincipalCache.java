@@ -0,0 +1,146 @@
+package de.tum.cit.aet.core.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.core.domain.CurrentUser;
+import de.tum.cit.aet.usermanagement.domain.User;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short-lived cache of authenticated principals, shared by the JWT authentication converter and
+ * {@link de.tum.cit.aet.core.service.CurrentUserService}.
+ * <p>
+ * Entries are keyed by the token subject and a per-user version. {@link #evict(UUID)} bumps the
+ * version whenever roles, memberships or profile fields change, so snapshots loaded before the
+ * change can never be served again. The TTL bounds staleness for changes made on other nodes.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<PrincipalKey, CachedPrincipal> principals;
+
+    // Only holds subjects that have been evicted; must outlive any entry of the previous version, so it is
+    // bounded by expiry alone: a size eviction would reset a subject to version 0 and revive its stale snapshot
+    private final Cache<String, Long> versions;
+
+    /**
+     * Immutable snapshot of an authenticated user.
+     *
+     * @param currentUser the user and their research group roles
+     * @param authorities the granted authorities derived from the roles
+     * @param emailClaim  the email claim the snapshot was provisioned with
+     */
+    public record CachedPrincipal(CurrentUser currentUser, List<GrantedAuthority> authorities, String emailClaim) {}
+
+    private record PrincipalKey(String subject, long version) {}
+
+    public PrincipalCache(
+        @Value("${aet.security.principal-cache.ttl:PT1M}") Duration ttl,
+        @Value("${aet.security.principal-cache.max-entries:10000}") long maxEntries
+    ) {
+        this.principals = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        this.versions = Caffeine.newBuilder().expireAfterWrite(ttl.multipliedBy(2)).build();
+    }
+
+    /**
+     * Returns the current version of the given subject. Callers capture it before loading a user
+     * from the database and pass it to {@link #put}, so a concurrent eviction wins over the load.
+     *
+     * @param subject the token subject (user ID)
+     * @return the current version
+     */
+    public long currentVersion(String subject) {
+        Long version = versions.getIfPresent(subject);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Returns the cached principal for an incoming token if it can be used without touching the database,
+     * i.e. it was provisioned with the same email claim.
+     *
+     * @param subject    the token subject (user ID)
+     * @param emailClaim the email claim of the token
+     * @return the cached principal, or empty if the user has to be (re-)provisioned
+     */
+    public Optional<CachedPrincipal> getForAuthentication(String subject, String emailClaim) {
+        return find(subject).filter(principal -> Objects.equals(principal.emailClaim(), emailClaim));
+    }
+
+    /**
+     * Returns the cached principal of the given subject, if any.
+     *
+     * @param subject the token subject (user ID)
+     * @return the cached principal
+     */
+    public Optional<CachedPrincipal> find(String subject) {
+        return Optional.ofNullable(principals.getIfPresent(new PrincipalKey(subject, currentVersion(subject))));
+    }
+
+    /**
+     * Caches a snapshot of a freshly provisioned user.
+     *
+     * @param subject    the token subject (user ID)
+     * @param version    the version captured before the user was loaded
+     * @param emailClaim the email claim of the token
+     * @param user       the provisioned user with its research group roles loaded
+     * @return the cached principal
+     */
+    public CachedPrincipal put(String subject, long version, String emailClaim, User user) {
+        List<GrantedAuthority> authorities = user
+            .getResearchGroupRoles()
+            .stream()
+            .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role.getRole().name()))
+            .toList();
+        CachedPrincipal principal = new CachedPrincipal(CurrentUser.getFromEntity(user), authorities, emailClaim);
+        principals.put(new PrincipalKey(subject, version), principal);
+        return principal;
+    }
+
+    /**
+     * Evicts the cached principal of a user. If called inside a transaction, the user is evicted
+     * again after commit so that no request can cache the pre-commit state in between.
+     *
+     * @param userId the ID of the user whose roles, memberships or profile changed
+     */
+    public void evict(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        String subject = userId.toString();
+        bumpVersion(subject);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        bumpVersion(subject);
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Evicts the cached principals of several users.
+     *
+     * @param userIds the IDs of the users whose roles, memberships or profile changed
+     */
+    public void evictAll(Collection<UUID> userIds) {
+        userIds.forEach(this::evict);
+    }
+
+    private void bumpVersion(String subject) {
+        versions.asMap().merge(subject, 1L, Long::sum);
+    }
+}
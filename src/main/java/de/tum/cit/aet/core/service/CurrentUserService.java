@@ -2,9 +2,9 @@ package de.tum.cit.aet.core.service;
 
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.domain.CurrentUser;
-import de.tum.cit.aet.core.domain.ResearchGroupRole;
 import de.tum.cit.aet.core.exception.AccessDeniedException;
 import de.tum.cit.aet.core.security.ActiveResearchGroupHeaderFilter;
+import de.tum.cit.aet.core.security.PrincipalCache;
 import de.tum.cit.aet.evaluation.domain.ApplicationReview;
 import de.tum.cit.aet.evaluation.domain.InternalComment;
 import de.tum.cit.aet.job.domain.Job;
@@ -15,7 +15,6 @@ import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import de.tum.cit.aet.usermanagement.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +40,7 @@ public class CurrentUserService {
     private final UserRepository userRepository;
     private final UserService userService;
     private final ResearchGroupRepository researchGroupRepository;
+    private final PrincipalCache principalCache;
 
     private User user;
 
@@ -56,6 +56,13 @@ public class CurrentUserService {
      * @return the current user as a {@link CurrentUser} object
      */
     public CurrentUser getCurrentUser() {
+        if (currentUser == null) {
+            // The snapshot cached during authentication avoids a user load for role checks
+            currentUser = principalCache
+                .find(getAuthentication().getToken().getSubject())
+                .map(PrincipalCache.CachedPrincipal::currentUser)
+                .orElse(null);
+        }
         if (currentUser == null) {
             loadCurrentUser();
         }
@@ -83,24 +90,22 @@ public class CurrentUserService {
      *                               security context
      */
     private void loadCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (!(authentication instanceof JwtAuthenticationToken jwtToken)) {
-            throw new AccessDeniedException("Cannot extract user ID from authentication.");
-        }
-        UUID userId = UUID.fromString(jwtToken.getToken().getSubject());
+        UUID userId = UUID.fromString(getAuthentication().getToken().getSubject());
 
         User user = userRepository
             .findWithResearchGroupRolesByUserId(userId)
             .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        List<ResearchGroupRole> roles = user
-            .getResearchGroupRoles()
-            .stream()
-            .map(r -> new ResearchGroupRole(r.getRole(), r.getResearchGroup() != null ? r.getResearchGroup().getResearchGroupId() : null))
-            .toList();
-
         this.user = user;
-        this.currentUser = new CurrentUser(user.getUserId(), user.getEmail(), user.getFirstName(), user.getLastName(), roles);
+        this.currentUser = CurrentUser.getFromEntity(user);
+    }
+
+    private JwtAuthenticationToken getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof JwtAuthenticationToken jwtToken)) {
+            throw new AccessDeniedException("Cannot extract user ID from authentication.");
+        }
+        return jwtToken;
     }
 
     /**
@@ -0,0 +1,166 @@
+package de.tum.cit.aet.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.core.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache for the total record counts of filtered list endpoints (reviewer and admin lists),
+ * so that flipping through the pages of the same filter does not repeat the full count.
+ * <p>
+ * Every entry is keyed by the normalized filter signature and the change counter of its
+ * research group. Services bump the counter of a research group whenever its applications
+ * change state or its jobs or the group itself change; counts spanning all research groups
+ * (admin views) use a global counter that every bump advances. Entries additionally expire
+ * after {@code aet.count-cache.ttl} to bound staleness for writes that do not go through this node.
+ */
+@Component
+public class FilteredCountCache {
+
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<UUID, AtomicLong> researchGroupVersions = new ConcurrentHashMap<>();
+
+    private final Cache<CacheKey, Long> counts;
+
+    private record CacheKey(String region, UUID researchGroupId, long version, List<Object> signature) {}
+
+    public FilteredCountCache(
+        @Value("${aet.count-cache.max-entries:5000}") long maxEntries,
+        @Value("${aet.count-cache.ttl:PT1M}") Duration ttl
+    ) {
+        this.counts = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * Returns the cached count for the given filter signature, computing it with the
+     * counter if no count exists for the current version of the research group.
+     *
+     * @param region          the logical cache region (e.g. "admin-jobs")
+     * @param researchGroupId the research group the count is restricted to, or {@code null}
+     *                        for counts spanning all research groups
+     * @param signature       the filter values the count depends on; collections and maps
+     *                        are compared independent of their order
+     * @param counter         computes the count on a cache miss
+     * @return the cached or freshly computed count
+     */
+    public long count(String region, UUID researchGroupId, List<?> signature, LongSupplier counter) {
+        CacheKey cacheKey = new CacheKey(region, researchGroupId, currentVersion(researchGroupId), normalize(signature));
+        return counts.get(cacheKey, ignored -> counter.getAsLong());
+    }
+
+    /**
+     * Builds a page from the given content, taking the total from the cache. Like Spring Data,
+     * the count is skipped entirely if it can be derived from the content of the page.
+     *
+     * @param content         the content of the requested page
+     * @param pageable        the requested page
+     * @param region          the logical cache region
+     * @param researchGroupId the research group the count is restricted to, or {@code null}
+     * @param signature       the filter values the count depends on
+     * @param counter         computes the count on a cache miss
+     * @param <T>             the content type
+     * @return the page with the cached or freshly computed total
+     */
+    public <T> Page<T> page(
+        List<T> content,
+        Pageable pageable,
+        String region,
+        UUID researchGroupId,
+        List<?> signature,
+        LongSupplier counter
+    ) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(region, researchGroupId, signature, counter));
+    }
+
+    /**
+     * Bumps the change counter of a research group, which invalidates its counts and all
+     * counts spanning every research group. If called inside a transaction, the counter is
+     * bumped again after commit so that no request can cache a pre-commit count in between.
+     *
+     * @param researchGroupId the changed research group, or {@code null} if it is unknown,
+     *                        in which case all counts are invalidated
+     */
+    public void invalidate(UUID researchGroupId) {
+        if (researchGroupId == null) {
+            invalidateAll();
+            return;
+        }
+        bump(researchGroupId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionUtil.afterCommit(() -> bump(researchGroupId));
+        }
+    }
+
+    /**
+     * Invalidates the counts of all research groups, e.g. after bulk deletions. Like
+     * {@link #invalidate}, this is repeated after commit when called inside a transaction.
+     */
+    public void invalidateAll() {
+        bumpAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionUtil.afterCommit(this::bumpAll);
+        }
+    }
+
+    /**
+     * Returns the current change counter of a research group.
+     *
+     * @param researchGroupId the research group, or {@code null} for the global counter
+     * @return the monotonically increasing version
+     */
+    public long currentVersion(UUID researchGroupId) {
+        if (researchGroupId == null) {
+            return globalVersion.get();
+        }
+        AtomicLong version = researchGroupVersions.get(researchGroupId);
+        return version != null ? version.get() : 0L;
+    }
+
+    private void bump(UUID researchGroupId) {
+        researchGroupVersions.computeIfAbsent(researchGroupId, ignored -> new AtomicLong()).incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+
+    private void bumpAll() {
+        researchGroupVersions.values().forEach(AtomicLong::incrementAndGet);
+        globalVersion.incrementAndGet();
+        counts.invalidateAll();
+    }
+
+    private static List<Object> normalize(List<?> signature) {
+        List<Object> normalized = new ArrayList<>(signature.size());
+        for (Object value : signature) {
+            normalized.add(normalizeValue(value));
+        }
+        return normalized;
+    }
+
+    private static Object normalizeValue(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(Objects::toString).sorted().distinct().toList();
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, entry) -> sorted.put(Objects.toString(key), normalizeValue(entry)));
+            return sorted;
+        }
+        return value;
+    }
+}
@@ -21,18 +21,23 @@ import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.repository.DepartmentRepository;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.SchoolRepository;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -46,6 +51,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImageService {
 
     private static final List<String> ALLOWED_MIME_TYPES = List.of("image/jpeg", "image/png", "image/jpg");
+    private static final byte[] JPEG_SIGNATURE = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
     private final ImageRepository imageRepository;
     private final JobRepository jobRepository;
@@ -53,6 +61,7 @@ public class ImageService {
     private final ResearchGroupRepository researchGroupRepository;
     private final SchoolRepository schoolRepository;
     private final CurrentUserService currentUserService;
+    private final ImageVariantService imageVariantService;
     private final Path imageRoot;
     private final long maxFileSize;
     private final int maxWidth;
@@ -65,6 +74,7 @@ public class ImageService {
         ResearchGroupRepository researchGroupRepository,
         SchoolRepository schoolRepository,
         CurrentUserService currentUserService,
+        ImageVariantService imageVariantService,
         @Value("${aet.storage.image-root:/storage/images}") String imageRootDir,
         @Value("${aet.storage.max-image-size-bytes:5242880}") long maxFileSize, // 5MB default
         @Value("${aet.storage.max-image-width:4096}") int maxWidth, // 4096px width default
@@ -76,6 +86,7 @@ public class ImageService {
         this.researchGroupRepository = researchGroupRepository;
         this.schoolRepository = schoolRepository;
         this.currentUserService = currentUserService;
+        this.imageVariantService = imageVariantService;
         this.imageRoot = Paths.get(imageRootDir).toAbsolutePath().normalize();
         this.maxFileSize = maxFileSize;
         this.maxWidth = maxWidth;
@@ -117,13 +128,13 @@ public class ImageService {
             .findById(departmentId)
             .orElseThrow(() -> EntityNotFoundException.forId("Department", departmentId));
 
-        String relativePath = storeImageFile(file, ImageType.DEFAULT_JOB_BANNER);
+        StoredImage stored = storeImageFile(file, ImageType.DEFAULT_JOB_BANNER);
 
         DepartmentImage image = new DepartmentImage();
-        setBaseImageProperties(image, file, relativePath, uploader);
+        setBaseImageProperties(image, file, stored, uploader);
         image.setDepartment(department);
 
-        return imageRepository.save(image);
+        return saveAndGenerateVariants(image);
     }
 
     /**
@@ -173,13 +184,13 @@ public class ImageService {
             throw new IllegalStateException("Research group is required to upload job banners");
         }
 
-        String relativePath = storeImageFile(file, ImageType.JOB_BANNER);
+        StoredImage stored = storeImageFile(file, ImageType.JOB_BANNER);
 
         ResearchGroupImage image = new ResearchGroupImage();
-        setBaseImageProperties(image, file, relativePath, uploader);
+        setBaseImageProperties(image, file, stored, uploader);
         image.setResearchGroup(researchGroup);
 
-        return imageRepository.save(image);
+        return saveAndGenerateVariants(image);
     }
 
     /**
@@ -198,13 +209,13 @@ public class ImageService {
     public ProfileImage uploadProfilePicture(MultipartFile file) {
         User uploader = currentUserService.getUser();
         deleteProfilePictureForUser(uploader);
-        String relativePath = storeImageFile(file, ImageType.PROFILE_PICTURE);
+        StoredImage stored = storeImageFile(file, ImageType.PROFILE_PICTURE);
 
         ProfileImage image = new ProfileImage();
-        setBaseImageProperties(image, file, relativePath, uploader);
+        setBaseImageProperties(image, file, stored, uploader);
         uploader.setAvatar(image.getUrl());
 
-        return imageRepository.save(image);
+        return saveAndGenerateVariants(image);
     }
 
     /**
@@ -265,18 +276,27 @@ public class ImageService {
      * Sets common properties for all image types.
      * Extracted to avoid code duplication across upload methods.
      *
-     * @param image        the image entity to populate
-     * @param file         the multipart file being uploaded
-     * @param relativePath the relative storage path
-     * @param uploader     the user uploading the image
+     * @param image    the image entity to populate
+     * @param file     the multipart file being uploaded
+     * @param stored   the stored original
+     * @param uploader the user uploading the image
      */
-    private void setBaseImageProperties(Image image, MultipartFile file, String relativePath, User uploader) {
-        image.setUrl("/images/" + relativePath);
+    private void setBaseImageProperties(Image image, MultipartFile file, StoredImage stored, User uploader) {
+        image.setUrl("/images/" + stored.relativePath());
         image.setMimeType(file.getContentType());
-        image.setSizeBytes(file.getSize());
+        image.setSizeBytes(stored.sizeBytes());
         image.setUploadedBy(uploader);
     }
 
+    /**
+     * Persists a freshly uploaded image and schedules the generation of its variants after commit.
+     */
+    private <T extends Image> T saveAndGenerateVariants(T image) {
+        T saved = imageRepository.save(image);
+        imageVariantService.generateAfterCommit(saved);
+        return saved;
+    }
+
     private void deleteProfilePictureForUser(User user) {
         user.setAvatar(null);
         deleteStoredProfilePictureByUserId(user.getUserId());
@@ -296,45 +316,133 @@ public class ImageService {
 
     /**
      * Core file storage logic shared by all upload methods.
-     * Validates the file, stores it to disk, and returns the relative path.
+     * Streams the upload to disk once while enforcing the size limit, verifies the magic bytes against the
+     * declared MIME type and validates the dimensions from the image header only (no pixel decode). The
+     * downscaled variants are generated asynchronously once the upload has committed.
      *
      * @param file      the multipart file to be stored
      * @param imageType the type of image (determines subdirectory)
-     * @return the relative path to the stored file
+     * @return the relative path to the stored file and its size
      * @throws UploadException if the file is invalid or cannot be stored
      */
-    private String storeImageFile(MultipartFile file, ImageType imageType) {
+    private StoredImage storeImageFile(MultipartFile file, ImageType imageType) {
         validateImage(file);
 
+        // Generate unique filename
+        String extension = getExtension(file);
+        String filename = UUID.randomUUID() + extension;
+        String subdirectory = getSubdirectory(imageType);
+        String relativePath = subdirectory + "/" + filename;
+
+        // Full path on disk
+        Path fullPath = imageRoot.resolve(relativePath);
+
+        Path temp = null;
         try {
-            // Read the image to validate it's a real image
-            BufferedImage bufferedImage;
-            try (InputStream inputStream = file.getInputStream()) {
-                bufferedImage = ImageIO.read(inputStream);
-            }
-            if (bufferedImage == null) {
-                throw new UploadException("Invalid image file");
+            // Single pass over the upload: copy to a temp file next to the target, keeping the leading bytes
+            temp = Files.createTempFile(fullPath.getParent(), ".upload-", ".tmp");
+            byte[] header = new byte[PNG_SIGNATURE.length];
+            long sizeBytes;
+            try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                sizeBytes = copyWithLimit(in, out, header);
             }
 
-            validateImageDimensions(bufferedImage);
+            String format = detectFormat(header, file.getContentType());
+            validateImageDimensions(temp, format);
 
-            // Generate unique filename
-            String extension = getExtension(file);
-            String filename = UUID.randomUUID() + extension;
-            String subdirectory = getSubdirectory(imageType);
-            String relativePath = subdirectory + "/" + filename;
-
-            // Full path on disk
-            Path fullPath = imageRoot.resolve(relativePath);
+            Files.move(temp, fullPath, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredImage(relativePath, sizeBytes);
+        } catch (IOException e) {
+            throw new UploadException("Failed to store image", e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.debug("Could not delete temporary image upload {}: {}", temp, e.getMessage());
+                }
+            }
+        }
+    }
 
-            // Save original image
-            try (InputStream inputStream = file.getInputStream()) {
-                Files.copy(inputStream, fullPath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Copies the upload and fills {@code header} with its leading bytes. Aborts as soon as more than
+     * {@code maxFileSize} bytes have been read, independent of the size the client declared.
+     */
+    private long copyWithLimit(InputStream in, OutputStream out, byte[] header) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (total < header.length) {
+                System.arraycopy(buffer, 0, header, (int) total, (int) Math.min(read, header.length - total));
             }
+            total += read;
+            if (total > maxFileSize) {
+                throw new UploadException("Image exceeds maximum size of " + maxFileSize + " bytes");
+            }
+            out.write(buffer, 0, read);
+        }
+        return total;
+    }
 
-            return relativePath;
+    /**
+     * Determines the image format from its magic bytes and checks it against the declared MIME type.
+     *
+     * @return the ImageIO format name ("jpeg" or "png")
+     * @throws UploadException if the content or the declared type is neither JPEG nor PNG, or they do not match
+     */
+    private static String detectFormat(byte[] header, String mimeType) {
+        String format;
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            format = "jpeg";
+        } else if (startsWith(header, PNG_SIGNATURE)) {
+            format = "png";
+        } else {
+            throw new UploadException("Invalid image file");
+        }
+        String declaredFormat = switch (mimeType == null ? "" : mimeType.toLowerCase(Locale.ROOT)) {
+            case "image/jpeg", "image/jpg" -> "jpeg";
+            case "image/png" -> "png";
+            default -> throw new UploadException("Unsupported image type " + mimeType);
+        };
+        if (!declaredFormat.equals(format)) {
+            throw new UploadException("Image content does not match its declared type " + mimeType);
+        }
+        return format;
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        return Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    /**
+     * Reads the image dimensions from the file header without decoding any pixel data.
+     *
+     * @throws UploadException if the header cannot be read or the dimensions exceed the configured maximum
+     */
+    private void validateImageDimensions(Path image, String format) {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format);
+        if (!readers.hasNext()) {
+            throw new UploadException("Invalid image file");
+        }
+        ImageReader reader = readers.next();
+        int width;
+        int height;
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.toFile())) {
+            reader.setInput(in, true, true);
+            width = reader.getWidth(0);
+            height = reader.getHeight(0);
         } catch (IOException e) {
-            throw new UploadException("Failed to store image", e);
+            throw new UploadException("Invalid image file");
+        } finally {
+            reader.dispose();
+        }
+
+        if (width > maxWidth || height > maxHeight) {
+            throw new UploadException(
+                String.format("Image dimensions (%dx%d) exceed maximum allowed dimensions (%dx%d)", width, height, maxWidth, maxHeight)
+            );
         }
     }
 
@@ -640,6 +748,7 @@ public class ImageService {
             }
 
             Files.deleteIfExists(imagePath);
+            imageVariantService.deleteVariants(image);
         } catch (IOException e) {
             log.error("Failed to delete image file for: {}", image.getImageId(), e);
         }
@@ -655,35 +764,24 @@ public class ImageService {
         }
 
         String mimeType = file.getContentType();
-        if (mimeType == null || !ALLOWED_MIME_TYPES.contains(mimeType.toLowerCase())) {
+        if (mimeType == null || !ALLOWED_MIME_TYPES.contains(mimeType.toLowerCase(Locale.ROOT))) {
             throw new UploadException("Invalid image type. Allowed: JPG, JPEG, PNG");
         }
     }
 
-    private void validateImageDimensions(BufferedImage image) {
-        int width = image.getWidth();
-        int height = image.getHeight();
-
-        if (width > maxWidth || height > maxHeight) {
-            throw new UploadException(
-                String.format("Image dimensions (%dx%d) exceed maximum allowed dimensions (%dx%d)", width, height, maxWidth, maxHeight)
-            );
-        }
-    }
-
     private String getExtension(MultipartFile file) {
         String mimeType = file.getContentType();
         if (!StringUtils.hasText(mimeType)) {
             String extension = FilenameUtils.getExtension(file.getOriginalFilename());
-            return StringUtils.hasText(extension) ? "." + extension.toLowerCase() : ".jpg";
+            return StringUtils.hasText(extension) ? "." + extension.toLowerCase(Locale.ROOT) : ".jpg";
         }
 
-        return switch (mimeType.toLowerCase()) {
+        return switch (mimeType.toLowerCase(Locale.ROOT)) {
             case "image/jpeg", "image/jpg" -> ".jpg";
             case "image/png" -> ".png";
             default -> {
                 String extension = FilenameUtils.getExtension(file.getOriginalFilename());
-                yield StringUtils.hasText(extension) ? "." + extension.toLowerCase() : ".jpg";
+                yield StringUtils.hasText(extension) ? "." + extension.toLowerCase(Locale.ROOT) : ".jpg";
             }
         };
     }
@@ -698,7 +796,8 @@ public class ImageService {
 
     /**
      * Retrieves the raw bytes of an image file for embedding in documents (e.g.,
-     * PDF export).
+     * PDF export). The widest downscaled variant is used if available, since
+     * documents never need the full upload resolution.
      *
      * @param imageId the ID of the image to retrieve
      * @return the image file contents as a byte array
@@ -708,13 +807,7 @@ public class ImageService {
     public byte[] getImageBytes(UUID imageId) {
         Image image = imageRepository.findById(imageId).orElseThrow(() -> EntityNotFoundException.forId("Image", imageId));
 
-        String relativePath = image.getUrl().replace("/images/", "");
-        Path imagePath = imageRoot.resolve(relativePath).normalize();
-        Path normalizedRoot = imageRoot.normalize();
-
-        if (!imagePath.startsWith(normalizedRoot)) {
-            throw new IllegalStateException("Image path lies outside storage root: " + imagePath);
-        }
+        Path imagePath = imageVariantService.resolveWidestVariant(image);
 
         try {
             return Files.readAllBytes(imagePath);
@@ -722,4 +815,7 @@ public class ImageService {
             throw new InternalServerException("Failed to read image file: " + imageId, e);
         }
     }
+
+    /** A stored original: its path relative to the image root and its size in bytes. */
+    private record StoredImage(String relativePath, long sizeBytes) {}
 }
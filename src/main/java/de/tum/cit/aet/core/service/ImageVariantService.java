@@ -0,0 +1,371 @@
+package de.tum.cit.aet.core.service;
+
+import de.tum.cit.aet.core.domain.Image;
+import de.tum.cit.aet.core.repository.ImageRepository;
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
+import de.tum.cit.aet.core.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Generates downscaled variants of uploaded images (job banners, default banners and profile pictures).
+ * <p>
+ * Variants are re-encoded in the format of the original (JPEG or PNG) and stored next to it using the
+ * naming scheme of {@link ImageVariantUtil}, so they are served by the same static resource handler.
+ * Only widths smaller than the original are generated. Variants of new uploads are generated once the
+ * upload has committed ({@link #generateAfterCommit(Image)}); images uploaded before variants existed, or
+ * whose variants could not be generated then, are picked up by {@link #backfill()}. Both decode on a
+ * dedicated, bounded worker pool, so image processing can neither starve the shared task executor nor
+ * pile up without limit.
+ * Users keep referencing the original profile picture; readers pick the avatar-sized variant with
+ * {@link ImageVariantUtil#avatarOf(String, String)}.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final ImageRepository imageRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final Path imageRoot;
+    private final List<Integer> variantWidths;
+    private final float jpegQuality;
+    private final int backfillBatchSize;
+    private final int maxAttempts;
+
+    public ImageVariantService(
+        ImageRepository imageRepository,
+        @Value("${aet.storage.image-root:/storage/images}") String imageRootDir,
+        @Value("${aet.storage.image-variants.widths:160,480,1200}") List<Integer> variantWidths,
+        @Value("${aet.storage.image-variants.jpeg-quality:0.82}") float jpegQuality,
+        @Value("${aet.storage.image-variants.backfill-batch-size:50}") int backfillBatchSize,
+        @Value("${aet.storage.image-variants.max-attempts:3}") int maxAttempts,
+        @Value("${aet.storage.image-variants.workers:1}") int workers,
+        @Value("${aet.storage.image-variants.queue-capacity:100}") int queueCapacity
+    ) {
+        this.imageRepository = imageRepository;
+        this.imageRoot = Paths.get(imageRootDir).toAbsolutePath().normalize();
+        this.variantWidths = variantWidths.stream().sorted().toList();
+        this.jpegQuality = jpegQuality;
+        this.backfillBatchSize = backfillBatchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variants-");
+        executor.initialize();
+    }
+
+    /**
+     * Waits for variants being generated on shutdown; images left pending are picked up by the next backfill.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.shutdown();
+    }
+
+    /**
+     * Generates all configured variants that are narrower than the stored original.
+     * <p>
+     * The dimensions are read from the header first, so originals that are too small are never decoded.
+     * Larger originals are decoded with source subsampling down to about the widest variant instead of
+     * at full resolution, and every narrower variant is scaled from the next wider one.
+     *
+     * @param relativePath the path of the original relative to the image root (e.g. "jobs/abc.jpg")
+     * @return the comma-separated widths of the generated variants (empty if the original is too small)
+     * @throws UndecodableImageException if no image reader supports the original
+     * @throws IOException               if the original cannot be read or a variant cannot be written
+     */
+    public String generateVariants(String relativePath) throws IOException {
+        Path original = resolve(relativePath);
+        boolean png = relativePath.toLowerCase(Locale.ROOT).endsWith(".png");
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                throw new IOException("Cannot open image " + relativePath);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new UndecodableImageException("Unsupported image format: " + relativePath);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                List<Integer> widths = variantWidths.stream().filter(width -> width < sourceWidth).toList();
+                if (widths.isEmpty()) {
+                    return "";
+                }
+
+                // Point-sampled decode to at least the widest variant; the bilinear steps below smooth it
+                int subsampling = Math.max(1, sourceWidth / widths.getLast());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage current = reader.read(0, param);
+                boolean alpha = png && current.getColorModel().hasAlpha();
+
+                for (int width : widths.reversed()) {
+                    int height = Math.max(1, Math.round((float) sourceHeight * width / sourceWidth));
+                    current = scaleTo(current, width, height, alpha);
+                    write(current, resolve(ImageVariantUtil.variantOf(relativePath, width)), png);
+                }
+                return ImageVariantUtil.formatWidths(widths);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Generates the variants of a freshly uploaded image on the variant workers once the current
+     * transaction has committed, so the upload request never decodes the image. A failure, or a full
+     * worker queue, leaves the image pending for {@link #backfill()}; until then the original is served.
+     *
+     * @param image the persisted image
+     */
+    public void generateAfterCommit(Image image) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                executor.execute(() -> {
+                    try {
+                        recordVariants(image, generateVariants(toRelativePath(image.getUrl())));
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("Failed to generate variants for image {}, left to the backfill: {}", image.getImageId(), e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("Variant workers are saturated, variants of image {} are left to the backfill", image.getImageId());
+            }
+        });
+    }
+
+    /**
+     * Stores the widths of the generated variants of an image.
+     *
+     * @param image  the image
+     * @param widths the comma-separated widths of the generated variants
+     */
+    public void recordVariants(Image image, String widths) {
+        imageRepository.updateVariantWidths(image.getImageId(), widths);
+    }
+
+    /**
+     * Deletes all stored variants of an image.
+     *
+     * @param image the image whose variants should be removed
+     */
+    public void deleteVariants(Image image) {
+        String relativePath = toRelativePath(image.getUrl());
+        for (int width : ImageVariantUtil.parseWidths(image.getVariantWidths())) {
+            try {
+                Files.deleteIfExists(resolve(ImageVariantUtil.variantOf(relativePath, width)));
+            } catch (IOException e) {
+                log.warn("Failed to delete {} px variant of image {}: {}", width, image.getImageId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the widest stored variant, falling back to the original if there is none.
+     *
+     * @param image the image
+     * @return the path of the file to read
+     */
+    public Path resolveWidestVariant(Image image) {
+        String relativePath = toRelativePath(image.getUrl());
+        List<Integer> widths = ImageVariantUtil.parseWidths(image.getVariantWidths());
+        Optional<Path> variant = widths.isEmpty()
+            ? Optional.empty()
+            : Optional.of(resolve(ImageVariantUtil.variantOf(relativePath, widths.getLast()))).filter(Files::isReadable);
+        return variant.orElseGet(() -> resolve(relativePath));
+    }
+
+    /**
+     * Generates variants for images that do not have any yet, one at a time on the variant workers.
+     * A failed image stays pending and is retried in the next runs; it is only given up (marked with an
+     * empty width list) once no reader supports its format or {@code aet.storage.image-variants.max-attempts}
+     * attempts have failed. The run ends early while the workers are saturated by uploads.
+     */
+    @Scheduled(
+        fixedDelayString = "${aet.storage.image-variants.backfill-interval:PT1H}",
+        initialDelayString = "${aet.storage.image-variants.backfill-initial-delay:PT2M}"
+    )
+    @SchedulerLock(name = "image-variant-backfill")
+    public void backfill() {
+        // Whole seconds, because the database may round the stored attempt times to seconds
+        LocalDateTime runStartedAt = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        int processed = 0;
+        int failed = 0;
+        List<Image> batch;
+        do {
+            batch = imageRepository.findWithoutVariants(runStartedAt, PageRequest.of(0, backfillBatchSize));
+            for (Image image : batch) {
+                try {
+                    recordVariants(image, generateOnWorker(toRelativePath(image.getUrl())));
+                    processed++;
+                } catch (RejectedExecutionException e) {
+                    log.info("Variant workers are saturated, continuing the backfill in the next run");
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (UndecodableImageException e) {
+                    log.warn("Giving up variants for image {}: {}", image.getImageId(), e.getMessage());
+                    imageRepository.updateVariantWidths(image.getImageId(), "");
+                } catch (IOException | RuntimeException e) {
+                    failed++;
+                    if (image.getVariantAttempts() + 1 >= maxAttempts) {
+                        log.warn("Giving up variants for image {} after {} attempts: {}", image.getImageId(), maxAttempts, e.getMessage());
+                        imageRepository.updateVariantWidths(image.getImageId(), "");
+                    } else {
+                        log.warn("Could not generate variants for image {}, will retry: {}", image.getImageId(), e.getMessage());
+                    }
+                    imageRepository.recordFailedVariantAttempt(image.getImageId(), LocalDateTime.now(ZoneOffset.UTC));
+                }
+            }
+        } while (batch.size() == backfillBatchSize);
+
+        if (processed > 0 || failed > 0) {
+            log.info("Generated variants for {} existing images, {} failed", processed, failed);
+        }
+    }
+
+    /**
+     * Runs {@link #generateVariants(String)} on the variant workers and waits for the result.
+     */
+    private String generateOnWorker(String relativePath) throws IOException, InterruptedException {
+        try {
+            return executor.submit(() -> generateVariants(relativePath)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Downscales in halving steps with bilinear interpolation, which approximates area averaging
+     * (no aliasing on large reductions) at a fraction of its cost.
+     */
+    private static BufferedImage scaleTo(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, alpha);
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Writes the variant to a temporary file and moves it into place, so concurrent generation
+     * (e.g. the backfill on several nodes) never exposes a partially written file.
+     */
+    private void write(BufferedImage image, Path target, boolean png) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            if (png) {
+                ImageIO.write(image, "png", temp.toFile());
+            } else {
+                writeJpeg(image, temp);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String toRelativePath(String url) {
+        return url.replace("/images/", "");
+    }
+
+    private Path resolve(String relativePath) {
+        Path path = imageRoot.resolve(relativePath).normalize();
+        if (!path.startsWith(imageRoot)) {
+            throw new IllegalStateException("Image path lies outside storage root: " + path);
+        }
+        return path;
+    }
+
+    /**
+     * Signals that an original can never be decoded, so generating its variants must not be retried.
+     */
+    public static class UndecodableImageException extends IOException {
+
+        public UndecodableImageException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package de.tum.cit.aet.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import de.tum.cit.aet.usermanagement.dto.ResearchGroupSummaryDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Disk-backed cache of rendered job PDFs.
+ * <p>
+ * The rendered files live in a directory owned by this node; only the index (key, file and
+ * size) is kept in memory and is bounded by the total size of the cached files. Every entry is
+ * keyed by the job's last modification time, so edits are never served from the cache, and by
+ * everything else the rendering depends on: the supervisor and research group data printed in it,
+ * the banner, language, labels and whether the job status is shown.
+ * Changes to the research group or the supervisor's name therefore lead to a new entry, although
+ * they do not touch the job. The renderings leave out the footer line naming the viewer and the
+ * generation time, which is stamped onto every response, so all viewers share them.
+ * {@link de.tum.cit.aet.job.service.JobService} drops the entries of a job as soon as it changes
+ * on this node; entries additionally expire after {@code aet.job-pdf-cache.ttl}.
+ * <p>
+ * {@code aet.job-pdf-cache.dir} (by default below {@code java.io.tmpdir}) must be local to the node
+ * and must not be shared between instances: on startup every instance deletes the directories in it
+ * that have not been modified for longer than the TTL, which includes idle directories of other
+ * instances still serving from them.
+ */
+@Slf4j
+@Component
+public class JobPdfCache {
+
+    private final Path directory;
+    private final Cache<Key, Entry> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * Identifies one rendering of a job PDF.
+     *
+     * @param jobId          the id of the job
+     * @param lastModifiedAt the last modification time of the job
+     * @param supervisor     the name of the supervising professor
+     * @param researchGroup  the research group data printed in the PDF
+     * @param imageId        the id of the banner image, null if the job has none
+     * @param lang           the language of the rendering
+     * @param labelsHash     the hash of the translation labels, see {@link #hashLabels}
+     * @param withStatus     whether the job status is shown in the header
+     */
+    public record Key(
+        UUID jobId,
+        LocalDateTime lastModifiedAt,
+        String supervisor,
+        ResearchGroupSummaryDTO researchGroup,
+        UUID imageId,
+        String lang,
+        String labelsHash,
+        boolean withStatus
+    ) {}
+
+    /**
+     * A cached rendering.
+     *
+     * @param content the PDF bytes
+     * @param eTag    the weak ETag of the rendering; responses only differ from it in the stamped footer line
+     */
+    public record CachedPdf(byte[] content, String eTag) {}
+
+    private record Entry(Path file, int size, String eTag) {}
+
+    public JobPdfCache(
+        MeterRegistry meterRegistry,
+        @Value("${aet.job-pdf-cache.dir:${java.io.tmpdir}/tum-apply-job-pdf-cache}") String directory,
+        @Value("${aet.job-pdf-cache.max-size:256MB}") DataSize maxSize,
+        @Value("${aet.job-pdf-cache.ttl:P1D}") Duration ttl
+    ) throws IOException {
+        Path root = Paths.get(directory).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        removeStaleDirectories(root, ttl);
+        // The index does not survive a restart, so every instance writes into a fresh directory of its own
+        this.directory = Files.createTempDirectory(root, "cache-");
+
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Key key, Entry entry) -> entry.size())
+            .expireAfterWrite(ttl)
+            .removalListener((Key key, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    deleteQuietly(entry.file());
+                }
+            })
+            .build();
+
+        this.hitCounter = meterRegistry.counter("tumapply.job_pdf_cache.requests", "outcome", "hit");
+        this.missCounter = meterRegistry.counter("tumapply.job_pdf_cache.requests", "outcome", "miss");
+    }
+
+    /**
+     * Returns the cached rendering for the given key, rendering and storing it on a cache miss.
+     * Concurrent requests for the same key wait for a single rendering. If the file cannot be
+     * written or read, the PDF is rendered without the cache.
+     *
+     * @param key      identifies the rendering
+     * @param renderer renders the PDF on a cache miss
+     * @return the PDF bytes and their ETag
+     */
+    public CachedPdf get(Key key, Supplier<byte[]> renderer) {
+        AtomicReference<byte[]> rendered = new AtomicReference<>();
+        Entry entry = entries.get(key, ignored -> {
+            rendered.set(renderer.get());
+            return store(rendered.get());
+        });
+        if (rendered.get() != null) {
+            missCounter.increment();
+            return new CachedPdf(rendered.get(), entry != null ? entry.eTag() : eTag(rendered.get()));
+        }
+        if (entry != null) {
+            try {
+                byte[] content = Files.readAllBytes(entry.file());
+                hitCounter.increment();
+                return new CachedPdf(content, entry.eTag());
+            } catch (IOException e) {
+                log.warn("Could not read cached job PDF {}: {}", entry.file(), e.getMessage());
+                entries.invalidate(key);
+            }
+        }
+        missCounter.increment();
+        byte[] content = renderer.get();
+        return new CachedPdf(content, eTag(content));
+    }
+
+    /**
+     * Drops all cached renderings of the given job.
+     *
+     * @param jobId the id of the job
+     */
+    public void invalidate(UUID jobId) {
+        entries.asMap().keySet().removeIf(key -> key.jobId().equals(jobId));
+    }
+
+    /**
+     * Returns an order-independent hash of the translation labels of a rendering.
+     *
+     * @param labels the labels passed to the PDF export
+     * @return the hex-encoded SHA-256 hash
+     */
+    public static String hashLabels(Map<String, String> labels) {
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, String> label : new TreeMap<>(labels).entrySet()) {
+            digest.update(label.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(label.getValue()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Deletes the directory of this instance on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        entries.invalidateAll();
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete job PDF cache directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private Entry store(byte[] content) {
+        try {
+            // Unique file names, so a removal of an evicted entry never hits the file of its successor
+            Path file = directory.resolve(UUID.randomUUID() + ".pdf");
+            Files.write(file, content);
+            return new Entry(file, content.length, eTag(content));
+        } catch (IOException e) {
+            log.warn("Could not store rendered job PDF in the cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String eTag(byte[] content) {
+        return "W/\"job-pdf-" + HexFormat.of().formatHex(sha256().digest(content)) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void removeStaleDirectories(Path root, Duration ttl) {
+        // Directories of instances that did not shut down cleanly
+        Instant cutoff = Instant.now().minus(ttl);
+        try (Stream<Path> children = Files.list(root)) {
+            for (Path child : children.toList()) {
+                if (Files.isDirectory(child) && Files.getLastModifiedTime(child).toInstant().isBefore(cutoff)) {
+                    FileSystemUtils.deleteRecursively(child);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean up job PDF cache directory {}: {}", root, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached job PDF {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -18,6 +18,9 @@ import de.tum.cit.aet.reference.dto.ReferenceRequestDTO;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.dto.ResearchGroupSummaryDTO;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -42,19 +45,39 @@ public class PDFExportService {
     private final JobService jobService;
     private final CurrentUserService currentUserService;
     private final ImageService imageService;
+    private final JobPdfCache jobPdfCache;
 
     private final UserRepository userRepository;
 
     // ------------------- Main methods -------------------
 
     /**
-     * Exports application details to PDF. All timestamps are rendered in UTC.
+     * Exports application details to PDF and writes it directly to the given stream, without
+     * buffering the whole document. All timestamps are rendered in UTC.
      *
      * @param app    the ApplicationDetailDTO containing application data
      * @param labels translation labels for PDF content
+     * @param out    the stream the PDF is written to; it is not closed
+     */
+    public void exportApplicationToPDF(ApplicationDetailDTO app, Map<String, String> labels, OutputStream out) {
+        JobDetailDTO job = app.jobId() == null ? null : jobService.getJobDetails(app.jobId());
+        applicationPDF(app, job, labels).build(out);
+    }
+
+    /**
+     * Exports application details to PDF using already loaded job details, so the
+     * rendering itself does not access the database. All timestamps are rendered in UTC.
+     *
+     * @param app    the ApplicationDetailDTO containing application data
+     * @param job    the details of the job applied for, or {@code null} to omit the job overview
+     * @param labels translation labels for PDF content
      * @return the PDF file as Resource
      */
-    public Resource exportApplicationToPDF(ApplicationDetailDTO app, Map<String, String> labels) {
+    public Resource exportApplicationToPDF(ApplicationDetailDTO app, JobDetailDTO job, Map<String, String> labels) {
+        return applicationPDF(app, job, labels).build();
+    }
+
+    private PDFBuilder applicationPDF(ApplicationDetailDTO app, JobDetailDTO job, Map<String, String> labels) {
         PDFBuilder builder = new PDFBuilder(labels.get("headline") + "'" + app.jobTitle() + "'");
 
         // currentUserFullNameOrEmpty() wraps the request-scoped proxy so it
@@ -69,8 +92,7 @@ public class PDFExportService {
             .addHeaderItem(labels.get("status") + UiTextFormatter.formatEnumValue(app.applicationState()));
 
         String lang = labels.getOrDefault("lang", "en");
-        if (app.jobId() != null) {
-            JobDetailDTO job = jobService.getJobDetails(app.jobId());
+        if (job != null) {
             // Determine job description language and content
             String descriptionForExport = selectJobDescriptionForLang(job.jobDescriptionEN(), job.jobDescriptionDE(), lang);
 
@@ -180,38 +202,92 @@ public class PDFExportService {
 
         builder.setPageLabels(labels.get("page"), labels.get("of"));
 
-        return builder.build();
+        return builder;
     }
 
     /**
      * Exports job details to PDF. All timestamps are rendered in UTC.
+     * Renderings are served from the {@link JobPdfCache} until the job, its supervisor or its
+     * research group changes. The cached renderings leave out the metadata line, which names the
+     * viewer and the generation time; it is stamped onto every response instead.
      *
      * @param jobId  the job ID
      * @param labels translation labels for PDF content
-     * @return the PDF file as Resource
+     * @return the PDF bytes and the ETag of the cached rendering
      */
-    public Resource exportJobToPDF(UUID jobId, Map<String, String> labels) {
+    public JobPdfCache.CachedPdf exportJobToPDF(UUID jobId, Map<String, String> labels) {
         JobDetailDTO job = jobService.getJobDetails(jobId);
+        JobPdfCache.Key key = new JobPdfCache.Key(
+            job.jobId(),
+            job.lastModifiedAt(),
+            job.supervisingProfessorName(),
+            job.researchGroup(),
+            job.imageId(),
+            labels.getOrDefault("lang", "en"),
+            JobPdfCache.hashLabels(labels),
+            canSeeJobStatus()
+        );
+        JobPdfCache.CachedPdf rendering = jobPdfCache.get(key, () -> {
+            try {
+                return buildJobPdf(job, loadBannerImage(job), labels).build().getContentAsByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        byte[] content = PDFBuilder.stampMetadata(rendering.content(), buildMetadataText(labels), labels.get("metaEndText"));
+        return new JobPdfCache.CachedPdf(content, rendering.eTag());
+    }
 
+    /**
+     * Exports already loaded job details to PDF. All timestamps are rendered in UTC.
+     *
+     * @param job    the job details
+     * @param labels translation labels for PDF content
+     * @return the PDF file as Resource
+     */
+    public Resource exportJobToPDF(JobDetailDTO job, Map<String, String> labels) {
+        return exportJobToPDF(job, loadBannerImage(job), labels);
+    }
+
+    /**
+     * Exports already loaded job details and banner to PDF, so the rendering itself does not
+     * access the database. All timestamps are rendered in UTC.
+     *
+     * @param job         the job details
+     * @param bannerImage the banner image bytes, see {@link #loadBannerImage}, or {@code null} for none
+     * @param labels      translation labels for PDF content
+     * @return the PDF file as Resource
+     */
+    public Resource exportJobToPDF(JobDetailDTO job, byte[] bannerImage, Map<String, String> labels) {
+        PDFBuilder builder = buildJobPdf(job, bannerImage, labels);
+
+        // Metadata
+        String metadataText = buildMetadataText(labels);
+        builder.setMetadata(metadataText);
+        builder.setMetadataEnd(labels.get("metaEndText"));
+
+        return builder.build();
+    }
+
+    /**
+     * Prepares the PDF of a job without the metadata line, which depends on the viewer and the
+     * time of the export.
+     *
+     * @param job         the job details
+     * @param bannerImage the banner image bytes, or {@code null} for none
+     * @param labels      translation labels for PDF content
+     * @return the builder holding the job content and page labels
+     */
+    private PDFBuilder buildJobPdf(JobDetailDTO job, byte[] bannerImage, Map<String, String> labels) {
         PDFBuilder builder = new PDFBuilder(job.title());
 
-        // Add banner image if available
-        if (job.imageId() != null) {
-            try {
-                byte[] imageBytes = imageService.getImageBytes(job.imageId());
-                builder.setBannerImage(imageBytes);
-            } catch (Exception e) {
-                log.debug("Could not load banner image for job PDF export: {}", e.getMessage());
-            }
+        if (bannerImage != null) {
+            builder.setBannerImage(bannerImage);
         }
 
         builder.addHeaderItem(labels.get("jobBy") + job.supervisingProfessorName() + labels.get("forJob") + "'" + job.title() + "'");
-        try {
-            if (currentUserService.isProfessor() || currentUserService.isEmployee()) {
-                builder.addHeaderItem(labels.get("status") + UiTextFormatter.formatEnumValue(job.state()));
-            }
-        } catch (Exception e) {
-            log.debug("User not needed to see job status in PDF export as it's always published for them.");
+        if (canSeeJobStatus()) {
+            builder.addHeaderItem(labels.get("status") + UiTextFormatter.formatEnumValue(job.state()));
         }
 
         String lang = labels.getOrDefault("lang", "en");
@@ -243,14 +319,27 @@ public class PDFExportService {
         // Research Group Section
         addResearchGroupSection(builder, job.researchGroup(), labels);
 
-        // Metadata
-        String metadataText = buildMetadataText(labels);
-        builder.setMetadata(metadataText);
-        builder.setMetadataEnd(labels.get("metaEndText"));
-
         builder.setPageLabels(labels.get("page"), labels.get("of"));
 
-        return builder.build();
+        return builder;
+    }
+
+    /**
+     * Loads the banner image of a job for embedding in its PDF.
+     *
+     * @param job the job details
+     * @return the image bytes, or {@code null} if the job has no banner or it cannot be loaded
+     */
+    public byte[] loadBannerImage(JobDetailDTO job) {
+        if (job.imageId() == null) {
+            return null;
+        }
+        try {
+            return imageService.getImageBytes(job.imageId());
+        } catch (Exception e) {
+            log.debug("Could not load banner image for job PDF export: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -558,6 +647,21 @@ public class PDFExportService {
         return metadata.toString();
     }
 
+    /**
+     * Returns whether the current user sees the job status in the PDF header. Callers without an
+     * active request or user (e.g. anonymous or background exports) only ever see published jobs.
+     *
+     * @return true if the current user is a professor or employee
+     */
+    private boolean canSeeJobStatus() {
+        try {
+            return currentUserService.isProfessor() || currentUserService.isEmployee();
+        } catch (Exception e) {
+            log.debug("User not needed to see job status in PDF export as it's always published for them.");
+            return false;
+        }
+    }
+
     /**
      * Returns the current user's full name if a request scope is active and
      * the user is authenticated, otherwise {@link Optional#empty()}.
@@ -0,0 +1,256 @@
+package de.tum.cit.aet.core.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipException;
+
+/**
+ * Streaming ZIP writer that stores every entry uncompressed ({@code STORED}).
+ * <p>
+ * Application documents are PDFs, which are already compressed; deflating them again only costs
+ * CPU. Because the size and CRC-32 of an entry are known before it is written, every local header
+ * is complete up front (no data descriptors), and file contents are copied with
+ * {@link FileChannel#transferTo}. That is only a kernel-level copy if the target is a file or
+ * socket channel; for a servlet response wrapped with {@link java.nio.channels.Channels#newChannel},
+ * the bytes pass through a small direct buffer and the adapter's heap buffer in bounded chunks.
+ * Either way the file is never held in memory as a whole and never recompressed.
+ * Archives whose central directory starts beyond 4 GiB or which hold more than 65535 entries are
+ * finished with ZIP64 end records; single entries are limited to 4 GiB.
+ * <p>
+ * Not thread-safe; one writer produces one archive.
+ */
+public class StoredZipWriter implements Closeable {
+
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+    private static final int ZIP64_EXTRA_FIELD_LENGTH = 12;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH = 20;
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+    private static final short ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final short VERSION_STORED = 20;
+    private static final short VERSION_ZIP64 = 45;
+    private static final short FLAG_UTF8_NAMES = 1 << 11;
+    private static final short METHOD_STORED = 0;
+
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    private static final int MAX_16 = 0xFFFF;
+
+    private final WritableByteChannel out;
+    private final short dosTime;
+    private final short dosDate;
+    private final List<CentralDirectoryEntry> entries = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+
+    private long offset;
+    private boolean finished;
+
+    private record CentralDirectoryEntry(byte[] name, long crc, long size, long localHeaderOffset) {}
+
+    /**
+     * Creates a writer that appends the archive to the given channel.
+     *
+     * @param out           the channel receiving the archive; closed by {@link #close()}
+     * @param deterministic whether all entries get the fixed timestamp 1980-01-01 00:00 instead of the current time
+     */
+    public StoredZipWriter(WritableByteChannel out, boolean deterministic) {
+        this.out = out;
+        LocalDateTime time = deterministic ? LocalDateTime.of(1980, 1, 1, 0, 0) : LocalDateTime.now();
+        this.dosTime = (short) ((time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1));
+        this.dosDate = (short) (((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth());
+    }
+
+    /**
+     * Adds an entry whose content is the first {@code size} bytes of the given file.
+     *
+     * @param name   the entry name; {@code /} separates directories
+     * @param source the file to copy, read from position 0 without changing its position
+     * @param size   the number of bytes to copy
+     * @param crc    the CRC-32 of these bytes
+     * @throws IOException if the entry is invalid, the file is shorter than {@code size} or writing fails
+     */
+    public void putFile(String name, FileChannel source, long size, long crc) throws IOException {
+        writeLocalFileHeader(name, size, crc);
+        long position = 0;
+        while (position < size) {
+            long transferred = source.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                throw new EOFException("File of entry " + name + " ended after " + position + " of " + size + " bytes");
+            }
+            position += transferred;
+        }
+        offset += size;
+    }
+
+    /**
+     * Adds an entry with the given in-memory content.
+     *
+     * @param name    the entry name; {@code /} separates directories
+     * @param content the entry content
+     * @throws IOException if the entry is invalid or writing fails
+     */
+    public void putBytes(String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        writeLocalFileHeader(name, content.length, crc.getValue());
+        offset += write(ByteBuffer.wrap(content));
+    }
+
+    /**
+     * Writes the central directory, completing the archive without closing the channel.
+     * Further entries cannot be added afterwards.
+     *
+     * @throws IOException if writing fails
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        long centralDirectoryOffset = offset;
+        for (CentralDirectoryEntry entry : entries) {
+            offset += write(centralDirectoryHeader(entry).flip());
+        }
+        long centralDirectorySize = offset - centralDirectoryOffset;
+
+        if (entries.size() >= MAX_16 || centralDirectoryOffset >= MAX_32 || centralDirectorySize >= MAX_32) {
+            long zip64EndOffset = offset;
+            ByteBuffer zip64End = allocate(ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH + ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH)
+                .putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+                .putLong(ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH - 12)
+                .putShort(VERSION_ZIP64)
+                .putShort(VERSION_ZIP64)
+                .putInt(0)
+                .putInt(0)
+                .putLong(entries.size())
+                .putLong(entries.size())
+                .putLong(centralDirectorySize)
+                .putLong(centralDirectoryOffset)
+                .putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE)
+                .putInt(0)
+                .putLong(zip64EndOffset)
+                .putInt(1);
+            offset += write(zip64End.flip());
+        }
+
+        short entryCount = (short) Math.min(entries.size(), MAX_16);
+        ByteBuffer end = allocate(END_OF_CENTRAL_DIRECTORY_LENGTH)
+            .putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort(entryCount)
+            .putShort(entryCount)
+            .putInt((int) Math.min(centralDirectorySize, MAX_32))
+            .putInt((int) Math.min(centralDirectoryOffset, MAX_32))
+            .putShort((short) 0);
+        offset += write(end.flip());
+    }
+
+    /**
+     * Finishes the archive and closes the underlying channel.
+     *
+     * @throws IOException if writing or closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeLocalFileHeader(String name, long size, long crc) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("ZIP archive is already finished");
+        }
+        if (size > MAX_32) {
+            throw new ZipException("Entry " + name + " exceeds the 4 GiB limit of stored entries");
+        }
+        byte[] encodedName = name.getBytes(UTF_8);
+        if (encodedName.length > MAX_16) {
+            throw new ZipException("Entry name is too long: " + name);
+        }
+        if (!names.add(name)) {
+            throw new ZipException("Duplicate entry: " + name);
+        }
+
+        entries.add(new CentralDirectoryEntry(encodedName, crc, size, offset));
+        ByteBuffer header = allocate(LOCAL_FILE_HEADER_LENGTH + encodedName.length)
+            .putInt(LOCAL_FILE_HEADER_SIGNATURE)
+            .putShort(VERSION_STORED)
+            .putShort(FLAG_UTF8_NAMES)
+            .putShort(METHOD_STORED)
+            .putShort(dosTime)
+            .putShort(dosDate)
+            .putInt((int) crc)
+            .putInt((int) size)
+            .putInt((int) size)
+            .putShort((short) encodedName.length)
+            .putShort((short) 0)
+            .put(encodedName);
+        offset += write(header.flip());
+    }
+
+    private ByteBuffer centralDirectoryHeader(CentralDirectoryEntry entry) {
+        // Local header offsets beyond 4 GiB move into a ZIP64 extra field
+        boolean zip64 = entry.localHeaderOffset() >= MAX_32;
+        int extraLength = zip64 ? ZIP64_EXTRA_FIELD_LENGTH : 0;
+        ByteBuffer header = allocate(CENTRAL_DIRECTORY_HEADER_LENGTH + entry.name().length + extraLength)
+            .putInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE)
+            .putShort(VERSION_ZIP64)
+            .putShort(zip64 ? VERSION_ZIP64 : VERSION_STORED)
+            .putShort(FLAG_UTF8_NAMES)
+            .putShort(METHOD_STORED)
+            .putShort(dosTime)
+            .putShort(dosDate)
+            .putInt((int) entry.crc())
+            .putInt((int) entry.size())
+            .putInt((int) entry.size())
+            .putShort((short) entry.name().length)
+            .putShort((short) extraLength)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putInt(0)
+            .putInt((int) Math.min(entry.localHeaderOffset(), MAX_32))
+            .put(entry.name());
+        if (zip64) {
+            header.putShort(ZIP64_EXTRA_FIELD_ID).putShort((short) 8).putLong(entry.localHeaderOffset());
+        }
+        return header;
+    }
+
+    private static ByteBuffer allocate(int length) {
+        return ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private long write(ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer);
+        }
+        return written;
+    }
+}
@@ -29,6 +29,8 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -37,7 +39,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -61,6 +63,9 @@ public class UserDataExportService {
     @Value("${aet.data-export.expires-days:7}")
     private long exportExpiresDays;
 
+    @Value("${aet.data-export.lease:PT10M}")
+    private Duration lease;
+
     /**
      * Retrieves the current data export status for the given user, including the most recent request,
      * the last time an export was requested, the next allowed request time based on cooldown rules,
@@ -68,7 +73,7 @@ public class UserDataExportService {
      *
      * @param userId the user's unique identifier
      * @return a {@link DataExportStatusDTO} containing status, last requested time, next allowed time,
-     *         and cooldown duration in seconds
+     *         cooldown duration in seconds and the progress of an export in creation
      */
     public DataExportStatusDTO getDataExportStatus(@NonNull UUID userId) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
@@ -78,7 +83,16 @@ public class UserDataExportService {
         long cooldownSeconds = calculateCooldownSeconds(now, nextAllowedAt);
         DataExportState status = latest != null ? latest.getStatus() : null;
         String downloadToken = calculateDownloadToken(status, latest);
-        return new DataExportStatusDTO(status, lastRequestedAt, nextAllowedAt, cooldownSeconds, downloadToken);
+        boolean inCreation = status == DataExportState.IN_CREATION;
+        return new DataExportStatusDTO(
+            status,
+            lastRequestedAt,
+            nextAllowedAt,
+            cooldownSeconds,
+            downloadToken,
+            inCreation ? latest.getProgressDone() : null,
+            inCreation ? latest.getProgressTotal() : null
+        );
     }
 
     /**
@@ -202,39 +216,110 @@ public class UserDataExportService {
     }
 
     /**
-     * Scheduled method that processes all pending data export requests.
-     * This method runs nightly (configurable via {@code aet.data-export.cron}) and creates
-     * ZIP archives for all REQUESTED exports, sends notification emails, and updates the
-     * export status accordingly. Failed exports are marked as FAILED.
+     * Claims up to {@code limit} requested exports for this node and moves them to IN_CREATION.
+     * Rows locked by a concurrent claim on another node are skipped instead of waited for.
+     * Exports whose lease expired without an outcome are returned to the queue first.
+     *
+     * @param limit the maximum number of requests to claim
+     * @return the ids of the claimed requests, oldest first
      */
-    @Scheduled(cron = "${aet.data-export.cron:0 0 2 * * *}")
-    public void processPendingDataExports() {
-        List<DataExportRequest> pending = dataExportRequestRepository.findAllByStatusOrderByCreatedAtAsc(DataExportState.REQUESTED);
-
-        for (DataExportRequest request : pending) {
-            try {
-                processSingleRequest(request);
-            } catch (Exception e) {
-                log.error("Failed to process data export {}", request.getExportRequestId(), e);
+    public List<UUID> claimPendingExports(int limit) {
+        TransactionTemplate tx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        List<UUID> claimed = tx.execute(status -> {
+            LocalDateTime now = nowUtc();
+            int released = dataExportRequestRepository.releaseExpiredLeases(now);
+            if (released > 0) {
+                log.warn("Released {} data exports whose worker lease expired", released);
+            }
+            List<UUID> ids = new ArrayList<>();
+            for (DataExportRequest request : dataExportRequestRepository.findRequestedForUpdate(PageRequest.of(0, limit))) {
+                request.setStatus(DataExportState.IN_CREATION);
+                request.setLeaseExpiresAt(now.plus(lease));
+                request.setProgressDone(0);
+                request.setProgressTotal(null);
+                ids.add(request.getExportRequestId());
+            }
+            return ids;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * Returns a claimed export to the queue without building it.
+     *
+     * @param exportRequestId the id of the claimed request
+     */
+    public void releaseClaim(@NonNull UUID exportRequestId) {
+        new TransactionTemplate(Objects.requireNonNull(transactionManager)).executeWithoutResult(status ->
+            dataExportRequestRepository.release(exportRequestId)
+        );
+    }
+
+    /**
+     * Builds the ZIP archive of a claimed export, sends the download email and marks the request
+     * as EMAIL_SENT. Failed exports are marked as FAILED.
+     * <p>
+     * The lease last written by this worker identifies its claim. If the lease expired and the request
+     * was released or claimed by another worker in the meantime, the build is aborted at the next
+     * progress update and the request is left to its new owner.
+     *
+     * @param exportRequestId the id of a request claimed by {@link #claimPendingExports}
+     * @return {@code true} if the export was built, {@code false} if it failed
+     */
+    public boolean processClaimedExport(@NonNull UUID exportRequestId) {
+        DataExportRequest request = dataExportRequestRepository.findById(exportRequestId).orElse(null);
+        if (request == null || request.getStatus() != DataExportState.IN_CREATION) {
+            return false;
+        }
+        try {
+            processSingleRequest(request);
+            return true;
+        } catch (ClaimLostException e) {
+            log.warn("Aborted data export {}: {}", exportRequestId, e.getMessage());
+            return false;
+        } catch (Exception e) {
+            log.error("Failed to process data export {}", exportRequestId, e);
+            Integer failed = new TransactionTemplate(Objects.requireNonNull(transactionManager)).execute(status ->
+                dataExportRequestRepository.fail(exportRequestId, request.getLeaseExpiresAt())
+            );
+            if (failed != null && failed > 0) {
                 request.setStatus(DataExportState.FAILED);
-                dataExportRequestRepository.save(request);
+                request.setLeaseExpiresAt(null);
             }
+            return false;
         }
     }
 
     private void processSingleRequest(DataExportRequest request) throws IOException {
-        request.setStatus(DataExportState.IN_CREATION);
-        dataExportRequestRepository.save(request);
-
         Path exportPath = createExportZip(request);
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        String downloadToken = UUID.randomUUID().toString();
+
+        UUID exportRequestId = request.getExportRequestId();
+        LocalDateTime heldLease = request.getLeaseExpiresAt();
+        Integer completed = new TransactionTemplate(Objects.requireNonNull(transactionManager)).execute(status ->
+            dataExportRequestRepository.complete(
+                exportRequestId,
+                heldLease,
+                exportPath.toString(),
+                now,
+                now.plusDays(exportExpiresDays),
+                downloadToken
+            )
+        );
+        if (completed == null || completed == 0) {
+            // The archive belongs to an attempt that no longer owns the request and is never downloaded
+            Files.deleteIfExists(exportPath);
+            throw new ClaimLostException(exportRequestId);
+        }
 
         request.setFilePath(exportPath.toString());
         request.setReadyAt(now);
         request.setExpiresAt(now.plusDays(exportExpiresDays));
-        request.setDownloadToken(UUID.randomUUID().toString());
+        request.setDownloadToken(downloadToken);
         request.setStatus(DataExportState.EMAIL_SENT);
-        dataExportRequestRepository.save(request);
+        request.setLeaseExpiresAt(null);
+        request.setProgressDone(request.getProgressTotal());
 
         sendExportReadyEmail(request);
     }
@@ -247,7 +332,30 @@ public class UserDataExportService {
             throw new UserDataExportException("User data export failed: could not collect user data");
         }
 
-        return userExportZipWriter.writeExport(request.getUser().getUserId(), request.getExportRequestId(), userData);
+        UUID exportRequestId = request.getExportRequestId();
+        TransactionTemplate progressTx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        return userExportZipWriter.writeExport(request.getUser().getUserId(), exportRequestId, userData, (done, total) -> {
+            // Every progress update also extends the lease, so long exports are not claimed twice
+            LocalDateTime heldLease = request.getLeaseExpiresAt();
+            LocalDateTime leaseUntil = nowUtc().plus(lease);
+            Integer updated = progressTx.execute(status ->
+                dataExportRequestRepository.updateProgress(exportRequestId, heldLease, done, total, leaseUntil)
+            );
+            if (updated == null || updated == 0) {
+                throw new ClaimLostException(exportRequestId);
+            }
+            request.setProgressDone(done);
+            request.setProgressTotal(total);
+            request.setLeaseExpiresAt(leaseUntil);
+        });
+    }
+
+    /**
+     * The current time in UTC, at the millisecond precision of the stored leases, so a lease read back
+     * from the database equals the value written.
+     */
+    private static LocalDateTime nowUtc() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
     }
 
     private void sendExportReadyEmail(DataExportRequest request) {
@@ -307,4 +415,15 @@ public class UserDataExportService {
     private String calculateDownloadToken(DataExportState status, DataExportRequest latest) {
         return (status == DataExportState.EMAIL_SENT && latest != null) ? latest.getDownloadToken() : null;
     }
+
+    /**
+     * Signals that the lease of a claimed export expired and the request was released or claimed by
+     * another worker, so this worker must not touch it anymore.
+     */
+    private static class ClaimLostException extends RuntimeException {
+
+        ClaimLostException(UUID exportRequestId) {
+            super("Lost the claim on data export " + exportRequestId);
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package de.tum.cit.aet.core.service;
+
+import de.tum.cit.aet.core.constants.DataExportState;
+import de.tum.cit.aet.core.repository.DataExportRequestRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds requested GDPR data exports continuously on a dedicated, bounded worker pool.
+ * <p>
+ * Every poll claims at most as many requests as there are idle workers, so throughput scales with
+ * {@code aet.data-export.workers} and claimed requests never queue behind a busy worker. Claims skip
+ * rows locked by other nodes, so every node can run its own pool. Requests claimed by a node that
+ * dies are picked up again once their lease expires. The weekly request limit is enforced when a
+ * request is created and is not affected by how fast exports are built.
+ */
+@Slf4j
+@Component
+public class UserDataExportWorker {
+
+    private final UserDataExportService userDataExportService;
+    private final DataExportRequestRepository dataExportRequestRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+
+    private final AtomicInteger exportsInFlight = new AtomicInteger();
+    private final AtomicLong pendingExports = new AtomicLong();
+    private final Timer builtTimer;
+    private final Timer failedTimer;
+
+    public UserDataExportWorker(
+        UserDataExportService userDataExportService,
+        DataExportRequestRepository dataExportRequestRepository,
+        MeterRegistry meterRegistry,
+        @Value("${aet.data-export.workers:2}") int workers
+    ) {
+        this.userDataExportService = userDataExportService;
+        this.dataExportRequestRepository = dataExportRequestRepository;
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("data-export-");
+        executor.initialize();
+
+        Gauge.builder("tumapply.data_export.pending", pendingExports, AtomicLong::get)
+            .description("Number of data exports waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("tumapply.data_export.in_flight", exportsInFlight, AtomicInteger::get)
+            .description("Number of data exports being built by the workers of this node")
+            .register(meterRegistry);
+        this.builtTimer = Timer.builder("tumapply.data_export.duration")
+            .description("Time needed to build a data export")
+            .tag("outcome", "built")
+            .register(meterRegistry);
+        this.failedTimer = Timer.builder("tumapply.data_export.duration")
+            .description("Time needed to build a data export")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Claims requested exports for the idle workers and hands them over.
+     */
+    @Scheduled(
+        fixedDelayString = "${aet.data-export.poll-interval:PT10S}",
+        initialDelayString = "${aet.data-export.poll-interval:PT10S}"
+    )
+    public void poll() {
+        try {
+            pendingExports.set(dataExportRequestRepository.countByStatus(DataExportState.REQUESTED));
+            int idle = workers - exportsInFlight.get();
+            if (idle <= 0) {
+                return;
+            }
+
+            List<UUID> claimed = userDataExportService.claimPendingExports(idle);
+            for (UUID exportRequestId : claimed) {
+                submit(exportRequestId);
+            }
+        } catch (Exception e) {
+            log.error("Data export poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Waits for exports in progress on shutdown; anything left is released again via the lease.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.shutdown();
+    }
+
+    private void submit(UUID exportRequestId) {
+        exportsInFlight.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    build(exportRequestId);
+                } finally {
+                    exportsInFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            exportsInFlight.decrementAndGet();
+            userDataExportService.releaseClaim(exportRequestId);
+        }
+    }
+
+    private void build(UUID exportRequestId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean built = false;
+        try {
+            built = userDataExportService.processClaimedExport(exportRequestId);
+        } catch (RuntimeException e) {
+            log.error("Data export {} could not be processed", exportRequestId, e);
+        } finally {
+            sample.stop(built ? builtTimer : failedTimer);
+        }
+    }
+}
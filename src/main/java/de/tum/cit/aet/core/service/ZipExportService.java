@@ -1,10 +1,21 @@
 package de.tum.cit.aet.core.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.tum.cit.aet.core.documents.domain.Document;
 import de.tum.cit.aet.core.documents.service.DocumentService;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +32,11 @@ public class ZipExportService {
 
     private final DocumentService documentService;
 
+    // Stored document files are content-addressed and never modified in place, so their checksums stay valid
+    private final Cache<StoredFileKey, Long> crcByStoredFile = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    private record StoredFileKey(Path path, long size) {}
+
     /**
      * Initializes the HTTP response for a ZIP file download.
      *
@@ -70,6 +86,35 @@ public class ZipExportService {
         zos.closeEntry();
     }
 
+    /**
+     * Opens a file entry in the given ZIP output stream whose content is written incrementally
+     * by the caller, e.g. a large JSON document serialized element by element. Closing the
+     * returned stream closes the entry but leaves the ZIP output stream open.
+     *
+     * @param zos      the ZipOutputStream to which the entry will be written
+     * @param filename the name/path of the entry inside the ZIP archive
+     * @return a stream writing into the entry
+     * @throws IOException if an I/O error occurs while adding the entry
+     */
+    public OutputStream openZipEntry(ZipOutputStream zos, String filename) throws IOException {
+        ZipEntry entry = new ZipEntry(filename);
+        if (deterministicZip) {
+            entry.setTime(0L);
+        }
+        zos.putNextEntry(entry);
+        return new FilterOutputStream(zos) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                zos.closeEntry();
+            }
+        };
+    }
+
     /**
      * Adds a document to the ZIP output stream by loading it through DocumentService.
      *
@@ -84,4 +129,62 @@ public class ZipExportService {
             addFileToZip(zos, filename, is);
         }
     }
+
+    /**
+     * Opens a {@link StoredZipWriter} on the response body. The response must have been
+     * initialized with {@link #initZipResponse} before.
+     *
+     * @param response the HTTP response to stream the archive to
+     * @return the writer; closing it completes the archive and the response body
+     * @throws IOException if the response body cannot be opened
+     */
+    public StoredZipWriter openStoredZip(HttpServletResponse response) throws IOException {
+        return new StoredZipWriter(Channels.newChannel(response.getOutputStream()), deterministicZip);
+    }
+
+    /**
+     * Adds a document to the archive as an uncompressed entry, copying the stored file with
+     * {@link FileChannel#transferTo}. On a response opened by {@link #openStoredZip} this copies in
+     * bounded chunks through the heap buffer of the stream adapter, not zero-copy, but without
+     * recompression. The CRC-32 of each stored file is computed once and then cached.
+     *
+     * @param zip      the archive to add the document to
+     * @param filename the name of the file entry in the ZIP
+     * @param document the document whose binary should be added; access must have been checked by the caller
+     * @throws IOException if the file cannot be read or the entry cannot be written
+     */
+    public void addDocumentToZip(StoredZipWriter zip, String filename, Document document) throws IOException {
+        Path path = documentService.loadResourceForExport(document).getFile().toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long crc;
+            try {
+                crc = crcByStoredFile.get(new StoredFileKey(path, size), key -> crc32(channel, size));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            zip.putFile(filename, channel, size, crc);
+        }
+    }
+
+    private static long crc32(FileChannel channel, long size) {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        try {
+            long position = 0;
+            while (position < size) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return crc.getValue();
+    }
 }
@@ -1,19 +1,26 @@
 package de.tum.cit.aet.core.service.export;
 
+import de.tum.cit.aet.core.constants.AdminExportStatus;
 import de.tum.cit.aet.core.constants.AdminExportType;
-import de.tum.cit.aet.core.exception.UserDataExportException;
+import de.tum.cit.aet.core.domain.AdminExportRun;
+import de.tum.cit.aet.core.repository.AdminExportRunRepository;
 import de.tum.cit.aet.core.service.export.admin.AdminExportTask;
 import de.tum.cit.aet.core.service.export.admin.AdminExportZipWriter;
+import de.tum.cit.aet.core.service.export.admin.ExportCheckpoint;
 import de.tum.cit.aet.core.service.export.admin.ExportManifest;
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,10 +31,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Background admin bulk export service. The HTTP request lifecycle is too short
@@ -35,8 +47,8 @@ import org.springframework.transaction.support.TransactionTemplate;
  * minutes that a full export takes, so each export runs as a background task:
  *
  * <ol>
- *   <li>The client POSTs to start an export → {@link #startExport} creates an
- *       {@link AdminExportTask}, schedules it on the shared {@link TaskExecutor}
+ *   <li>The client POSTs to start an export → {@link #startExport} records an
+ *       {@link AdminExportRun}, schedules the build on the shared {@link TaskExecutor}
  *       and returns the task id immediately.</li>
  *   <li>The client polls {@link #getTask} for status updates while the build
  *       runs in the background.</li>
@@ -45,43 +57,97 @@ import org.springframework.transaction.support.TransactionTemplate;
  *       network transfer.</li>
  * </ol>
  *
- * <p>Tasks live in memory; the actual ZIPs live on disk under
- * {@code aet.admin-export.storage-dir}. A scheduled cleanup removes any task
- * (and its file) older than {@code aet.admin-export.ttl-hours} so the temp
- * directory cannot grow unbounded.
+ * <p>Runs are stored in the database and the ZIPs under
+ * {@code aet.admin-export.storage-dir}, which must be shared by all nodes, so
+ * every node can answer polls and downloads. The node building an export holds
+ * a lease on its run and renews it together with the progress snapshot every
+ * {@code aet.admin-export.heartbeat-interval} on a dedicated heartbeat thread,
+ * so busy application schedulers cannot delay the renewal past the lease. If the node dies, the lease
+ * expires and another node resumes the build from its last completed section
+ * (see {@link AdminExportZipWriter}), up to {@code aet.admin-export.max-attempts}
+ * attempts. A scheduled cleanup removes any finished or abandoned run (and its
+ * files) older than {@code aet.admin-export.ttl-hours} so the storage cannot
+ * grow unbounded.
  */
 @Slf4j
 @Service
 public class AdminDataExportService {
 
     private final AdminExportZipWriter adminExportZipWriter;
+    private final AdminExportRunRepository adminExportRunRepository;
+    private final ObjectMapper objectMapper;
     private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate registryTx;
     private final TaskExecutor taskExecutor;
+    private final ThreadPoolTaskScheduler heartbeat;
 
     private final Path storageDir;
     private final int ttlHours;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration heartbeatInterval;
 
-    private final Map<UUID, AdminExportTask> tasks = new ConcurrentHashMap<>();
+    // Identifies this node as lease owner; the random suffix keeps a restarted node from renewing its predecessor's leases
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    // Builds running on this node, whose leases are renewed by renewLeases()
+    private final Map<UUID, RunningBuild> running = new ConcurrentHashMap<>();
 
     @Autowired
     public AdminDataExportService(
         AdminExportZipWriter adminExportZipWriter,
+        AdminExportRunRepository adminExportRunRepository,
+        ObjectMapper objectMapper,
         PlatformTransactionManager transactionManager,
         TaskExecutor taskExecutor,
-        @Value("${aet.admin-export.storage-dir:${java.io.tmpdir}/tum-apply-admin-exports}") String storageDir,
-        @Value("${aet.admin-export.ttl-hours:24}") int ttlHours
+        @Value("${aet.admin-export.storage-dir:${aet.storage.root:storage/docs}/admin-exports}") String storageDir,
+        @Value("${aet.admin-export.ttl-hours:24}") int ttlHours,
+        @Value("${aet.admin-export.lease:PT2M}") Duration lease,
+        @Value("${aet.admin-export.max-attempts:3}") int maxAttempts,
+        @Value("${aet.admin-export.heartbeat-interval:PT5S}") Duration heartbeatInterval
     ) {
         this.adminExportZipWriter = adminExportZipWriter;
+        this.adminExportRunRepository = adminExportRunRepository;
+        this.objectMapper = objectMapper;
         this.transactionManager = transactionManager;
         this.taskExecutor = taskExecutor;
-        this.storageDir = Paths.get(storageDir);
+        this.storageDir = Paths.get(storageDir).toAbsolutePath().normalize();
         this.ttlHours = ttlHours;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.heartbeatInterval = heartbeatInterval;
+
+        // Registry updates must commit immediately, also while the build's read-only transaction is open
+        this.registryTx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        registryTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.heartbeat = new ThreadPoolTaskScheduler();
+        heartbeat.setPoolSize(1);
+        heartbeat.setThreadNamePrefix("admin-export-heartbeat-");
+        heartbeat.initialize();
     }
 
     @PostConstruct
     void init() throws IOException {
+        // The temp directory is local to each node, which would leave runs unresumable and ZIPs unreachable from other nodes
+        Path tmpDir = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        if (storageDir.startsWith(tmpDir)) {
+            throw new IllegalStateException(
+                "aet.admin-export.storage-dir must point to storage shared by all nodes, not the temp directory: " + storageDir
+            );
+        }
         Files.createDirectories(storageDir);
-        log.info("Admin export storage directory: {} (TTL: {}h)", storageDir.toAbsolutePath(), ttlHours);
+        log.info("Admin export storage directory: {} (TTL: {}h, node: {})", storageDir.toAbsolutePath(), ttlHours, nodeId);
+        heartbeat.scheduleWithFixedDelay(this::renewLeases, Instant.now().plus(heartbeatInterval), heartbeatInterval);
+    }
+
+    /**
+     * Stops the lease heartbeat; builds still running on this node are resumed
+     * elsewhere once their lease expires.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdown();
     }
 
     /**
@@ -90,9 +156,9 @@ public class AdminDataExportService {
      * client then polls {@link #getTask} until the task flips to {@code READY}.
      *
      * <p>Only one concurrent export is allowed per admin user — if the caller
-     * already has a task in {@link AdminExportTask.Status#IN_PROGRESS}, this
-     * method throws {@link ExportAlreadyRunningException} carrying that task
-     * so the controller can return it as a {@code 409 Conflict}. This both
+     * already has a task in {@link AdminExportStatus#IN_PROGRESS}, on any node,
+     * the insert violates the unique active slot of the admin and this method
+     * throws {@link ExportAlreadyRunningException} carrying that task so the controller can return it as a {@code 409 Conflict}. This both
      * prevents accidental double-starts (e.g. two open tabs) and shields the
      * shared task executor / DB connection pool from having multiple heavy
      * exports contend with each other.
@@ -103,48 +169,40 @@ public class AdminDataExportService {
      * @throws ExportAlreadyRunningException if the user already has a task in progress
      */
     public AdminExportTask startExport(@NonNull AdminExportType type, @NonNull UUID requestedBy) {
-        AdminExportTask existing = findInProgressTaskFor(requestedBy);
-        if (existing != null) {
-            throw new ExportAlreadyRunningException(existing);
-        }
-        UUID taskId = UUID.randomUUID();
-        Path file = storageDir.resolve(taskId + ".zip");
-        AdminExportTask task = new AdminExportTask(taskId, type, requestedBy, file);
-        tasks.put(taskId, task);
-        taskExecutor.execute(() -> runBuild(task));
-        return task;
-    }
-
-    /**
-     * Returns the first task in state {@code IN_PROGRESS} owned by the given
-     * user, or {@code null} if none. Used by {@link #startExport} to enforce
-     * the one-concurrent-export-per-user rule.
-     */
-    private AdminExportTask findInProgressTaskFor(UUID requestedBy) {
-        for (AdminExportTask task : tasks.values()) {
-            if (task.status() == AdminExportTask.Status.IN_PROGRESS && requestedBy.equals(task.requestedBy())) {
-                return task;
-            }
+        AdminExportRun run;
+        LocalDateTime now = nowUtc();
+        try {
+            run = registryTx.execute(status -> {
+                AdminExportRun created = new AdminExportRun();
+                created.setExportType(type);
+                created.setRequestedBy(requestedBy);
+                created.setActiveRequestedBy(requestedBy);
+                created.setOwnerNode(nodeId);
+                created.setLeaseExpiresAt(now.plus(lease));
+                created.setAttempts(1);
+                created.setProgress(toJson(new ExportManifest(type, requestedBy, toInstant(now)).snapshot()));
+                return adminExportRunRepository.saveAndFlush(created);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The unique active slot of this admin is taken by a run in progress, possibly started on another node
+            AdminExportRun existing = adminExportRunRepository.findByActiveRequestedBy(requestedBy).orElseThrow(() -> e);
+            throw new ExportAlreadyRunningException(toTask(existing));
         }
-        return null;
+        taskExecutor.execute(() -> runBuild(run));
+        return toTask(run);
     }
 
     /**
      * Returns all tasks currently tracked for the given admin user, newest
      * first. Used by the polling UI to hydrate its state on page load — after
-     * a refresh the frontend has lost its task ids but the server-side map
-     * still holds every task the user hasn't yet expired out of.
+     * a refresh the frontend has lost its task ids but the registry still
+     * holds every task the user hasn't yet expired out of.
      *
      * @param requestedBy id of the admin user whose tasks to list
      * @return a newest-first list of tasks for that user; empty if none
      */
     public List<AdminExportTask> listTasksFor(@NonNull UUID requestedBy) {
-        return tasks
-            .values()
-            .stream()
-            .filter(t -> requestedBy.equals(t.requestedBy()))
-            .sorted(Comparator.comparing(AdminExportTask::createdAt).reversed())
-            .toList();
+        return adminExportRunRepository.findAllByRequestedByOrderByCreatedAtDesc(requestedBy).stream().map(this::toTask).toList();
     }
 
     /**
@@ -167,52 +225,196 @@ public class AdminDataExportService {
     }
 
     /**
-     * Runs the actual export build for the given task. Wrapped in a read-only
-     * transaction so the strategies can lazily load entity collections. Emits
+     * Thrown into a build whose run is no longer owned by this node, e.g. because
+     * its lease expired during a long pause and another node resumed it.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+
+        LeaseLostException(UUID taskId) {
+            super("Lost the lease on admin export " + taskId);
+        }
+    }
+
+    /** A build running on this node, as seen by the lease renewal. */
+    private static final class RunningBuild {
+
+        private final ExportManifest manifest;
+        private volatile boolean leaseLost;
+
+        RunningBuild(ExportManifest manifest) {
+            this.manifest = manifest;
+        }
+    }
+
+    /**
+     * Runs (or resumes) the actual export build for the given run. Wrapped in a
+     * read-only transaction so the strategies can lazily load entity collections;
+     * a resumed build reads the data as of its own start, so sections written by
+     * different attempts may reflect slightly different points in time. Emits
      * a single summary log line at the end — this is the canonical per-task
      * completion event (the HTTP POST only logs the queueing, since the build
      * runs on a background thread after the request returns).
      */
-    private void runBuild(AdminExportTask task) {
+    private void runBuild(AdminExportRun run) {
+        UUID taskId = run.getAdminExportRunId();
+        ExportManifest manifest = new ExportManifest(run.getExportType(), run.getRequestedBy(), toInstant(run.getCreatedAt()));
+        RunningBuild build = new RunningBuild(manifest);
+        running.put(taskId, build);
+
+        List<ExportCheckpoint> checkpoints = new ArrayList<>(readCheckpoints(run));
         TransactionTemplate tx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
         tx.setReadOnly(true);
         try {
-            tx.executeWithoutResult(status -> {
-                try (OutputStream out = Files.newOutputStream(task.file())) {
-                    adminExportZipWriter.writeExport(out, task.type(), task.manifest());
-                } catch (IOException e) {
-                    throw new UserDataExportException("Failed to write admin export ZIP for " + task.type(), e);
-                }
-            });
-            task.markReady();
-            logCompletionSummary(task);
+            tx.executeWithoutResult(status ->
+                adminExportZipWriter.writeExport(
+                    fileFor(taskId),
+                    partsDirFor(taskId),
+                    run.getExportType(),
+                    manifest,
+                    List.copyOf(checkpoints),
+                    checkpoint -> {
+                        checkpoints.removeIf(c -> c.section().equals(checkpoint.section()));
+                        checkpoints.add(checkpoint);
+                        saveCheckpoints(taskId, build, checkpoints);
+                    },
+                    () -> assertLease(taskId, build)
+                )
+            );
+            if (!finish(taskId, AdminExportStatus.READY, manifest, null)) {
+                throw new LeaseLostException(taskId);
+            }
+            deleteQuietly(partsDirFor(taskId));
+            logCompletionSummary(run, manifest.snapshot());
+        } catch (LeaseLostException e) {
+            // Another node owns the run now and keeps writing to its files.
+            log.warn("Admin export task {} was taken over by another node; stopping the build on {}", taskId, nodeId);
         } catch (Exception e) {
-            log.error("Admin export task {} failed", task.taskId(), e);
-            task.markFailed(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            log.error("Admin export task {} failed", taskId, e);
+            String reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (finish(taskId, AdminExportStatus.FAILED, manifest, reason)) {
+                deleteFiles(taskId);
+            }
+        } finally {
+            running.remove(taskId);
+        }
+    }
+
+    private void saveCheckpoints(UUID taskId, RunningBuild build, List<ExportCheckpoint> checkpoints) {
+        String checkpointsJson = toJson(checkpoints);
+        String progress = toJson(build.manifest.snapshot());
+        Integer saved = registryTx.execute(status ->
+            adminExportRunRepository.saveCheckpoints(taskId, nodeId, checkpointsJson, progress)
+        );
+        if (build.leaseLost || saved == null || saved == 0) {
+            throw new LeaseLostException(taskId);
+        }
+    }
+
+    /**
+     * Renews the lease of a build, so the caller owns the run for at least another lease period.
+     */
+    private void assertLease(UUID taskId, RunningBuild build) {
+        String progress = toJson(build.manifest.snapshot());
+        Integer renewed = registryTx.execute(status ->
+            adminExportRunRepository.renewLease(taskId, nodeId, nowUtc().plus(lease), progress)
+        );
+        if (build.leaseLost || renewed == null || renewed == 0) {
+            throw new LeaseLostException(taskId);
+        }
+    }
+
+    private boolean finish(UUID taskId, AdminExportStatus status, ExportManifest manifest, String error) {
+        String progress = toJson(manifest.snapshot());
+        String reason = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        Integer finished = registryTx.execute(tx ->
+            adminExportRunRepository.finish(taskId, nodeId, status, progress, reason, nowUtc())
+        );
+        return finished != null && finished == 1;
+    }
+
+    /**
+     * Renews the leases of the builds running on this node and publishes their
+     * progress, so that polls on any node see live counts. A build whose lease
+     * could not be renewed stops at its next checkpoint. Runs on the heartbeat
+     * thread of this service.
+     */
+    void renewLeases() {
+        running.forEach((taskId, build) -> {
             try {
-                Files.deleteIfExists(task.file());
-            } catch (IOException ignored) {
-                // best-effort cleanup
+                String progress = toJson(build.manifest.snapshot());
+                Integer renewed = registryTx.execute(status ->
+                    adminExportRunRepository.renewLease(taskId, nodeId, nowUtc().plus(lease), progress)
+                );
+                if (renewed == null || renewed == 0) {
+                    log.warn("Admin export task {} is no longer owned by {}", taskId, nodeId);
+                    build.leaseLost = true;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to renew the lease of admin export task {}: {}", taskId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Resumes builds whose node stopped renewing their lease (crash, restart,
+     * deployment). Each abandoned run is claimed by exactly one node; runs that
+     * were interrupted {@code aet.admin-export.max-attempts} times are failed.
+     */
+    @Scheduled(
+        fixedDelayString = "${aet.admin-export.resume-interval:PT1M}",
+        initialDelayString = "${aet.admin-export.resume-interval:PT1M}"
+    )
+    @SchedulerLock(name = "admin-export-resume")
+    public void resumeAbandoned() {
+        LocalDateTime now = nowUtc();
+        for (UUID taskId : adminExportRunRepository.findAbandonedIds(now)) {
+            try {
+                AdminExportRun run = registryTx.execute(status ->
+                    adminExportRunRepository.claim(taskId, nodeId, now.plus(lease), now) == 1
+                        ? adminExportRunRepository.findById(taskId).orElse(null)
+                        : null
+                );
+                if (run == null) {
+                    continue;
+                }
+                if (run.getAttempts() > maxAttempts) {
+                    log.error("Admin export task {} was interrupted {} times; giving up", taskId, run.getAttempts() - 1);
+                    ExportManifest manifest = new ExportManifest(run.getExportType(), run.getRequestedBy(), toInstant(run.getCreatedAt()));
+                    if (finish(taskId, AdminExportStatus.FAILED, manifest, "Interrupted " + (run.getAttempts() - 1) + " times")) {
+                        deleteFiles(taskId);
+                    }
+                    continue;
+                }
+                log.info(
+                    "Resuming admin export task {} on {} (attempt {}, {} sections already complete)",
+                    taskId,
+                    nodeId,
+                    run.getAttempts(),
+                    readCheckpoints(run).size()
+                );
+                taskExecutor.execute(() -> runBuild(run));
+            } catch (Exception e) {
+                log.error("Failed to resume admin export task {}", taskId, e);
             }
         }
     }
 
     /**
-     * Emits the completion summary log line: status, duration, and per-category
-     * counts including the total number of failures. This is how the admin
-     * verifies on the server side that the export finished cleanly — match it
-     * against {@code manifest.json} inside the ZIP for a legal handover.
+     * Emits the completion summary log lines: status, duration, and per-category
+     * counts including the total number of failures, followed by the time spent
+     * in each render pipeline stage. This is how the admin verifies on the server
+     * side that the export finished cleanly — match it against
+     * {@code manifest.json} inside the ZIP for a legal handover.
      */
-    private void logCompletionSummary(AdminExportTask task) {
-        ExportManifest.Payload p = task.manifest().snapshot();
+    private void logCompletionSummary(AdminExportRun run, ExportManifest.Payload p) {
         log.info(
             "Admin export {} (task {}) finished with status {} in {}s — RG {}/{} (failed {}), Jobs {}/{} (failed {}), " +
                 "Applications {}/{} (failed {}), Documents {}/{} (failed {}), Users {}/{} (failed {}), " +
                 "Schools {}/{} (failed {}), Departments {}/{} (failed {}), UserResearchGroupRoles {}/{} (failed {}), " +
                 "Applicants {}/{} (failed {}), ApplicantSubjectAreaSubscriptions {}/{} (failed {}), " +
                 "total failures: {}, file: {} bytes",
-            task.type(),
-            task.taskId(),
+            run.getExportType(),
+            run.getAdminExportRunId(),
             p.status(),
             p.durationSeconds(),
             p.totals().researchGroups().exported(),
@@ -246,7 +448,18 @@ public class AdminDataExportService {
             p.totals().applicantSubjectAreaSubscriptions().expected(),
             p.totals().applicantSubjectAreaSubscriptions().failed(),
             p.failures().size(),
-            safeFileSize(task.file())
+            safeFileSize(fileFor(run.getAdminExportRunId()))
+        );
+        ExportManifest.StageTimings stages = p.stages();
+        log.info(
+            "Admin export task {} stage timings — prepare {}s, render {}s ({} PDFs, summed over workers), " +
+                "waiting for renders {}s, writing {}s",
+            run.getAdminExportRunId(),
+            stages.prepare().seconds(),
+            stages.render().seconds(),
+            stages.render().count(),
+            stages.renderWait().seconds(),
+            stages.write().seconds()
         );
     }
 
@@ -258,24 +471,24 @@ public class AdminDataExportService {
      * @return the task, or {@code null} if not found / expired
      */
     public AdminExportTask getTask(@NonNull UUID taskId) {
-        return tasks.get(taskId);
+        return adminExportRunRepository.findById(taskId).map(this::toTask).orElse(null);
     }
 
     /**
-     * Returns the on-disk path of the built ZIP for the given task, or
-     * {@code null} if the task does not exist, is not ready, or its file has
-     * been cleaned up. The caller is responsible for streaming the file back
-     * to the client.
+     * Returns the path of the built ZIP on the shared storage for the given
+     * task, or {@code null} if the task does not exist, is not ready, or its
+     * file has been cleaned up. The caller is responsible for streaming the
+     * file back to the client.
      *
      * @param taskId the task id returned from {@link #startExport}
      * @return path to the ZIP file, or {@code null} if not available
      */
     public Path getDownloadPath(@NonNull UUID taskId) {
-        AdminExportTask task = tasks.get(taskId);
+        AdminExportTask task = getTask(taskId);
         if (task == null || !task.isReady()) {
             return null;
         }
-        Path file = task.file();
+        Path file = fileFor(taskId);
         if (!Files.exists(file)) {
             return null;
         }
@@ -296,27 +509,85 @@ public class AdminDataExportService {
     }
 
     /**
-     * Hourly cleanup: removes any task whose creation time is older than
-     * {@code ttlHours} and deletes its file from disk. Keeps the in-memory map
-     * and the temp directory bounded over time.
+     * Hourly cleanup: removes any run whose creation time is older than
+     * {@code ttlHours} and deletes its files from the shared storage. Keeps the
+     * registry and the storage directory bounded over time. Runs still in
+     * progress are only removed once their lease has expired, so a long build
+     * on a live node keeps its files. Runs on one node at a time; deleting an
+     * already deleted run is a no-op.
      */
     @Scheduled(fixedDelayString = "PT1H")
-    void cleanupExpired() {
-        Instant cutoff = Instant.now().minus(Duration.ofHours(ttlHours));
-        tasks
-            .entrySet()
-            .removeIf(entry -> {
-                AdminExportTask t = entry.getValue();
-                if (t.createdAt().isBefore(cutoff)) {
-                    try {
-                        Files.deleteIfExists(t.file());
-                    } catch (IOException ignored) {
-                        // best-effort cleanup
-                    }
-                    return true;
-                }
-                return false;
-            });
+    @SchedulerLock(name = "admin-export-cleanup")
+    public void cleanupExpired() {
+        LocalDateTime now = nowUtc();
+        for (AdminExportRun run : adminExportRunRepository.findExpired(now.minusHours(ttlHours), now)) {
+            deleteFiles(run.getAdminExportRunId());
+            adminExportRunRepository.deleteById(run.getAdminExportRunId());
+        }
+    }
+
+    private AdminExportTask toTask(AdminExportRun run) {
+        ExportManifest.Payload progress = null;
+        if (run.getProgress() != null) {
+            try {
+                progress = objectMapper.readValue(run.getProgress(), ExportManifest.Payload.class);
+            } catch (Exception e) {
+                log.warn("Unreadable progress of admin export task {}: {}", run.getAdminExportRunId(), e.getMessage());
+            }
+        }
+        if (progress == null) {
+            progress = new ExportManifest(run.getExportType(), run.getRequestedBy(), toInstant(run.getCreatedAt())).snapshot();
+        }
+        return new AdminExportTask(
+            run.getAdminExportRunId(),
+            run.getExportType(),
+            run.getRequestedBy(),
+            run.getStatus(),
+            toInstant(run.getCreatedAt()),
+            toInstant(run.getFinishedAt()),
+            run.getError(),
+            progress
+        );
+    }
+
+    private List<ExportCheckpoint> readCheckpoints(AdminExportRun run) {
+        if (run.getCheckpoints() == null) {
+            return List.of();
+        }
+        return List.of(objectMapper.readValue(run.getCheckpoints(), ExportCheckpoint[].class));
+    }
+
+    private String toJson(Object value) {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private Path fileFor(UUID taskId) {
+        return storageDir.resolve(taskId + ".zip");
+    }
+
+    private Path partsDirFor(UUID taskId) {
+        return storageDir.resolve(taskId + ".parts");
+    }
+
+    private void deleteFiles(UUID taskId) {
+        deleteQuietly(fileFor(taskId));
+        deleteQuietly(partsDirFor(taskId));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            FileSystemUtils.deleteRecursively(path);
+        } catch (IOException ignored) {
+            // best-effort cleanup
+        }
+    }
+
+    private static LocalDateTime nowUtc() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(LocalDateTime utc) {
+        return utc == null ? null : utc.toInstant(ZoneOffset.UTC);
     }
 
     private static long safeFileSize(Path file) {
@@ -51,44 +51,74 @@ public class UserExportZipWriter {
     /**
      * Creates a ZIP archive containing the user's exported data as CSV files,
      * uploaded documents, and images. The ZIP file is stored in the configured data export root directory
-     * with a filename format of "data-export-{userId}-{exportRequestId}.zip".
+     * with a filename format of "data-export-{userId}-{exportRequestId}-{attempt}.zip". The attempt suffix
+     * keeps a worker that lost its claim from touching the archive of the worker that took over. If
+     * writing fails, the incomplete archive is deleted.
+     * <p>
+     * Documents and images are streamed from storage into the archive without being held in memory.
+     * They are stored without compression, because PDFs and images are already compressed and
+     * deflating them again only costs CPU time on the export workers.
      *
      * @param userId the unique identifier of the user whose data is being exported
      * @param exportRequestId the unique identifier of the export request
      * @param userData the DTO containing the user's data to be included in the export summary
+     * @param progress notified after the summary and after every document and image
      * @return the {@link Path} to the created ZIP file
      * @throws IOException if an I/O error occurs during ZIP creation or file writing
      */
-    public Path writeExport(@NonNull UUID userId, @NonNull UUID exportRequestId, @NonNull UserDataExportDTO userData) throws IOException {
+    public Path writeExport(
+        @NonNull UUID userId,
+        @NonNull UUID exportRequestId,
+        @NonNull UserDataExportDTO userData,
+        @NonNull ProgressListener progress
+    ) throws IOException {
         Path root = Paths.get(dataExportRoot).toAbsolutePath().normalize();
         Files.createDirectories(root);
 
-        String fileName = "data-export-" + userId + "-" + exportRequestId + ".zip";
+        String attempt = UUID.randomUUID().toString().substring(0, 8);
+        String fileName = "data-export-" + userId + "-" + exportRequestId + "-" + attempt + ".zip";
         Path zipPath = root.resolve(fileName);
 
-        try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipPath)))) {
-            zipOut.setLevel(Deflater.BEST_COMPRESSION);
+        try {
+            writeArchive(zipPath, userId, userData, progress);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(zipPath);
+            throw e;
+        }
 
-            addUserReadmeToZip(zipOut);
-            writeCsvSummary(zipOut, userData);
+        return zipPath;
+    }
 
+    private void writeArchive(Path zipPath, UUID userId, UserDataExportDTO userData, ProgressListener progress) throws IOException {
+        try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipPath)))) {
             List<Document> documentsToExport = new ArrayList<>(documentRepository.findByUploadedByUserId(userId));
             // Reference letters have no uploader, so the uploader query above does not surface them
             documentsToExport.addAll(documentRepository.findNonConfidentialReferenceLettersForApplicant(userId));
+            List<Image> images = imageRepository.findByUploaderId(userId);
+
+            // One step for the READMEs and CSV summary, one for every document and image
+            int total = 1 + documentsToExport.size() + images.size();
+            int done = 0;
+
+            zipOut.setLevel(Deflater.BEST_COMPRESSION);
+            addUserReadmeToZip(zipOut);
+            writeCsvSummary(zipOut, userData);
+            progress.onProgress(++done, total);
+
+            zipOut.setLevel(Deflater.NO_COMPRESSION);
             for (Document document : documentsToExport) {
                 String entryName = "documents/uploaded/" + document.getDocumentId();
                 addDocumentToZip(zipOut, document, entryName);
+                progress.onProgress(++done, total);
             }
 
-            List<Image> images = imageRepository.findByUploaderId(userId);
             for (Image image : images) {
                 addImageToZip(zipOut, image);
+                progress.onProgress(++done, total);
             }
 
             zipOut.finish();
         }
-
-        return zipPath;
     }
 
     private void addUserReadmeToZip(ZipOutputStream zipOut) {
@@ -641,4 +671,16 @@ public class UserExportZipWriter {
         String parentPath = relative.getParent() != null ? relative.getParent().toString().replace("\\", "/") + "/" : "";
         return "images/" + parentPath + fileName;
     }
+
+    /**
+     * Receives the progress of an export while its archive is written.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param done  the number of completed steps
+         * @param total the total number of steps of the export
+         */
+        void onProgress(int done, int total);
+    }
 }
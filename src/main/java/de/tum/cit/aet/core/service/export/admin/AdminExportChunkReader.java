@@ -0,0 +1,155 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import de.tum.cit.aet.core.exception.UserDataExportException;
+import de.tum.cit.aet.core.service.ZipExportService;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.ZipOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+/**
+ * Reads the entities of an admin bulk export in bounded chunks. The whole build runs
+ * in one read-only transaction, so without intervention every entity it touches (and
+ * its lazy graph) stays in the persistence context until the export is done. The
+ * strategies therefore only keep lightweight references or ids across the export
+ * and load entities through this reader, which detaches each chunk once the caller
+ * is done with it. Callers must not hold on to entities of a finished chunk.
+ */
+@Component
+class AdminExportChunkReader {
+
+    private final int chunkSize;
+    private final ZipExportService zipExportService;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Loads the chunk of entities following the given id, ordered by id.
+     *
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    interface KeysetQuery<T> {
+        List<T> next(UUID after, Pageable chunk);
+    }
+
+    AdminExportChunkReader(
+        @Value("${aet.admin-export.chunk-size:100}") int chunkSize,
+        ZipExportService zipExportService,
+        ObjectMapper objectMapper
+    ) {
+        this.chunkSize = chunkSize;
+        this.zipExportService = zipExportService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stops the current export session from putting the entities it reads into the
+     * second-level cache. A full export touches every row once, which would otherwise
+     * evict the entries the interactive endpoints depend on. Entities already cached
+     * are still read from the cache.
+     */
+    void bypassSecondLevelCacheStore() {
+        entityManager.setProperty("jakarta.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+    }
+
+    /**
+     * Walks a whole table with keyset pagination, detaching every chunk after its
+     * entities have been handed to the action.
+     *
+     * @param query  loads the chunk after a given id
+     * @param idOf   extracts the id the query orders by
+     * @param action invoked for every entity in id order
+     * @param <T>    the entity type
+     */
+    <T> void forEach(KeysetQuery<T> query, Function<T, UUID> idOf, Consumer<T> action) {
+        UUID after = null;
+        List<T> chunk;
+        do {
+            chunk = query.next(after, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(action);
+            after = idOf.apply(chunk.getLast());
+            clear();
+        } while (chunk.size() == chunkSize);
+    }
+
+    /**
+     * Writes a JSON array entry with one element per entity of a table, serializing
+     * the elements chunk by chunk instead of building the whole list in memory.
+     *
+     * @param zos       open ZIP output stream
+     * @param entryPath path of the JSON entry inside the ZIP
+     * @param query     loads the chunk after a given id
+     * @param idOf      extracts the id the query orders by
+     * @param toDto     converts an entity to its JSON element; {@code null} results are skipped
+     * @param <T>       the entity type
+     */
+    <T> void writeJsonArray(ZipOutputStream zos, String entryPath, KeysetQuery<T> query, Function<T, UUID> idOf, Function<T, ?> toDto) {
+        try (
+            OutputStream out = zipExportService.openZipEntry(zos, entryPath);
+            SequenceWriter writer = objectMapper.writerWithDefaultPrettyPrinter().writeValuesAsArray(out)
+        ) {
+            forEach(query, idOf, entity -> {
+                Object dto = toDto.apply(entity);
+                if (dto != null) {
+                    writer.write(dto);
+                }
+            });
+        } catch (IOException e) {
+            throw new UserDataExportException("Failed to write JSON entry " + entryPath, e);
+        }
+    }
+
+    /**
+     * Loads the entities with the given ids in one query and returns them in the
+     * order of the ids. Ids without an entity (deleted since the ids were read) are skipped.
+     *
+     * @param ids    the ids to load
+     * @param loader loads the entities for a list of ids in any order
+     * @param idOf   extracts the id of an entity
+     * @param <T>    the entity type
+     * @return the loaded entities in the order of {@code ids}
+     */
+    <T> List<T> loadInOrder(List<UUID> ids, Function<List<UUID>, List<T>> loader, Function<T, UUID> idOf) {
+        Map<UUID, T> byId = new HashMap<>();
+        for (T entity : loader.apply(ids)) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Detaches every entity loaded so far. Read-only exports have nothing to flush,
+     * so this only releases the entities for garbage collection.
+     */
+    void clear() {
+        entityManager.clear();
+    }
+}
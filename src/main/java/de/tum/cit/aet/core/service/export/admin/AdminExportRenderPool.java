@@ -0,0 +1,63 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker pool rendering the PDFs of admin bulk exports in parallel to the thread
+ * that builds the ZIP. The export thread prepares every PDF's input as DTOs and
+ * loads the job banners (it owns the persistence context), hands the rendering to
+ * this pool through a {@link RenderQueue} and appends the results to the ZIP in
+ * their original order, so the workers never access the database.
+ * <p>
+ * {@code aet.admin-export.render-parallelism} sets the number of workers and
+ * {@code aet.admin-export.render-window} how many rendered entries all running
+ * exports together may buffer ahead of their ZIP writers. The window is shared by
+ * every queue, so the memory used by rendered PDFs and their prepared inputs stays
+ * bounded no matter how many jobs or exports are processed at the same time.
+ */
+@Slf4j
+@Component
+public class AdminExportRenderPool {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore window;
+
+    public AdminExportRenderPool(
+        @Value("${aet.admin-export.render-parallelism:4}") int parallelism,
+        @Value("${aet.admin-export.render-window:16}") int window
+    ) {
+        this.window = new Semaphore(Math.max(1, window), true);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, parallelism));
+        executor.setMaxPoolSize(Math.max(1, parallelism));
+        executor.setThreadNamePrefix("admin-export-render-");
+        executor.initialize();
+    }
+
+    /**
+     * Opens a render queue for one job folder. The queue must be closed by the caller,
+     * which cancels any renders that are no longer needed and frees their window slots.
+     *
+     * @param manifest the export's manifest, receiving the render and wait timings
+     * @param renders  the renders in ZIP order, pulled lazily as window slots become free
+     * @return a new queue
+     */
+    RenderQueue open(ExportManifest manifest, Iterator<? extends Callable<Resource>> renders) {
+        return new RenderQueue(executor, window, manifest, renders);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        log.info("Shutting down admin export render pool");
+        executor.shutdown();
+    }
+}
@@ -1,111 +1,44 @@
 package de.tum.cit.aet.core.service.export.admin;
 
+import de.tum.cit.aet.core.constants.AdminExportStatus;
 import de.tum.cit.aet.core.constants.AdminExportType;
-import java.nio.file.Path;
 import java.time.Instant;
 import java.util.UUID;
 
 /**
- * In-memory state holder for one admin bulk export run. Created when the
- * client POSTs to start an export, mutated by the background build worker as
- * it makes progress, and read by the polling endpoint until the file is
- * downloaded or the TTL expires.
+ * Read-only view of one admin bulk export run as persisted in the shared
+ * registry. Created when the client POSTs to start an export and re-read from
+ * the database on every poll, so any node can answer for a build running on
+ * another one.
  *
  * <p>Lifecycle:
  * <pre>
- *   created → IN_PROGRESS (immediately, build runs on TaskExecutor)
- *           → READY (file written to disk, downloadable)
- *           → FAILED (build threw, error message captured, file deleted)
+ *   created → IN_PROGRESS (build runs on the node holding the lease; resumed
+ *                          by another node if that lease expires)
+ *           → READY (file complete on the shared storage, downloadable)
+ *           → FAILED (build gave up, error message captured, files deleted)
  * </pre>
  *
- * <p>Mutable fields ({@code status}, {@code error}, {@code finishedAt}) are
- * {@code volatile} so the polling thread sees the latest values without
- * locking. The embedded {@link ExportManifest} is mutated by the build thread;
- * polling reads it via {@link ExportManifest#snapshot()} which is non-mutating.
+ * @param taskId      the id of the run
+ * @param type        which kind of admin export is produced
+ * @param requestedBy id of the admin user who initiated the export
+ * @param status      the current lifecycle status
+ * @param createdAt   when the export was started
+ * @param finishedAt  when the export reached {@code READY} or {@code FAILED}, otherwise {@code null}
+ * @param error       the failure reason of a {@code FAILED} export
+ * @param progress    the manifest snapshot last persisted by the building node
  */
-public final class AdminExportTask {
-
-    public enum Status {
-        IN_PROGRESS,
-        READY,
-        FAILED,
-    }
-
-    private final UUID taskId;
-    private final AdminExportType type;
-    private final UUID requestedBy;
-    private final Instant createdAt;
-    private final Path file;
-    private final ExportManifest manifest;
-
-    private volatile Status status;
-    private volatile String error;
-    private volatile Instant finishedAt;
-
-    public AdminExportTask(UUID taskId, AdminExportType type, UUID requestedBy, Path file) {
-        this.taskId = taskId;
-        this.type = type;
-        this.requestedBy = requestedBy;
-        this.createdAt = Instant.now();
-        this.file = file;
-        this.manifest = new ExportManifest(type, requestedBy);
-        this.status = Status.IN_PROGRESS;
-    }
-
-    public UUID taskId() {
-        return taskId;
-    }
-
-    public AdminExportType type() {
-        return type;
-    }
-
-    public UUID requestedBy() {
-        return requestedBy;
-    }
-
-    public Instant createdAt() {
-        return createdAt;
-    }
-
-    public Path file() {
-        return file;
-    }
-
-    public ExportManifest manifest() {
-        return manifest;
-    }
-
-    public Status status() {
-        return status;
-    }
-
-    public String error() {
-        return error;
-    }
-
-    public Instant finishedAt() {
-        return finishedAt;
-    }
-
-    /** Marks the task as ready: the file on disk is complete and downloadable. */
-    public void markReady() {
-        this.finishedAt = Instant.now();
-        this.status = Status.READY;
-    }
-
-    /**
-     * Marks the task as failed and records the cause.
-     *
-     * @param reason short message describing the failure (typically the exception's message)
-     */
-    public void markFailed(String reason) {
-        this.finishedAt = Instant.now();
-        this.error = reason;
-        this.status = Status.FAILED;
-    }
-
+public record AdminExportTask(
+    UUID taskId,
+    AdminExportType type,
+    UUID requestedBy,
+    AdminExportStatus status,
+    Instant createdAt,
+    Instant finishedAt,
+    String error,
+    ExportManifest.Payload progress
+) {
     public boolean isReady() {
-        return status == Status.READY;
+        return status == AdminExportStatus.READY;
     }
 }
@@ -5,8 +5,20 @@ import de.tum.cit.aet.core.exception.UserDataExportException;
 import de.tum.cit.aet.core.service.ZipExportService;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +27,20 @@ import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
 /**
- * Orchestrates admin bulk exports: opens a {@link ZipOutputStream} on the supplied
- * {@link OutputStream} (typically a {@code FileOutputStream} pointing at the task's
- * temp file) and dispatches to the right strategy based on {@link AdminExportType}.
+ * Orchestrates admin bulk exports: dispatches to the right strategy based on
+ * {@link AdminExportType} and assembles the produced ZIP.
+ *
+ * <p>The strategies write their output as {@link ExportSections sections}. Each
+ * section goes into its own part archive under the run's parts directory and is
+ * reported as an {@link ExportCheckpoint} once complete, so a build that was
+ * interrupted (node crash, restart) can be resumed without rewriting the finished
+ * sections. Parts are written without compression; the final archive is assembled
+ * from them with {@link Deflater#BEST_COMPRESSION} and moved into place atomically.
+ *
+ * <p>A node that lost its lease only notices at its next checkpoint, so it may still
+ * be writing while another node resumes the run. Every build therefore writes its
+ * parts and the assembled archive under names unique to its attempt, and checks that
+ * it still holds the lease before assembling and again right before the final move.
  *
  * <p>The {@link ExportManifest} is owned by the calling task — counts and failures
  * recorded by the strategies flow back into the same instance the task exposes via
@@ -36,42 +59,96 @@ public class AdminExportZipWriter {
     private final ApplicationsOnlyExportStrategy applicationsOnlyExportStrategy;
     private final ZipExportService zipExportService;
     private final ObjectMapper objectMapper;
+    private final AdminExportChunkReader chunkReader;
 
     /**
-     * Streams a fully built admin export ZIP into the supplied output stream.
-     * The caller owns both the stream's lifecycle and the manifest — they can
-     * call {@link ExportManifest#snapshot()} on the manifest at any time during
-     * the build to read live progress.
+     * Builds an admin export ZIP into the target file. The caller owns the manifest
+     * and can call {@link ExportManifest#snapshot()} on it at any time during the
+     * build to read live progress.
      *
-     * @param out      destination stream to write the ZIP into
-     * @param type     which kind of admin export to produce
-     * @param manifest export-wide audit trail; must already be constructed by the caller
+     * @param target       the file receiving the finished ZIP; replaced atomically once complete
+     * @param partsDir     directory holding the part archives of the sections
+     * @param type         which kind of admin export to produce
+     * @param manifest     export-wide audit trail; must already be constructed by the caller
+     * @param completed    the sections an earlier attempt of this export completed, empty for a fresh build
+     * @param onCheckpoint invoked after every newly completed section; may throw to stop the build
+     * @param assertLease  verifies that the build still owns the run and throws otherwise; a successful
+     *                     check guarantees ownership for at least one more lease period
      */
-    public void writeExport(@NonNull OutputStream out, @NonNull AdminExportType type, @NonNull ExportManifest manifest) {
-        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(out))) {
-            zos.setLevel(Deflater.BEST_COMPRESSION);
+    public void writeExport(
+        @NonNull Path target,
+        @NonNull Path partsDir,
+        @NonNull AdminExportType type,
+        @NonNull ExportManifest manifest,
+        @NonNull List<ExportCheckpoint> completed,
+        @NonNull Consumer<ExportCheckpoint> onCheckpoint,
+        @NonNull Runnable assertLease
+    ) {
+        try {
+            Files.createDirectories(partsDir);
+            chunkReader.bypassSecondLevelCacheStore();
+            String attempt = UUID.randomUUID().toString().substring(0, 8);
+            PartWriter sections = new PartWriter(partsDir, attempt, completed, manifest, onCheckpoint);
 
             try {
                 switch (type) {
-                    case JOBS_OPEN, JOBS_EXPIRED, JOBS_CLOSED, JOBS_DRAFT -> jobsExportStrategy.exportJobs(zos, type, manifest);
-                    case FULL_ADMIN -> fullAdminExportStrategy.exportFull(zos, manifest);
-                    case USERS_AND_ORGS -> usersAndOrgsExportStrategy.exportUsersAndOrgs(zos, manifest);
-                    case APPLICATIONS_ONLY -> applicationsOnlyExportStrategy.exportApplications(zos, manifest);
+                    case JOBS_OPEN, JOBS_EXPIRED, JOBS_CLOSED, JOBS_DRAFT -> jobsExportStrategy.exportJobs(sections, type, manifest);
+                    case FULL_ADMIN -> fullAdminExportStrategy.exportFull(sections, manifest);
+                    case USERS_AND_ORGS -> sections.section("users-and-orgs", zos ->
+                        usersAndOrgsExportStrategy.exportUsersAndOrgs(zos, manifest)
+                    );
+                    case APPLICATIONS_ONLY -> sections.section("applications", zos ->
+                        applicationsOnlyExportStrategy.exportApplications(zos, manifest)
+                    );
                 }
             } catch (JobsExportStrategy.StreamAbortedException sae) {
-                // Stream is gone — manifest write below will likely also fail,
-                // but try anyway so the recipient sees status=ABORTED if any
-                // bytes do make it through.
+                // A part could not be written — assemble what is complete anyway so
+                // the recipient sees status=ABORTED in the manifest.
                 log.error("Admin export {} aborted: {}", type, sae.getMessage());
                 manifest.aborted(sae.getMessage());
             }
 
+            assertLease.run();
+            Path assembling = partsDir.resolve("export." + attempt + ".zip.tmp");
+            assemble(assembling, sections.parts, manifest);
+            assertLease.run();
+            Files.move(assembling, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UserDataExportException("Failed to write admin export ZIP for " + type, e);
+        }
+    }
+
+    /**
+     * Merges the part archives into the given file, followed by the manifest. The
+     * file lives in the parts directory on the same storage as the target and is
+     * only moved into place when complete, so a download never sees a half-written
+     * archive.
+     */
+    private void assemble(Path assembling, List<Path> parts, ExportManifest manifest) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(assembling)))) {
+            zos.setLevel(Deflater.BEST_COMPRESSION);
+            for (Path part : parts) {
+                copyEntries(part, zos);
+            }
+
             // Always attempt to write the manifest, even on partial / aborted runs.
             writeManifest(zos, manifest);
 
             zos.finish();
-        } catch (IOException e) {
-            throw new UserDataExportException("Failed to write admin export ZIP for " + type, e);
+        }
+    }
+
+    private static void copyEntries(Path part, ZipOutputStream zos) throws IOException {
+        try (ZipFile zip = new ZipFile(part.toFile())) {
+            for (ZipEntry source : Collections.list(zip.entries())) {
+                ZipEntry entry = new ZipEntry(source.getName());
+                entry.setTime(source.getTime());
+                zos.putNextEntry(entry);
+                try (InputStream in = zip.getInputStream(source)) {
+                    in.transferTo(zos);
+                }
+                zos.closeEntry();
+            }
         }
     }
 
@@ -86,4 +163,59 @@ public class AdminExportZipWriter {
             log.error("Failed to write manifest.json (export will not be verifiable)", e);
         }
     }
+
+    /**
+     * Writes every section into its own part archive, or replays its checkpoint if
+     * an earlier attempt completed it. Part files are named after the section key
+     * and the attempt, so two attempts never write the same file, and parts of
+     * sections that no longer exist (e.g. a research group deleted between two
+     * attempts) or that were never checkpointed are simply never assembled.
+     */
+    private static final class PartWriter implements ExportSections {
+
+        private final Path partsDir;
+        private final String attempt;
+        private final Map<String, ExportCheckpoint> completed = new HashMap<>();
+        private final ExportManifest manifest;
+        private final Consumer<ExportCheckpoint> onCheckpoint;
+        private final List<Path> parts = new ArrayList<>();
+
+        PartWriter(
+            Path partsDir,
+            String attempt,
+            List<ExportCheckpoint> completed,
+            ExportManifest manifest,
+            Consumer<ExportCheckpoint> onCheckpoint
+        ) {
+            this.partsDir = partsDir;
+            this.attempt = attempt;
+            this.manifest = manifest;
+            this.onCheckpoint = onCheckpoint;
+            for (ExportCheckpoint checkpoint : completed) {
+                this.completed.put(checkpoint.section(), checkpoint);
+            }
+        }
+
+        @Override
+        public void section(String key, Consumer<ZipOutputStream> writer) {
+            ExportCheckpoint checkpoint = completed.get(key);
+            if (checkpoint != null && Files.exists(partsDir.resolve(checkpoint.part()))) {
+                manifest.replay(checkpoint.contribution());
+                parts.add(partsDir.resolve(checkpoint.part()));
+                return;
+            }
+
+            String part = key + "." + attempt + ".zip";
+            Path file = partsDir.resolve(part);
+            ExportManifest.Payload before = manifest.snapshot();
+            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                zos.setLevel(Deflater.NO_COMPRESSION);
+                writer.accept(zos);
+            } catch (IOException e) {
+                throw new JobsExportStrategy.StreamAbortedException("Failed to write admin export part " + part, e);
+            }
+            parts.add(file);
+            onCheckpoint.accept(new ExportCheckpoint(key, part, manifest.contributionSince(before)));
+        }
+    }
 }
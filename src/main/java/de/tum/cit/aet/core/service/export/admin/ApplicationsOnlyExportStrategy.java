@@ -5,9 +5,9 @@ import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.documents.domain.ApplicationDocument;
 import de.tum.cit.aet.core.documents.service.DocumentService;
 import de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationExportDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationRefDTO;
 import de.tum.cit.aet.core.exception.UserDataExportException;
 import de.tum.cit.aet.core.service.ZipExportService;
-import de.tum.cit.aet.usermanagement.domain.Applicant;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -61,6 +61,10 @@ import tools.jackson.databind.ObjectMapper;
  * (the same source the per-job export uses) and deduped within each applicant
  * folder by document id, so an applicant with two applications that both
  * reference the same CV only contributes one {@code cv.pdf} to the ZIP.
+ *
+ * <p>Only lightweight {@link AdminApplicationRefDTO}s are held for the whole
+ * export; each applicant's applications are loaded when their folder is
+ * written and detached again right after.
  */
 @Slf4j
 @Component
@@ -72,6 +76,7 @@ public class ApplicationsOnlyExportStrategy {
     private final DocumentService documentService;
     private final ZipExportService zipExportService;
     private final ObjectMapper objectMapper;
+    private final AdminExportChunkReader chunkReader;
 
     /**
      * Writes the applications-only export into the supplied ZIP output stream.
@@ -81,44 +86,48 @@ public class ApplicationsOnlyExportStrategy {
      *                 and documents are all recorded against it
      */
     public void exportApplications(ZipOutputStream zos, ExportManifest manifest) {
-        List<Application> allApplications = applicationRepository.findAll();
+        List<AdminApplicationRefDTO> allApplications = applicationRepository.findAllExportRefs();
         manifest.expect(ExportManifest.Category.APPLICATION, allApplications.size());
 
         // 1. Top-level flat dump — every application, every state, with every UUID.
-        List<AdminApplicationExportDTO> allDtos = allApplications.stream().map(jobsExportStrategy::toApplicationDto).toList();
-        writeJsonEntry(zos, "applications.json", allDtos);
+        // Walked in keyset-paged chunks and serialized element by element.
+        chunkReader.writeJsonArray(
+            zos,
+            "applications.json",
+            applicationRepository::findExportChunkAfter,
+            Application::getApplicationId,
+            jobsExportStrategy::toApplicationDto
+        );
 
         // 2. Group by applicant id — preserve insertion order for deterministic folder allocation.
-        Map<UUID, List<Application>> byApplicant = new LinkedHashMap<>();
-        List<Application> orphans = new ArrayList<>();
-        for (Application app : allApplications) {
-            Applicant applicant = app.getApplicant();
-            if (applicant == null || applicant.getUserId() == null) {
+        Map<UUID, List<AdminApplicationRefDTO>> byApplicant = new LinkedHashMap<>();
+        List<AdminApplicationRefDTO> orphans = new ArrayList<>();
+        for (AdminApplicationRefDTO app : allApplications) {
+            if (app.applicantId() == null) {
                 orphans.add(app);
                 continue;
             }
-            byApplicant.computeIfAbsent(applicant.getUserId(), k -> new ArrayList<>()).add(app);
+            byApplicant.computeIfAbsent(app.applicantId(), k -> new ArrayList<>()).add(app);
         }
         manifest.expect(ExportManifest.Category.APPLICANT, byApplicant.size());
 
         // 3. Per-applicant folders, sorted by last name + first name for stable output.
-        List<Map.Entry<UUID, List<Application>>> applicantGroups = new ArrayList<>(byApplicant.entrySet());
+        List<Map.Entry<UUID, List<AdminApplicationRefDTO>>> applicantGroups = new ArrayList<>(byApplicant.entrySet());
         applicantGroups.sort(
             Comparator.comparing(
-                (Map.Entry<UUID, List<Application>> entry) -> applicantSortKey(entry.getValue().get(0)),
+                (Map.Entry<UUID, List<AdminApplicationRefDTO>> entry) -> applicantSortKey(entry.getValue().get(0)),
                 Comparator.nullsLast(Comparator.naturalOrder())
             )
         );
 
         FolderNameAllocator folderAllocator = new FolderNameAllocator(false);
-        for (Map.Entry<UUID, List<Application>> entry : applicantGroups) {
+        for (Map.Entry<UUID, List<AdminApplicationRefDTO>> entry : applicantGroups) {
             UUID applicantId = entry.getKey();
-            List<Application> apps = entry.getValue();
-            Application first = apps.get(0);
-            String label = applicantFolderLabel(first);
+            List<AdminApplicationRefDTO> refs = entry.getValue();
+            String label = applicantFolderLabel(refs.get(0));
             String folder = "applications/" + folderAllocator.allocate(label, applicantId) + "/";
             try {
-                writeApplicantFolder(zos, folder, apps, manifest);
+                writeApplicantFolder(zos, folder, loadApplications(refs), manifest);
                 manifest.exported(ExportManifest.Category.APPLICANT);
             } catch (JobsExportStrategy.StreamAbortedException sae) {
                 manifest.failed(ExportManifest.Category.APPLICANT, applicantId, label, sae);
@@ -128,22 +137,35 @@ public class ApplicationsOnlyExportStrategy {
                 manifest.failed(ExportManifest.Category.APPLICANT, applicantId, label, e);
                 JobsExportStrategy.rethrowIfStreamBroken(e);
             }
+            // Release this applicant's applications and documents before the next folder.
+            chunkReader.clear();
         }
 
         // 4. Orphans — applications with no applicant row. Rare, but still worth
         // capturing so nothing is silently dropped.
         if (!orphans.isEmpty()) {
             try {
-                writeApplicantFolder(zos, "applications/_orphans/", orphans, manifest);
+                writeApplicantFolder(zos, "applications/_orphans/", loadApplications(orphans), manifest);
             } catch (JobsExportStrategy.StreamAbortedException sae) {
                 throw sae;
             } catch (Exception e) {
                 log.warn("Failed to write orphan applications folder: {}", e.getMessage(), e);
                 JobsExportStrategy.rethrowIfStreamBroken(e);
             }
+            chunkReader.clear();
         }
     }
 
+    /**
+     * Loads the applications behind the given references with one query, keeping
+     * the order of the references. Applications deleted since the references were
+     * read are skipped.
+     */
+    private List<Application> loadApplications(List<AdminApplicationRefDTO> refs) {
+        List<UUID> ids = refs.stream().map(AdminApplicationRefDTO::applicationId).toList();
+        return chunkReader.loadInOrder(ids, applicationRepository::findAllById, Application::getApplicationId);
+    }
+
     /**
      * Writes one applicant's grouped folder: {@code applications.json} with
      * all their application DTOs, plus a {@code documents/} subfolder with
@@ -219,17 +241,17 @@ public class ApplicationsOnlyExportStrategy {
      * whereas {@code Applicant.user} can be lazily loaded and may come back
      * stale.
      */
-    private String applicantFolderLabel(Application first) {
-        String firstName = first.getApplicantFirstName() == null ? "" : first.getApplicantFirstName();
-        String lastName = first.getApplicantLastName() == null ? "" : first.getApplicantLastName();
+    private String applicantFolderLabel(AdminApplicationRefDTO first) {
+        String firstName = first.applicantFirstName() == null ? "" : first.applicantFirstName();
+        String lastName = first.applicantLastName() == null ? "" : first.applicantLastName();
         String combined = (firstName + "_" + lastName).trim();
         return combined.isEmpty() || combined.equals("_") ? "applicant" : combined;
     }
 
     /** Sort key for applicant groups: {@code "<last>, <first>"} so output ordering is stable. */
-    private String applicantSortKey(Application first) {
-        String last = first.getApplicantLastName() == null ? "" : first.getApplicantLastName();
-        String firstName = first.getApplicantFirstName() == null ? "" : first.getApplicantFirstName();
+    private String applicantSortKey(AdminApplicationRefDTO first) {
+        String last = first.applicantLastName() == null ? "" : first.applicantLastName();
+        String firstName = first.applicantFirstName() == null ? "" : first.applicantFirstName();
         return last + ", " + firstName;
     }
 
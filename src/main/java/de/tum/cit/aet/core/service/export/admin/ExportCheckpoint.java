@@ -0,0 +1,11 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+/**
+ * A completed section of an admin export, persisted with the export run so that an interrupted
+ * build can be resumed on any node.
+ *
+ * @param section      the key of the section, see {@link ExportSections#section}
+ * @param part         the file name of the section's part archive, relative to the run's parts directory
+ * @param contribution what the section added to the export manifest
+ */
+public record ExportCheckpoint(String section, String part, ExportManifest.Contribution contribution) {}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import de.tum.cit.aet.core.constants.AdminExportType;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
  * Mutable, single-threaded audit trail for an admin export run. Tracks how
@@ -29,6 +31,14 @@ import java.util.UUID;
  * down through the strategies as an explicit parameter. It is rendered to
  * {@code manifest.json} at the root of the produced ZIP so recipients (and
  * legal) can verify completeness without trusting the server-side log.
+ *
+ * <p>Besides the counts, the manifest accumulates how long the build spent in
+ * each {@link Stage} of the render pipeline. Stage timings are the only state
+ * that is also written from the render workers and are therefore thread-safe.
+ *
+ * <p>A build that is resumed after an interruption starts with a fresh manifest
+ * and {@link #replay replays} the {@link Contribution} each already completed
+ * section recorded, so the final counts match those of an uninterrupted run.
  */
 public final class ExportManifest {
 
@@ -48,14 +58,32 @@ public final class ExportManifest {
     private final Counter applicants = new Counter();
     private final Counter applicantSubjectAreaSubscriptions = new Counter();
 
-    private final List<Failure> failures = new ArrayList<>();
+    private final StageClock prepare = new StageClock();
+    private final StageClock render = new StageClock();
+    private final StageClock renderWait = new StageClock();
+    private final StageClock write = new StageClock();
+
+    // Copy-on-write so that snapshots taken by pollers never see the list mid-append
+    private final List<Failure> failures = new CopyOnWriteArrayList<>();
     private boolean aborted = false;
     private String abortReason;
 
     public ExportManifest(AdminExportType type, UUID requestedBy) {
+        this(type, requestedBy, Instant.now());
+    }
+
+    /**
+     * Creates a manifest for a build that started earlier, e.g. one that is resumed
+     * after its first attempt was interrupted.
+     *
+     * @param type        which kind of admin export is produced
+     * @param requestedBy id of the admin user who initiated the export
+     * @param startedAt   when the export was originally started
+     */
+    public ExportManifest(AdminExportType type, UUID requestedBy, Instant startedAt) {
         this.type = type;
         this.requestedBy = requestedBy;
-        this.startedAt = Instant.now();
+        this.startedAt = startedAt;
     }
 
     /**
@@ -94,6 +122,51 @@ public final class ExportManifest {
         failures.add(new Failure(category, id, context, reason));
     }
 
+    /**
+     * Adds the duration of one unit of work to the given pipeline stage. Safe to
+     * call from any thread.
+     *
+     * @param stage the stage the work belongs to
+     * @param nanos how long the work took, in nanoseconds
+     */
+    public void recordStage(Stage stage, long nanos) {
+        clockFor(stage).record(nanos);
+    }
+
+    /**
+     * Returns what the build added to this manifest since the given snapshot was
+     * taken. Used to checkpoint a completed section of the export.
+     *
+     * @param before a snapshot taken when the section started
+     * @return the counts and failures recorded since {@code before}
+     */
+    public Contribution contributionSince(Payload before) {
+        Payload now = snapshot();
+        Totals totals = totals(category -> {
+            Snapshot from = snapshotOf(before.totals(), category);
+            Snapshot to = snapshotOf(now.totals(), category);
+            return new Snapshot(to.expected() - from.expected(), to.exported() - from.exported(), to.failed() - from.failed());
+        });
+        return new Contribution(totals, List.copyOf(now.failures().subList(before.failures().size(), now.failures().size())));
+    }
+
+    /**
+     * Adds the counts and failures of a section that an earlier attempt of the
+     * same export already completed.
+     *
+     * @param contribution what the section recorded when it was written
+     */
+    public void replay(Contribution contribution) {
+        for (Category category : Category.values()) {
+            Snapshot recorded = snapshotOf(contribution.totals(), category);
+            Counter counter = counterFor(category);
+            counter.expected += recorded.expected();
+            counter.exported += recorded.exported();
+            counter.failed += recorded.failed();
+        }
+        failures.addAll(contribution.failures());
+    }
+
     /**
      * Marks the export as aborted (response stream broken).
      *
@@ -135,18 +208,8 @@ public final class ExportManifest {
             snapshotFinishedAt,
             Duration.between(startedAt, clockEnd).toMillis() / 1000.0,
             status(),
-            new Totals(
-                researchGroups.snapshot(),
-                jobs.snapshot(),
-                applications.snapshot(),
-                documents.snapshot(),
-                users.snapshot(),
-                schools.snapshot(),
-                departments.snapshot(),
-                userResearchGroupRoles.snapshot(),
-                applicants.snapshot(),
-                applicantSubjectAreaSubscriptions.snapshot()
-            ),
+            totals(category -> counterFor(category).snapshot()),
+            new StageTimings(prepare.snapshot(), render.snapshot(), renderWait.snapshot(), write.snapshot()),
             aborted ? abortReason : null,
             List.copyOf(failures)
         );
@@ -185,6 +248,45 @@ public final class ExportManifest {
         };
     }
 
+    private static Totals totals(Function<Category, Snapshot> snapshotFor) {
+        return new Totals(
+            snapshotFor.apply(Category.RESEARCH_GROUP),
+            snapshotFor.apply(Category.JOB),
+            snapshotFor.apply(Category.APPLICATION),
+            snapshotFor.apply(Category.DOCUMENT),
+            snapshotFor.apply(Category.USER),
+            snapshotFor.apply(Category.SCHOOL),
+            snapshotFor.apply(Category.DEPARTMENT),
+            snapshotFor.apply(Category.USER_RESEARCH_GROUP_ROLE),
+            snapshotFor.apply(Category.APPLICANT),
+            snapshotFor.apply(Category.APPLICANT_SUBJECT_AREA_SUBSCRIPTION)
+        );
+    }
+
+    private static Snapshot snapshotOf(Totals totals, Category category) {
+        return switch (category) {
+            case RESEARCH_GROUP -> totals.researchGroups();
+            case JOB -> totals.jobs();
+            case APPLICATION -> totals.applications();
+            case DOCUMENT -> totals.documents();
+            case USER -> totals.users();
+            case SCHOOL -> totals.schools();
+            case DEPARTMENT -> totals.departments();
+            case USER_RESEARCH_GROUP_ROLE -> totals.userResearchGroupRoles();
+            case APPLICANT -> totals.applicants();
+            case APPLICANT_SUBJECT_AREA_SUBSCRIPTION -> totals.applicantSubjectAreaSubscriptions();
+        };
+    }
+
+    private StageClock clockFor(Stage stage) {
+        return switch (stage) {
+            case PREPARE -> prepare;
+            case RENDER -> render;
+            case RENDER_WAIT -> renderWait;
+            case WRITE -> write;
+        };
+    }
+
     public enum Category {
         RESEARCH_GROUP,
         JOB,
@@ -198,6 +300,22 @@ public final class ExportManifest {
         APPLICANT_SUBJECT_AREA_SUBSCRIPTION,
     }
 
+    /**
+     * Stages of the admin export render pipeline.
+     * <ul>
+     *   <li>{@code PREPARE} — building render inputs from entities on the export thread</li>
+     *   <li>{@code RENDER} — rendering PDFs on the render workers, summed over all workers</li>
+     *   <li>{@code RENDER_WAIT} — the ZIP writer waiting for the next rendered entry</li>
+     *   <li>{@code WRITE} — appending rendered entries and documents to the ZIP</li>
+     * </ul>
+     */
+    public enum Stage {
+        PREPARE,
+        RENDER,
+        RENDER_WAIT,
+        WRITE,
+    }
+
     public enum Status {
         COMPLETE,
         PARTIAL,
@@ -219,9 +337,30 @@ public final class ExportManifest {
         }
     }
 
+    private static final class StageClock {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        void record(long elapsedNanos) {
+            count.increment();
+            nanos.add(elapsedNanos);
+        }
+
+        StageTiming snapshot() {
+            return new StageTiming(count.sum(), nanos.sum() / 1_000_000_000.0);
+        }
+    }
+
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Snapshot(int expected, int exported, int failed) {}
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StageTiming(long count, double seconds) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StageTimings(StageTiming prepare, StageTiming render, StageTiming renderWait, StageTiming write) {}
+
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Totals(
         Snapshot researchGroups,
@@ -239,6 +378,14 @@ public final class ExportManifest {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Failure(Category category, UUID id, String context, String reason) {}
 
+    /**
+     * What one checkpointed section of an export added to the manifest.
+     *
+     * @param totals   the per-category counts the section added
+     * @param failures the failures the section recorded, in order
+     */
+    public record Contribution(Totals totals, List<Failure> failures) {}
+
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Payload(
         String exportType,
@@ -248,6 +395,7 @@ public final class ExportManifest {
         double durationSeconds,
         Status status,
         Totals totals,
+        StageTimings stages,
         String abortReason,
         List<Failure> failures
     ) {}
@@ -0,0 +1,25 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import java.util.function.Consumer;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * The checkpointed sections an admin export is built from. Every section is written into its own
+ * part archive and checkpointed once complete; a build that is resumed after an interruption
+ * skips the sections an earlier attempt completed and only replays what they recorded in the
+ * manifest. The parts are merged into the final ZIP in the order the sections are declared.
+ * <p>
+ * Strategies must declare the same sections in the same order on every attempt, do all
+ * bookkeeping that spans sections (expected counts, folder name allocation) outside of them and
+ * must not rely on state collected inside a section that may be skipped.
+ */
+@FunctionalInterface
+interface ExportSections {
+    /**
+     * Writes one section unless an earlier attempt of the same export already completed it.
+     *
+     * @param key    identifies the section across attempts; unique within the export and safe as a file name
+     * @param writer writes the section's entries, with paths relative to the root of the export
+     */
+    void section(String key, Consumer<ZipOutputStream> writer);
+}
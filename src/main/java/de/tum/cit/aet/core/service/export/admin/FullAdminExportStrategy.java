@@ -3,8 +3,9 @@ package de.tum.cit.aet.core.service.export.admin;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.constants.AdminExportType;
-import de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationExportDTO;
-import de.tum.cit.aet.core.dto.exportdata.admin.AdminJobExportDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminJobRefDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminResearchGroupExportDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminResearchGroupRefDTO;
 import de.tum.cit.aet.core.dto.exportdata.admin.AdminUserExportDTO;
 import de.tum.cit.aet.core.exception.UserDataExportException;
 import de.tum.cit.aet.core.service.ZipExportService;
@@ -17,6 +18,7 @@ import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -74,20 +76,23 @@ public class FullAdminExportStrategy {
     private final UserRepository userRepository;
     private final ZipExportService zipExportService;
     private final ObjectMapper objectMapper;
+    private final AdminExportChunkReader chunkReader;
 
     /**
-     * Builds the full admin export into the supplied ZIP output stream.
+     * Builds the full admin export. Every research group folder is a checkpointed
+     * section; the overview workbook, the orphans folder and each top-level JSON
+     * dump are sections of their own.
      *
-     * @param zos      open ZIP output stream rooted at the export's top-level folder
+     * @param sections the export's sections, rooted at the export's top-level folder
      * @param manifest export-wide audit trail recording every entity that makes it into the ZIP
      */
-    public void exportFull(ZipOutputStream zos, ExportManifest manifest) {
+    void exportFull(ExportSections sections, ExportManifest manifest) {
         // 1. Active research groups only — DRAFT and DENIED groups are excluded by design.
-        List<ResearchGroup> allRgs = researchGroupRepository.findAll();
-        List<ResearchGroup> groups = allRgs
+        List<AdminResearchGroupRefDTO> allRgs = researchGroupRepository.findAllExportRefs();
+        List<AdminResearchGroupRefDTO> groups = allRgs
             .stream()
-            .filter(rg -> rg.getState() == ResearchGroupState.ACTIVE)
-            .sorted(Comparator.comparing(ResearchGroup::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+            .filter(rg -> rg.state() == ResearchGroupState.ACTIVE)
+            .sorted(Comparator.comparing(AdminResearchGroupRefDTO::name, Comparator.nullsLast(Comparator.naturalOrder())))
             .toList();
         if (log.isDebugEnabled()) {
             log.debug(
@@ -96,18 +101,19 @@ public class FullAdminExportStrategy {
                 groups.size(),
                 allRgs
                     .stream()
-                    .filter(rg -> rg.getState() != ResearchGroupState.ACTIVE)
-                    .map(rg -> rg.getName() + "[" + rg.getState() + "]")
+                    .filter(rg -> rg.state() != ResearchGroupState.ACTIVE)
+                    .map(rg -> rg.name() + "[" + rg.state() + "]")
                     .toList()
             );
         }
 
-        // Pre-group all jobs by research group id so each group folder can read its own list once.
-        List<Job> allJobs = jobRepository.findAll();
-        Map<UUID, List<Job>> jobsByRg = allJobs
+        // Pre-group lightweight job references by research group id; the jobs themselves
+        // are loaded one at a time while their folders are written.
+        List<AdminJobRefDTO> allJobs = jobRepository.findAllExportRefs();
+        Map<UUID, List<AdminJobRefDTO>> jobsByRg = allJobs
             .stream()
-            .filter(j -> j.getResearchGroup() != null)
-            .collect(Collectors.groupingBy(j -> j.getResearchGroup().getResearchGroupId()));
+            .filter(j -> j.researchGroupId() != null)
+            .collect(Collectors.groupingBy(AdminJobRefDTO::researchGroupId));
 
         manifest.expect(ExportManifest.Category.RESEARCH_GROUP, groups.size());
 
@@ -115,85 +121,133 @@ public class FullAdminExportStrategy {
         // the JSON files inside _machine_readable/. Slug collisions (same
         // abbreviation/title twice) are handled by an auto-incrementing suffix.
         FolderNameAllocator rgAllocator = new FolderNameAllocator(false);
-        for (ResearchGroup rg : groups) {
+        for (AdminResearchGroupRefDTO ref : groups) {
             // Use the full research group title; abbreviations collide too easily
             // ("AET", null, …) and the slug() helper trims it to a safe length.
-            String rgFolder = rgAllocator.allocate(rg.getName(), rg.getResearchGroupId()) + "/";
-            try {
-                researchGroupsExportStrategy.writeGroupFolder(zos, rgFolder, rg, true);
-                manifest.exported(ExportManifest.Category.RESEARCH_GROUP);
-            } catch (JobsExportStrategy.StreamAbortedException sae) {
-                throw sae;
-            } catch (Exception e) {
-                log.warn("Failed to write research group folder for {}", rg.getResearchGroupId(), e);
-                manifest.failed(ExportManifest.Category.RESEARCH_GROUP, rg.getResearchGroupId(), rg.getName(), e);
-                JobsExportStrategy.rethrowIfStreamBroken(e);
-            }
-
-            List<Job> rgJobs = jobsByRg.getOrDefault(rg.getResearchGroupId(), List.of());
-            if (rgJobs.isEmpty()) {
-                continue;
-            }
-
-            // Split this research group's jobs into the four state buckets.
-            List<Job> openJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_OPEN);
-            List<Job> expiredJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_EXPIRED);
-            List<Job> closedJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_CLOSED);
-            List<Job> draftJobs = rgJobs
-                .stream()
-                .filter(j -> j.getState() == JobState.DRAFT)
-                .toList();
-
-            // Full admin is the comprehensive backup — every bucket includes
-            // SAVED applications too so nothing is silently dropped.
-            writeBucket(zos, rgFolder + "jobs/open/", openJobs, true, manifest);
-            writeBucket(zos, rgFolder + "jobs/expired/", expiredJobs, true, manifest);
-            writeBucket(zos, rgFolder + "jobs/closed/", closedJobs, true, manifest);
-            writeBucket(zos, rgFolder + "jobs/drafts/", draftJobs, true, manifest);
+            String rgFolder = rgAllocator.allocate(ref.name(), ref.researchGroupId()) + "/";
+            List<AdminJobRefDTO> rgJobs = jobsByRg.getOrDefault(ref.researchGroupId(), List.of());
+            sections.section("research-group-" + ref.researchGroupId(), zos -> writeGroup(zos, rgFolder, ref, rgJobs, manifest));
         }
 
-        // 2. Top-level research groups overview workbook (only ACTIVE groups, matches the loop above).
-        researchGroupsExportStrategy.writeOverviewSheet(zos, "research_groups_overview.xlsx", groups);
+        // 2. Top-level research groups overview workbook and JSON (only ACTIVE groups, matches
+        // the loop above). Built in a pass of its own because the folder sections above may
+        // have been completed by an earlier attempt of this export.
+        sections.section("research-groups-overview", zos -> writeGroupsOverview(zos, groups));
 
         // 3. Orphan jobs (no research group) — defensive; healthy data should leave this empty.
-        List<Job> orphanJobs = allJobs
+        List<AdminJobRefDTO> orphanJobs = allJobs
             .stream()
-            .filter(j -> j.getResearchGroup() == null)
+            .filter(j -> j.researchGroupId() == null)
             .toList();
         if (!orphanJobs.isEmpty()) {
-            jobsExportStrategy.writeJobsInto(zos, "orphans/jobs/", orphanJobs, true, false, true, manifest);
+            sections.section("orphan-jobs", zos ->
+                jobsExportStrategy.writeJobsInto(zos, "orphans/jobs/", orphanJobs, true, false, true, manifest)
+            );
         }
 
         // 4. Top-level machine-readable dumps — flat lists of every entity (not state-filtered).
-        List<AdminJobExportDTO> jobDtos = allJobs.stream().map(jobsExportStrategy::toJobDto).toList();
-        writeJsonEntry(zos, "_machine_readable/jobs.json", jobDtos);
+        // Each table is walked in keyset-paged chunks and serialized element by element, so
+        // neither the entities nor their DTOs are ever held in memory all at once.
+        sections.section("jobs-json", zos ->
+            chunkReader.writeJsonArray(
+                zos,
+                "_machine_readable/jobs.json",
+                jobRepository::findExportChunkAfter,
+                Job::getJobId,
+                jobsExportStrategy::toJobDto
+            )
+        );
+        sections.section("applications-json", zos ->
+            chunkReader.writeJsonArray(
+                zos,
+                "_machine_readable/applications.json",
+                applicationRepository::findExportChunkAfter,
+                Application::getApplicationId,
+                jobsExportStrategy::toApplicationDto
+            )
+        );
+        sections.section("users-json", zos -> {
+            manifest.expect(ExportManifest.Category.USER, Math.toIntExact(userRepository.count()));
+            chunkReader.writeJsonArray(
+                zos,
+                "_machine_readable/users.json",
+                userRepository::findExportChunkAfter,
+                User::getUserId,
+                u -> toUserDto(u, manifest)
+            );
+        });
+    }
+
+    private void writeGroup(
+        ZipOutputStream zos,
+        String rgFolder,
+        AdminResearchGroupRefDTO ref,
+        List<AdminJobRefDTO> rgJobs,
+        ExportManifest manifest
+    ) {
+        try {
+            ResearchGroup rg = researchGroupRepository.findByIdElseThrow(ref.researchGroupId());
+            researchGroupsExportStrategy.writeGroupFolder(zos, rgFolder, rg, true);
+            manifest.exported(ExportManifest.Category.RESEARCH_GROUP);
+        } catch (JobsExportStrategy.StreamAbortedException sae) {
+            throw sae;
+        } catch (Exception e) {
+            log.warn("Failed to write research group folder for {}", ref.researchGroupId(), e);
+            manifest.failed(ExportManifest.Category.RESEARCH_GROUP, ref.researchGroupId(), ref.name(), e);
+            JobsExportStrategy.rethrowIfStreamBroken(e);
+        }
+        chunkReader.clear();
 
-        List<Application> allApplications = applicationRepository.findAll();
-        List<AdminApplicationExportDTO> appDtos = allApplications.stream().map(jobsExportStrategy::toApplicationDto).toList();
-        writeJsonEntry(zos, "_machine_readable/applications.json", appDtos);
+        if (rgJobs.isEmpty()) {
+            return;
+        }
 
-        List<User> allUsers = userRepository.findAll();
-        manifest.expect(ExportManifest.Category.USER, allUsers.size());
-        List<AdminUserExportDTO> userDtos = allUsers
+        // Split this research group's jobs into the four state buckets.
+        List<AdminJobRefDTO> openJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_OPEN);
+        List<AdminJobRefDTO> expiredJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_EXPIRED);
+        List<AdminJobRefDTO> closedJobs = jobsExportStrategy.filterJobs(rgJobs, AdminExportType.JOBS_CLOSED);
+        List<AdminJobRefDTO> draftJobs = rgJobs
             .stream()
-            .map(u -> {
-                try {
-                    AdminUserExportDTO dto = AdminUserExportDTO.getFromEntity(u);
-                    manifest.exported(ExportManifest.Category.USER);
-                    return dto;
-                } catch (Exception e) {
-                    manifest.failed(ExportManifest.Category.USER, u.getUserId(), u.getEmail(), e);
-                    return null;
-                }
-            })
-            .filter(java.util.Objects::nonNull)
+            .filter(j -> j.state() == JobState.DRAFT)
             .toList();
-        writeJsonEntry(zos, "_machine_readable/users.json", userDtos);
 
-        writeJsonEntry(zos, "_machine_readable/research_groups.json", groups.stream().map(researchGroupsExportStrategy::toDto).toList());
+        // Full admin is the comprehensive backup — every bucket includes
+        // SAVED applications too so nothing is silently dropped.
+        writeBucket(zos, rgFolder + "jobs/open/", openJobs, true, manifest);
+        writeBucket(zos, rgFolder + "jobs/expired/", expiredJobs, true, manifest);
+        writeBucket(zos, rgFolder + "jobs/closed/", closedJobs, true, manifest);
+        writeBucket(zos, rgFolder + "jobs/drafts/", draftJobs, true, manifest);
     }
 
-    private void writeBucket(ZipOutputStream zos, String basePath, List<Job> jobs, boolean includeAllStates, ExportManifest manifest) {
+    /**
+     * Writes the research groups overview workbook and {@code research_groups.json},
+     * loading the groups one at a time. Groups that cannot be loaded are left out;
+     * their failure is already recorded by their folder section.
+     */
+    private void writeGroupsOverview(ZipOutputStream zos, List<AdminResearchGroupRefDTO> groups) {
+        List<List<Object>> overviewRows = new ArrayList<>(groups.size());
+        List<AdminResearchGroupExportDTO> groupDtos = new ArrayList<>(groups.size());
+        for (AdminResearchGroupRefDTO ref : groups) {
+            try {
+                ResearchGroup rg = researchGroupRepository.findByIdElseThrow(ref.researchGroupId());
+                overviewRows.add(researchGroupsExportStrategy.overviewRow(rg));
+                groupDtos.add(researchGroupsExportStrategy.toDto(rg));
+            } catch (Exception e) {
+                log.warn("Failed to add research group {} to the overview", ref.researchGroupId(), e);
+            }
+            chunkReader.clear();
+        }
+        researchGroupsExportStrategy.writeOverviewSheet(zos, "research_groups_overview.xlsx", overviewRows);
+        writeJsonEntry(zos, "_machine_readable/research_groups.json", groupDtos);
+    }
+
+    private void writeBucket(
+        ZipOutputStream zos,
+        String basePath,
+        List<AdminJobRefDTO> jobs,
+        boolean includeAllStates,
+        ExportManifest manifest
+    ) {
         if (jobs.isEmpty()) {
             return;
         }
@@ -204,6 +258,17 @@ public class FullAdminExportStrategy {
         jobsExportStrategy.writeJobsInto(zos, basePath, jobs, includeAllStates, false, true, manifest);
     }
 
+    private AdminUserExportDTO toUserDto(User user, ExportManifest manifest) {
+        try {
+            AdminUserExportDTO dto = AdminUserExportDTO.getFromEntity(user);
+            manifest.exported(ExportManifest.Category.USER);
+            return dto;
+        } catch (Exception e) {
+            manifest.failed(ExportManifest.Category.USER, user.getUserId(), user.getEmail(), e);
+            return null;
+        }
+    }
+
     private void writeJsonEntry(ZipOutputStream zos, String entryPath, Object payload) {
         try {
             byte[] bytes = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(payload);
@@ -10,6 +10,9 @@ import de.tum.cit.aet.core.documents.service.DocumentService;
 import de.tum.cit.aet.core.dto.DocumentRefDTO;
 import de.tum.cit.aet.core.dto.exportdata.admin.AdminApplicationExportDTO;
 import de.tum.cit.aet.core.dto.exportdata.admin.AdminJobExportDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminJobRefDTO;
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminResearchGroupRefDTO;
+import de.tum.cit.aet.core.exception.EntityNotFoundException;
 import de.tum.cit.aet.core.exception.UserDataExportException;
 import de.tum.cit.aet.core.service.PDFExportService;
 import de.tum.cit.aet.core.service.XlsxExportService;
@@ -25,9 +28,10 @@ import de.tum.cit.aet.interview.dto.InterviewDTO;
 import de.tum.cit.aet.interview.repository.IntervieweeRepository;
 import de.tum.cit.aet.job.constants.JobState;
 import de.tum.cit.aet.job.domain.Job;
+import de.tum.cit.aet.job.dto.JobDetailDTO;
 import de.tum.cit.aet.job.dto.JobFormDTO;
 import de.tum.cit.aet.job.repository.JobRepository;
-import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import de.tum.cit.aet.job.service.JobService;
 import de.tum.cit.aet.usermanagement.dto.ApplicantDTO;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import java.io.IOException;
@@ -37,11 +41,14 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -73,6 +80,11 @@ import tools.jackson.databind.ObjectMapper;
  * {@link #writeJobsInto(ZipOutputStream, String, List, boolean, boolean, boolean, ExportManifest)}
  * entry point so the same folder layout is produced under
  * {@code research_groups/<rg>/jobs/}.
+ *
+ * <p>Jobs are selected and ordered through lightweight {@link AdminJobRefDTO}s;
+ * each job is then loaded on its own and detached again once its folder is
+ * written, so the persistence context never holds more than one job's
+ * applications and documents at a time.
  */
 @Slf4j
 @Component
@@ -110,6 +122,9 @@ public class JobsExportStrategy {
     private final DocumentService documentService;
     private final XlsxExportService xlsxWriter;
     private final ObjectMapper objectMapper;
+    private final AdminExportChunkReader chunkReader;
+    private final JobService jobService;
+    private final AdminExportRenderPool renderPool;
 
     /**
      * Top-level entry point used by {@link AdminExportZipWriter} for the three
@@ -137,61 +152,73 @@ public class JobsExportStrategy {
      * └── orphans/jobs/...           (jobs without a research group, rare)
      * </pre>
      *
-     * @param zos      open ZIP output stream rooted at the top of the export
+     * <p>Every research group folder is a checkpointed section, as is the
+     * orphans folder.
+     *
+     * @param sections the export's sections, rooted at the top of the export
      * @param type     which jobs-only case to apply ({@code JOBS_OPEN}, {@code JOBS_EXPIRED} or {@code JOBS_CLOSED})
      * @param manifest export-wide audit trail; entities exported here are recorded against it
      */
-    public void exportJobs(ZipOutputStream zos, AdminExportType type, ExportManifest manifest) {
-        List<Job> matchingJobs = filterJobs(jobRepository.findAll(), type);
+    void exportJobs(ExportSections sections, AdminExportType type, ExportManifest manifest) {
+        List<AdminJobRefDTO> matchingJobs = filterJobs(jobRepository.findAllExportRefs(), type);
         // All three per-type exports are handed to external research groups,
         // so drafts (SAVED) and withdrawn applications are filtered out —
         // they are noise for anyone reviewing the bucket. The full admin
         // export keeps every state and goes through FullAdminExportStrategy.
         boolean includeAllStates = false;
 
-        Map<UUID, List<Job>> jobsByRg = matchingJobs
+        Map<UUID, List<AdminJobRefDTO>> jobsByRg = matchingJobs
             .stream()
-            .filter(j -> j.getResearchGroup() != null)
-            .collect(Collectors.groupingBy(j -> j.getResearchGroup().getResearchGroupId()));
+            .filter(j -> j.researchGroupId() != null)
+            .collect(Collectors.groupingBy(AdminJobRefDTO::researchGroupId));
 
         // Iterate research groups in name order, but only include those that have
         // at least one matching job — otherwise we'd produce empty folders.
-        List<ResearchGroup> groups = researchGroupRepository
-            .findAll()
+        List<AdminResearchGroupRefDTO> groups = researchGroupRepository
+            .findAllExportRefs()
             .stream()
-            .filter(rg -> jobsByRg.containsKey(rg.getResearchGroupId()))
-            .sorted(Comparator.comparing(ResearchGroup::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+            .filter(rg -> jobsByRg.containsKey(rg.researchGroupId()))
+            .sorted(Comparator.comparing(AdminResearchGroupRefDTO::name, Comparator.nullsLast(Comparator.naturalOrder())))
             .toList();
 
         manifest.expect(ExportManifest.Category.RESEARCH_GROUP, groups.size());
         manifest.expect(ExportManifest.Category.JOB, matchingJobs.size());
 
         FolderNameAllocator rgAllocator = new FolderNameAllocator(false);
-        for (ResearchGroup rg : groups) {
+        for (AdminResearchGroupRefDTO rg : groups) {
             // Use the full research group title; abbreviations collide too easily
             // ("AET", null, …) and the slug() helper trims it to a safe length.
-            String rgFolder = rgAllocator.allocate(rg.getName(), rg.getResearchGroupId()) + "/";
-            try {
-                // Members XLSX only — no JSON dumps for the human-readable per-type exports.
-                researchGroupsExportStrategy.writeGroupFolder(zos, rgFolder, rg, false);
-                manifest.exported(ExportManifest.Category.RESEARCH_GROUP);
-            } catch (StreamAbortedException sae) {
-                throw sae;
-            } catch (Exception e) {
-                manifest.failed(ExportManifest.Category.RESEARCH_GROUP, rg.getResearchGroupId(), rg.getName(), e);
-                rethrowIfStreamBroken(e);
-            }
-            writeJobsInternal(zos, rgFolder + "jobs/", jobsByRg.get(rg.getResearchGroupId()), includeAllStates, false, false, manifest);
+            String rgFolder = rgAllocator.allocate(rg.name(), rg.researchGroupId()) + "/";
+            sections.section("research-group-" + rg.researchGroupId(), zos -> {
+                try {
+                    // Members XLSX only — no JSON dumps for the human-readable per-type exports.
+                    researchGroupsExportStrategy.writeGroupFolder(
+                        zos,
+                        rgFolder,
+                        researchGroupRepository.findByIdElseThrow(rg.researchGroupId()),
+                        false
+                    );
+                    manifest.exported(ExportManifest.Category.RESEARCH_GROUP);
+                } catch (StreamAbortedException sae) {
+                    throw sae;
+                } catch (Exception e) {
+                    manifest.failed(ExportManifest.Category.RESEARCH_GROUP, rg.researchGroupId(), rg.name(), e);
+                    rethrowIfStreamBroken(e);
+                }
+                writeJobsInternal(zos, rgFolder + "jobs/", jobsByRg.get(rg.researchGroupId()), includeAllStates, false, false, manifest);
+            });
         }
 
         // Defensive: jobs that match the filter but have no research group go
         // into orphans/. Healthy data should leave this empty.
-        List<Job> orphanJobs = matchingJobs
+        List<AdminJobRefDTO> orphanJobs = matchingJobs
             .stream()
-            .filter(j -> j.getResearchGroup() == null)
+            .filter(j -> j.researchGroupId() == null)
             .toList();
         if (!orphanJobs.isEmpty()) {
-            writeJobsInternal(zos, "orphans/jobs/", orphanJobs, includeAllStates, false, false, manifest);
+            sections.section("orphan-jobs", zos ->
+                writeJobsInternal(zos, "orphans/jobs/", orphanJobs, includeAllStates, false, false, manifest)
+            );
         }
 
         // TODO(post-export-go-live): dispatch JOB_EXPORT_NOTIFICATION to all
@@ -209,7 +236,7 @@ public class JobsExportStrategy {
      *
      * @param zos               open ZIP output stream
      * @param basePath          prefix inside the ZIP, ending in {@code "/"} or empty
-     * @param jobs              jobs to write
+     * @param jobs              references of the jobs to write, in output order
      * @param includeAllStates  {@code true} to include every application state (full admin backup);
      *                          {@code false} to filter out states the research group has nothing
      *                          to act on ({@code SAVED}, {@code WITHDRAWN})
@@ -220,7 +247,7 @@ public class JobsExportStrategy {
     void writeJobsInto(
         ZipOutputStream zos,
         String basePath,
-        List<Job> jobs,
+        List<AdminJobRefDTO> jobs,
         boolean includeAllStates,
         boolean includeUuids,
         boolean includeJsonDumps,
@@ -233,14 +260,23 @@ public class JobsExportStrategy {
     private void writeJobsInternal(
         ZipOutputStream zos,
         String basePath,
-        List<Job> jobs,
+        List<AdminJobRefDTO> jobs,
         boolean includeAllStates,
         boolean includeUuids,
         boolean includeJsonDumps,
         ExportManifest manifest
     ) {
         FolderNameAllocator jobAllocator = new FolderNameAllocator(includeUuids);
-        for (Job job : jobs) {
+        List<List<Object>> overviewRows = new ArrayList<>(jobs.size());
+        List<AdminJobExportDTO> jobDtos = new ArrayList<>();
+        for (AdminJobRefDTO ref : jobs) {
+            Job job = jobRepository.findById(ref.jobId()).orElse(null);
+            if (job == null) {
+                // Deleted after the references were read — nothing left to export.
+                log.warn("Job {} no longer exists and is skipped", ref.jobId());
+                manifest.failed(ExportManifest.Category.JOB, ref.jobId(), null, EntityNotFoundException.forId("Job", ref.jobId()));
+                continue;
+            }
             String folder = basePath + "job_" + jobAllocator.allocate(job.getTitle(), job.getJobId()) + "/";
             try {
                 writeJobFolder(zos, folder, job, includeAllStates, includeUuids, includeJsonDumps, manifest);
@@ -256,11 +292,18 @@ public class JobsExportStrategy {
                 rethrowIfStreamBroken(e);
                 writeTextEntry(zos, folder + "_error.txt", "Failed to export job " + job.getJobId() + ": " + e.getMessage());
             }
+            overviewRows.add(jobsOverviewRow(job, includeJsonDumps));
+            if (includeJsonDumps) {
+                jobDtos.add(toJobDto(job));
+            }
+            // Release the job together with its applications, reviews and documents
+            // before the next one is loaded.
+            chunkReader.clear();
         }
         if (!jobs.isEmpty()) {
-            writeJobsOverviewSheet(zos, basePath + "jobs_overview.xlsx", jobs, includeJsonDumps);
+            writeJobsOverviewSheet(zos, basePath + "jobs_overview.xlsx", overviewRows, includeJsonDumps);
             if (includeJsonDumps) {
-                writeJsonEntry(zos, basePath + "_machine_readable/jobs.json", jobs.stream().map(this::toJobDto).toList());
+                writeJsonEntry(zos, basePath + "_machine_readable/jobs.json", jobDtos);
             }
         }
     }
@@ -268,29 +311,29 @@ public class JobsExportStrategy {
     // ----------------------------- filtering -----------------------------
 
     /**
-     * Filters a list of jobs to those matching the given admin export type, in the
+     * Filters a list of job references to those matching the given admin export type, in the
      * same way the standalone exports do. Exposed for {@link FullAdminExportStrategy}
      * so it can split a research group's jobs into open / expired / closed buckets.
      *
-     * @param jobs candidate jobs
+     * @param jobs candidate job references
      * @param type which admin export bucket to apply
-     * @return jobs that satisfy the type's filter, sorted newest-first
+     * @return references that satisfy the type's filter, sorted newest-first
      */
-    List<Job> filterJobs(List<Job> jobs, AdminExportType type) {
+    List<AdminJobRefDTO> filterJobs(List<AdminJobRefDTO> jobs, AdminExportType type) {
         LocalDate today = LocalDate.now();
         return jobs
             .stream()
             .filter(job -> matchesType(job, type, today))
-            .sorted(Comparator.comparing(Job::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
+            .sorted(Comparator.comparing(AdminJobRefDTO::createdAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
             .toList();
     }
 
-    private boolean matchesType(Job job, AdminExportType type, LocalDate today) {
+    private boolean matchesType(AdminJobRefDTO job, AdminExportType type, LocalDate today) {
         return switch (type) {
-            case JOBS_OPEN -> job.getState() == JobState.PUBLISHED && (job.getEndDate() == null || !job.getEndDate().isBefore(today));
-            case JOBS_EXPIRED -> job.getState() == JobState.PUBLISHED && job.getEndDate() != null && job.getEndDate().isBefore(today);
-            case JOBS_CLOSED -> EnumSet.of(JobState.CLOSED, JobState.APPLICANT_FOUND).contains(job.getState());
-            case JOBS_DRAFT -> job.getState() == JobState.DRAFT;
+            case JOBS_OPEN -> job.state() == JobState.PUBLISHED && (job.endDate() == null || !job.endDate().isBefore(today));
+            case JOBS_EXPIRED -> job.state() == JobState.PUBLISHED && job.endDate() != null && job.endDate().isBefore(today);
+            case JOBS_CLOSED -> EnumSet.of(JobState.CLOSED, JobState.APPLICANT_FOUND).contains(job.state());
+            case JOBS_DRAFT -> job.state() == JobState.DRAFT;
             // Full admin export funnels every job through here too, with no extra filter.
             // USERS_AND_ORGS and APPLICATIONS_ONLY do not use this filter at
             // all — their strategies ignore jobs entirely — but the switch
@@ -310,19 +353,7 @@ public class JobsExportStrategy {
         boolean includeJsonDumps,
         ExportManifest manifest
     ) {
-        // 1. Job details PDF (reuses existing public job-export PDF)
-        try {
-            Resource pdf = pdfExportService.exportJobToPDF(job.getJobId(), AdminPdfLabels.forJob());
-            zipExportService.addFileToZip(zos, folder + "job_details.pdf", pdf.getInputStream());
-        } catch (StreamAbortedException sae) {
-            throw sae;
-        } catch (Exception e) {
-            log.warn("Failed to write job_details.pdf for job {}", job.getJobId(), e);
-            rethrowIfStreamBroken(e);
-            writeTextEntry(zos, folder + "job_details.pdf.error.txt", "Failed to render PDF: " + e.getMessage());
-        }
-
-        // 2. Fetch applications via an explicit query (avoids lazy-collection /
+        // 1. Fetch applications via an explicit query (avoids lazy-collection /
         // second-level-cache quirks that can return a stale subset of the rows)
         // and filter according to the includeAllStates flag: the three per-type
         // exports drop SAVED + WITHDRAWN (states the research group can't act
@@ -344,23 +375,94 @@ public class JobsExportStrategy {
             );
         }
 
-        // 3. Per-job overview xlsx + (optionally) machine-readable JSON dumps.
-        writeApplicationsOverviewSheet(zos, folder + "applications_overview.xlsx", apps, includeJsonDumps);
-        if (includeJsonDumps) {
-            writeJsonEntry(zos, folder + "_machine_readable/job.json", toJobDto(job));
-            writeJsonEntry(zos, folder + "_machine_readable/applications.json", apps.stream().map(this::toApplicationDto).toList());
+        try (RenderQueue renders = renderPool.open(manifest, renders(job, apps, manifest))) {
+            // 2. Hand the job PDF and every application PDF to the render workers
+            // as window slots become free. Their inputs are built on this thread as
+            // DTOs because the workers must not touch this persistence context.
+
+            // 3. Job details PDF (reuses existing public job-export PDF)
+            try {
+                writeTimed(zos, folder + "job_details.pdf", renders.next(), manifest);
+            } catch (StreamAbortedException sae) {
+                throw sae;
+            } catch (Exception e) {
+                log.warn("Failed to write job_details.pdf for job {}", job.getJobId(), e);
+                rethrowIfStreamBroken(e);
+                writeTextEntry(zos, folder + "job_details.pdf.error.txt", "Failed to render PDF: " + e.getMessage());
+            }
+
+            // 4. Per-job overview xlsx + (optionally) machine-readable JSON dumps.
+            writeApplicationsOverviewSheet(zos, folder + "applications_overview.xlsx", apps, includeJsonDumps);
+            if (includeJsonDumps) {
+                writeJsonEntry(zos, folder + "_machine_readable/job.json", toJobDto(job));
+                writeJsonEntry(zos, folder + "_machine_readable/applications.json", apps.stream().map(this::toApplicationDto).toList());
+            }
+
+            // 5. One folder per application — fresh allocator scoped to this job
+            manifest.expect(ExportManifest.Category.APPLICATION, apps.size());
+            FolderNameAllocator appAllocator = new FolderNameAllocator(includeUuids);
+            for (Application app : apps) {
+                String label =
+                    (app.getApplicantLastName() == null ? "applicant" : app.getApplicantLastName()) +
+                    "_" +
+                    (app.getApplicantFirstName() == null ? "" : app.getApplicantFirstName());
+                String appFolder = folder + "applications/" + appAllocator.allocate(label, app.getApplicationId()) + "/";
+                writeApplicationFolder(zos, appFolder, app, job, renders, includeJsonDumps, manifest);
+            }
         }
+    }
 
-        // 4. One folder per application — fresh allocator scoped to this job
-        manifest.expect(ExportManifest.Category.APPLICATION, apps.size());
-        FolderNameAllocator appAllocator = new FolderNameAllocator(includeUuids);
-        for (Application app : apps) {
-            String label =
-                (app.getApplicantLastName() == null ? "applicant" : app.getApplicantLastName()) +
-                "_" +
-                (app.getApplicantFirstName() == null ? "" : app.getApplicantFirstName());
-            String appFolder = folder + "applications/" + appAllocator.allocate(label, app.getApplicationId()) + "/";
-            writeApplicationFolder(zos, appFolder, app, job, includeJsonDumps, manifest);
+    /**
+     * Lists the job details PDF followed by one application details PDF per
+     * application, in the order {@link #writeJobFolder} takes them back out.
+     * Each input is built on this thread when the queue pulls the render, so
+     * only the inputs of renders in the window are held at a time. An input
+     * that cannot be built becomes a failing render, so it surfaces where the
+     * PDF would have been written.
+     */
+    private Iterator<Callable<Resource>> renders(Job job, List<Application> apps, ExportManifest manifest) {
+        long start = System.nanoTime();
+        JobDetailDTO details;
+        try {
+            details = jobService.getJobDetails(job.getJobId());
+        } catch (Exception e) {
+            // The application PDFs embed the job overview; without it there is nothing to render.
+            Callable<Resource> failure = () -> {
+                throw e;
+            };
+            return Stream.generate(() -> failure).limit(apps.size() + 1L).iterator();
+        } finally {
+            manifest.recordStage(ExportManifest.Stage.PREPARE, System.nanoTime() - start);
+        }
+
+        Stream<Callable<Resource>> jobRender = Stream.of(
+            prepare(manifest, () -> {
+                // The banner is read here, so the render worker does not touch the database
+                byte[] banner = pdfExportService.loadBannerImage(details);
+                return () -> pdfExportService.exportJobToPDF(details, banner, AdminPdfLabels.forJob());
+            })
+        );
+        Stream<Callable<Resource>> applicationRenders = apps
+            .stream()
+            .map(app ->
+                prepare(manifest, () -> {
+                    ApplicationDetailDTO dto = ApplicationDetailDTO.getFromEntity(app, job);
+                    return () -> pdfExportService.exportApplicationToPDF(dto, details, AdminPdfLabels.forApplication());
+                })
+            );
+        return Stream.concat(jobRender, applicationRenders).iterator();
+    }
+
+    private Callable<Resource> prepare(ExportManifest manifest, Callable<Callable<Resource>> input) {
+        long start = System.nanoTime();
+        try {
+            return input.call();
+        } catch (Exception e) {
+            return () -> {
+                throw e;
+            };
+        } finally {
+            manifest.recordStage(ExportManifest.Stage.PREPARE, System.nanoTime() - start);
         }
     }
 
@@ -369,6 +471,7 @@ public class JobsExportStrategy {
         String folder,
         Application app,
         Job job,
+        RenderQueue renders,
         boolean includeJsonDumps,
         ExportManifest manifest
     ) {
@@ -377,11 +480,10 @@ public class JobsExportStrategy {
         // exported. Documents and the interview PDF are tracked separately so
         // a missing CV doesn't make the whole application "failed".
         boolean appPdfWritten = false;
-        // 1. Application details PDF (reuses existing per-applicant PDF)
+        // 1. Application details PDF (reuses existing per-applicant PDF), rendered
+        // by the workers and taken from the queue in application order
         try {
-            ApplicationDetailDTO dto = ApplicationDetailDTO.getFromEntity(app, job);
-            Resource pdf = pdfExportService.exportApplicationToPDF(dto, AdminPdfLabels.forApplication());
-            zipExportService.addFileToZip(zos, folder + "application_details.pdf", pdf.getInputStream());
+            writeTimed(zos, folder + "application_details.pdf", renders.next(), manifest);
             appPdfWritten = true;
         } catch (StreamAbortedException sae) {
             manifest.failed(
@@ -464,7 +566,7 @@ public class JobsExportStrategy {
                 try (InputStream is = resource.getInputStream()) {
                     bytes = is.readAllBytes();
                 }
-                zipExportService.addFileToZip(zos, folder + "documents/" + filename, bytes);
+                writeTimed(zos, folder + "documents/" + filename, bytes, manifest);
                 manifest.exported(ExportManifest.Category.DOCUMENT);
             } catch (StreamAbortedException sae) {
                 manifest.failed(ExportManifest.Category.DOCUMENT, doc.getDocumentId(), filename, sae);
@@ -482,9 +584,22 @@ public class JobsExportStrategy {
         }
     }
 
+    /**
+     * Appends an entry whose content is already in memory, accounting the time to
+     * the {@link ExportManifest.Stage#WRITE} stage.
+     */
+    private void writeTimed(ZipOutputStream zos, String entryPath, byte[] content, ExportManifest manifest) throws IOException {
+        long start = System.nanoTime();
+        try {
+            zipExportService.addFileToZip(zos, entryPath, content);
+        } finally {
+            manifest.recordStage(ExportManifest.Stage.WRITE, System.nanoTime() - start);
+        }
+    }
+
     // ----------------------------- overview sheets -----------------------------
 
-    private void writeJobsOverviewSheet(ZipOutputStream zos, String entryPath, List<Job> jobs, boolean includeIds) {
+    private void writeJobsOverviewSheet(ZipOutputStream zos, String entryPath, List<List<Object>> rows, boolean includeIds) {
         List<String> headers = new ArrayList<>();
         if (includeIds) {
             headers.add("Job ID");
@@ -503,35 +618,35 @@ public class JobsExportStrategy {
                 "Created"
             )
         );
-        List<List<Object>> rows = new ArrayList<>(jobs.size());
-        for (Job job : jobs) {
-            List<Object> row = new ArrayList<>();
-            if (includeIds) {
-                row.add(nullSafe(job.getJobId()));
-            }
-            row.add(nullSafe(job.getTitle()));
-            row.add(nullSafe(job.getState()));
-            row.add(
-                job.getSupervisingProfessor() == null
-                    ? ""
-                    : (
-                          nullSafe(job.getSupervisingProfessor().getFirstName()) +
-                          " " +
-                          nullSafe(job.getSupervisingProfessor().getLastName())
-                      ).trim()
-            );
-            row.add(job.getResearchGroup() == null ? "" : nullSafe(job.getResearchGroup().getName()));
-            row.add(job.getSubjectArea() == null ? "" : job.getSubjectArea().name());
-            row.add(job.getLocation() == null ? "" : job.getLocation().name());
-            row.add(nullSafe(job.getStartDate()));
-            row.add(nullSafe(job.getEndDate()));
-            row.add(applicationRepository.findAllByJobId(job.getJobId()).size());
-            row.add(nullSafe(job.getCreatedAt()));
-            rows.add(row);
-        }
         xlsxWriter.writeSheet(zos, entryPath, "Jobs", headers, rows);
     }
 
+    private List<Object> jobsOverviewRow(Job job, boolean includeIds) {
+        List<Object> row = new ArrayList<>();
+        if (includeIds) {
+            row.add(nullSafe(job.getJobId()));
+        }
+        row.add(nullSafe(job.getTitle()));
+        row.add(nullSafe(job.getState()));
+        row.add(
+            job.getSupervisingProfessor() == null
+                ? ""
+                : (
+                      nullSafe(job.getSupervisingProfessor().getFirstName()) +
+                      " " +
+                      nullSafe(job.getSupervisingProfessor().getLastName())
+                  ).trim()
+        );
+        row.add(job.getResearchGroup() == null ? "" : nullSafe(job.getResearchGroup().getName()));
+        row.add(job.getSubjectArea() == null ? "" : job.getSubjectArea().name());
+        row.add(job.getLocation() == null ? "" : job.getLocation().name());
+        row.add(nullSafe(job.getStartDate()));
+        row.add(nullSafe(job.getEndDate()));
+        row.add(applicationRepository.countAllByJobId(job.getJobId()));
+        row.add(nullSafe(job.getCreatedAt()));
+        return row;
+    }
+
     private void writeApplicationsOverviewSheet(ZipOutputStream zos, String entryPath, List<Application> apps, boolean includeIds) {
         List<String> headers = new ArrayList<>();
         if (includeIds) {
@@ -0,0 +1,141 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Ordered queue of PDF renders of one job folder, obtained from {@link AdminExportRenderPool#open}.
+ * The export thread hands over the renders in the order their entries go into the ZIP and takes
+ * the rendered bytes back out in the same order with {@link #next()}, so the archive layout does
+ * not depend on which worker finishes first.
+ * <p>
+ * Every submitted render holds a slot of the pool's window, which is shared by all queues, until
+ * its result is taken. Renders are only pulled from their iterator when a slot is free, so the
+ * inputs of later renders are not built before they are needed. A queue that holds no slot waits
+ * for one in {@link #next()}; queues holding slots never wait, so they cannot block each other.
+ * Not thread-safe; only the export thread may use a queue.
+ */
+final class RenderQueue implements AutoCloseable {
+
+    private final AsyncTaskExecutor executor;
+    private final Semaphore window;
+    private final ExportManifest manifest;
+    private final Iterator<? extends Callable<Resource>> renders;
+    private final Deque<Future<byte[]>> submitted = new ArrayDeque<>();
+
+    /**
+     * Creates a queue and submits the renders that fit into the free slots of the window.
+     *
+     * @param executor the render workers
+     * @param window   the slots shared by all queues of the pool; must be fair
+     * @param manifest the export's manifest, receiving the render and wait timings
+     * @param renders  the renders in ZIP order; {@link Iterator#next()} is only called on the
+     *                 export thread, so it may build the render input from managed entities. The
+     *                 render itself runs on a worker thread and must therefore only use data that
+     *                 is safe to share, i.e. DTOs and no managed entities.
+     */
+    RenderQueue(AsyncTaskExecutor executor, Semaphore window, ExportManifest manifest, Iterator<? extends Callable<Resource>> renders) {
+        this.executor = executor;
+        this.window = window;
+        this.manifest = manifest;
+        this.renders = renders;
+        fill();
+    }
+
+    /**
+     * Waits for the oldest render and returns its result.
+     *
+     * @return the rendered PDF
+     * @throws Exception the exception thrown by the render
+     */
+    byte[] next() throws Exception {
+        long start = System.nanoTime();
+        Future<byte[]> head = null;
+        try {
+            if (submitted.isEmpty()) {
+                // Holding no slot, this queue cannot keep other queues from freeing theirs
+                window.acquire();
+                if (!renders.hasNext()) {
+                    window.release();
+                    throw new IllegalStateException("No render left");
+                }
+                submit();
+            }
+            head = submitted.poll();
+            return head.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            manifest.recordStage(ExportManifest.Stage.RENDER_WAIT, System.nanoTime() - start);
+            if (head != null) {
+                window.release();
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Drops every render that has not been taken, cancelling the ones that have not finished,
+     * and frees their slots.
+     */
+    @Override
+    public void close() {
+        Future<byte[]> future;
+        while ((future = submitted.poll()) != null) {
+            future.cancel(true);
+            window.release();
+        }
+    }
+
+    private void fill() {
+        try {
+            // The timed tryAcquire respects the fair ordering, so a waiting queue is not overtaken.
+            // The slot is taken before hasNext(), which may already prepare the next input.
+            while (window.tryAcquire(0, TimeUnit.SECONDS)) {
+                if (!renders.hasNext()) {
+                    window.release();
+                    return;
+                }
+                submit();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit() {
+        try {
+            Callable<Resource> render = renders.next();
+            submitted.add(
+                executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        return render.call().getContentAsByteArray();
+                    } finally {
+                        manifest.recordStage(ExportManifest.Stage.RENDER, System.nanoTime() - start);
+                    }
+                })
+            );
+        } catch (RuntimeException e) {
+            window.release();
+            throw e;
+        }
+    }
+}
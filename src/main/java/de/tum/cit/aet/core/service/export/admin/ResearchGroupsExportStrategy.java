@@ -100,9 +100,9 @@ public class ResearchGroupsExportStrategy {
      *
      * @param zos       open ZIP output stream
      * @param entryPath path of the workbook entry inside the ZIP
-     * @param groups    research groups to list
+     * @param rows      one row per research group, built with {@link #overviewRow(ResearchGroup)}
      */
-    void writeOverviewSheet(ZipOutputStream zos, String entryPath, List<ResearchGroup> groups) {
+    void writeOverviewSheet(ZipOutputStream zos, String entryPath, List<List<Object>> rows) {
         List<String> headers = List.of(
             "Research Group ID",
             "Name",
@@ -115,26 +115,32 @@ public class ResearchGroupsExportStrategy {
             "Member Count",
             "State"
         );
-        List<List<Object>> rows = new ArrayList<>(groups.size());
-        for (ResearchGroup rg : groups) {
-            rows.add(
-                List.of(
-                    nullSafe(rg.getResearchGroupId()),
-                    nullSafe(rg.getName()),
-                    nullSafe(rg.getAbbreviation()),
-                    nullSafe(rg.getHead()),
-                    nullSafe(rg.getEmail()),
-                    nullSafe(rg.getWebsite()),
-                    rg.getDepartment() == null ? "" : nullSafe(rg.getDepartment().getName()),
-                    nullSafe(rg.getCity()),
-                    rg.getUserRoles() == null ? 0 : rg.getUserRoles().size(),
-                    rg.getState() == null ? "" : rg.getState().name()
-                )
-            );
-        }
         xlsxWriter.writeSheet(zos, entryPath, "Research Groups", headers, rows);
     }
 
+    /**
+     * Builds the overview workbook row of one research group. Callers collect the
+     * rows while the group is still attached, so the workbook can be written after
+     * the groups have been detached from the persistence context.
+     *
+     * @param rg the research group to describe
+     * @return the row values in header order
+     */
+    List<Object> overviewRow(ResearchGroup rg) {
+        return List.of(
+            nullSafe(rg.getResearchGroupId()),
+            nullSafe(rg.getName()),
+            nullSafe(rg.getAbbreviation()),
+            nullSafe(rg.getHead()),
+            nullSafe(rg.getEmail()),
+            nullSafe(rg.getWebsite()),
+            rg.getDepartment() == null ? "" : nullSafe(rg.getDepartment().getName()),
+            nullSafe(rg.getCity()),
+            rg.getUserRoles() == null ? 0 : rg.getUserRoles().size(),
+            rg.getState() == null ? "" : rg.getState().name()
+        );
+    }
+
     private void writeJsonEntry(ZipOutputStream zos, String entryPath, Object payload) {
         try {
             byte[] bytes = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(payload);
@@ -0,0 +1,34 @@
+package de.tum.cit.aet.core.service.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@code @Scheduled} method on at most one node of the cluster at a time.
+ * <p>
+ * Before each invocation the node tries to take the named lock in the {@code scheduled_job_locks}
+ * table. If another node holds it, the invocation is skipped; otherwise the lock is held and its
+ * lease extended until the method returns. Only jobs whose work is shared by all nodes should be
+ * locked; jobs that maintain node-local state (caches, in-memory buffers) must run everywhere.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+    /**
+     * @return the name of the lock, unique per job and at most 64 characters
+     */
+    String name();
+
+    /**
+     * Keeps the lock for at least this long after a run started, as an ISO-8601 duration. Guards
+     * short jobs against running again on a node whose clock lags behind and fires the same trigger
+     * slightly later; must be shorter than the interval of the job.
+     *
+     * @return the minimum time the lock is held
+     */
+    String lockAtLeastFor() default "PT30S";
+}
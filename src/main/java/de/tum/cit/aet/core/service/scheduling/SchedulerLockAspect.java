@@ -0,0 +1,76 @@
+package de.tum.cit.aet.core.service.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link SchedulerLock} to the annotated methods and records how long the locked runs take.
+ * <p>
+ * Can be switched off with {@code aet.scheduler-lock.enabled}, e.g. for tests that call the jobs
+ * directly inside a transaction.
+ */
+@Aspect
+@Component
+public class SchedulerLockAspect {
+
+    private final SchedulerLockService schedulerLockService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public SchedulerLockAspect(
+        SchedulerLockService schedulerLockService,
+        MeterRegistry meterRegistry,
+        @Value("${aet.scheduler-lock.enabled:true}") boolean enabled
+    ) {
+        this.schedulerLockService = schedulerLockService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Runs the job if this node gets the lock, and skips it otherwise.
+     *
+     * @param joinPoint     the scheduled method
+     * @param schedulerLock the lock settings of the method
+     * @return the result of the method, or {@code null} if the run was skipped
+     * @throws Throwable whatever the method throws
+     */
+    @Around("@annotation(schedulerLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        String name = schedulerLock.name();
+        Optional<SchedulerLockService.HeldLock> acquired = schedulerLockService.tryAcquire(
+            name,
+            Duration.parse(schedulerLock.lockAtLeastFor())
+        );
+        if (acquired.isEmpty()) {
+            return null;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try (SchedulerLockService.HeldLock lock = acquired.get()) {
+            Object result = joinPoint.proceed();
+            outcome = lock.isLost() ? "lock_lost" : "success";
+            return result;
+        } finally {
+            sample.stop(
+                Timer.builder("tumapply.scheduler.job.duration")
+                    .description("Duration of scheduled job runs that held the cluster-wide lock")
+                    .tag("lock", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+            );
+        }
+    }
+}
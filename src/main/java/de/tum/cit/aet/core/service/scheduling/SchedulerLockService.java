@@ -0,0 +1,175 @@
+package de.tum.cit.aet.core.service.scheduling;
+
+import de.tum.cit.aet.core.domain.ScheduledJobLock;
+import de.tum.cit.aet.core.repository.ScheduledJobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out the cluster-wide locks behind {@link SchedulerLock}.
+ * <p>
+ * A lock is a row in {@code scheduled_job_locks} with a lease of {@code aet.scheduler-lock.lease}.
+ * The holder extends the lease every {@code aet.scheduler-lock.heartbeat-interval} while its job is
+ * running, so the lease only has to cover the time it takes to notice a dead node, not the longest
+ * run. All lock statements commit in their own transaction so other nodes see them immediately.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate lockTx;
+    private final ThreadPoolTaskScheduler heartbeat;
+    private final Duration lease;
+    private final Duration heartbeatInterval;
+
+    // Identifies this node as lock owner; the random suffix keeps a restarted node from extending its predecessor's leases
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    public SchedulerLockService(
+        ScheduledJobLockRepository scheduledJobLockRepository,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${aet.scheduler-lock.lease:PT2M}") Duration lease,
+        @Value("${aet.scheduler-lock.heartbeat-interval:PT30S}") Duration heartbeatInterval
+    ) {
+        this.scheduledJobLockRepository = scheduledJobLockRepository;
+        this.meterRegistry = meterRegistry;
+        this.lease = lease;
+        this.heartbeatInterval = heartbeatInterval;
+
+        this.lockTx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        lockTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.heartbeat = new ThreadPoolTaskScheduler();
+        heartbeat.setPoolSize(1);
+        heartbeat.setThreadNamePrefix("scheduler-lock-heartbeat-");
+        heartbeat.initialize();
+    }
+
+    /**
+     * Tries to take the named lock for this node and starts extending its lease.
+     *
+     * @param name           the name of the lock
+     * @param lockAtLeastFor the minimum time the lock is held, counted from now
+     * @return the held lock, to be closed when the job is done, or empty if another node holds it
+     */
+    public Optional<HeldLock> tryAcquire(String name, Duration lockAtLeastFor) {
+        LocalDateTime now = nowUtc();
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(lockTx.execute(status -> acquireOrCreate(name, now)));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row for a lock that did not exist yet, and holds it
+            acquired = false;
+        }
+
+        meterRegistry.counter("tumapply.scheduler.lock.attempts", "lock", name, "outcome", acquired ? "acquired" : "skipped").increment();
+        if (!acquired) {
+            log.debug("Scheduled job lock {} is held by another node; skipping this run", name);
+            return Optional.empty();
+        }
+
+        HeldLock lock = new HeldLock(name, now.plus(lockAtLeastFor));
+        lock.renewal = heartbeat.scheduleAtFixedRate(lock::extend, Instant.now().plus(heartbeatInterval), heartbeatInterval);
+        return Optional.of(lock);
+    }
+
+    /**
+     * Stops the lease heartbeats; locks still held by this node expire after their lease.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdown();
+    }
+
+    private boolean acquireOrCreate(String name, LocalDateTime now) {
+        if (scheduledJobLockRepository.acquire(name, nodeId, now.plus(lease), now) == 1) {
+            return true;
+        }
+        if (scheduledJobLockRepository.existsById(name)) {
+            return false;
+        }
+        ScheduledJobLock lock = new ScheduledJobLock(name, now.plus(lease));
+        lock.setOwnerNode(nodeId);
+        lock.setLockedAt(now);
+        scheduledJobLockRepository.saveAndFlush(lock);
+        return true;
+    }
+
+    private static LocalDateTime nowUtc() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * A lock held by this node. Closing it stops the heartbeat and releases the lock.
+     */
+    public final class HeldLock implements AutoCloseable {
+
+        private final String name;
+        private final LocalDateTime holdUntil;
+        private volatile ScheduledFuture<?> renewal;
+        private volatile boolean lost;
+
+        private HeldLock(String name, LocalDateTime holdUntil) {
+            this.name = name;
+            this.holdUntil = holdUntil;
+        }
+
+        /**
+         * @return whether the lease could not be extended in time and another node may have taken the lock
+         */
+        public boolean isLost() {
+            return lost;
+        }
+
+        @Override
+        public void close() {
+            renewal.cancel(false);
+            if (lost) {
+                return;
+            }
+            LocalDateTime now = nowUtc();
+            LocalDateTime releaseAt = now.isAfter(holdUntil) ? now : holdUntil;
+            try {
+                lockTx.execute(status -> scheduledJobLockRepository.release(name, nodeId, releaseAt));
+            } catch (Exception e) {
+                // The lease expires on its own
+                log.warn("Failed to release scheduled job lock {}: {}", name, e.getMessage());
+            }
+        }
+
+        private void extend() {
+            try {
+                Integer extended = lockTx.execute(status -> scheduledJobLockRepository.extend(name, nodeId, nowUtc().plus(lease)));
+                if (!Objects.equals(extended, 1)) {
+                    lost = true;
+                    renewal.cancel(false);
+                    meterRegistry.counter("tumapply.scheduler.lock.lost", "lock", name).increment();
+                    log.warn("Scheduled job lock {} was lost by {} while the job was still running", name, nodeId);
+                }
+            } catch (Exception e) {
+                // Retried with the next heartbeat, the lease covers several missed ones
+                log.warn("Failed to extend scheduled job lock {}: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package de.tum.cit.aet.core.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Naming scheme of the downscaled image variants that are stored next to an original upload.
+ * The variant of {@code /images/jobs/abc.jpg} with a width of 480 px is {@code /images/jobs/abc_w480.jpg}.
+ */
+public final class ImageVariantUtil {
+
+    /**
+     * Avatars are shown as the narrowest profile picture variant that is at least this wide.
+     */
+    public static final int AVATAR_WIDTH = 160;
+
+    private ImageVariantUtil() {}
+
+    /**
+     * Derives the URL or relative path of a variant from the URL or relative path of the original.
+     *
+     * @param original the original URL or path (e.g. "/images/jobs/abc.jpg")
+     * @param width    the variant width in pixels
+     * @return the variant URL or path (e.g. "/images/jobs/abc_w480.jpg")
+     */
+    public static String variantOf(String original, int width) {
+        int dot = original.lastIndexOf('.');
+        int slash = original.lastIndexOf('/');
+        if (dot <= slash) {
+            return original + "_w" + width;
+        }
+        return original.substring(0, dot) + "_w" + width + original.substring(dot);
+    }
+
+    /**
+     * Picks the URL to show as avatar: the narrowest variant of the profile picture that is at least
+     * {@link #AVATAR_WIDTH} wide, or the original if there is none. Users always store the original.
+     *
+     * @param avatar        the stored avatar URL, i.e. the original profile picture (may be null)
+     * @param variantWidths the stored comma-separated widths of the profile picture (may be null)
+     * @return the avatar URL to show, or null if the user has no avatar
+     */
+    public static String avatarOf(String avatar, String variantWidths) {
+        if (avatar == null) {
+            return null;
+        }
+        return parseWidths(variantWidths)
+            .stream()
+            .filter(width -> width >= AVATAR_WIDTH)
+            .findFirst()
+            .map(width -> variantOf(avatar, width))
+            .orElse(avatar);
+    }
+
+    /**
+     * Parses the stored comma-separated variant widths.
+     *
+     * @param variantWidths the stored widths (may be null or empty)
+     * @return the widths in ascending order
+     */
+    public static List<Integer> parseWidths(String variantWidths) {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(variantWidths.split(",")).map(String::trim).map(Integer::valueOf).sorted().toList();
+    }
+
+    /**
+     * Formats variant widths for storage.
+     *
+     * @param widths the generated widths
+     * @return the comma-separated widths in ascending order (empty if none were generated)
+     */
+    public static String formatWidths(Collection<Integer> widths) {
+        return widths.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Maps every stored variant width to its URL.
+     *
+     * @param url           the URL of the original image (may be null)
+     * @param variantWidths the stored comma-separated widths (may be null)
+     * @return the variant URLs keyed by width in ascending order, or null if there are none
+     */
+    public static Map<Integer, String> variantUrls(String url, String variantWidths) {
+        List<Integer> widths = parseWidths(variantWidths);
+        if (url == null || widths.isEmpty()) {
+            return null;
+        }
+        Map<Integer, String> variants = new LinkedHashMap<>();
+        for (int width : widths) {
+            variants.put(width, variantOf(url, width));
+        }
+        return variants;
+    }
+}
@@ -2,6 +2,7 @@ package de.tum.cit.aet.core.util;
 
 import com.itextpdf.html2pdf.ConverterProperties;
 import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
 import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.DeviceRgb;
@@ -11,8 +12,13 @@ import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.kernel.pdf.action.PdfAction;
+import com.itextpdf.kernel.pdf.event.AbstractPdfDocumentEvent;
+import com.itextpdf.kernel.pdf.event.AbstractPdfDocumentEventHandler;
+import com.itextpdf.kernel.pdf.event.PdfDocumentEvent;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.Border;
@@ -26,12 +32,15 @@ import com.itextpdf.layout.element.ListItem;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.font.FontProvider;
 import com.itextpdf.layout.properties.HorizontalAlignment;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import de.tum.cit.aet.core.exception.PDFGenerationException;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.core.io.ByteArrayResource;
@@ -55,6 +64,11 @@ public class PDFBuilder {
 
     private static final String TUMAPPLY_URL = "https://tumapply.aet.cit.tum.de";
 
+    // Fonts available to the HTML conversion. Loading them is expensive, so the font set is built once
+    // and shared read-only; every build wraps it in a font provider of its own, as providers keep a
+    // per-document selection cache and are not thread-safe.
+    private static final FontProvider HTML_FONTS = new DefaultFontProvider();
+
     private static final DeviceRgb PRIMARY_COLOR = new DeviceRgb(0x18, 0x72, 0xDD);
     private static final DeviceRgb METADATA_COLOR = new DeviceRgb(0x8d, 0x8d, 0x8f);
 
@@ -81,6 +95,9 @@ public class PDFBuilder {
     private static final float HEADER_MARGIN_BOTTOM = 16f;
     private static final float LINE_LEADING = 1.0f;
     private static final float METADATA_MARGIN_LEFT_RIGHT = 15f;
+    private static final float FOOTER_HEIGHT = 20f;
+    // Reserves room for up to four digits of the total page count
+    private static final String TOTAL_PAGES_PLACEHOLDER = " 0000";
 
     // ----------------- List & Text Layout -----------------
     private static final String BULLET_POINT_SYMBOL = "\u2022";
@@ -245,24 +262,42 @@ public class PDFBuilder {
      * @throws PDFGenerationException if PDF generation fails
      */
     public Resource build() {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        build(baos);
+        return new ByteArrayResource(baos.toByteArray());
+    }
+
+    /**
+     * Builds the PDF document with all configured content and writes it to the given stream,
+     * e.g. the servlet response or a ZIP entry. Every page is written and released as soon as
+     * it is complete, so only the page being laid out is held in memory. The stream is not closed.
+     *
+     * @param out the stream the PDF is written to
+     * @throws PDFGenerationException if PDF generation fails
+     */
+    public void build(OutputStream out) {
+        try {
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
-            // immediateFlush=false: keep all pages in memory until pdfDoc.close().
-            // The default (true) flushes intermediate pages as soon as they're full,
-            // which releases their PdfDictionary state. addMetadata() below walks
-            // every page via pdfDoc.getPage(i).getPageSize() and would NPE on the
-            // already-flushed pages (this.map == null inside iText's PdfDictionary).
-            // The bug only surfaced for multi-page PDFs (e.g. application details);
-            // single-page PDFs accidentally avoided it because the only page was
-            // still the "current" page when addMetadata ran.
-            Document document = new Document(pdfDoc, pdfDoc.getDefaultPageSize(), false);
+            Document document = new Document(pdfDoc);
 
             document.setTopMargin(MARGIN_PDF_TOP_AND_BOTTOM);
             document.setBottomMargin(MARGIN_PDF_TOP_AND_BOTTOM * 3);
 
             PdfFont normalFont = PdfFontFactory.createFont(StandardFonts.HELVETICA);
             PdfFont boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+            ConverterProperties converterProperties = new ConverterProperties().setFontProvider(
+                new FontProvider(HTML_FONTS.getFontSet(), HTML_FONTS.getDefaultFontFamily())
+            );
+
+            // Metadata and page numbers are drawn on every page when the page is completed; the total
+            // page count is filled into a shared placeholder once the whole document has been laid out
+            FooterHandler footer = null;
+            if ((metadataText != null && !metadataText.isEmpty()) || pageLabelPage != null) {
+                footer = new FooterHandler(pdfDoc, normalFont);
+                pdfDoc.addEventHandler(PdfDocumentEvent.END_PAGE, footer);
+            }
 
             // Header Items
             if (!headerItems.isEmpty()) {
@@ -299,7 +334,7 @@ public class PDFBuilder {
 
             // Overview Section
             if (!overviewItems.isEmpty()) {
-                addOverviewSection(document, normalFont, boldFont);
+                addOverviewSection(document, normalFont, boldFont, converterProperties);
             }
 
             // Section Groups
@@ -313,25 +348,78 @@ public class PDFBuilder {
                     document.add(groupTitle);
                 }
                 for (InfoSection section : group.sections) {
-                    addInfoSection(document, section, normalFont, boldFont);
+                    addInfoSection(document, section, normalFont, boldFont, converterProperties);
                 }
             }
 
-            // Metadata
-            if (metadataText != null && !metadataText.isEmpty()) {
-                addMetadata(pdfDoc, normalFont);
+            if (footer != null) {
+                footer.writeTotalPages();
             }
 
             document.close();
-            pdfDoc.close();
-            return new ByteArrayResource(baos.toByteArray());
         } catch (IOException e) {
             throw new PDFGenerationException("Failed to generate PDF", e);
         }
     }
 
+    /**
+     * Draws the metadata text at the bottom of every page of an already built PDF, e.g. a cached
+     * rendering built without metadata, so that per-request details (generation time, viewer)
+     * do not have to be part of the cached rendering.
+     *
+     * @param pdf             the built PDF
+     * @param metadataText    the beginning of metadata text to display (before TUMApply label)
+     * @param metadataEndText the end of metadata text to display (after TUMApply label)
+     * @return the PDF with the metadata text on every page
+     * @throws PDFGenerationException if the PDF cannot be read or written
+     */
+    public static byte[] stampMetadata(byte[] pdf, String metadataText, String metadataEndText) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(pdf.length + 4096);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)), new PdfWriter(baos))) {
+            PdfFont normalFont = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            for (int i = 1; i <= pdfDoc.getNumberOfPages(); i++) {
+                PdfPage page = pdfDoc.getPage(i);
+                Rectangle pageSize = page.getPageSize();
+                Canvas canvas = new Canvas(page, pageSize);
+                drawMetadata(canvas, pageSize, normalFont, metadataText, metadataEndText);
+                canvas.close();
+            }
+        } catch (IOException e) {
+            throw new PDFGenerationException("Failed to add metadata to PDF", e);
+        }
+        return baos.toByteArray();
+    }
+
     // ----------------- Helpers -----------------
 
+    /**
+     * Draws the metadata line, ending with the TUMApply link, centered at the bottom of a page.
+     */
+    private static void drawMetadata(Canvas canvas, Rectangle pageSize, PdfFont normalFont, String metadataText, String metadataEndText) {
+        Paragraph metadataParagraph = new Paragraph()
+            .setFont(normalFont)
+            .setFontSize(FONT_SIZE_METADATA)
+            .setFontColor(METADATA_COLOR)
+            .setTextAlignment(TextAlignment.CENTER)
+            .setWidth(pageSize.getWidth() - 8 * METADATA_MARGIN_LEFT_RIGHT);
+
+        metadataParagraph.add(new Text(metadataText));
+
+        // add TUMApply as clickable Link
+        Link tumapplyLink = new Link("TUMApply", PdfAction.createURI(TUMAPPLY_URL));
+        tumapplyLink.setFontColor(PRIMARY_COLOR).setUnderline().setFont(normalFont).setFontSize(FONT_SIZE_METADATA);
+        // iText link annotations default to a 1pt border; clear it.
+        tumapplyLink.getLinkAnnotation().setBorder(new PdfArray(new float[] { 0, 0, 0 }));
+
+        metadataParagraph.add(tumapplyLink);
+
+        if (metadataEndText != null && !metadataEndText.isEmpty()) {
+            metadataParagraph.add(new Text(metadataEndText));
+        }
+
+        canvas.showTextAligned(metadataParagraph, pageSize.getWidth() / 2, MARGIN_PDF_TOP_AND_BOTTOM, TextAlignment.CENTER);
+    }
+
     /**
      * Adds header items in a single line separated by |
      */
@@ -354,7 +442,7 @@ public class PDFBuilder {
         document.add(headerLine);
     }
 
-    private void addOverviewSection(Document document, PdfFont normalFont, PdfFont boldFont) {
+    private void addOverviewSection(Document document, PdfFont normalFont, PdfFont boldFont, ConverterProperties converterProperties) {
         Div container = new Div().setMarginBottom(MARGIN_OVERVIEW_SECTION_BOTTOM);
 
         // Step 1: Add overview title if present
@@ -408,7 +496,7 @@ public class PDFBuilder {
                 container.add(descTitle);
             }
             // Step 3b: Parse and add HTML description content
-            List<IBlockElement> elements = parseHtmlContent(overviewDescription, normalFont);
+            List<IBlockElement> elements = parseHtmlContent(overviewDescription, normalFont, converterProperties);
             for (IBlockElement element : elements) {
                 if (element instanceof Paragraph para) {
                     para.setMarginTop(0);
@@ -424,7 +512,13 @@ public class PDFBuilder {
         document.add(container);
     }
 
-    private void addInfoSection(Document document, InfoSection section, PdfFont normalFont, PdfFont boldFont) {
+    private void addInfoSection(
+        Document document,
+        InfoSection section,
+        PdfFont normalFont,
+        PdfFont boldFont,
+        ConverterProperties converterProperties
+    ) {
         Div container = new Div();
 
         if (section.title != null && !section.title.isEmpty()) {
@@ -437,7 +531,7 @@ public class PDFBuilder {
         }
 
         if (section.htmlContent != null && !section.htmlContent.isEmpty()) {
-            List<IBlockElement> elements = parseHtmlContent(section.htmlContent, normalFont);
+            List<IBlockElement> elements = parseHtmlContent(section.htmlContent, normalFont, converterProperties);
             for (IBlockElement element : elements) {
                 if (element instanceof Paragraph para) {
                     para.setMarginTop(0);
@@ -465,67 +559,13 @@ public class PDFBuilder {
         document.add(container);
     }
 
-    /**
-     * Adds metadata text at the bottom of the last PDF page
-     */
-    private void addMetadata(PdfDocument pdfDoc, PdfFont normalFont) {
-        int totalPages = pdfDoc.getNumberOfPages();
-
-        for (int i = 1; i <= totalPages; i++) {
-            PdfPage page = pdfDoc.getPage(i);
-            Rectangle pageSize = page.getPageSize();
-
-            Canvas canvas = new Canvas(page, pageSize);
-
-            Paragraph metadataParagraph = new Paragraph()
-                .setFont(normalFont)
-                .setFontSize(FONT_SIZE_METADATA)
-                .setFontColor(METADATA_COLOR)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setWidth(pageSize.getWidth() - 8 * METADATA_MARGIN_LEFT_RIGHT);
-
-            metadataParagraph.add(new Text(metadataText));
-
-            // add TUMApply as clickable Link
-            Link tumapplyLink = new Link("TUMApply", PdfAction.createURI(TUMAPPLY_URL));
-            tumapplyLink.setFontColor(PRIMARY_COLOR).setUnderline().setFont(normalFont).setFontSize(FONT_SIZE_METADATA);
-            // iText link annotations default to a 1pt border; clear it.
-            tumapplyLink.getLinkAnnotation().setBorder(new PdfArray(new float[] { 0, 0, 0 }));
-
-            metadataParagraph.add(tumapplyLink);
-
-            if (metadataEndText != null && !metadataEndText.isEmpty()) {
-                metadataParagraph.add(new Text(metadataEndText));
-            }
-
-            canvas.showTextAligned(metadataParagraph, pageSize.getWidth() / 2, MARGIN_PDF_TOP_AND_BOTTOM, TextAlignment.CENTER);
-
-            // --- Page Number ---
-            Paragraph pageNumber = new Paragraph(String.format("%s %d %s %d", pageLabelPage, i, pageLabelOf, totalPages))
-                .setFont(normalFont)
-                .setFontSize(FONT_SIZE_METADATA)
-                .setFontColor(METADATA_COLOR);
-
-            canvas.showTextAligned(
-                pageNumber,
-                pageSize.getRight() - METADATA_MARGIN_LEFT_RIGHT,
-                MARGIN_PDF_TOP_AND_BOTTOM,
-                TextAlignment.RIGHT
-            );
-
-            canvas.close();
-        }
-    }
-
-    private List<IBlockElement> parseHtmlContent(String html, PdfFont normalFont) {
+    private List<IBlockElement> parseHtmlContent(String html, PdfFont normalFont, ConverterProperties converterProperties) {
         List<IBlockElement> elements = new ArrayList<>();
 
         try {
             String processedHtml = html.replaceAll("<ol>", "<ul>").replaceAll("</ol>", "</ul>");
 
-            ConverterProperties props = new ConverterProperties();
-
-            List<IElement> pdfElements = HtmlConverter.convertToElements(processedHtml, props);
+            List<IElement> pdfElements = HtmlConverter.convertToElements(processedHtml, converterProperties);
 
             for (IElement element : pdfElements) {
                 if (element instanceof IBlockElement blockElement) {
@@ -570,6 +610,58 @@ public class PDFBuilder {
     }
 
     // ----------------- Inner Classes -----------------
+
+    /**
+     * Draws the metadata text (if set) and the page number at the bottom of every page when the page is
+     * completed. The total page count is not known at that point, so all pages reference the same
+     * placeholder, which {@link #writeTotalPages()} fills once the document has been laid out.
+     */
+    private class FooterHandler extends AbstractPdfDocumentEventHandler {
+
+        private final PdfDocument pdfDoc;
+        private final PdfFont normalFont;
+        private final PdfFormXObject totalPages;
+
+        FooterHandler(PdfDocument pdfDoc, PdfFont normalFont) {
+            this.pdfDoc = pdfDoc;
+            this.normalFont = normalFont;
+            float width = normalFont.getWidth(TOTAL_PAGES_PLACEHOLDER, FONT_SIZE_METADATA);
+            this.totalPages = new PdfFormXObject(new Rectangle(0, 0, width, FOOTER_HEIGHT));
+        }
+
+        @Override
+        protected void onAcceptedEvent(AbstractPdfDocumentEvent event) {
+            PdfPage page = ((PdfDocumentEvent) event).getPage();
+            Rectangle pageSize = page.getPageSize();
+            Canvas canvas = new Canvas(page, pageSize);
+
+            // Left out of renderings that get it stamped per request, see stampMetadata
+            if (metadataText != null && !metadataText.isEmpty()) {
+                drawMetadata(canvas, pageSize, normalFont, metadataText, metadataEndText);
+            }
+
+            // --- Page Number, followed by the placeholder for the total ---
+            float totalX = pageSize.getRight() - METADATA_MARGIN_LEFT_RIGHT - totalPages.getWidth();
+            Paragraph pageNumber = pageNumberParagraph(String.format("%s %d %s", pageLabelPage, pdfDoc.getPageNumber(page), pageLabelOf));
+            canvas.showTextAligned(pageNumber, totalX, MARGIN_PDF_TOP_AND_BOTTOM, TextAlignment.RIGHT);
+            canvas.getPdfCanvas().addXObjectAt(totalPages, totalX, MARGIN_PDF_TOP_AND_BOTTOM);
+
+            canvas.close();
+        }
+
+        void writeTotalPages() {
+            Canvas canvas = new Canvas(totalPages, pdfDoc);
+            // Right-aligned inside the placeholder, so the footer ends at the right margin for any number of digits
+            float right = totalPages.getWidth();
+            canvas.showTextAligned(pageNumberParagraph(" " + pdfDoc.getNumberOfPages()), right, 0, TextAlignment.RIGHT);
+            canvas.close();
+        }
+
+        private Paragraph pageNumberParagraph(String text) {
+            return new Paragraph(text).setFont(normalFont).setFontSize(FONT_SIZE_METADATA).setFontColor(METADATA_COLOR);
+        }
+    }
+
     private static class OverviewItem {
 
         String label;
@@ -0,0 +1,31 @@
+package de.tum.cit.aet.core.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+    private TransactionUtil() {}
+
+    /**
+     * Runs the given action once the current transaction has committed, or immediately if no
+     * transaction is active. Used to update node-local state (caches, indexes) only for changes
+     * that actually became visible; the action is dropped if the transaction rolls back.
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
+}
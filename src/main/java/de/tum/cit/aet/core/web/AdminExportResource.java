@@ -1,5 +1,6 @@
 package de.tum.cit.aet.core.web;
 
+import de.tum.cit.aet.core.constants.AdminExportStatus;
 import de.tum.cit.aet.core.constants.AdminExportType;
 import de.tum.cit.aet.core.dto.AdminExportTaskDTO;
 import de.tum.cit.aet.core.security.annotations.Admin;
@@ -152,7 +153,7 @@ public class AdminExportResource {
             response.setStatus(HttpStatus.NOT_FOUND.value());
             return;
         }
-        if (task.status() == AdminExportTask.Status.IN_PROGRESS) {
+        if (task.status() == AdminExportStatus.IN_PROGRESS) {
             response.setStatus(HttpStatus.CONFLICT.value());
             return;
         }
@@ -232,16 +233,15 @@ public class AdminExportResource {
     }
 
     /**
-     * Maps a live {@link AdminExportTask} (service layer) to its wire
+     * Maps an {@link AdminExportTask} (service layer) to its wire
      * {@link AdminExportTaskDTO} (dto layer). The controller owns this
      * conversion because it is the only place that is allowed to depend on
      * both layers — keeping it out of the dto keeps the layered-architecture
-     * test happy. Reads the manifest via {@link ExportManifest#snapshot()}
-     * which is safe to call while the build is still running on another
-     * thread.
+     * test happy. The counts come from the manifest snapshot the building
+     * node last persisted, which may be a few seconds old.
      */
     private AdminExportTaskDTO toDto(AdminExportTask task) {
-        ExportManifest.Payload p = task.manifest().snapshot();
+        ExportManifest.Payload p = task.progress();
         ExportManifest.Totals t = p.totals();
         return new AdminExportTaskDTO(
             task.taskId(),
@@ -266,7 +266,7 @@ public class AdminExportResource {
         );
     }
 
-    private static AdminExportTaskDTO.Status mapStatus(AdminExportTask.Status status) {
+    private static AdminExportTaskDTO.Status mapStatus(AdminExportStatus status) {
         return AdminExportTaskDTO.Status.valueOf(status.name());
     }
 
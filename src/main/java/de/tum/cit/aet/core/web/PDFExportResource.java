@@ -4,12 +4,20 @@ import de.tum.cit.aet.application.domain.dto.ApplicationPDFRequest;
 import de.tum.cit.aet.core.security.annotations.Authenticated;
 import de.tum.cit.aet.core.security.annotations.ProfessorOrEmployee;
 import de.tum.cit.aet.core.security.annotations.Public;
+import de.tum.cit.aet.core.service.JobPdfCache;
 import de.tum.cit.aet.core.service.PDFExportService;
 import de.tum.cit.aet.job.dto.JobPreviewRequest;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -25,29 +33,54 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/export")
 public class PDFExportResource {
 
+    /** Response buffer of streamed PDFs; most application PDFs fit, so their failures can still be reported. */
+    private static final int STREAM_BUFFER_SIZE = 128 * 1024;
+
     private final PDFExportService pdfExportService;
 
     /**
      * POST /api/export/application/pdf : Export application details as PDF
      *
-     * @param request the ApplicationPDFRequest containing application data and
-     *                labels
-     * @return the PDF file as downloadable attachment
+     * Application PDFs can span many pages, so the PDF is streamed to the response
+     * as it is rendered instead of being buffered. The response is only committed once
+     * the first {@value #STREAM_BUFFER_SIZE} bytes have been rendered; a failure before
+     * that resets it and is mapped to an error response, a later one aborts the response.
+     *
+     * @param request  the ApplicationPDFRequest containing application data and
+     *                 labels
+     * @param response the HTTP response the PDF is written to as downloadable attachment
+     * @throws IOException if an I/O error occurs while writing to the response
      */
+    @ApiResponses(
+        {
+            @ApiResponse(
+                responseCode = "200",
+                description = "PDF file of the application",
+                content = @Content(mediaType = "application/pdf", schema = @Schema(type = "string", format = "binary"))
+            ),
+        }
+    )
     @Authenticated
     @PostMapping(value = "/application/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<Resource> exportApplicationToPDF(@RequestBody ApplicationPDFRequest request) {
+    public void exportApplicationToPDF(@RequestBody ApplicationPDFRequest request, HttpServletResponse response) throws IOException {
         log.info("POST /api/export/application/pdf");
-        Resource pdf = pdfExportService.exportApplicationToPDF(request.application(), request.labels());
         String filename = pdfExportService.generateApplicationFilename(
             request.application().jobTitle(),
             request.labels().get("application")
         );
 
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-            .contentType(MediaType.APPLICATION_PDF)
-            .body(pdf);
+        response.setBufferSize(STREAM_BUFFER_SIZE);
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        try {
+            pdfExportService.exportApplicationToPDF(request.application(), request.labels(), response.getOutputStream());
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                // Nothing has been sent yet: drop the PDF headers and partial content, so the error is reported instead
+                response.reset();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -55,19 +88,21 @@ public class PDFExportResource {
      *
      * @param id     the job ID
      * @param labels translation labels for PDF content
-     * @return the PDF file as downloadable attachment
+     * @return the PDF file as downloadable attachment, with the ETag of the rendering
      */
     @Public
     @PostMapping(value = "/job/{id}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
     public ResponseEntity<Resource> exportJobToPDF(@PathVariable UUID id, @RequestBody Map<String, String> labels) {
         log.info("POST /api/export/job/{}/pdf", id);
-        Resource pdf = pdfExportService.exportJobToPDF(id, labels);
+        JobPdfCache.CachedPdf pdf = pdfExportService.exportJobToPDF(id, labels);
         String filename = pdfExportService.generateJobFilename(id, labels.get("jobPdfEnding"));
 
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .eTag(pdf.eTag())
+            .contentLength(pdf.content().length)
             .contentType(MediaType.APPLICATION_PDF)
-            .body(pdf);
+            .body(new ByteArrayResource(pdf.content()));
     }
 
     /**
@@ -0,0 +1,9 @@
+package de.tum.cit.aet.evaluation.constants;
+
+/**
+ * Direction in which the evaluation list is traversed starting from an {@code ApplicationCursor}.
+ */
+public enum SeekDirection {
+    NEXT,
+    PREVIOUS,
+}
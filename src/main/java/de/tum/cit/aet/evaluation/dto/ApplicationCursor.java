@@ -0,0 +1,106 @@
+package de.tum.cit.aet.evaluation.dto;
+
+import de.tum.cit.aet.application.constants.ApplicationState;
+import de.tum.cit.aet.application.domain.Application;
+import de.tum.cit.aet.core.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset cursor pointing at one application of the sorted evaluation list.
+ * <p>
+ * The cursor stores the application's value of the active sort key together with its ID
+ * (the tie-breaker of every evaluation sort order). This tuple identifies the position of the
+ * application in the filtered list, so neighbours can be fetched with a bounded seek query
+ * instead of counting all rows in front of it. Clients receive the cursor as an opaque string.
+ *
+ * @param sortBy        the API sort field the cursor was created for, or {@code null} if unsorted
+ * @param sortValue     the application's value of the sort key (nullable)
+ * @param applicationId the ID of the application
+ */
+public record ApplicationCursor(String sortBy, Object sortValue, UUID applicationId) {
+    private static final String NULL_PART = "~";
+    private static final String SEPARATOR = ".";
+
+    /**
+     * Creates the cursor of the given application for the given sort field.
+     *
+     * @param application the application the cursor points at
+     * @param sortBy      the API sort field ("name", "appliedAt", "status", "job"), or {@code null} if unsorted
+     * @return the cursor of the application
+     */
+    public static ApplicationCursor of(Application application, String sortBy) {
+        Object sortValue = sortBy == null
+            ? null
+            : switch (sortBy) {
+                case "name" -> application.getApplicant().getUser().getLastName();
+                case "appliedAt" -> application.getAppliedAt();
+                case "status" -> application.getState();
+                case "job" -> application.getJob().getTitle();
+                default -> null;
+            };
+        return new ApplicationCursor(sortBy, sortValue, application.getApplicationId());
+    }
+
+    /**
+     * Encodes this cursor into a URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        return encodePart(sortBy) + SEPARATOR + encodePart(sortValue == null ? null : sortValue.toString()) + SEPARATOR + applicationId;
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor         the encoded cursor
+     * @param expectedSortBy the API sort field of the current request, or {@code null} if unsorted
+     * @return the decoded cursor
+     * @throws BadRequestException if the cursor is malformed or was created for a different sort field
+     */
+    public static ApplicationCursor decode(String cursor, String expectedSortBy) {
+        String[] parts = cursor == null ? new String[0] : cursor.split("\\.", -1);
+        if (parts.length != 3) {
+            throw new BadRequestException("Invalid application cursor");
+        }
+        try {
+            String sortBy = decodePart(parts[0]);
+            if (!Objects.equals(sortBy, expectedSortBy)) {
+                throw new BadRequestException("Application cursor does not match the requested sort order");
+            }
+            return new ApplicationCursor(sortBy, parseSortValue(sortBy, decodePart(parts[1])), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid application cursor");
+        }
+    }
+
+    private static Object parseSortValue(String sortBy, String rawValue) {
+        if (rawValue == null || sortBy == null) {
+            return null;
+        }
+        return switch (sortBy) {
+            case "appliedAt" -> LocalDateTime.parse(rawValue);
+            case "status" -> ApplicationState.valueOf(rawValue);
+            default -> rawValue;
+        };
+    }
+
+    private static String encodePart(String value) {
+        if (value == null) {
+            return NULL_PART;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String part) {
+        if (NULL_PART.equals(part)) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+}
@@ -16,7 +16,8 @@ public record ApplicationEvaluationDetailDTO(
     UUID jobId,
     LocalDateTime appliedAt,
     Double averageRating,
-    Integer ratingCount
+    Integer ratingCount,
+    String cursor
 ) {
     /**
      * Creates an {@link ApplicationEvaluationDetailDTO} from the given
@@ -34,6 +35,7 @@ public record ApplicationEvaluationDetailDTO(
             job.getJobId(),
             application.getAppliedAt(),
             null,
+            null,
             null
         );
     }
@@ -51,7 +53,26 @@ public record ApplicationEvaluationDetailDTO(
             this.jobId,
             this.appliedAt,
             summary.average(),
-            summary.count()
+            summary.count(),
+            this.cursor
+        );
+    }
+
+    /**
+     * Creates a new DTO carrying the given keyset cursor.
+     *
+     * @param cursor the encoded {@link ApplicationCursor} of the application
+     * @return a new DTO with the cursor applied
+     */
+    public ApplicationEvaluationDetailDTO withCursor(String cursor) {
+        return new ApplicationEvaluationDetailDTO(
+            this.applicationDetailDTO,
+            this.professor,
+            this.jobId,
+            this.appliedAt,
+            this.averageRating,
+            this.ratingCount,
+            cursor
         );
     }
 }
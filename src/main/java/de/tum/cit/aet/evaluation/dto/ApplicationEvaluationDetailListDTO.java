@@ -3,11 +3,13 @@ package de.tum.cit.aet.evaluation.dto;
 import de.tum.cit.aet.application.domain.Application;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 public record ApplicationEvaluationDetailListDTO(
     List<ApplicationEvaluationDetailDTO> applications,
-    long totalRecords,
+    Long totalRecords,
     Integer currentIndex,
     Integer windowIndex
 ) {
@@ -17,6 +19,7 @@ public record ApplicationEvaluationDetailListDTO(
      *
      * @param applications the collection of {@link Application} entities to convert
      * @param totalRecords the total number of matching records in the dataset
+     *                     (optional, may be {@code null})
      * @param currentIndex the index of the current application in the full dataset
      *                     (optional, may be {@code null})
      * @param windowIndex  the index of the current application within the returned
@@ -26,11 +29,11 @@ public record ApplicationEvaluationDetailListDTO(
      */
     public static ApplicationEvaluationDetailListDTO fromApplications(
         Collection<Application> applications,
-        long totalRecords,
+        Long totalRecords,
         Integer currentIndex,
         Integer windowIndex
     ) {
-        return fromApplications(applications, totalRecords, currentIndex, windowIndex, null);
+        return fromApplications(applications, totalRecords, currentIndex, windowIndex, null, null);
     }
 
     /**
@@ -40,29 +43,38 @@ public record ApplicationEvaluationDetailListDTO(
      * @param applications      the collection of {@link Application} entities to
      *                          convert
      * @param totalRecords      the total number of matching records in the dataset
+     *                          (optional, may be {@code null})
      * @param currentIndex      the index of the current application in the full
      *                          dataset (optional, may be {@code null})
      * @param windowIndex       the index of the current application within the
      *                          returned window (optional, may be {@code null})
-     * @param ratingCalculator  a function that produces the {@link RatingSummary}
-     *                          for each application (optional)
+     * @param ratingSummaries   the precomputed {@link RatingSummary} per
+     *                          application ID (optional); applications missing
+     *                          from the map get an empty summary
+     * @param cursorFactory     a function that produces the keyset
+     *                          {@link ApplicationCursor} of each application
+     *                          (optional)
      * @return a new {@link ApplicationEvaluationDetailListDTO} containing the
      *         converted details and metadata
      */
     public static ApplicationEvaluationDetailListDTO fromApplications(
         Collection<Application> applications,
-        long totalRecords,
+        Long totalRecords,
         Integer currentIndex,
         Integer windowIndex,
-        Function<Application, RatingSummary> ratingCalculator
+        Map<UUID, RatingSummary> ratingSummaries,
+        Function<Application, ApplicationCursor> cursorFactory
     ) {
         return new ApplicationEvaluationDetailListDTO(
             applications
                 .stream()
                 .map(app -> {
                     ApplicationEvaluationDetailDTO dto = ApplicationEvaluationDetailDTO.fromApplication(app);
-                    if (ratingCalculator != null) {
-                        return dto.withRatingSummary(ratingCalculator.apply(app));
+                    if (ratingSummaries != null) {
+                        dto = dto.withRatingSummary(ratingSummaries.getOrDefault(app.getApplicationId(), RatingSummary.empty()));
+                    }
+                    if (cursorFactory != null) {
+                        dto = dto.withCursor(cursorFactory.apply(app).encode());
                     }
                     return dto;
                 })
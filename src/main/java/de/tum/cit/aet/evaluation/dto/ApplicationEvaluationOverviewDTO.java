@@ -1,11 +1,11 @@
 package de.tum.cit.aet.evaluation.dto;
 
 import de.tum.cit.aet.application.constants.ApplicationState;
-import de.tum.cit.aet.application.domain.Application;
-import de.tum.cit.aet.job.domain.Job;
-import de.tum.cit.aet.usermanagement.domain.Applicant;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public record ApplicationEvaluationOverviewDTO(
     UUID applicationId,
@@ -16,23 +16,45 @@ public record ApplicationEvaluationOverviewDTO(
     LocalDateTime appliedAt
 ) {
     /**
-     * Creates an {@link ApplicationEvaluationOverviewDTO} from the given {@link Application} entity.
-     * Combines application, applicant, and job details into a single overview DTO.
+     * Creates an {@link ApplicationEvaluationOverviewDTO} from the columns selected by the
+     * overview projection query.
      *
-     * @param application the {@link Application} entity to convert
-     * @return a new {@link ApplicationEvaluationOverviewDTO} populated with overview data
+     * @param applicationId       the ID of the application
+     * @param avatar              the applicant's avatar URL (the original profile picture)
+     * @param avatarVariantWidths the stored variant widths of the applicant's profile picture
+     * @param firstName           the applicant's first name, may be {@code null}
+     * @param lastName            the applicant's last name, may be {@code null}
+     * @param state               the application state
+     * @param jobName             the title of the job applied for
+     * @param appliedAt           the time the application was sent
      */
-    public static ApplicationEvaluationOverviewDTO fromApplication(Application application) {
-        Applicant applicant = application.getApplicant();
-        Job job = application.getJob();
-
-        return new ApplicationEvaluationOverviewDTO(
-            application.getApplicationId(),
-            applicant.getUser().getAvatar(),
-            applicant.getUser().getFirstName() + " " + applicant.getUser().getLastName(),
-            application.getState(),
-            job.getTitle(),
-            application.getAppliedAt()
+    public ApplicationEvaluationOverviewDTO(
+        UUID applicationId,
+        String avatar,
+        String avatarVariantWidths,
+        String firstName,
+        String lastName,
+        ApplicationState state,
+        String jobName,
+        LocalDateTime appliedAt
+    ) {
+        this(
+            applicationId,
+            ImageVariantUtil.avatarOf(avatar, avatarVariantWidths),
+            fullName(firstName, lastName),
+            state,
+            jobName,
+            appliedAt
         );
     }
+
+    /**
+     * Joins the given name parts with a space, skipping missing ones. The projection reads the
+     * names through a left join, so they are {@code null} for applicants without a user.
+     */
+    private static String fullName(String firstName, String lastName) {
+        return Stream.of(firstName, lastName)
+            .filter(part -> part != null && !part.isBlank())
+            .collect(Collectors.joining(" "));
+    }
 }
@@ -0,0 +1,13 @@
+package de.tum.cit.aet.evaluation.dto;
+
+import java.util.UUID;
+
+/**
+ * Projection record for the summed professor/employee Likert ratings of one application.
+ * Used by the grouped JPQL query that aggregates ratings for a whole page of applications.
+ *
+ * @param applicationId the ID of the rated application
+ * @param ratingSum     the sum of all non-null ratings
+ * @param ratingCount   the number of non-null ratings
+ */
+public record RatingAggregateDTO(UUID applicationId, long ratingSum, long ratingCount) {}
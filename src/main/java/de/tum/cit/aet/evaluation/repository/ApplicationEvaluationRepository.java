@@ -1,8 +1,10 @@
 package de.tum.cit.aet.evaluation.repository;
 
+import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.evaluation.repository.custom.ApplicationEvaluationRepositoryCustom;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.Modifying;
@@ -47,4 +49,26 @@ public interface ApplicationEvaluationRepository extends TumApplyJpaRepository<A
         """
     )
     List<String> findAllUniqueJobNames(@Param("researchGroupId") UUID researchGroupId);
+
+    /**
+     * Returns the applications of a job in the given states together with their
+     * applicants and reviews, ordered by applicant name.
+     *
+     * @param jobId  the UUID of the job
+     * @param states the application states to include
+     * @return the matching applications
+     */
+    @Query(
+        """
+            SELECT a
+            FROM Application a
+            JOIN FETCH a.applicant ap
+            JOIN FETCH ap.user u
+            LEFT JOIN FETCH a.applicationReview
+            WHERE a.job.jobId = :jobId
+            AND a.state IN :states
+            ORDER BY u.lastName, u.firstName, a.applicationId
+        """
+    )
+    List<Application> findAllByJobIdAndStates(@Param("jobId") UUID jobId, @Param("states") Collection<ApplicationState> states);
 }
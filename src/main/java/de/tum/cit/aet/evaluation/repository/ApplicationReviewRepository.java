@@ -25,5 +25,5 @@ public interface ApplicationReviewRepository extends TumApplyJpaRepository<Appli
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM ApplicationReview ar WHERE ar.application.applicationId IN :applicationIds")
-    void deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
 }
@@ -31,5 +31,5 @@ public interface InternalCommentRepository extends TumApplyJpaRepository<Interna
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM InternalComment ic WHERE ic.application.applicationId IN :applicationIds")
-    void deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
 }
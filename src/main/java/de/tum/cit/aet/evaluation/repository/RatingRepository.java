@@ -3,7 +3,9 @@ package de.tum.cit.aet.evaluation.repository;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.evaluation.domain.Rating;
+import de.tum.cit.aet.evaluation.dto.RatingAggregateDTO;
 import de.tum.cit.aet.usermanagement.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,13 +26,35 @@ public interface RatingRepository extends TumApplyJpaRepository<Rating, UUID> {
     )
     Set<Rating> findByApplicationApplicationId(@Param("applicationId") UUID applicationId);
 
+    /**
+     * Sums and counts the non-null ratings of the given applications in a single grouped query.
+     * Applications without any rating are not contained in the result.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return one aggregate per rated application
+     */
+    @Query(
+        """
+            SELECT new de.tum.cit.aet.evaluation.dto.RatingAggregateDTO(
+                r.application.applicationId,
+                SUM(r.rating),
+                COUNT(r.rating)
+            )
+            FROM Rating r
+            WHERE r.application.applicationId IN :applicationIds
+            AND r.rating IS NOT NULL
+            GROUP BY r.application.applicationId
+        """
+    )
+    List<RatingAggregateDTO> aggregateByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
     void deleteByApplication(Application application);
 
     void deleteByFromAndApplicationApplicationId(User from, UUID applicationId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Rating r WHERE r.application.applicationId IN :applicationIds")
-    void deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
 
     Optional<Rating> findByFromAndApplicationApplicationId(User from, UUID applicationId);
 
@@ -2,9 +2,12 @@ package de.tum.cit.aet.evaluation.repository.custom;
 
 import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.application.domain.Application;
+import de.tum.cit.aet.evaluation.dto.ApplicationCursor;
+import de.tum.cit.aet.evaluation.dto.ApplicationEvaluationOverviewDTO;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,10 +21,37 @@ public interface ApplicationEvaluationRepositoryCustom {
         String searchQuery
     );
 
-    long findIndexOfApplication(
+    List<ApplicationEvaluationOverviewDTO> findApplicationOverviews(
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
+        Pageable pageable,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    );
+
+    Optional<Application> findApplication(
         UUID applicationId,
         UUID researchGroupId,
         Collection<ApplicationState> states,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    );
+
+    List<Application> findApplicationsAdjacentTo(
+        ApplicationCursor cursor,
+        boolean backward,
+        int limit,
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
+        Sort sort,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    );
+
+    long countApplicationsBefore(
+        ApplicationCursor cursor,
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
         Sort sort,
         Map<String, List<?>> dynamicFilters,
         String searchQuery
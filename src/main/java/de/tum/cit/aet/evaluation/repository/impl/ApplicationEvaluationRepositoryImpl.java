@@ -4,7 +4,10 @@ import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.application.domain.Application_;
 import de.tum.cit.aet.core.util.CriteriaUtils;
-import de.tum.cit.aet.core.util.SqlQueryUtil;
+import de.tum.cit.aet.evaluation.domain.ApplicationReview;
+import de.tum.cit.aet.evaluation.domain.ApplicationReview_;
+import de.tum.cit.aet.evaluation.dto.ApplicationCursor;
+import de.tum.cit.aet.evaluation.dto.ApplicationEvaluationOverviewDTO;
 import de.tum.cit.aet.evaluation.repository.custom.ApplicationEvaluationRepositoryCustom;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.domain.Job_;
@@ -26,18 +29,6 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
     @PersistenceContext
     private EntityManager em;
 
-    private static final Map<String, String> FILTER_COLUMNS = Map.ofEntries(
-        Map.entry("state", "a.application_state"),
-        Map.entry("job.jobId", "j.job_id")
-    );
-
-    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
-        Map.entry("name", "u.last_name"),
-        Map.entry("appliedAt", "a.applied_at"),
-        Map.entry("status", "a.application_state"),
-        Map.entry("job", "j.title")
-    );
-
     private static final Map<String, String> SORT_FIELD_MAPPING = Map.ofEntries(
         Map.entry("name", "applicant.user.lastName"),
         Map.entry("appliedAt", "appliedAt"),
@@ -45,6 +36,14 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
         Map.entry("job", "job.title")
     );
 
+    /**
+     * Joins of the to-one associations used for filtering, sorting and rendering.
+     *
+     * @param job  the join to the {@link Job} entity
+     * @param user the join to the applicant's {@link User} entity
+     */
+    private record ApplicationJoins(Join<Application, Job> job, Join<Applicant, User> user) {}
+
     /**
      * Retrieves a paginated list of {@link Application} entities for a given
      * research group,
@@ -63,14 +62,12 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
         CriteriaQuery<Application> cq = cb.createQuery(Application.class);
 
         Root<Application> root = cq.from(Application.class);
-        Join<Application, Job> jobJoin = root.join(Application_.JOB, JoinType.INNER);
-        Join<Application, Applicant> applicantJoin = root.join(Application_.APPLICANT, JoinType.LEFT);
-        Join<Applicant, User> userJoin = applicantJoin.join(Applicant_.USER, JoinType.LEFT);
+        ApplicationJoins joins = fetchDetailGraph(root);
 
-        List<Predicate> predicates = buildCommonPredicates(cb, root, jobJoin, researchGroupId, states, dynamicFilters, searchQuery);
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
 
         Sort mappedSort = mapSortFields(pageable.getSort());
-        List<Order> orders = buildCustomSortOrders(cb, root, jobJoin, userJoin, mappedSort);
+        List<Order> orders = buildCustomSortOrders(cb, root, joins.job(), joins.user(), mappedSort, false);
 
         cq.select(root).where(predicates.toArray(new Predicate[0])).orderBy(orders);
 
@@ -80,6 +77,146 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
         return query.getResultList();
     }
 
+    /**
+     * Retrieves a paginated list of {@link ApplicationEvaluationOverviewDTO} projections for a
+     * given research group, filtered and ordered like {@link #findApplications}. Only the columns
+     * rendered by the overview list are selected, so a page is loaded in a single statement
+     * without materializing the application entity graph.
+     */
+    @Override
+    public List<ApplicationEvaluationOverviewDTO> findApplicationOverviews(
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
+        Pageable pageable,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    ) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ApplicationEvaluationOverviewDTO> cq = cb.createQuery(ApplicationEvaluationOverviewDTO.class);
+
+        Root<Application> root = cq.from(Application.class);
+        Join<Application, Job> jobJoin = root.join(Application_.JOB, JoinType.INNER);
+        Join<Application, Applicant> applicantJoin = root.join(Application_.APPLICANT, JoinType.LEFT);
+        Join<Applicant, User> userJoin = applicantJoin.join(Applicant_.USER, JoinType.LEFT);
+        ApplicationJoins joins = new ApplicationJoins(jobJoin, userJoin);
+
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
+
+        Sort mappedSort = mapSortFields(pageable.getSort());
+        List<Order> orders = buildCustomSortOrders(cb, root, jobJoin, userJoin, mappedSort, false);
+
+        cq
+            .select(
+                cb.construct(
+                    ApplicationEvaluationOverviewDTO.class,
+                    root.get(Application_.APPLICATION_ID),
+                    userJoin.get(User_.AVATAR),
+                    userJoin.get(User_.AVATAR_VARIANT_WIDTHS),
+                    userJoin.get(User_.FIRST_NAME),
+                    userJoin.get(User_.LAST_NAME),
+                    root.get(Application_.STATE),
+                    jobJoin.get(Job_.TITLE),
+                    root.get(Application_.appliedAt)
+                )
+            )
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(orders);
+
+        TypedQuery<ApplicationEvaluationOverviewDTO> query = em.createQuery(cq);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        return query.getResultList();
+    }
+
+    /**
+     * Retrieves a single {@link Application} if it belongs to the given research group
+     * and matches the states, dynamic filters and search query.
+     */
+    @Override
+    public Optional<Application> findApplication(
+        UUID applicationId,
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    ) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Application> cq = cb.createQuery(Application.class);
+
+        Root<Application> root = cq.from(Application.class);
+        ApplicationJoins joins = fetchDetailGraph(root);
+
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
+        predicates.add(cb.equal(root.get(Application_.APPLICATION_ID), applicationId));
+
+        cq.select(root).where(predicates.toArray(new Predicate[0]));
+
+        return em.createQuery(cq).setMaxResults(1).getResultStream().findFirst();
+    }
+
+    /**
+     * Retrieves up to {@code limit} applications directly following (or preceding) the
+     * cursor in the given sort order with a keyset (seek) query. The result is always
+     * returned in display order, i.e. preceding applications are reversed back.
+     */
+    @Override
+    public List<Application> findApplicationsAdjacentTo(
+        ApplicationCursor cursor,
+        boolean backward,
+        int limit,
+        UUID researchGroupId,
+        Collection<ApplicationState> states,
+        Sort sort,
+        Map<String, List<?>> dynamicFilters,
+        String searchQuery
+    ) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Application> cq = cb.createQuery(Application.class);
+
+        Root<Application> root = cq.from(Application.class);
+        ApplicationJoins joins = fetchDetailGraph(root);
+
+        Sort mappedSort = mapSortFields(sort);
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
+        predicates.add(buildSeekPredicate(cb, root, joins.job(), joins.user(), mappedSort, cursor, backward));
+
+        cq
+            .select(root)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(buildCustomSortOrders(cb, root, joins.job(), joins.user(), mappedSort, backward));
+
+        List<Application> applications = new ArrayList<>(em.createQuery(cq).setMaxResults(limit).getResultList());
+        if (backward) {
+            Collections.reverse(applications);
+        }
+        return applications;
+    }
+
+    /**
+     * Fetch-joins the to-one associations rendered by the evaluation detail view (the applicant's
+     * user, the job with its supervising professor and research group, and the review) into the
+     * query. Without this, Hibernate loads each of these eager associations with a follow-up
+     * select per row. To-one fetches do not multiply rows, so pagination stays in the database.
+     *
+     * @param root the root {@link Application} entity in the criteria query
+     * @return the fetched job and user joins, usable for filtering and sorting
+     */
+    @SuppressWarnings("unchecked")
+    private ApplicationJoins fetchDetailGraph(Root<Application> root) {
+        Fetch<Application, Job> jobFetch = root.fetch(Application_.JOB, JoinType.INNER);
+        jobFetch.fetch(Job_.SUPERVISING_PROFESSOR, JoinType.INNER);
+        jobFetch.fetch(Job_.RESEARCH_GROUP, JoinType.INNER);
+
+        Fetch<Application, Applicant> applicantFetch = root.fetch(Application_.APPLICANT, JoinType.LEFT);
+        Fetch<Applicant, User> userFetch = applicantFetch.fetch(Applicant_.USER, JoinType.LEFT);
+
+        Fetch<Application, ApplicationReview> reviewFetch = root.fetch(Application_.APPLICATION_REVIEW, JoinType.LEFT);
+        reviewFetch.fetch(ApplicationReview_.REVIEWED_BY, JoinType.LEFT);
+
+        // Hibernate's fetches are joins as well, which lets filters and sort orders reuse them
+        return new ApplicationJoins((Join<Application, Job>) jobFetch, (Join<Applicant, User>) userFetch);
+    }
+
     /**
      * This method transforms sort fields from the API layer (e.g., "name", "job")
      * to the actual entity relationship paths (e.g., "applicant.user.lastName",
@@ -120,11 +257,12 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
      * @param root          the root {@link Application} entity in the criteria
      *                      query
      * @param jobJoin       the join to the {@link Job} entity
-     * @param applicantJoin the join to the {@link Applicant} entity
      * @param userJoin      the join to the {@link User} entity through the
      *                      applicant relationship
      * @param sort          the {@link Sort} specification containing the mapped
      *                      entity property paths
+     * @param reversed      whether every order (including the ID tie-breaker) is
+     *                      inverted, as needed when seeking backwards
      * @return a list of {@link Order} objects for use in the criteria query's
      *         orderBy clause
      */
@@ -133,42 +271,101 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
         Root<Application> root,
         Join<Application, Job> jobJoin,
         Join<Applicant, User> userJoin,
-        Sort sort
+        Sort sort,
+        boolean reversed
     ) {
         List<Order> orders = new ArrayList<>();
 
         for (Sort.Order sortOrder : sort) {
-            String property = sortOrder.getProperty();
-            boolean ascending = sortOrder.isAscending();
-
-            Expression<?> sortExpression;
-
-            switch (property) {
-                case "applicant.user.lastName":
-                    sortExpression = userJoin.get(User_.LAST_NAME);
-                    break;
-                case "job.title":
-                    sortExpression = jobJoin.get(Job_.TITLE);
-                    break;
-                case "appliedAt":
-                    sortExpression = root.get(Application_.appliedAt);
-                    break;
-                case "state":
-                    sortExpression = root.get(Application_.STATE);
-                    break;
-                default:
-                    sortExpression = root.get(Application_.CREATED_AT);
-                    break;
-            }
+            Expression<?> sortExpression = resolveSortExpression(sortOrder.getProperty(), root, jobJoin, userJoin);
+            boolean ascending = sortOrder.isAscending() != reversed;
 
             Order order = ascending ? cb.asc(sortExpression) : cb.desc(sortExpression);
             orders.add(order);
         }
 
-        orders.add(cb.asc(root.get(Application_.APPLICATION_ID)));
+        Expression<?> idExpression = root.get(Application_.APPLICATION_ID);
+        orders.add(reversed ? cb.desc(idExpression) : cb.asc(idExpression));
         return orders;
     }
 
+    /**
+     * Resolves the JPA expression of a mapped sort property using the pre-established joins.
+     *
+     * @param property the mapped entity property path
+     * @param root     the root {@link Application} entity in the criteria query
+     * @param jobJoin  the join to the {@link Job} entity
+     * @param userJoin the join to the {@link User} entity through the applicant relationship
+     * @return the expression to sort and seek by
+     */
+    private Expression<?> resolveSortExpression(
+        String property,
+        Root<Application> root,
+        Join<Application, Job> jobJoin,
+        Join<Applicant, User> userJoin
+    ) {
+        return switch (property) {
+            case "applicant.user.lastName" -> userJoin.get(User_.LAST_NAME);
+            case "job.title" -> jobJoin.get(Job_.TITLE);
+            case "appliedAt" -> root.get(Application_.appliedAt);
+            case "state" -> root.get(Application_.STATE);
+            default -> root.get(Application_.CREATED_AT);
+        };
+    }
+
+    /**
+     * Builds the keyset predicate selecting all applications that come strictly after
+     * (or, if {@code backward}, strictly before) the cursor in the given sort order:
+     * {@code key > value OR (key = value AND id > cursorId)}, with the comparisons
+     * flipped for descending traversal.
+     * <p>
+     * Only the first sort order is considered, matching {@link de.tum.cit.aet.core.dto.SortDTO}
+     * which yields at most one. NULL keys are placed the way MySQL orders them: first in
+     * ascending and last in descending order.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate buildSeekPredicate(
+        CriteriaBuilder cb,
+        Root<Application> root,
+        Join<Application, Job> jobJoin,
+        Join<Applicant, User> userJoin,
+        Sort sort,
+        ApplicationCursor cursor,
+        boolean backward
+    ) {
+        Expression<UUID> idExpression = root.get(Application_.APPLICATION_ID);
+        Predicate idFollows = backward
+            ? cb.lessThan(idExpression, cursor.applicationId())
+            : cb.greaterThan(idExpression, cursor.applicationId());
+
+        Sort.Order sortOrder = sort.stream().findFirst().orElse(null);
+        if (sortOrder == null) {
+            return idFollows;
+        }
+
+        Expression<Comparable> keyExpression = (Expression<Comparable>) resolveSortExpression(
+            sortOrder.getProperty(),
+            root,
+            jobJoin,
+            userJoin
+        );
+        Comparable value = (Comparable) cursor.sortValue();
+        boolean ascending = sortOrder.isAscending() != backward;
+
+        Predicate keyFollows;
+        Predicate keyEquals;
+        if (value == null) {
+            keyFollows = ascending ? cb.isNotNull(keyExpression) : cb.disjunction();
+            keyEquals = cb.isNull(keyExpression);
+        } else {
+            keyFollows = ascending
+                ? cb.greaterThan(keyExpression, value)
+                : cb.or(cb.lessThan(keyExpression, value), cb.isNull(keyExpression));
+            keyEquals = cb.equal(keyExpression, value);
+        }
+        return cb.or(keyFollows, cb.and(keyEquals, idFollows));
+    }
+
     /**
      * Counts the number of applications for a given research group, filtered by
      * application states
@@ -186,8 +383,10 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
 
         Root<Application> root = cq.from(Application.class);
         Join<Application, Job> jobJoin = root.join(Application_.JOB, JoinType.INNER);
+        Join<Application, Applicant> applicantJoin = root.join(Application_.APPLICANT, JoinType.LEFT);
+        ApplicationJoins joins = new ApplicationJoins(jobJoin, applicantJoin.join(Applicant_.USER, JoinType.LEFT));
 
-        List<Predicate> predicates = buildCommonPredicates(cb, root, jobJoin, researchGroupId, states, dynamicFilters, searchQuery);
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
 
         cq.select(cb.count(root)).where(predicates.toArray(new Predicate[0]));
 
@@ -195,87 +394,52 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
     }
 
     /**
-     * Finds the index (0-based) of a specific application in a dynamically filtered
-     * and sorted list
-     * of applications for a given research group.
+     * Counts the applications preceding the cursor in the given sort order, i.e. the
+     * 0-based index of the application the cursor points at.
      */
     @Override
-    public long findIndexOfApplication(
-        UUID applicationId,
+    public long countApplicationsBefore(
+        ApplicationCursor cursor,
         UUID researchGroupId,
         Collection<ApplicationState> states,
         Sort sort,
         Map<String, List<?>> dynamicFilters,
         String searchQuery
     ) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("groupId", researchGroupId);
-        params.put("states", states.stream().map(ApplicationState::toString).toList());
-        params.put("applicationId", applicationId);
-
-        String orderBy = SqlQueryUtil.buildOrderByClause(sort, SORT_COLUMNS, "a.applied_at", "a.application_id");
-
-        StringBuilder sql = new StringBuilder(
-            """
-            WITH filtered_apps AS (
-                SELECT a.*, ROW_NUMBER() OVER (%s) AS rn
-                FROM applications a
-                JOIN jobs j ON j.job_id = a.job_id
-                JOIN users u ON u.user_id = a.applicant_id
-                WHERE j.research_group_id = :groupId
-                  AND a.application_state IN (:states)
-            """.formatted(orderBy)
-        );
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 
-        if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-            String searchPattern = "%" + searchQuery.trim().toLowerCase() + "%";
-            params.put("searchPattern", searchPattern);
-            sql.append(
-                """
-                  AND (
-                    LOWER(u.first_name) LIKE :searchPattern OR
-                    LOWER(u.last_name) LIKE :searchPattern OR
-                    LOWER(CONCAT(u.first_name, ' ', u.last_name)) LIKE :searchPattern OR
-                    LOWER(j.title) LIKE :searchPattern
-                  )
-                """
-            );
-        }
+        Root<Application> root = cq.from(Application.class);
+        Join<Application, Job> jobJoin = root.join(Application_.JOB, JoinType.INNER);
+        Join<Application, Applicant> applicantJoin = root.join(Application_.APPLICANT, JoinType.LEFT);
+        Join<Applicant, User> userJoin = applicantJoin.join(Applicant_.USER, JoinType.LEFT);
+        ApplicationJoins joins = new ApplicationJoins(jobJoin, userJoin);
 
-        SqlQueryUtil.appendDynamicFilters(sql, FILTER_COLUMNS, dynamicFilters, params);
+        List<Predicate> predicates = buildCommonPredicates(cb, root, joins, researchGroupId, states, dynamicFilters, searchQuery);
+        predicates.add(buildSeekPredicate(cb, root, jobJoin, userJoin, mapSortFields(sort), cursor, true));
 
-        sql.append(
-            """
-                )
-                SELECT rn
-                FROM filtered_apps
-                WHERE application_id = :applicationId
-            """
-        );
+        cq.select(cb.count(root)).where(predicates.toArray(new Predicate[0]));
 
-        Query q = em.createNativeQuery(sql.toString());
-        SqlQueryUtil.bindParameters(q, params);
-        try {
-            return ((Number) q.getSingleResult()).longValue() - 1; // 0-based index
-        } catch (Exception e) {
-            throw new EntityNotFoundException("Application not found");
-        }
+        return em.createQuery(cq).getSingleResult();
     }
 
     /**
      * Builds a list of common predicates for filtering applications based on
      * research group,
      * application states, and dynamic filters, and an optional search query.
+     * The predicates use the query's existing job and user joins, so searching
+     * does not add a second join of the same associations.
      */
     private List<Predicate> buildCommonPredicates(
         CriteriaBuilder cb,
         Root<Application> root,
-        Join<Application, Job> jobJoin,
+        ApplicationJoins joins,
         UUID researchGroupId,
         Collection<ApplicationState> states,
         Map<String, List<?>> dynamicFilters,
         String searchQuery
     ) {
+        Join<Application, Job> jobJoin = joins.job();
         List<Predicate> predicates = new ArrayList<>();
 
         predicates.add(cb.equal(jobJoin.get(Job_.RESEARCH_GROUP).get(ResearchGroup_.RESEARCH_GROUP_ID), researchGroupId));
@@ -288,8 +452,7 @@ public class ApplicationEvaluationRepositoryImpl implements ApplicationEvaluatio
             String normalizedQuery = searchQuery.trim().toLowerCase();
             String searchPattern = "%" + normalizedQuery.toLowerCase() + "%";
 
-            Join<Application, Applicant> applicantJoin = root.join(Application_.APPLICANT);
-            Join<Applicant, User> userJoin = applicantJoin.join(Applicant_.USER);
+            Join<Applicant, User> userJoin = joins.user();
 
             List<Predicate> searchPredicates = new ArrayList<>();
 
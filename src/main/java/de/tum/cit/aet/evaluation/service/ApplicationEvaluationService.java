@@ -11,25 +11,30 @@ import de.tum.cit.aet.core.dto.SortDTO;
 import de.tum.cit.aet.core.exception.BadRequestException;
 import de.tum.cit.aet.core.exception.EntityNotFoundException;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
+import de.tum.cit.aet.core.service.StoredZipWriter;
 import de.tum.cit.aet.core.service.ZipExportService;
 import de.tum.cit.aet.core.util.FileUtil;
 import de.tum.cit.aet.core.util.OffsetPageRequest;
+import de.tum.cit.aet.evaluation.constants.SeekDirection;
 import de.tum.cit.aet.evaluation.domain.ApplicationReview;
-import de.tum.cit.aet.evaluation.domain.Rating;
 import de.tum.cit.aet.evaluation.dto.AcceptDTO;
+import de.tum.cit.aet.evaluation.dto.ApplicationCursor;
 import de.tum.cit.aet.evaluation.dto.ApplicationEvaluationDetailListDTO;
+import de.tum.cit.aet.evaluation.dto.ApplicationEvaluationOverviewDTO;
 import de.tum.cit.aet.evaluation.dto.ApplicationEvaluationOverviewListDTO;
 import de.tum.cit.aet.evaluation.dto.EvaluationFilterDTO;
+import de.tum.cit.aet.evaluation.dto.RatingAggregateDTO;
 import de.tum.cit.aet.evaluation.dto.RatingSummary;
 import de.tum.cit.aet.evaluation.dto.RejectDTO;
 import de.tum.cit.aet.evaluation.repository.ApplicationEvaluationRepository;
 import de.tum.cit.aet.evaluation.repository.ApplicationReviewRepository;
 import de.tum.cit.aet.evaluation.repository.RatingRepository;
-import de.tum.cit.aet.interview.domain.Interviewee;
-import de.tum.cit.aet.interview.domain.enumeration.AssessmentRating;
+import de.tum.cit.aet.interview.dto.IntervieweeRatingDTO;
 import de.tum.cit.aet.interview.repository.IntervieweeRepository;
 import de.tum.cit.aet.job.constants.JobState;
 import de.tum.cit.aet.job.domain.Job;
+import de.tum.cit.aet.job.repository.JobRepository;
 import de.tum.cit.aet.job.service.JobService;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.service.AsyncEmailSender;
@@ -40,24 +45,22 @@ import de.tum.cit.aet.usermanagement.domain.Applicant;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.zip.Deflater;
-import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -74,6 +77,8 @@ public class ApplicationEvaluationService {
     private final ApplicationReviewRepository applicationReviewRepository;
     private final IntervieweeRepository intervieweeRepository;
     private final ReferenceRequestService referenceRequestService;
+    private final FilteredCountCache filteredCountCache;
+    private final JobRepository jobRepository;
 
     private static final Set<ApplicationState> VIEWABLE_STATES = Set.of(
         ApplicationState.SENT,
@@ -113,6 +118,7 @@ public class ApplicationEvaluationService {
         application.setState(ApplicationState.ACCEPTED);
         setApplicationReview(application, reviewingUser, acceptDTO.message());
         applicationEvaluationRepository.save(application);
+        filteredCountCache.invalidate(application.getJob().getResearchGroup().getResearchGroupId());
 
         Job job = application.getJob();
 
@@ -158,6 +164,7 @@ public class ApplicationEvaluationService {
         application.setState(ApplicationState.REJECTED);
         setApplicationReview(application, reviewingUser, rejectDTO.reason().getValue());
         applicationEvaluationRepository.save(application);
+        filteredCountCache.invalidate(application.getJob().getResearchGroup().getResearchGroupId());
 
         if (rejectDTO.notifyApplicant()) {
             Job job = application.getJob();
@@ -213,17 +220,27 @@ public class ApplicationEvaluationService {
     ) {
         Pageable pageable = new OffsetPageRequest(offsetPageDTO.offset(), offsetPageDTO.limit(), sortDTO.toSpringSort(SORTABLE_FIELDS));
         String searchQuery = filterDTO.getSearch();
-        List<Application> applicationsPage = getApplicationsDetails(researchGroupId, pageable, filterDTO.getFilters(), searchQuery);
+        List<ApplicationEvaluationOverviewDTO> overviews = applicationEvaluationRepository.findApplicationOverviews(
+            researchGroupId,
+            VIEWABLE_STATES,
+            pageable,
+            filterDTO.getFilters(),
+            searchQuery
+        );
         long totalRecords = getTotalRecords(researchGroupId, filterDTO.getFilters(), searchQuery);
 
-        return ApplicationEvaluationOverviewListDTO.fromApplications(applicationsPage, totalRecords);
+        return new ApplicationEvaluationOverviewListDTO(overviews, totalRecords);
     }
 
     /**
      * Retrieves a window of applications centered around a specific application for
-     * the given research group,
-     * applying dynamic filters and sorting. The window size must be a positive odd
-     * integer.
+     * the given research group, applying dynamic filters and sorting.
+     * <p>
+     * The neighbours of the application are fetched with two bounded keyset (seek)
+     * queries starting at the application's sort key, so the cost does not depend on
+     * the position of the application in the list. Near the start or end of the list
+     * the window is truncated. The total record count and the absolute index of the
+     * application require counting and are only computed when requested.
      *
      * @param applicationId   the ID of the application to center the window on
      * @param windowSize      the desired size of the window (must be positive and
@@ -232,58 +249,142 @@ public class ApplicationEvaluationService {
      * @param sortDTO         the {@link SortDTO} specifying the sorting criteria
      * @param filterDTO       the {@link EvaluationFilterDTO} specifying dynamic
      *                        filters to apply
+     * @param includeTotal    whether the total record count and the index of the
+     *                        target application should be computed
      * @return a {@link ApplicationEvaluationDetailListDTO} containing the
-     *         applications in the window,
-     *         total record count, the index of the target application, and its
-     *         position in the window
-     * @throws IllegalArgumentException if the window size is not a positive odd
-     *                                  integer
+     *         applications in the window and the position of the target
+     *         application in the window; the total record count and the index
+     *         of the target application are {@code null} unless requested
+     * @throws EntityNotFoundException if the application does not match the
+     *                                 research group and filters
      */
     public ApplicationEvaluationDetailListDTO getApplicationsDetailsWindow(
         UUID applicationId,
         Integer windowSize,
         UUID researchGroupId,
         SortDTO sortDTO,
-        EvaluationFilterDTO filterDTO
+        EvaluationFilterDTO filterDTO,
+        boolean includeTotal
     ) {
         String searchQuery = filterDTO.getSearch();
+        Map<String, List<?>> filters = filterDTO.getFilters();
+        Sort sort = sortDTO.toSpringSort(SORTABLE_FIELDS);
+        String sortBy = getSortField(sort);
 
-        long totalRecords = getTotalRecords(researchGroupId, filterDTO.getFilters(), searchQuery);
+        Application target = applicationEvaluationRepository
+            .findApplication(applicationId, researchGroupId, VIEWABLE_STATES, filters, searchQuery)
+            .orElseThrow(() -> EntityNotFoundException.forId("Application", applicationId));
+        ApplicationCursor cursor = ApplicationCursor.of(target, sortBy);
+
+        // Number of items to include before and after the target application
+        int half = windowSize / 2;
+
+        List<Application> window = new ArrayList<>(windowSize);
+        if (half > 0) {
+            window.addAll(
+                applicationEvaluationRepository.findApplicationsAdjacentTo(
+                    cursor,
+                    true,
+                    half,
+                    researchGroupId,
+                    VIEWABLE_STATES,
+                    sort,
+                    filters,
+                    searchQuery
+                )
+            );
+        }
+        int windowIndex = window.size();
+        window.add(target);
+        if (half > 0) {
+            window.addAll(
+                applicationEvaluationRepository.findApplicationsAdjacentTo(
+                    cursor,
+                    false,
+                    half,
+                    researchGroupId,
+                    VIEWABLE_STATES,
+                    sort,
+                    filters,
+                    searchQuery
+                )
+            );
+        }
+
+        Long totalRecords = null;
+        Integer currentIndex = null;
+        if (includeTotal) {
+            totalRecords = getTotalRecords(researchGroupId, filters, searchQuery);
+            currentIndex = (int) applicationEvaluationRepository.countApplicationsBefore(
+                cursor,
+                researchGroupId,
+                VIEWABLE_STATES,
+                sort,
+                filters,
+                searchQuery
+            );
+        }
 
-        long idx = applicationEvaluationRepository.findIndexOfApplication(
-            applicationId,
+        attachReferenceRequests(window);
+        return ApplicationEvaluationDetailListDTO.fromApplications(
+            window,
+            totalRecords,
+            currentIndex,
+            windowIndex,
+            calculateRatingSummaries(window),
+            application -> ApplicationCursor.of(application, sortBy)
+        );
+    }
+
+    /**
+     * Retrieves the applications directly following or preceding the application
+     * identified by the given cursor, applying dynamic filters and sorting. This is
+     * used to extend the review carousel by one step without counting or offsetting
+     * over all preceding applications.
+     *
+     * @param cursor          the encoded {@link ApplicationCursor} to start from
+     * @param direction       whether to fetch the following or preceding applications
+     * @param limit           the maximum number of applications to return
+     * @param researchGroupId the {@link UUID} whose applications are to be fetched
+     * @param sortDTO         the {@link SortDTO} specifying the sorting criteria; must
+     *                        match the sort order the cursor was created for
+     * @param filterDTO       the {@link EvaluationFilterDTO} specifying dynamic
+     *                        filters to apply
+     * @return a {@link ApplicationEvaluationDetailListDTO} containing the adjacent
+     *         applications in display order, without total count and indices
+     * @throws BadRequestException if the cursor is malformed or does not match the
+     *                             requested sort order
+     */
+    public ApplicationEvaluationDetailListDTO getAdjacentApplicationsDetails(
+        String cursor,
+        SeekDirection direction,
+        int limit,
+        UUID researchGroupId,
+        SortDTO sortDTO,
+        EvaluationFilterDTO filterDTO
+    ) {
+        Sort sort = sortDTO.toSpringSort(SORTABLE_FIELDS);
+        String sortBy = getSortField(sort);
+
+        List<Application> applications = applicationEvaluationRepository.findApplicationsAdjacentTo(
+            ApplicationCursor.decode(cursor, sortBy),
+            direction == SeekDirection.PREVIOUS,
+            limit,
             researchGroupId,
             VIEWABLE_STATES,
-            sortDTO.toSpringSort(SORTABLE_FIELDS),
+            sort,
             filterDTO.getFilters(),
-            searchQuery
+            filterDTO.getSearch()
         );
 
-        // Calculate how many items to include before and after the target application
-        int half = (int) Math.floor((double) windowSize / 2);
-
-        // Compute the start index for the window (ensure it's not negative)
-        int start = Math.max((int) idx - half, 0);
-
-        // Compute the end index (exclusive), ensuring we don't exceed the total records
-        int end = Math.min((int) idx + half + 1, (int) totalRecords);
-
-        // Determine the position of the target application within the returned window
-        // list
-        int windowIndex = (int) idx - start;
-
-        // Create a Pageable with an offset (start index), limit (window size), and the
-        // sort criteria
-        Pageable pageable = new OffsetPageRequest(start, end - start, sortDTO.toSpringSort(SORTABLE_FIELDS));
-
-        List<Application> applicationsPage = getApplicationsDetails(researchGroupId, pageable, filterDTO.getFilters(), searchQuery);
-        attachReferenceRequests(applicationsPage);
+        attachReferenceRequests(applications);
         return ApplicationEvaluationDetailListDTO.fromApplications(
-            applicationsPage,
-            totalRecords,
-            (int) idx,
-            windowIndex,
-            this::calculateRatingSummary
+            applications,
+            null,
+            null,
+            null,
+            calculateRatingSummaries(applications),
+            application -> ApplicationCursor.of(application, sortBy)
         );
     }
 
@@ -311,12 +412,14 @@ public class ApplicationEvaluationService {
         List<Application> applicationsPage = getApplicationsDetails(researchGroupId, pageable, filterDTO.getFilters(), searchQuery);
         attachReferenceRequests(applicationsPage);
         long totalRecords = getTotalRecords(researchGroupId, filterDTO.getFilters(), searchQuery);
+        String sortBy = getSortField(pageable.getSort());
         return ApplicationEvaluationDetailListDTO.fromApplications(
             applicationsPage,
             totalRecords,
             null,
             null,
-            this::calculateRatingSummary
+            calculateRatingSummaries(applicationsPage),
+            application -> ApplicationCursor.of(application, sortBy)
         );
     }
 
@@ -332,13 +435,15 @@ public class ApplicationEvaluationService {
         currentUserService.assertAccessTo(application.getJob().getResearchGroup());
 
         applicationEvaluationRepository.markApplicationAsInReview(applicationId);
+        filteredCountCache.invalidate(application.getJob().getResearchGroup().getResearchGroupId());
     }
 
     /**
      * Collects all documents belonging to the specified application and streams
      * them
      * as a single ZIP file to the HTTP response output stream. The ZIP file name is
-     * based on the applicant's first and last name.
+     * based on the applicant's first and last name. Documents are stored without
+     * recompression, since they are already compressed PDFs.
      *
      * @param applicationId the ID of the application whose documents are downloaded
      * @param response      the HTTP response used to write the ZIP content
@@ -356,9 +461,63 @@ public class ApplicationEvaluationService {
         );
 
         zipExportService.initZipResponse(response, zipName);
+        try (StoredZipWriter zip = zipExportService.openStoredZip(response)) {
+            addApplicationDocumentsToZip(zip, "", applicationDocuments);
+        }
+    }
 
+    /**
+     * Streams the documents of all applicants of a job as a single ZIP file to the
+     * HTTP response output stream, with one folder per applicant. Only applications
+     * visible to reviewers are included, and the documents of all of them are loaded
+     * with a single query.
+     *
+     * @param jobId    the ID of the job whose applicants' documents are downloaded
+     * @param response the HTTP response used to write the ZIP content
+     * @throws IOException if an I/O error occurs while writing to the response
+     */
+    public void downloadAllDocumentsForJob(UUID jobId, HttpServletResponse response) throws IOException {
+        Job job = jobRepository.findById(jobId).orElseThrow(() -> EntityNotFoundException.forId("Job", jobId));
+        currentUserService.assertAccessTo(job.getResearchGroup());
+
+        List<Application> applications = applicationEvaluationRepository.findAllByJobIdAndStates(jobId, VIEWABLE_STATES);
+        Map<UUID, List<ApplicationDocument>> documentsByApplication = documentService.listForApplications(
+            applications.stream().map(Application::getApplicationId).toList()
+        );
+
+        zipExportService.initZipResponse(response, FileUtil.sanitizeFilename(job.getTitle()));
+        try (StoredZipWriter zip = zipExportService.openStoredZip(response)) {
+            Set<String> folders = new HashSet<>();
+            for (Application application : applications) {
+                User user = application.getApplicant().getUser();
+                String base = FileUtil.sanitizeFilename(user.getLastName() + " " + user.getFirstName());
+                // Applicants with the same name get numbered folders
+                String folder = base;
+                for (int i = 2; !folders.add(folder); i++) {
+                    folder = base + " (" + i + ")";
+                }
+                addApplicationDocumentsToZip(
+                    zip,
+                    folder + "/",
+                    documentsByApplication.getOrDefault(application.getApplicationId(), List.of())
+                );
+            }
+        }
+    }
+
+    /**
+     * Adds the documents of one application to the archive, naming them by type and
+     * numbering them if an application has several documents of the same type.
+     *
+     * @param zip       the archive to add the documents to
+     * @param prefix    the folder of the documents inside the archive, empty or ending with "/"
+     * @param documents the documents of the application
+     * @throws IOException if a document cannot be read or written
+     */
+    private void addApplicationDocumentsToZip(StoredZipWriter zip, String prefix, Collection<ApplicationDocument> documents)
+        throws IOException {
         // Count per type to decide if numbering is needed
-        Map<DocumentType, Long> typeCounts = applicationDocuments
+        Map<DocumentType, Long> typeCounts = documents
             .stream()
             .collect(
                 Collectors.groupingBy(ApplicationDocument::getDocumentType, () -> new EnumMap<>(DocumentType.class), Collectors.counting())
@@ -367,29 +526,18 @@ public class ApplicationEvaluationService {
         // Per-type index used only when count > 1
         Map<DocumentType, Integer> typeIndex = new EnumMap<>(DocumentType.class);
 
-        try (
-            BufferedOutputStream bos = new BufferedOutputStream(response.getOutputStream());
-            ZipOutputStream zos = new ZipOutputStream(bos)
-        ) {
-            zos.setLevel(Deflater.BEST_SPEED);
-
-            for (ApplicationDocument doc : applicationDocuments) {
-                DocumentType type = doc.getDocumentType();
+        for (ApplicationDocument doc : documents) {
+            DocumentType type = doc.getDocumentType();
 
-                long count = typeCounts.getOrDefault(type, 0L);
-                String base = fileName(type);
-                String entryName = (count > 1) ? base + "_" + typeIndex.merge(type, 1, Integer::sum) : base;
+            long count = typeCounts.getOrDefault(type, 0L);
+            String base = fileName(type);
+            String entryName = (count > 1) ? base + "_" + typeIndex.merge(type, 1, Integer::sum) : base;
 
-                // append file extension if present (e.g., "cv.pdf")
-                String ext = documentService.resolveFileExtension(doc).getExtension();
-                entryName += "." + ext;
-
-                try (InputStream is = documentService.downloadDocument(doc.getDocumentId()).getInputStream()) {
-                    zipExportService.addFileToZip(zos, entryName, is);
-                }
-            }
+            // append file extension if present (e.g., "cv.pdf")
+            String ext = documentService.resolveFileExtension(doc).getExtension();
+            entryName += "." + ext;
 
-            zos.finish();
+            zipExportService.addDocumentToZip(zip, prefix + entryName, doc);
         }
     }
 
@@ -475,7 +623,8 @@ public class ApplicationEvaluationService {
     /**
      * Helper method to count the total number of applications in viewable states
      * for the specified research group,
-     * applying optional dynamic filters.
+     * applying optional dynamic filters. Counts are cached per filter signature until
+     * the applications, jobs or settings of the research group change.
      *
      * @param researchGroupId the ID of the research group to filter applications by
      * @param dynamicFilters  additional dynamic filters to apply
@@ -483,7 +632,23 @@ public class ApplicationEvaluationService {
      * @return the total count of matching applications
      */
     private long getTotalRecords(UUID researchGroupId, Map<String, List<?>> dynamicFilters, String searchQuery) {
-        return applicationEvaluationRepository.countApplications(researchGroupId, VIEWABLE_STATES, dynamicFilters, searchQuery);
+        return filteredCountCache.count(
+            "evaluation-applications",
+            researchGroupId,
+            Arrays.asList(dynamicFilters, searchQuery != null ? searchQuery.trim().toLowerCase() : null),
+            () -> applicationEvaluationRepository.countApplications(researchGroupId, VIEWABLE_STATES, dynamicFilters, searchQuery)
+        );
+    }
+
+    /**
+     * Returns the API sort field of the given sort, which determines the key of the
+     * {@link ApplicationCursor}s handed out for it.
+     *
+     * @param sort the validated {@link Sort}
+     * @return the sort field, or {@code null} if the sort is unsorted
+     */
+    private static String getSortField(Sort sort) {
+        return sort.stream().findFirst().map(Sort.Order::getProperty).orElse(null);
     }
 
     /**
@@ -499,35 +664,37 @@ public class ApplicationEvaluationService {
     }
 
     /**
-     * Calculates the aggregated rating for the given application.
-     * The summary combines all professor/employee Likert ratings with the
-     * interview rating (if any) on the same -2..+2 scale.
+     * Calculates the aggregated ratings for the given applications.
+     * Each summary combines all professor/employee Likert ratings with the
+     * interview rating (if any) on the same -2..+2 scale. The ratings of all
+     * applications are loaded with one grouped query per rating source.
      *
-     * @param application the application to summarise
-     * @return a {@link RatingSummary} with the mean and total count; the mean is
-     *         {@code null} when no rating of any kind exists
+     * @param applications the applications to summarise
+     * @return a {@link RatingSummary} per application ID; applications without
+     *         any rating are not contained in the map
      */
-    private RatingSummary calculateRatingSummary(Application application) {
-        UUID applicationId = application.getApplicationId();
+    private Map<UUID, RatingSummary> calculateRatingSummaries(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> applicationIds = applications.stream().map(Application::getApplicationId).toList();
 
-        Set<Rating> ratings = ratingRepository.findByApplicationApplicationId(applicationId);
-        List<Integer> values = ratings
-            .stream()
-            .map(Rating::getRating)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toCollection(ArrayList::new));
-
-        intervieweeRepository
-            .findByApplicationApplicationIdAndRatingIsNotNull(applicationId)
-            .map(Interviewee::getRating)
-            .map(AssessmentRating::getValue)
-            .ifPresent(values::add);
-
-        if (values.isEmpty()) {
-            return RatingSummary.empty();
+        Map<UUID, long[]> sumsAndCounts = new HashMap<>();
+        for (RatingAggregateDTO aggregate : ratingRepository.aggregateByApplicationIds(applicationIds)) {
+            sumsAndCounts.put(aggregate.applicationId(), new long[] { aggregate.ratingSum(), aggregate.ratingCount() });
+        }
+        for (IntervieweeRatingDTO interviewRating : intervieweeRepository.findRatingsByApplicationIds(applicationIds)) {
+            long[] sumAndCount = sumsAndCounts.computeIfAbsent(interviewRating.applicationId(), id -> new long[2]);
+            sumAndCount[0] += interviewRating.rating().getValue();
+            sumAndCount[1]++;
         }
 
-        OptionalDouble avg = values.stream().mapToInt(Integer::intValue).average();
-        return new RatingSummary(avg.isPresent() ? avg.getAsDouble() : null, values.size());
+        Map<UUID, RatingSummary> summaries = new HashMap<>();
+        sumsAndCounts.forEach((applicationId, sumAndCount) -> {
+            if (sumAndCount[1] > 0) {
+                summaries.put(applicationId, new RatingSummary((double) sumAndCount[0] / sumAndCount[1], (int) sumAndCount[1]));
+            }
+        });
+        return summaries;
     }
 }
@@ -4,6 +4,7 @@ import de.tum.cit.aet.core.dto.OffsetPageDTO;
 import de.tum.cit.aet.core.dto.SortDTO;
 import de.tum.cit.aet.core.security.annotations.ProfessorOrEmployee;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.evaluation.constants.SeekDirection;
 import de.tum.cit.aet.evaluation.dto.*;
 import de.tum.cit.aet.evaluation.service.ApplicationEvaluationService;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +13,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
@@ -106,6 +109,7 @@ public class ApplicationEvaluationResource {
      *
      * @param applicationId the ID of the application to center the window on
      * @param windowSize    the size of the window (must be a positive odd integer)
+     * @param includeTotal  whether the total record count and the index of the application should be computed
      * @param sortDto       the {@link SortDTO} specifying sorting criteria
      * @param filterDto     the {@link EvaluationFilterDTO} specifying dynamic filters to apply
      * @return a {@link ResponseEntity} containing the {@link ApplicationEvaluationDetailListDTO}
@@ -115,13 +119,48 @@ public class ApplicationEvaluationResource {
     public ResponseEntity<ApplicationEvaluationDetailListDTO> getApplicationsDetailsWindow(
         @RequestParam UUID applicationId,
         @RequestParam int windowSize,
+        @RequestParam(defaultValue = "false") boolean includeTotal,
         @ParameterObject @ModelAttribute SortDTO sortDto,
         @ParameterObject @ModelAttribute EvaluationFilterDTO filterDto
     ) {
         UUID researchGroupId = currentUserService.getResearchGroupIdIfMember();
 
         return ResponseEntity.ok(
-            applicationEvaluationService.getApplicationsDetailsWindow(applicationId, windowSize, researchGroupId, sortDto, filterDto)
+            applicationEvaluationService.getApplicationsDetailsWindow(
+                applicationId,
+                windowSize,
+                researchGroupId,
+                sortDto,
+                filterDto,
+                includeTotal
+            )
+        );
+    }
+
+    /**
+     * REST endpoint to retrieve the applications directly following or preceding the application
+     * identified by a keyset cursor. Applies sorting and dynamic filtering based on request parameters.
+     *
+     * @param cursor        the cursor of the application to start from, as returned in a previous response
+     * @param seekDirection whether to fetch the following or the preceding applications
+     * @param limit         the maximum number of applications to return
+     * @param sortDto       the {@link SortDTO} specifying sorting criteria; must match the cursor
+     * @param filterDto     the {@link EvaluationFilterDTO} specifying dynamic filters to apply
+     * @return a {@link ResponseEntity} containing the {@link ApplicationEvaluationDetailListDTO}
+     */
+    @ProfessorOrEmployee
+    @GetMapping("/application-details/adjacent")
+    public ResponseEntity<ApplicationEvaluationDetailListDTO> getAdjacentApplicationsDetails(
+        @RequestParam String cursor,
+        @RequestParam SeekDirection seekDirection,
+        @RequestParam(defaultValue = "1") @Min(1) @Max(50) int limit,
+        @ParameterObject @ModelAttribute SortDTO sortDto,
+        @ParameterObject @ModelAttribute EvaluationFilterDTO filterDto
+    ) {
+        UUID researchGroupId = currentUserService.getResearchGroupIdIfMember();
+
+        return ResponseEntity.ok(
+            applicationEvaluationService.getAdjacentApplicationsDetails(cursor, seekDirection, limit, researchGroupId, sortDto, filterDto)
         );
     }
 
@@ -161,6 +200,29 @@ public class ApplicationEvaluationResource {
         applicationEvaluationService.downloadAllDocumentsForApplication(applicationId, response);
     }
 
+    /**
+     * Streams the documents of all applicants of the specified job as a single ZIP
+     * file with one folder per applicant to the HTTP response output stream.
+     *
+     * @param jobId    the ID of the job whose applicants' documents are downloaded
+     * @param response the HTTP response used to write the ZIP content
+     * @throws IOException if an I/O error occurs while writing to the response
+     */
+    @ApiResponses(
+        {
+            @ApiResponse(
+                responseCode = "200",
+                description = "ZIP file containing the documents of all applicants",
+                content = @Content(mediaType = "application/zip", schema = @Schema(type = "string", format = "binary"))
+            ),
+        }
+    )
+    @ProfessorOrEmployee
+    @GetMapping(path = "/jobs/{jobId}/documents-download", produces = "application/zip")
+    public void downloadAllForJob(@PathVariable("jobId") UUID jobId, HttpServletResponse response) throws IOException {
+        applicationEvaluationService.downloadAllDocumentsForJob(jobId, response);
+    }
+
     /**
      * Get all unique job names for the current research group.
      * Used for filter dropdown options.
@@ -0,0 +1,13 @@
+package de.tum.cit.aet.interview.dto;
+
+import de.tum.cit.aet.interview.domain.enumeration.AssessmentRating;
+import java.util.UUID;
+
+/**
+ * Projection record for the interview assessment of one application.
+ * Used by the JPQL query that loads the interview ratings for a whole page of applications.
+ *
+ * @param applicationId the ID of the interviewed application
+ * @param rating        the interview assessment
+ */
+public record IntervieweeRatingDTO(UUID applicationId, AssessmentRating rating) {}
@@ -4,8 +4,10 @@ import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.interview.domain.InterviewProcess;
 import de.tum.cit.aet.interview.domain.Interviewee;
+import de.tum.cit.aet.interview.dto.IntervieweeRatingDTO;
 import de.tum.cit.aet.interview.dto.IntervieweeStateCounts;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -156,6 +158,23 @@ public interface IntervieweeRepository extends TumApplyJpaRepository<Interviewee
      */
     Optional<Interviewee> findByApplicationApplicationIdAndRatingIsNotNull(UUID applicationId);
 
+    /**
+     * Loads the interview assessments of the given applications in a single query.
+     * Applications without a rated interviewee are not contained in the result.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return the application ID and interview rating of every rated interviewee
+     */
+    @Query(
+        """
+        SELECT new de.tum.cit.aet.interview.dto.IntervieweeRatingDTO(i.application.applicationId, i.rating)
+        FROM Interviewee i
+        WHERE i.application.applicationId IN :applicationIds
+        AND i.rating IS NOT NULL
+        """
+    )
+    List<IntervieweeRatingDTO> findRatingsByApplicationIds(@Param("applicationIds") Collection<UUID> applicationIds);
+
     /**
      * Counts interviewees grouped by their derived state for multiple interview processes.
      * State logic matches {@link de.tum.cit.aet.interview.service.InterviewService#calculateIntervieweeState}:
@@ -185,5 +204,5 @@ public interface IntervieweeRepository extends TumApplyJpaRepository<Interviewee
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Interviewee i WHERE i.application.applicationId IN :applicationIds")
-    void deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
 }
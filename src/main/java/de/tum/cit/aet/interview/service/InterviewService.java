@@ -15,6 +15,8 @@ import de.tum.cit.aet.core.exception.InterviewProcessClosedException;
 import de.tum.cit.aet.core.exception.ResourceAlreadyExistsException;
 import de.tum.cit.aet.core.exception.TimeConflictException;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.interview.domain.InterviewProcess;
 import de.tum.cit.aet.interview.domain.InterviewSlot;
 import de.tum.cit.aet.interview.domain.Interviewee;
@@ -69,6 +71,7 @@ public class InterviewService {
     private final AsyncEmailSender asyncEmailSender;
     private final IcsCalendarService icsCalendarService;
     private final ApplicationService applicationService;
+    private final FilteredCountCache filteredCountCache;
     private static final ZoneId CET_TIMEZONE = ZoneId.of("Europe/Berlin");
 
     /*--------------------------------------------------------------
@@ -199,7 +202,7 @@ public class InterviewService {
                     slot.getStartDateTime(),
                     slot.getEndDateTime(),
                     applicantName,
-                    applicantUser.getAvatar(),
+                    ImageVariantUtil.avatarOf(applicantUser.getAvatar(), applicantUser.getAvatarVariantWidths()),
                     slot.getInterviewProcess().getJob().getTitle(),
                     slot.getLocation(),
                     slot.getInterviewProcess().getId(),
@@ -700,6 +703,7 @@ public class InterviewService {
         // 6. Save all applications and interviewees
         applicationRepository.saveAll(applications);
         List<Interviewee> savedInterviewees = intervieweeRepository.saveAll(createdInterviewees);
+        filteredCountCache.invalidate(job.getResearchGroup().getResearchGroupId());
 
         // 7. Return DTOs
         return savedInterviewees.stream().map(this::mapIntervieweeToDTO).toList();
@@ -779,7 +783,7 @@ public class InterviewService {
             // we send the self-scheduling invitation directly
             try {
                 interviewee.getApplication().setJob(job);
-                sendSelfSchedulingEmail(interviewee, job);
+                asyncEmailSender.sendAsync(buildSelfSchedulingEmail(interviewee, job));
                 interviewee.setLastInvited(Instant.now());
             } catch (Exception e) {
                 log.debug(
@@ -974,15 +978,16 @@ public class InterviewService {
                 .toList();
         }
 
-        // 5. Send emails
+        // 5. Build emails and queue them as one batch
         List<String> failedEmails = new ArrayList<>();
         List<Interviewee> updatedInterviewees = new ArrayList<>();
+        List<Email> emails = new ArrayList<>();
 
         for (Interviewee interviewee : interviewees) {
             try {
                 // Set job to prevent LazyInitializationException in async email sending
                 interviewee.getApplication().setJob(job);
-                sendSelfSchedulingEmail(interviewee, job);
+                emails.add(buildSelfSchedulingEmail(interviewee, job));
                 interviewee.setLastInvited(Instant.now());
                 updatedInterviewees.add(interviewee);
             } catch (Exception e) {
@@ -994,6 +999,7 @@ public class InterviewService {
                 failedEmails.add(interviewee.getApplication().getApplicant().getUser().getEmail());
             }
         }
+        asyncEmailSender.sendAllAsync(emails);
 
         // 6. Save updated timestamps
         intervieweeRepository.saveAll(updatedInterviewees);
@@ -1001,18 +1007,16 @@ public class InterviewService {
         return new SendInvitationsResultDTO(updatedInterviewees.size(), failedEmails);
     }
 
-    private void sendSelfSchedulingEmail(Interviewee interviewee, Job job) {
+    private Email buildSelfSchedulingEmail(Interviewee interviewee, Job job) {
         User applicant = interviewee.getApplication().getApplicant().getUser();
 
-        Email email = Email.builder()
+        return Email.builder()
             .to(applicant)
             .emailType(EmailType.INTERVIEW_SELF_SCHEDULING_INVITATION)
             .language(Language.fromCode(applicant.getSelectedLanguage()))
             .researchGroup(job.getResearchGroup())
             .content(interviewee) // Pass the interviewee object directly
             .build();
-
-        asyncEmailSender.sendAsync(email);
     }
 
     /**
@@ -1079,7 +1083,7 @@ public class InterviewService {
             user.getEmail(),
             user.getFirstName(),
             user.getLastName(),
-            user.getAvatar()
+            ImageVariantUtil.avatarOf(user.getAvatar(), user.getAvatarVariantWidths())
         );
     }
 
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.job.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.job.constants.JobState;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -35,4 +36,33 @@ public record AdminCreatedJobDTO(
     LocalDate startDate,
     LocalDateTime createdAt,
     LocalDateTime lastModifiedAt
-) {}
+) {
+    public AdminCreatedJobDTO(
+        UUID jobId,
+        String avatar,
+        String avatarVariantWidths,
+        String professorName,
+        UUID professorId,
+        UUID researchGroupId,
+        String researchGroupName,
+        JobState state,
+        String title,
+        LocalDate startDate,
+        LocalDateTime createdAt,
+        LocalDateTime lastModifiedAt
+    ) {
+        this(
+            jobId,
+            ImageVariantUtil.avatarOf(avatar, avatarVariantWidths),
+            professorName,
+            professorId,
+            researchGroupId,
+            researchGroupName,
+            state,
+            title,
+            startDate,
+            createdAt,
+            lastModifiedAt
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.job.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.job.constants.JobState;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -17,4 +18,27 @@ public record CreatedJobDTO(
     LocalDate startDate,
     LocalDateTime createdAt,
     LocalDateTime lastModifiedAt
-) {}
+) {
+    public CreatedJobDTO(
+        UUID jobId,
+        String avatar,
+        String avatarVariantWidths,
+        String professorName,
+        JobState state,
+        String title,
+        LocalDate startDate,
+        LocalDateTime createdAt,
+        LocalDateTime lastModifiedAt
+    ) {
+        this(
+            jobId,
+            ImageVariantUtil.avatarOf(avatar, avatarVariantWidths),
+            professorName,
+            state,
+            title,
+            startDate,
+            createdAt,
+            lastModifiedAt
+        );
+    }
+}
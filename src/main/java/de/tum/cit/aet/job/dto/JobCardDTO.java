@@ -3,11 +3,13 @@ package de.tum.cit.aet.job.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.core.dto.UiTextFormatter;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.job.constants.Campus;
 import de.tum.cit.aet.job.constants.RecommendationType;
 import de.tum.cit.aet.job.constants.SubjectArea;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -27,7 +29,8 @@ public record JobCardDTO(
     Integer contractDuration,
     Integer referenceLettersRequired,
     RecommendationType recommendationType,
-    String imageUrl // Job banner image URL (e.g., "/images/jobs/abc.jpg")
+    String imageUrl, // Job banner image URL (e.g., "/images/jobs/abc.jpg")
+    Map<Integer, String> imageVariants // Downscaled banner URLs keyed by width (e.g., 480 -> "/images/jobs/abc_w480.jpg")
 ) {
     public JobCardDTO(
         @NotNull UUID jobId,
@@ -36,6 +39,45 @@ public record JobCardDTO(
         @NotNull String professorName,
         @NotNull SubjectArea subjectArea,
         String avatar,
+        String avatarVariantWidths,
+        Integer workload,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer contractDuration,
+        Integer referenceLettersRequired,
+        RecommendationType recommendationType,
+        String imageUrl,
+        String imageVariantWidths
+    ) {
+        this(
+            jobId,
+            title,
+            location,
+            professorName,
+            subjectArea,
+            avatar,
+            avatarVariantWidths,
+            null,
+            null,
+            workload,
+            startDate,
+            endDate,
+            contractDuration,
+            referenceLettersRequired,
+            recommendationType,
+            imageUrl,
+            imageVariantWidths
+        );
+    }
+
+    public JobCardDTO(
+        @NotNull UUID jobId,
+        @NotNull String title,
+        @NotNull Campus location,
+        @NotNull String professorName,
+        @NotNull SubjectArea subjectArea,
+        String avatar,
+        String avatarVariantWidths,
         UUID applicationId,
         ApplicationState applicationState,
         Integer workload,
@@ -44,7 +86,8 @@ public record JobCardDTO(
         Integer contractDuration,
         Integer referenceLettersRequired,
         RecommendationType recommendationType,
-        String imageUrl
+        String imageUrl,
+        String imageVariantWidths
     ) {
         this(
             jobId,
@@ -52,7 +95,7 @@ public record JobCardDTO(
             location,
             professorName,
             subjectArea,
-            avatar,
+            ImageVariantUtil.avatarOf(avatar, avatarVariantWidths),
             applicationId,
             applicationState,
             workload,
@@ -62,7 +105,37 @@ public record JobCardDTO(
             contractDuration,
             referenceLettersRequired,
             recommendationType,
-            imageUrl
+            imageUrl,
+            ImageVariantUtil.variantUrls(imageUrl, imageVariantWidths)
+        );
+    }
+
+    /**
+     * Returns a copy of this card decorated with the caller's own application.
+     *
+     * @param applicationId    the ID of the caller's application for this job
+     * @param applicationState the state of that application
+     * @return the decorated job card
+     */
+    public JobCardDTO withApplication(UUID applicationId, ApplicationState applicationState) {
+        return new JobCardDTO(
+            jobId,
+            title,
+            location,
+            professorName,
+            subjectArea,
+            avatar,
+            applicationId,
+            applicationState,
+            workload,
+            startDate,
+            relativeTimeEnglish,
+            relativeTimeGerman,
+            contractDuration,
+            referenceLettersRequired,
+            recommendationType,
+            imageUrl,
+            imageVariants
         );
     }
 }
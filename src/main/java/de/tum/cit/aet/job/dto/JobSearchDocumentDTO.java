@@ -0,0 +1,16 @@
+package de.tum.cit.aet.job.dto;
+
+import de.tum.cit.aet.job.constants.SubjectArea;
+import java.util.UUID;
+
+/**
+ * Minimal projection of a published job holding only the fields that are indexed
+ * for the public job board search.
+ *
+ * @param jobId          the ID of the job
+ * @param title          the job title
+ * @param researchArea   the free-text research area (nullable)
+ * @param supervisorName the supervising professor's full name
+ * @param subjectArea    the subject area (nullable)
+ */
+public record JobSearchDocumentDTO(UUID jobId, String title, String researchArea, String supervisorName, SubjectArea subjectArea) {}
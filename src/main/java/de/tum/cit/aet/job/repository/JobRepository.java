@@ -1,5 +1,6 @@
 package de.tum.cit.aet.job.repository;
 
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminJobRefDTO;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.job.constants.Campus;
 import de.tum.cit.aet.job.constants.JobState;
@@ -7,7 +8,9 @@ import de.tum.cit.aet.job.constants.SubjectArea;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.dto.CreatedJobDTO;
 import de.tum.cit.aet.job.dto.JobCardDTO;
+import de.tum.cit.aet.job.dto.JobSearchDocumentDTO;
 import de.tum.cit.aet.usermanagement.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -40,6 +43,7 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
           SELECT new de.tum.cit.aet.job.dto.CreatedJobDTO(
             j.jobId,
             j.supervisingProfessor.avatar,
+            j.supervisingProfessor.avatarVariantWidths,
             CONCAT(j.supervisingProfessor.firstName, ' ', j.supervisingProfessor.lastName),
             j.state,
             j.title,
@@ -72,14 +76,16 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
      * @param researchGroupIds        optional list of research-group ids to include
      * @param supervisingProfessorIds optional list of supervising-professor user ids to include
      * @param searchQuery             optional search string for job title or professor full name
-     * @param pageable                the pagination configuration
-     * @return a page of matching jobs as {@link de.tum.cit.aet.job.dto.AdminCreatedJobDTO}
+     * @param pageable                the pagination configuration; the total is counted separately by
+     *                                {@link #countAllJobsForAdmin} so it can be cached
+     * @return the requested page of matching jobs as {@link de.tum.cit.aet.job.dto.AdminCreatedJobDTO}
      */
     @Query(
         """
           SELECT new de.tum.cit.aet.job.dto.AdminCreatedJobDTO(
             j.jobId,
             j.supervisingProfessor.avatar,
+            j.supervisingProfessor.avatarVariantWidths,
             CONCAT(j.supervisingProfessor.firstName, ' ', j.supervisingProfessor.lastName),
             j.supervisingProfessor.userId,
             j.researchGroup.researchGroupId,
@@ -100,7 +106,7 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
           )
         """
     )
-    Page<de.tum.cit.aet.job.dto.AdminCreatedJobDTO> findAllJobsForAdmin(
+    List<de.tum.cit.aet.job.dto.AdminCreatedJobDTO> findAllJobsForAdmin(
         @Param("states") List<JobState> states,
         @Param("researchGroupIds") List<UUID> researchGroupIds,
         @Param("supervisingProfessorIds") List<UUID> supervisingProfessorIds,
@@ -109,61 +115,63 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
     );
 
     /**
-     * Finds all available job postings with optional filtering and custom sorting
-     * by professor name.
-     * Sorting is applied manually for the computed professor name field.
+     * Counts the jobs matching the filters of {@link #findAllJobsForAdmin}.
      *
-     * @param state          the job state (typically PUBLISHED)
-     * @param subjectAreas   subject areas to match (nullable)
-     * @param locations      the campus locations filter (nullable)
-     * @param professorNames a partial match filter for multiple professor's full
-     *                       names
-     *                       (nullable)
-     * @param sortBy         the field to sort by (only used for professorName
-     *                       sorting here)
-     * @param sortDirection  sort direction (ASC or DESC)
-     * @param userId         id of the currently logged in user (nullable)
-     * @param searchQuery    string to search for job title,
-     *                       subject area or supervisor name
+     * @param states                  optional list of job states to include
+     * @param researchGroupIds        optional list of research-group ids to include
+     * @param supervisingProfessorIds optional list of supervising-professor user ids to include
+     * @param searchQuery             optional search string for job title or professor full name
+     * @return the number of matching jobs
+     */
+    @Query(
+        """
+          SELECT COUNT(j)
+          FROM Job j
+          WHERE (:states IS NULL OR j.state IN :states)
+          AND (:researchGroupIds IS NULL OR j.researchGroup.researchGroupId IN :researchGroupIds)
+          AND (:supervisingProfessorIds IS NULL OR j.supervisingProfessor.userId IN :supervisingProfessorIds)
+          AND (:searchQuery IS NULL OR
+             j.title LIKE CONCAT('%', :searchQuery, '%') OR
+             CONCAT(j.supervisingProfessor.firstName, ' ', j.supervisingProfessor.lastName) LIKE CONCAT('%', :searchQuery, '%')
+          )
+        """
+    )
+    long countAllJobsForAdmin(
+        @Param("states") List<JobState> states,
+        @Param("researchGroupIds") List<UUID> researchGroupIds,
+        @Param("supervisingProfessorIds") List<UUID> supervisingProfessorIds,
+        @Param("searchQuery") String searchQuery
+    );
+
+    /**
+     * Finds one page of the IDs of all available job postings with optional filtering
+     * and custom sorting by professor name. Sorting is applied manually for the computed
+     * professor name field. Only the IDs are paged here; the job cards of the page are
+     * loaded with {@link #findAllJobCardsByJobIdIn(Collection)}.
+     *
+     * @param state              the job state (typically PUBLISHED)
+     * @param subjectAreas       subject areas to match (nullable)
+     * @param locations          the campus locations filter (nullable)
+     * @param professorNames     a filter for multiple professor's full names (nullable)
+     * @param jobIds             IDs of the jobs matching the search index (nullable)
+     * @param sortBy             the field to sort by (only used for professorName sorting here)
+     * @param sortDirection      sort direction (ASC or DESC)
+     * @param searchQuery        string to search for job title, subject area or supervisor name
      * @param searchSubjectAreas subject areas matching the search query
-     * @param pageable       pagination information
-     * @return a page of {@link JobCardDTO} matching the criteria
+     * @param pageable           pagination information
+     * @return a page of job IDs matching the criteria
      */
     @Query(
         """
-        SELECT new de.tum.cit.aet.job.dto.JobCardDTO(
-          j.jobId as jobId,
-          j.title as title,
-          j.location as location,
-          CONCAT(p.firstName, ' ', p.lastName) as professorName,
-          j.subjectArea as subjectArea,
-          p.avatar as avatar,
-          a.applicationId as applicationId,
-          a.state as applicationState,
-          j.workload as workload,
-          j.startDate as startDate,
-          j.endDate as endDate,
-          j.contractDuration as contractDuration,
-          j.referenceLettersRequired as referenceLettersRequired,
-          j.recommendationType as recommendationType,
-          i.url as imageUrl
-        )
+        SELECT j.jobId
         FROM Job j
         JOIN j.supervisingProfessor p
-        LEFT JOIN j.image i
-        LEFT JOIN j.applications a
-               WITH (:userId IS NOT NULL
-                 AND a.applicant.userId = :userId
-                 AND a.createdAt = (
-                      SELECT MAX(a2.createdAt)
-                      FROM Application a2
-                      WHERE a2.job = j AND a2.applicant.userId = :userId
-                 ))
         WHERE j.state = :state
           AND (j.endDate IS NULL OR j.endDate >= CURRENT_DATE)
           AND (:subjectAreas IS NULL OR j.subjectArea IN :subjectAreas)
           AND (:locations IS NULL OR j.location IN :locations)
           AND (:professorNames IS NULL OR CONCAT(p.firstName, ' ', p.lastName) IN :professorNames)
+          AND (:jobIds IS NULL OR j.jobId IN :jobIds)
           AND (:searchQuery IS NULL OR
                    j.title LIKE CONCAT('%', :searchQuery, '%') OR
                    (:searchSubjectAreas IS NOT NULL AND j.subjectArea IN :searchSubjectAreas) OR
@@ -171,24 +179,24 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
               )
         ORDER BY
             CASE WHEN :sortDirection = 'ASC'  AND :sortBy = 'professorName'
-                 THEN j.supervisingProfessor.lastName END ASC,
+                 THEN p.lastName END ASC,
             CASE WHEN :sortDirection = 'ASC'  AND :sortBy = 'professorName'
-                 THEN j.supervisingProfessor.firstName END ASC,
+                 THEN p.firstName END ASC,
             CASE WHEN :sortDirection = 'DESC' AND :sortBy = 'professorName'
-                 THEN j.supervisingProfessor.lastName END DESC,
+                 THEN p.lastName END DESC,
             CASE WHEN :sortDirection = 'DESC' AND :sortBy = 'professorName'
-                 THEN j.supervisingProfessor.firstName END DESC,
+                 THEN p.firstName END DESC,
             j.createdAt DESC
-                  """
+        """
     )
-    Page<JobCardDTO> findAllJobCardsByState(
+    Page<UUID> findAvailableJobIds(
         @Param("state") JobState state,
         @Param("subjectAreas") List<SubjectArea> subjectAreas,
         @Param("locations") List<Campus> locations,
         @Param("professorNames") List<String> professorNames,
+        @Param("jobIds") Collection<UUID> jobIds,
         @Param("sortBy") String sortBy,
         @Param("sortDirection") String sortDirection,
-        @Param("userId") UUID userId,
         @Param("searchQuery") String searchQuery,
         @Param("searchSubjectAreas") List<SubjectArea> searchSubjectAreas,
         Pageable pageable
@@ -204,58 +212,32 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
     Optional<UUID> findSupervisingProfessorUserIdByJobId(@Param("jobId") UUID jobId);
 
     /**
-     * Finds all available job postings with optional filtering options. Sorting is
-     * delegated to Spring's Pageable,
-     * so this method does not support custom sorting by computed fields like
-     * professor name.
+     * Finds one page of the IDs of all available job postings with optional filtering
+     * options. Sorting is delegated to Spring's Pageable, so this method does not support
+     * custom sorting by computed fields like professor name. Only the IDs are paged here;
+     * the job cards of the page are loaded with {@link #findAllJobCardsByJobIdIn(Collection)}.
      *
-     * @param state          the job state (typically PUBLISHED)
-     * @param subjectAreas   subject areas to match (nullable)
-     * @param locations      the campus locations filter (nullable)
-     * @param professorNames a partial match filter for multiple professor's full
-     *                       names
-     *                       (nullable)
-     * @param userId         id of the currently logged in user (nullable)
-     * @param searchQuery    string to search for job title, subject area or supervisor name
+     * @param state              the job state (typically PUBLISHED)
+     * @param subjectAreas       subject areas to match (nullable)
+     * @param locations          the campus locations filter (nullable)
+     * @param professorNames     a filter for multiple professor's full names (nullable)
+     * @param jobIds             IDs of the jobs matching the search index (nullable)
+     * @param searchQuery        string to search for job title, subject area or supervisor name
      * @param searchSubjectAreas subject areas matching the search query
-     * @param pageable       pagination and sorting information
-     * @return a page of {@link JobCardDTO} matching the criteria
+     * @param pageable           pagination and sorting information
+     * @return a page of job IDs matching the criteria
      */
     @Query(
         """
-          SELECT new de.tum.cit.aet.job.dto.JobCardDTO(
-            j.jobId as jobId,
-            j.title as title,
-            j.location as location,
-            CONCAT(p.firstName, ' ', p.lastName) as professorName,
-            j.subjectArea as subjectArea,
-            p.avatar as avatar,
-            a.applicationId as applicationId,
-            a.state as applicationState,
-            j.workload as workload,
-            j.startDate as startDate,
-            j.endDate as endDate,
-            j.contractDuration as contractDuration,
-            j.referenceLettersRequired as referenceLettersRequired,
-            j.recommendationType as recommendationType,
-            i.url as imageUrl
-          )
+          SELECT j.jobId
           FROM Job j
           JOIN j.supervisingProfessor p
-          LEFT JOIN j.image i
-          LEFT JOIN j.applications a
-                 WITH (:userId IS NOT NULL
-                   AND a.applicant.userId = :userId
-                   AND a.createdAt = (
-                        SELECT MAX(a2.createdAt)
-                        FROM Application a2
-                        WHERE a2.job = j AND a2.applicant.userId = :userId
-                   ))
           WHERE j.state = :state
             AND (j.endDate IS NULL OR j.endDate >= CURRENT_DATE)
             AND (:subjectAreas IS NULL OR j.subjectArea IN :subjectAreas)
             AND (:locations IS NULL OR j.location IN :locations)
             AND (:professorNames IS NULL OR CONCAT(p.firstName, ' ', p.lastName) IN :professorNames)
+            AND (:jobIds IS NULL OR j.jobId IN :jobIds)
             AND (:searchQuery IS NULL OR
                    j.title LIKE CONCAT('%', :searchQuery, '%') OR
                    (:searchSubjectAreas IS NOT NULL AND j.subjectArea IN :searchSubjectAreas) OR
@@ -263,17 +245,52 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
             )
         """
     )
-    Page<JobCardDTO> findAllJobCardsByState(
+    Page<UUID> findAvailableJobIds(
         @Param("state") JobState state,
         @Param("subjectAreas") List<SubjectArea> subjectAreas,
         @Param("locations") List<Campus> locations,
         @Param("professorNames") List<String> professorNames,
-        @Param("userId") UUID userId,
+        @Param("jobIds") Collection<UUID> jobIds,
         @Param("searchQuery") String searchQuery,
         @Param("searchSubjectAreas") List<SubjectArea> searchSubjectAreas,
         Pageable pageable
     );
 
+    /**
+     * Loads the job cards of the given jobs, e.g. of one page of
+     * {@link #findAvailableJobIds}. The result is independent of the caller; the
+     * caller's own application state is merged in separately.
+     *
+     * @param jobIds the IDs of the jobs to load
+     * @return the job cards in no particular order
+     */
+    @Query(
+        """
+        SELECT new de.tum.cit.aet.job.dto.JobCardDTO(
+          j.jobId as jobId,
+          j.title as title,
+          j.location as location,
+          CONCAT(p.firstName, ' ', p.lastName) as professorName,
+          j.subjectArea as subjectArea,
+          p.avatar as avatar,
+          p.avatarVariantWidths as avatarVariantWidths,
+          j.workload as workload,
+          j.startDate as startDate,
+          j.endDate as endDate,
+          j.contractDuration as contractDuration,
+          j.referenceLettersRequired as referenceLettersRequired,
+          j.recommendationType as recommendationType,
+          i.url as imageUrl,
+          i.variantWidths as imageVariantWidths
+        )
+        FROM Job j
+        JOIN j.supervisingProfessor p
+        LEFT JOIN j.image i
+        WHERE j.jobId IN :jobIds
+        """
+    )
+    List<JobCardDTO> findAllJobCardsByJobIdIn(@Param("jobIds") Collection<UUID> jobIds);
+
     /**
      * Finds all available subject areas
      *
@@ -309,6 +326,29 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
     )
     List<String> findAllUniqueSupervisorNames(@Param("state") JobState state);
 
+    /**
+     * Finds the searchable fields of all jobs in the given state. Used to build the
+     * in-memory {@code JobSearchIndex}.
+     *
+     * @param state the job state (typically PUBLISHED)
+     * @return the search documents of all jobs in the given state
+     */
+    @Query(
+        """
+        SELECT new de.tum.cit.aet.job.dto.JobSearchDocumentDTO(
+          j.jobId,
+          j.title,
+          j.researchArea,
+          CONCAT(p.firstName, ' ', p.lastName),
+          j.subjectArea
+        )
+        FROM Job j
+        JOIN j.supervisingProfessor p
+        WHERE j.state = :state
+        """
+    )
+    List<JobSearchDocumentDTO> findAllSearchDocumentsByState(@Param("state") JobState state);
+
     /**
      * Find a job with its image eagerly loaded
      *
@@ -367,4 +407,30 @@ public interface JobRepository extends TumApplyJpaRepository<Job, UUID> {
     @EntityGraph(attributePaths = { "complianceIssues", "supervisingProfessor", "researchGroup", "image" })
     @Query("SELECT j FROM Job j WHERE j.jobId = :jobId")
     Optional<Job> findByIdWithCompliance(@Param("jobId") UUID jobId);
+
+    /**
+     * Returns a lightweight reference to every job, including jobs without a research group.
+     * Used by the admin bulk export to bucket and order jobs before loading each one on its own.
+     *
+     * @return one reference per job
+     */
+    @Query(
+        """
+            SELECT new de.tum.cit.aet.core.dto.exportdata.admin.AdminJobRefDTO(j.jobId, rg.researchGroupId, j.state, j.endDate, j.createdAt)
+            FROM Job j
+            LEFT JOIN j.researchGroup rg
+        """
+    )
+    List<AdminJobRefDTO> findAllExportRefs();
+
+    /**
+     * Returns the next chunk of jobs in id order, starting after the given id. Used by the
+     * admin bulk export to walk the whole table with keyset pagination.
+     *
+     * @param after    the id of the last job of the previous chunk, or {@code null} for the first chunk
+     * @param pageable the chunk size; the page number must be 0
+     * @return the jobs of the chunk, ordered by id
+     */
+    @Query("SELECT j FROM Job j WHERE (:after IS NULL OR j.jobId > :after) ORDER BY j.jobId")
+    List<Job> findExportChunkAfter(@Param("after") UUID after, Pageable pageable);
 }
@@ -0,0 +1,97 @@
+package de.tum.cit.aet.job.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.core.domain.CacheVersion;
+import de.tum.cit.aet.core.repository.CacheVersionRepository;
+import de.tum.cit.aet.core.util.TransactionUtil;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshot cache for the user-independent parts of the public job board
+ * (available job pages and filter options).
+ * <p>
+ * Every entry is keyed by the current "published jobs version" and the current UTC day.
+ * The version is a shared {@link CacheVersion} row: {@link JobService} bumps it in the
+ * transaction that changes a published job, so every node switches to the new version
+ * exactly when the change is committed and stale snapshots are never served. The day is
+ * part of the key because job cards contain day-granular deadline labels and expired jobs
+ * drop off the board at midnight. Entries additionally expire after
+ * {@code aet.job-board-cache.ttl} to bound memory held by superseded versions.
+ */
+@Component
+public class JobBoardCache {
+
+    static final String VERSION_NAME = "job-board";
+
+    private final CacheVersionRepository cacheVersionRepository;
+
+    private final Cache<CacheKey, Object> snapshots;
+
+    private record CacheKey(String region, long version, LocalDate day, Object key) {}
+
+    public JobBoardCache(
+        CacheVersionRepository cacheVersionRepository,
+        @Value("${aet.job-board-cache.max-entries:2000}") long maxEntries,
+        @Value("${aet.job-board-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.snapshots = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * Returns the cached snapshot for the given region and key, computing it with the
+     * loader if no snapshot exists for the current version.
+     *
+     * @param region the logical cache region (e.g. "available-jobs")
+     * @param key    the key within the region; must implement value-based equality
+     * @param loader computes the snapshot on a cache miss
+     * @param <T>    the snapshot type
+     * @return the cached or freshly computed snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, Object key, Supplier<T> loader) {
+        CacheKey cacheKey = new CacheKey(region, currentVersion(), today(), key);
+        return (T) snapshots.get(cacheKey, ignored -> loader.get());
+    }
+
+    /**
+     * Bumps the published jobs version. Inside a transaction the bump commits (or rolls back)
+     * together with the job change; this node's snapshots of previous versions are dropped
+     * once the change is committed.
+     */
+    public void invalidate() {
+        if (cacheVersionRepository.bump(VERSION_NAME) == 0) {
+            cacheVersionRepository.save(new CacheVersion(VERSION_NAME, 1));
+        }
+        TransactionUtil.afterCommit(snapshots::invalidateAll);
+    }
+
+    /**
+     * Returns the current published jobs version as committed in the database.
+     *
+     * @return the monotonically increasing version
+     */
+    public long currentVersion() {
+        return cacheVersionRepository.findVersion(VERSION_NAME).orElse(0L);
+    }
+
+    /**
+     * Returns a strong ETag describing the current job board state. The ETag is the same on
+     * every node because it is derived from the shared version.
+     *
+     * @return the quoted ETag value
+     */
+    public String currentETag() {
+        return "\"jobs-" + currentVersion() + "-" + today().toEpochDay() + "\"";
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
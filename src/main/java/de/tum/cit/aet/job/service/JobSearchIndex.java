@@ -0,0 +1,229 @@
+package de.tum.cit.aet.job.service;
+
+import de.tum.cit.aet.core.util.TransactionUtil;
+import de.tum.cit.aet.job.constants.JobState;
+import de.tum.cit.aet.job.domain.Job;
+import de.tum.cit.aet.job.dto.JobSearchDocumentDTO;
+import de.tum.cit.aet.job.repository.JobRepository;
+import de.tum.cit.aet.usermanagement.domain.User;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over the searchable fields of all published jobs
+ * (title, research area, supervisor name and the EN/DE subject area labels).
+ * <p>
+ * Each field is split into lowercase tokens; a search query matches a job if every
+ * query token is a prefix of at least one of the job's tokens. The index is built
+ * once the application is ready, kept up to date by {@link JobService} on every
+ * job write (applied once the write is committed) and periodically rebuilt from the
+ * database to pick up changes that bypass the service (e.g. user anonymisation or
+ * writes on another node). Changes applied while a rebuild reads the database are
+ * replayed onto the rebuilt index, so a rebuild never reverts a newer change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final JobRepository jobRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready = false;
+
+    // Changes applied during a running rebuild, by job (null tokens = removed); guarded by the index monitor
+    private Map<UUID, Set<String>> changesDuringRebuild;
+
+    /**
+     * Token postings of one index generation. Writers mutate it under the index monitor,
+     * readers access the concurrent maps without locking.
+     */
+    private static final class Snapshot {
+
+        private final Map<UUID, Set<String>> tokensByJob = new ConcurrentHashMap<>();
+        private final ConcurrentNavigableMap<String, Set<UUID>> jobsByToken = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Builds the index once the application context is fully started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the whole index from the database and atomically swaps it in.
+     */
+    @Scheduled(
+        fixedDelayString = "${aet.job-search-index.rebuild-interval:PT10M}",
+        initialDelayString = "${aet.job-search-index.rebuild-interval:PT10M}"
+    )
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            try {
+                synchronized (this) {
+                    changesDuringRebuild = new HashMap<>();
+                }
+                List<JobSearchDocumentDTO> documents = jobRepository.findAllSearchDocumentsByState(JobState.PUBLISHED);
+                Snapshot fresh = new Snapshot();
+                for (JobSearchDocumentDTO document : documents) {
+                    addToSnapshot(fresh, document.jobId(), tokenize(document));
+                }
+                synchronized (this) {
+                    // The database read may predate these changes, so they win over the rebuilt entries
+                    changesDuringRebuild.forEach((jobId, tokens) -> replace(fresh, jobId, tokens));
+                    snapshot = fresh;
+                    ready = true;
+                }
+                log.debug("Rebuilt job search index with {} published jobs", documents.size());
+            } catch (Exception e) {
+                log.warn("Failed to rebuild job search index: {}", e.getMessage());
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the index entry of a job after it has been persisted.
+     * Published jobs are (re-)indexed, all other jobs are removed from the index.
+     * Inside a transaction the change is applied once the transaction commits.
+     *
+     * @param job the saved job
+     */
+    public void update(Job job) {
+        if (job == null || job.getJobId() == null) {
+            return;
+        }
+        if (job.getState() != JobState.PUBLISHED) {
+            remove(job.getJobId());
+            return;
+        }
+        UUID jobId = job.getJobId();
+        User professor = job.getSupervisingProfessor();
+        String supervisorName = professor != null ? professor.getFirstName() + " " + professor.getLastName() : null;
+        Set<String> tokens = tokenize(
+            new JobSearchDocumentDTO(jobId, job.getTitle(), job.getResearchArea(), supervisorName, job.getSubjectArea())
+        );
+        TransactionUtil.afterCommit(() -> apply(jobId, tokens));
+    }
+
+    /**
+     * Removes a job from the index.
+     * Inside a transaction the job is removed once the transaction commits.
+     *
+     * @param jobId the ID of the job to remove
+     */
+    public void remove(UUID jobId) {
+        if (jobId != null) {
+            TransactionUtil.afterCommit(() -> apply(jobId, null));
+        }
+    }
+
+    /**
+     * Resolves the IDs of all published jobs matching the given search query.
+     *
+     * @param normalizedSearchQuery the normalized (trimmed, lowercased) search query
+     * @return the matching job IDs, or an empty optional if the index has not been built yet
+     * and the caller has to fall back to a database search
+     */
+    public Optional<Set<UUID>> search(String normalizedSearchQuery) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Snapshot current = snapshot;
+        Set<UUID> result = null;
+        for (String queryToken : split(normalizedSearchQuery)) {
+            Set<UUID> tokenMatches = new HashSet<>();
+            current.jobsByToken.subMap(queryToken, true, queryToken + Character.MAX_VALUE, true).values().forEach(tokenMatches::addAll);
+            if (result == null) {
+                result = tokenMatches;
+            } else {
+                result.retainAll(tokenMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return Optional.of(result != null ? result : Set.of());
+    }
+
+    private static Set<String> tokenize(JobSearchDocumentDTO document) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(split(document.title()));
+        tokens.addAll(split(document.researchArea()));
+        tokens.addAll(split(document.supervisorName()));
+        if (document.subjectArea() != null) {
+            tokens.addAll(split(document.subjectArea().getEnglishValue()));
+            tokens.addAll(split(document.subjectArea().getGermanValue()));
+        }
+        return tokens;
+    }
+
+    private static Collection<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(value.toLowerCase(Locale.ROOT))
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    private synchronized void apply(UUID jobId, Set<String> tokens) {
+        replace(snapshot, jobId, tokens);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(jobId, tokens);
+        }
+    }
+
+    private static void replace(Snapshot target, UUID jobId, Set<String> tokens) {
+        removeFromSnapshot(target, jobId);
+        if (tokens != null) {
+            addToSnapshot(target, jobId, tokens);
+        }
+    }
+
+    private static void addToSnapshot(Snapshot target, UUID jobId, Set<String> tokens) {
+        target.tokensByJob.put(jobId, tokens);
+        for (String token : tokens) {
+            target.jobsByToken.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(jobId);
+        }
+    }
+
+    private static void removeFromSnapshot(Snapshot target, UUID jobId) {
+        Set<String> tokens = target.tokensByJob.remove(jobId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            target.jobsByToken.computeIfPresent(token, (key, jobIds) -> {
+                jobIds.remove(jobId);
+                return jobIds.isEmpty() ? null : jobIds;
+            });
+        }
+    }
+}
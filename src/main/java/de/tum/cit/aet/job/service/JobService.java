@@ -3,6 +3,7 @@ package de.tum.cit.aet.job.service;
 import de.tum.cit.aet.ai.domain.ComplianceIssue;
 import de.tum.cit.aet.application.constants.ApplicationState;
 import de.tum.cit.aet.application.domain.Application;
+import de.tum.cit.aet.application.domain.dto.ApplicationJobStateDTO;
 import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.domain.DepartmentImage;
@@ -12,7 +13,9 @@ import de.tum.cit.aet.core.dto.SortDTO;
 import de.tum.cit.aet.core.exception.AccessDeniedException;
 import de.tum.cit.aet.core.exception.EntityNotFoundException;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
 import de.tum.cit.aet.core.service.ImageService;
+import de.tum.cit.aet.core.service.JobPdfCache;
 import de.tum.cit.aet.core.util.HtmlSanitizer;
 import de.tum.cit.aet.core.util.PageUtil;
 import de.tum.cit.aet.core.util.StringUtil;
@@ -35,13 +38,20 @@ import de.tum.cit.aet.usermanagement.repository.ApplicantRepository;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -60,6 +70,12 @@ public class JobService {
     private final InterviewService interviewService;
     private final JobImageHelper jobImageHelper;
     private final ImageService imageService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobBoardCache jobBoardCache;
+    private final FilteredCountCache filteredCountCache;
+    private final JobPdfCache jobPdfCache;
+
+    private record AvailableJobsCacheKey(PageDTO page, AvailableJobsFilterDTO filter, SortDTO sort, String searchQuery) {}
 
     /**
      * Creates a new job using the provided job form data.
@@ -128,6 +144,7 @@ public class JobService {
         }
 
         Job savedJob = jobRepository.save(job);
+        refreshJobBoard(savedJob, oldState);
         if (savedJob.getState() == JobState.PUBLISHED && oldState != JobState.PUBLISHED) {
             notifySubjectAreaSubscribers(savedJob);
         }
@@ -135,16 +152,19 @@ public class JobService {
     }
 
     private void notifyApplicants(Set<Application> applications, RejectReason reason) {
+        List<Email> emails = new ArrayList<>(applications.size());
         for (Application application : applications) {
             User user = application.getApplicant().getUser();
-            Email email = Email.builder()
-                .to(user)
-                .language(Language.fromCode(user.getSelectedLanguage()))
-                .emailType(reason.toEmailType())
-                .content(application)
-                .build();
-            sender.sendAsync(email);
+            emails.add(
+                Email.builder()
+                    .to(user)
+                    .language(Language.fromCode(user.getSelectedLanguage()))
+                    .emailType(reason.toEmailType())
+                    .content(application)
+                    .build()
+            );
         }
+        sender.sendAllAsync(emails);
     }
 
     /**
@@ -166,6 +186,12 @@ public class JobService {
         }
 
         jobRepository.deleteById(jobId);
+        jobSearchIndex.remove(jobId);
+        jobPdfCache.invalidate(jobId);
+        filteredCountCache.invalidate(job.getResearchGroup().getResearchGroupId());
+        if (job.getState() == JobState.PUBLISHED) {
+            jobBoardCache.invalidate();
+        }
     }
 
     /**
@@ -270,13 +296,22 @@ public class JobService {
     /**
      * Returns a paginated list of all available (PUBLISHED) jobs.
      * Supports filtering by multiple fields and dynamic sorting, including manual
-     * sort for professor name.
+     * sort for professor name. Search queries are resolved against the in-memory
+     * {@link JobSearchIndex}, so the database only filters by the matching job IDs.
+     * Matching is by word prefix, not by substring: a job matches if every word of the
+     * query is the prefix of a word in its title, research area, supervisor name or
+     * subject area (e.g. "mach lear" finds "Machine Learning", "earning" does not). Only the IDs of
+     * the requested page are sorted and paged in the database; the job cards are built
+     * for that page only.
+     * The user-independent card page is served from the {@link JobBoardCache} and shared
+     * by all callers; for logged-in callers, their own application state is merged in
+     * with a single batched lookup for the jobs on the page.
      *
      * @param pageDTO                pagination configuration
      * @param availableJobsFilterDTO DTO containing all optionally filterable fields
      * @param sortDTO                sort configuration (by field and direction)
-     * @param searchQuery            string to search for job title, subject area
-     *                               or supervisor name
+     * @param searchQuery            words to search for as prefixes of words in the job
+     *                               title, research area, subject area or supervisor name
      * @return a page of {@link JobCardDTO} matching the criteria
      */
     public Page<JobCardDTO> getAvailableJobs(
@@ -285,7 +320,78 @@ public class JobService {
         SortDTO sortDTO,
         String searchQuery
     ) {
+        AvailableJobsCacheKey key = new AvailableJobsCacheKey(
+            pageDTO,
+            availableJobsFilterDTO,
+            sortDTO,
+            StringUtil.normalizeSearchQuery(searchQuery)
+        );
+        Page<JobCardDTO> cards = jobBoardCache.get("available-jobs", key, () ->
+            findAvailableJobs(pageDTO, availableJobsFilterDTO, sortDTO, searchQuery)
+        );
+
         UUID userId = currentUserService.getUserIdIfAvailable().orElse(null);
+        if (userId == null || cards.isEmpty()) {
+            return cards;
+        }
+        return overlayApplicationStates(cards, userId);
+    }
+
+    /**
+     * Decorates the given job cards with the user's latest application per job.
+     *
+     * @param cards  the user-independent job cards
+     * @param userId the ID of the current user
+     * @return the job cards including the user's application ID and state
+     */
+    private Page<JobCardDTO> overlayApplicationStates(Page<JobCardDTO> cards, UUID userId) {
+        List<UUID> jobIds = cards.getContent().stream().map(JobCardDTO::jobId).toList();
+        Map<UUID, ApplicationJobStateDTO> latestApplicationByJob = applicationRepository
+            .findApplicationStatesByUserIdAndJobIds(userId, jobIds)
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    ApplicationJobStateDTO::jobId,
+                    Function.identity(),
+                    BinaryOperator.maxBy(
+                        Comparator.comparing(ApplicationJobStateDTO::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    )
+                )
+            );
+        if (latestApplicationByJob.isEmpty()) {
+            return cards;
+        }
+        return cards.map(card -> {
+            ApplicationJobStateDTO application = latestApplicationByJob.get(card.jobId());
+            return application == null ? card : card.withApplication(application.applicationId(), application.applicationState());
+        });
+    }
+
+    /**
+     * Returns the ETag of the current job board state for anonymous callers.
+     * Logged-in callers receive personalized job cards and therefore no ETag.
+     *
+     * @return the ETag, or {@code null} if the current caller is logged in
+     */
+    public String getAvailableJobsETag() {
+        return currentUserService.getUserIdIfAvailable().isPresent() ? null : jobBoardCache.currentETag();
+    }
+
+    /**
+     * Returns the ETag of the current job board filter options.
+     *
+     * @return the ETag of the filter options
+     */
+    public String getJobFiltersETag() {
+        return jobBoardCache.currentETag();
+    }
+
+    private Page<JobCardDTO> findAvailableJobs(
+        PageDTO pageDTO,
+        AvailableJobsFilterDTO availableJobsFilterDTO,
+        SortDTO sortDTO,
+        String searchQuery
+    ) {
         Pageable pageable;
 
         String normalizedSearchQuery = StringUtil.normalizeSearchQuery(searchQuery);
@@ -298,17 +404,33 @@ public class JobService {
             subjectAreas = null;
         }
 
+        // Resolve the search query via the index; only fall back to the LIKE search while it is still being built
+        Set<UUID> matchingJobIds = null;
+        if (normalizedSearchQuery != null) {
+            Optional<Set<UUID>> indexedJobIds = jobSearchIndex.search(normalizedSearchQuery);
+            if (indexedJobIds.isPresent()) {
+                matchingJobIds = indexedJobIds.get();
+                if (matchingJobIds.isEmpty()) {
+                    return Page.empty(PageUtil.createPageRequest(pageDTO, null, null, false));
+                }
+                normalizedSearchQuery = null;
+                searchSubjectAreas = null;
+            }
+        }
+
+        // Page the matching job IDs first and build the job cards only for that page
+        Page<UUID> jobIds;
         if (sortDTO.sortBy() != null && sortDTO.sortBy().equals("professorName")) {
             // Use pageable without sort: Sorting will be handled manually in @Query
             pageable = PageUtil.createPageRequest(pageDTO, null, null, false);
-            return jobRepository.findAllJobCardsByState(
+            jobIds = jobRepository.findAvailableJobIds(
                 JobState.PUBLISHED,
                 subjectAreas,
                 availableJobsFilterDTO.locations(), // filter for campus location
                 availableJobsFilterDTO.professorNames(), // filter for supervising professor's full name
+                matchingJobIds,
                 sortDTO.sortBy(),
                 sortDTO.direction().name(),
-                userId,
                 normalizedSearchQuery,
                 searchSubjectAreas,
                 pageable
@@ -316,17 +438,27 @@ public class JobService {
         } else {
             // Sort dynamically via Pageable
             pageable = PageUtil.createPageRequest(pageDTO, sortDTO, PageUtil.ColumnMapping.AVAILABLE_JOBS, true);
-            return jobRepository.findAllJobCardsByState(
+            jobIds = jobRepository.findAvailableJobIds(
                 JobState.PUBLISHED,
                 subjectAreas,
                 availableJobsFilterDTO.locations(), // optional filter for campus location
                 availableJobsFilterDTO.professorNames(), // optional filter for supervising professor's full name
-                userId,
+                matchingJobIds,
                 normalizedSearchQuery,
                 searchSubjectAreas,
                 pageable
             );
         }
+        if (jobIds.isEmpty()) {
+            return new PageImpl<>(List.of(), jobIds.getPageable(), jobIds.getTotalElements());
+        }
+        Map<UUID, JobCardDTO> cardsById = jobRepository
+            .findAllJobCardsByJobIdIn(jobIds.getContent())
+            .stream()
+            .collect(Collectors.toMap(JobCardDTO::jobId, Function.identity()));
+        // A job deleted between both queries is dropped from the page
+        List<JobCardDTO> cards = jobIds.getContent().stream().map(cardsById::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(cards, jobIds.getPageable(), jobIds.getTotalElements());
     }
 
     /**
@@ -338,7 +470,7 @@ public class JobService {
      * alphabetically
      */
     public List<SubjectArea> getAllSubjectAreas() {
-        return jobRepository.findAllUniqueSubjectAreas(JobState.PUBLISHED);
+        return jobBoardCache.get("subject-areas", JobState.PUBLISHED, () -> jobRepository.findAllUniqueSubjectAreas(JobState.PUBLISHED));
     }
 
     /**
@@ -350,7 +482,9 @@ public class JobService {
      * alphabetically
      */
     public List<String> getAllSupervisorNames() {
-        return jobRepository.findAllUniqueSupervisorNames(JobState.PUBLISHED);
+        return jobBoardCache.get("supervisor-names", JobState.PUBLISHED, () ->
+            jobRepository.findAllUniqueSupervisorNames(JobState.PUBLISHED)
+        );
     }
 
     /**
@@ -383,7 +517,8 @@ public class JobService {
     /**
      * Returns a paginated list of jobs across every research group for admin views.
      * Supports optional filters for state, research group, and supervising professor,
-     * plus a search string matching job title or professor full name.
+     * plus a search string matching job title or professor full name. The total is taken
+     * from the {@link FilteredCountCache} while no job or application has changed.
      *
      * @param pageDTO          pagination configuration
      * @param adminFilter      DTO containing all optionally filterable fields
@@ -393,10 +528,9 @@ public class JobService {
      */
     public Page<AdminCreatedJobDTO> getAllJobs(PageDTO pageDTO, AdminJobsFilterDTO adminFilter, SortDTO sortDTO, String searchQuery) {
         Pageable pageable = PageUtil.createPageRequest(pageDTO, sortDTO, PageUtil.ColumnMapping.PROFESSOR_JOBS, true);
-        List<JobState> enumStates = null;
-        if (adminFilter.states() != null && !adminFilter.states().isEmpty()) {
-            enumStates = adminFilter.states().stream().map(JobState::fromValue).filter(Objects::nonNull).toList();
-        }
+        List<JobState> enumStates = (adminFilter.states() == null || adminFilter.states().isEmpty())
+            ? null
+            : adminFilter.states().stream().map(JobState::fromValue).filter(Objects::nonNull).toList();
         List<UUID> researchGroupIds = (adminFilter.researchGroupIds() == null || adminFilter.researchGroupIds().isEmpty())
             ? null
             : adminFilter.researchGroupIds();
@@ -405,7 +539,15 @@ public class JobService {
             ? null
             : adminFilter.supervisingProfessorIds();
         String normalizedSearchQuery = StringUtil.normalizeSearchQuery(searchQuery);
-        return jobRepository.findAllJobsForAdmin(enumStates, researchGroupIds, supervisingProfessorIds, normalizedSearchQuery, pageable);
+
+        return filteredCountCache.page(
+            jobRepository.findAllJobsForAdmin(enumStates, researchGroupIds, supervisingProfessorIds, normalizedSearchQuery, pageable),
+            pageable,
+            "admin-jobs",
+            null,
+            Arrays.asList(enumStates, researchGroupIds, supervisingProfessorIds, normalizedSearchQuery),
+            () -> jobRepository.countAllJobsForAdmin(enumStates, researchGroupIds, supervisingProfessorIds, normalizedSearchQuery)
+        );
     }
 
     private JobFormDTO updateJobEntity(Job job, JobFormDTO dto) {
@@ -471,6 +613,7 @@ public class JobService {
 
         // Save job entity first (single repository write)
         Job savedJob = jobRepository.save(job);
+        refreshJobBoard(savedJob, oldState);
 
         if (dto.state() == JobState.PUBLISHED && oldState != JobState.PUBLISHED) {
             interviewService.createInterviewProcessForJob(savedJob.getJobId());
@@ -483,6 +626,23 @@ public class JobService {
         return JobFormDTO.getFromEntity(savedJob);
     }
 
+    /**
+     * Propagates a persisted job change to the search index, the cached list counts of
+     * its research group and the cached PDFs of the job and, if the public job board is
+     * affected, bumps the job board snapshot version.
+     *
+     * @param savedJob the persisted job
+     * @param oldState the state of the job before the change
+     */
+    private void refreshJobBoard(Job savedJob, JobState oldState) {
+        jobSearchIndex.update(savedJob);
+        filteredCountCache.invalidate(savedJob.getResearchGroup().getResearchGroupId());
+        jobPdfCache.invalidate(savedJob.getJobId());
+        if (oldState == JobState.PUBLISHED || savedJob.getState() == JobState.PUBLISHED) {
+            jobBoardCache.invalidate();
+        }
+    }
+
     private void notifySubjectAreaSubscribers(Job job) {
         Set<User> candidates = applicantRepository.findAllBySubjectAreaSubscription(job.getSubjectArea());
         if (candidates.isEmpty()) {
@@ -491,15 +651,15 @@ public class JobService {
 
         // 1) Collect candidate user IDs in one pass.
         // 2) Resolve the enabled subset in a single query.
-        // 3) Fan out the async emails only to that subset.
+        // 3) Queue the emails for that subset as one batch.
         Set<UUID> candidateIds = candidates.stream().map(User::getUserId).collect(Collectors.toSet());
         Set<UUID> enabledIds = emailSettingService.filterEnabledUserIds(EmailType.JOB_PUBLISHED_SUBJECT_AREA, candidateIds);
 
-        candidates
-            .stream()
-            .filter(user -> enabledIds.contains(user.getUserId()))
-            .forEach(user ->
-                sender.sendAsync(
+        sender.sendAllAsync(
+            candidates
+                .stream()
+                .filter(user -> enabledIds.contains(user.getUserId()))
+                .map(user ->
                     Email.builder()
                         .to(user)
                         .emailType(EmailType.JOB_PUBLISHED_SUBJECT_AREA)
@@ -508,7 +668,8 @@ public class JobService {
                         .sendAlways(true)
                         .build()
                 )
-            );
+                .toList()
+        );
     }
 
     /**
@@ -540,6 +701,7 @@ public class JobService {
             job.setJobDescriptionEN(sanitized);
         }
         jobRepository.save(job);
+        jobPdfCache.invalidate(job.getJobId());
     }
 
     /**
@@ -13,8 +13,11 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for managing job postings.
@@ -42,16 +45,21 @@ public class JobResource {
      * workload, etc.
      * Computed fields like professor name must be handled manually.
      * </p>
+     * <p>
+     * Anonymous responses carry an {@code ETag} tied to the published jobs version;
+     * a matching {@code If-None-Match} header yields {@code 304 (Not Modified)}.
+     * </p>
      *
      * @param pageDTO                the pagination information including page
      *                               number (zero-based) and page size
      * @param availableJobsFilterDTO DTO containing all optionally filterable fields
      * @param sortDTO                sorting parameter containing the field and
      *                               direction
-     * @param searchQuery            string to search for job title, subject area
-     *                               or supervisor name
+     * @param searchQuery            words to search for as prefixes of words in the job
+     *                               title, research area, subject area or supervisor name
+     * @param webRequest             the current request, used for ETag validation
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} containing a
-     *         {@link Page} of {@link JobCardDTO}
+     *         {@link Page} of {@link JobCardDTO}, or {@code 304 (Not Modified)}
      */
     @Public
     @GetMapping("/available")
@@ -59,11 +67,19 @@ public class JobResource {
         @ParameterObject @Valid @ModelAttribute PageDTO pageDTO,
         @ParameterObject @Valid @ModelAttribute AvailableJobsFilterDTO availableJobsFilterDTO,
         @ParameterObject @Valid @ModelAttribute SortDTO sortDTO,
-        @RequestParam(required = false) String searchQuery
+        @RequestParam(required = false) String searchQuery,
+        WebRequest webRequest
     ) {
         log.info("GET /api/jobs/available - Fetching available jobs");
+        String eTag = jobService.getAvailableJobsETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
         Page<JobCardDTO> jobs = jobService.getAvailableJobs(pageDTO, availableJobsFilterDTO, sortDTO, searchQuery);
-        return ResponseEntity.ok(jobs);
+        if (eTag == null) {
+            return ResponseEntity.ok(jobs);
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(jobs);
     }
 
     /**
@@ -74,16 +90,22 @@ public class JobResource {
      * It returns subject areas and supervisor names from all
      * published jobs
      * to populate dropdown menus and filter components on the client side.
+     * Responses carry an {@code ETag} tied to the published jobs version.
      *
+     * @param webRequest the current request, used for ETag validation
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} containing a
-     *         {@link JobFiltersDTO} with all available filter options
+     *         {@link JobFiltersDTO} with all available filter options, or {@code 304 (Not Modified)}
      */
     @Public
     @GetMapping("/filters")
-    public ResponseEntity<JobFiltersDTO> getAllFilters() {
+    public ResponseEntity<JobFiltersDTO> getAllFilters(WebRequest webRequest) {
         log.info("GET /api/jobs/filters - Fetching all job filter options");
+        String eTag = jobService.getJobFiltersETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
         JobFiltersDTO dto = new JobFiltersDTO(jobService.getAllSubjectAreas(), jobService.getAllSupervisorNames());
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(dto);
     }
 
     /**
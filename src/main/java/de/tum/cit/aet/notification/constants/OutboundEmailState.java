@@ -0,0 +1,26 @@
+package de.tum.cit.aet.notification.constants;
+
+/**
+ * Delivery state of a message in the mail outbox.
+ */
+public enum OutboundEmailState {
+    /**
+     * Waiting to be picked up once its {@code nextAttemptAt} has passed.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a dispatcher; returned to {@link #PENDING} if the lease expires without an outcome.
+     */
+    SENDING,
+
+    /**
+     * Accepted by the SMTP server.
+     */
+    SENT,
+
+    /**
+     * Gave up after the maximum number of delivery attempts.
+     */
+    FAILED
+}
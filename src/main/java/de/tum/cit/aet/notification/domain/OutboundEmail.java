@@ -0,0 +1,134 @@
+package de.tum.cit.aet.notification.domain;
+
+import de.tum.cit.aet.core.constants.Language;
+import de.tum.cit.aet.core.domain.AbstractAuditingEntity;
+import de.tum.cit.aet.core.domain.converter.StringListConverter;
+import de.tum.cit.aet.core.domain.converter.StringObjectMapConverter;
+import de.tum.cit.aet.core.domain.export.NoUserDataExportRequired;
+import de.tum.cit.aet.notification.constants.EmailType;
+import de.tum.cit.aet.notification.constants.OutboundEmailState;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An email waiting in (or processed by) the mail outbox.
+ *
+ * The row is inserted in the transaction of the change that triggers the email. It stores the recipients
+ * that opted in to the notification and the template inputs (email type, language, research group and the
+ * values bound to the template), so {@link de.tum.cit.aet.notification.service.MailOutboxDispatcher} can
+ * render subject and body right before delivery. Rows queued before the template inputs were stored carry
+ * their rendered subject and body instead. Rows are purged some days after they reached a final state.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "outbound_emails")
+@NoUserDataExportRequired(reason = "Short-lived delivery queue, purged shortly after the email has been sent")
+public class OutboundEmail extends AbstractAuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "outbound_email_id", nullable = false, updatable = false)
+    private UUID outboundEmailId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false)
+    private OutboundEmailState state = OutboundEmailState.PENDING;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "to_addresses", nullable = false, columnDefinition = "TEXT")
+    private List<String> toAddresses = new ArrayList<>();
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "cc_addresses", columnDefinition = "TEXT")
+    private List<String> ccAddresses = new ArrayList<>();
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "bcc_addresses", columnDefinition = "TEXT")
+    private List<String> bccAddresses = new ArrayList<>();
+
+    /**
+     * Lowercase domain of the first To address, used for per-domain rate limiting.
+     */
+    @Column(name = "recipient_domain", nullable = false)
+    private String recipientDomain;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_type")
+    private EmailType emailType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "language")
+    private Language language;
+
+    /**
+     * Research group whose custom template is used, or {@code null} for the system default.
+     */
+    @Column(name = "research_group_id")
+    private UUID researchGroupId;
+
+    @Column(name = "custom_subject", columnDefinition = "TEXT")
+    private String customSubject;
+
+    @Column(name = "custom_body", columnDefinition = "LONGTEXT")
+    private String customBody;
+
+    /**
+     * Values bound to the template variables, extracted from the email content when the message is queued.
+     */
+    @Convert(converter = StringObjectMapConverter.class)
+    @Column(name = "template_data", columnDefinition = "TEXT")
+    private Map<String, Object> templateData;
+
+    /**
+     * Rendered subject. Only stored on rows queued before the template inputs were kept;
+     * otherwise filled in by the dispatcher right before delivery.
+     */
+    @Column(name = "subject", columnDefinition = "TEXT")
+    private String subject;
+
+    /**
+     * Rendered body, stored and filled in like {@link #subject}.
+     */
+    @Column(name = "body_html", columnDefinition = "LONGTEXT")
+    private String bodyHtml;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "document_ids", columnDefinition = "TEXT")
+    private List<String> documentIds = new ArrayList<>();
+
+    @Column(name = "ics_content", columnDefinition = "TEXT")
+    private String icsContent;
+
+    @Column(name = "ics_file_name")
+    private String icsFileName;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_expires_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "sent_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,12 @@
+package de.tum.cit.aet.notification.dto;
+
+import de.tum.cit.aet.notification.constants.EmailType;
+import java.util.UUID;
+
+/**
+ * Minimal projection of a stored email setting, used to find missing default settings of many users in one query.
+ *
+ * @param userId    the ID of the user
+ * @param emailType the email type the user has a setting for
+ */
+public record UserEmailTypeDTO(UUID userId, EmailType emailType) {}
@@ -3,8 +3,10 @@ package de.tum.cit.aet.notification.repository;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.domain.EmailSetting;
+import de.tum.cit.aet.notification.dto.UserEmailTypeDTO;
 import de.tum.cit.aet.usermanagement.domain.User;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -65,5 +67,38 @@ public interface EmailSettingRepository extends TumApplyJpaRepository<EmailSetti
     )
     Set<UUID> findUserIdsWithDisabledSetting(@Param("userIds") Collection<UUID> userIds, @Param("emailType") EmailType emailType);
 
+    /**
+     * Returns the email types each of the given users has a stored setting for.
+     *
+     * @param userIds the IDs of the users
+     * @return one entry per stored setting of the given users
+     */
+    @Query(
+        """
+        SELECT new de.tum.cit.aet.notification.dto.UserEmailTypeDTO(es.user.userId, es.emailType)
+        FROM EmailSetting es
+        WHERE es.user.userId IN :userIds
+        """
+    )
+    List<UserEmailTypeDTO> findEmailTypesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Returns the subset of the given user IDs that have an explicit, enabled setting for the given email type.
+     *
+     * @param userIds   the candidate user IDs to check
+     * @param emailType the email type to filter by
+     * @return the IDs of users who have enabled this email type
+     */
+    @Query(
+        """
+        SELECT es.user.userId
+        FROM EmailSetting es
+        WHERE es.user.userId IN :userIds
+          AND es.emailType = :emailType
+          AND es.enabled = true
+        """
+    )
+    Set<UUID> findUserIdsWithEnabledSetting(@Param("userIds") Collection<UUID> userIds, @Param("emailType") EmailType emailType);
+
     void deleteByUser(User user);
 }
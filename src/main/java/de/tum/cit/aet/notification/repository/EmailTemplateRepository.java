@@ -18,11 +18,11 @@ public interface EmailTemplateRepository extends TumApplyJpaRepository<EmailTemp
     /**
      * Finds the (at most one) custom {@link EmailTemplate} for the given research group and email type.
      *
-     * @param researchGroup the research group owning the template
-     * @param emailType     the email type to look up
+     * @param researchGroupId the ID of the research group owning the template
+     * @param emailType       the email type to look up
      * @return the matching template if it exists
      */
-    Optional<EmailTemplate> findByResearchGroupAndEmailType(ResearchGroup researchGroup, EmailType emailType);
+    Optional<EmailTemplate> findByResearchGroupResearchGroupIdAndEmailType(UUID researchGroupId, EmailType emailType);
 
     /**
      * Returns whether a custom {@link EmailTemplate} exists for the given research group and email type.
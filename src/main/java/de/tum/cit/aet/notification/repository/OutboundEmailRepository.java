@@ -0,0 +1,141 @@
+package de.tum.cit.aet.notification.repository;
+
+import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
+import de.tum.cit.aet.notification.constants.OutboundEmailState;
+import de.tum.cit.aet.notification.domain.OutboundEmail;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboundEmailRepository extends TumApplyJpaRepository<OutboundEmail, UUID> {
+    /**
+     * Locks the oldest pending messages that are due for delivery.
+     * Rows locked by another node are skipped ({@code FOR UPDATE SKIP LOCKED}), so concurrent
+     * dispatchers never claim the same message.
+     *
+     * @param now      the current time (UTC)
+     * @param pageable limits the number of claimed messages
+     * @return the locked messages, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+        """
+        SELECT e FROM OutboundEmail e
+        WHERE e.state = 'PENDING'
+            AND e.nextAttemptAt <= :now
+        ORDER BY e.nextAttemptAt
+        """
+    )
+    List<OutboundEmail> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Returns messages whose dispatcher lease expired (e.g. because the node crashed) to the queue.
+     *
+     * @param now the current time (UTC)
+     * @return the number of released messages
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE OutboundEmail e
+        SET e.state = 'PENDING', e.leaseExpiresAt = NULL
+        WHERE e.state = 'SENDING'
+            AND e.leaseExpiresAt < :now
+        """
+    )
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    /**
+     * Marks the given messages as delivered.
+     *
+     * @param ids    the IDs of the delivered messages
+     * @param sentAt the delivery time (UTC)
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE OutboundEmail e
+        SET e.state = 'SENT',
+            e.sentAt = :sentAt, e.leaseExpiresAt = NULL, e.lastError = NULL
+        WHERE e.outboundEmailId IN :ids
+        """
+    )
+    void markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Records a failed delivery attempt and moves the message to its next state.
+     *
+     * @param id            the ID of the message
+     * @param state         {@code PENDING} to retry, {@code FAILED} to give up
+     * @param attempts      the number of attempts made so far
+     * @param nextAttemptAt the earliest time of the next attempt (UTC)
+     * @param lastError     the failure reason
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE OutboundEmail e
+        SET e.state = :state, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt,
+            e.lastError = :lastError, e.leaseExpiresAt = NULL
+        WHERE e.outboundEmailId = :id
+        """
+    )
+    void recordFailedAttempt(
+        @Param("id") UUID id,
+        @Param("state") OutboundEmailState state,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("lastError") String lastError
+    );
+
+    /**
+     * Puts claimed messages back into the queue without counting an attempt (e.g. when rate limited).
+     *
+     * @param ids           the IDs of the messages
+     * @param nextAttemptAt the earliest time of the next attempt (UTC)
+     */
+    @Modifying
+    @Query(
+        """
+        UPDATE OutboundEmail e
+        SET e.state = 'PENDING',
+            e.nextAttemptAt = :nextAttemptAt, e.leaseExpiresAt = NULL
+        WHERE e.outboundEmailId IN :ids
+        """
+    )
+    void defer(@Param("ids") Collection<UUID> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Counts the messages in the given state.
+     *
+     * @param state the state to count
+     * @return the number of messages
+     */
+    long countByState(OutboundEmailState state);
+
+    /**
+     * Deletes messages in the given states that were last modified before the cutoff.
+     *
+     * @param states the final states to purge
+     * @param cutoff the cutoff time (UTC)
+     * @return the number of deleted messages
+     */
+    @Modifying
+    @Query("DELETE FROM OutboundEmail e WHERE e.state IN :states AND e.lastModifiedAt < :cutoff")
+    int deleteByStateInAndLastModifiedAtBefore(
+        @Param("states") Collection<OutboundEmailState> states,
+        @Param("cutoff") LocalDateTime cutoff
+    );
+}
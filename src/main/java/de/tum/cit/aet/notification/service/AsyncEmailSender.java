@@ -1,27 +1,36 @@
 package de.tum.cit.aet.notification.service;
 
 import de.tum.cit.aet.notification.service.mail.Email;
+import java.util.Collection;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
- * Service for sending emails asynchronously using {@link EmailService}.
+ * Service for sending emails asynchronously through the durable mail outbox.
+ * The email is queued in the caller's transaction; {@link MailOutboxDispatcher} renders and delivers it in the background.
  */
 @Service
 @AllArgsConstructor
 @Slf4j
 public class AsyncEmailSender {
 
-    private final EmailService emailService;
+    private final MailOutboxService mailOutboxService;
 
     /**
-     * Sends the given email asynchronously.
+     * Queues the given email for asynchronous delivery.
      * @param email the email to send
      */
-    @Async
     public void sendAsync(Email email) {
-        emailService.send(email);
+        mailOutboxService.enqueue(email);
+    }
+
+    /**
+     * Queues a batch of emails (e.g. a notification fan-out) for asynchronous delivery.
+     * Notification preferences of all recipients are resolved in bulk.
+     * @param emails the emails to send
+     */
+    public void sendAllAsync(Collection<Email> emails) {
+        mailOutboxService.enqueueAll(emails);
     }
 }
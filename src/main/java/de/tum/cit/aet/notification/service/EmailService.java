@@ -1,8 +1,10 @@
 package de.tum.cit.aet.notification.service;
 
 import de.tum.cit.aet.core.documents.service.DocumentService;
-import de.tum.cit.aet.core.exception.MailingException;
+import de.tum.cit.aet.core.exception.TemplateProcessingException;
+import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.constants.SignoffType;
+import de.tum.cit.aet.notification.domain.OutboundEmail;
 import de.tum.cit.aet.notification.service.EmailTemplateService.EmailContent;
 import de.tum.cit.aet.notification.service.mail.Email;
 import de.tum.cit.aet.usermanagement.domain.User;
@@ -10,9 +12,19 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jsoup.Jsoup;
@@ -22,11 +34,9 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.InputStreamSource;
 import org.springframework.core.io.Resource;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -63,39 +73,130 @@ public class EmailService {
     }
 
     /**
-     * Sends an email and includes retry logic for transient mailing errors.
-     * If email sending is disabled, it will log the email contents instead.
+     * Resolves the recipients of an email that want to be notified and extracts its template inputs.
+     * The result is a self-contained message that can be queued in the mail outbox; it is rendered
+     * by {@link #render(OutboundEmail)} right before delivery.
      *
-     * @param email the email to be sent
+     * @param email the email to queue
+     * @return the (unsaved) message; its To list is empty if no recipient wants to be notified
      */
-    @Retryable(retryFor = MailingException.class, maxAttempts = 3, backoff = @Backoff(delay = 5000, multiplier = 2))
-    protected void send(Email email) {
+    public OutboundEmail prepare(Email email) {
+        return prepare(email, resolveNotifiableRecipients(List.of(email)));
+    }
+
+    /**
+     * Prepares a batch of emails (e.g. a notification fan-out). The notification preferences of all
+     * recipients are resolved with one bulk lookup per email type instead of one lookup per recipient.
+     * Emails that cannot be prepared are logged and skipped.
+     *
+     * @param emails the emails to queue
+     * @return the (unsaved) messages, in the order of the given emails
+     */
+    public List<OutboundEmail> prepareAll(Collection<Email> emails) {
+        Map<EmailType, Set<UUID>> notifiableByType = resolveNotifiableRecipients(emails);
+        List<OutboundEmail> messages = new ArrayList<>(emails.size());
+        for (Email email : emails) {
+            try {
+                messages.add(prepare(email, notifiableByType));
+            } catch (RuntimeException e) {
+                log.error("Failed to prepare email to: {}. Reason: {}", email.getRecipients(), e.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    private OutboundEmail prepare(Email email, Map<EmailType, Set<UUID>> notifiableByType) {
         email.validate();
 
-        EmailContent content = null;
-        if (StringUtils.isEmpty(email.getCustomSubject()) && StringUtils.isEmpty(email.getCustomBody())) {
-            content = resolveContent(email);
+        OutboundEmail message = new OutboundEmail();
+        message.setEmailType(email.getEmailType());
+        message.setLanguage(email.getLanguage());
+        message.setResearchGroupId(email.getResearchGroup() != null ? email.getResearchGroup().getResearchGroupId() : null);
+        message.setCustomSubject(email.getCustomSubject());
+        message.setCustomBody(email.getCustomBody());
+        message.setTemplateData(templateProcessingService.createTemplateData(email.getContent()));
+        Set<UUID> notifiable = notifiableByType.getOrDefault(email.getEmailType(), Set.of());
+        message.setToAddresses(new ArrayList<>(getRecipientsToNotify(email.getTo(), email, notifiable)));
+        message.setCcAddresses(new ArrayList<>(getRecipientsToNotify(email.getCc(), email, notifiable)));
+        message.setBccAddresses(new ArrayList<>(getRecipientsToNotify(email.getBcc(), email, notifiable)));
+        message.setRecipientDomain(
+            message
+                .getToAddresses()
+                .stream()
+                .findFirst()
+                .map(address -> StringUtils.substringAfterLast(address, "@").toLowerCase(Locale.ROOT))
+                .orElse("")
+        );
+        if (email.getDocumentIds() != null) {
+            message.setDocumentIds(email.getDocumentIds().stream().map(UUID::toString).toList());
         }
-        String subject = renderSubject(email, content);
-        String body = renderBody(email, content);
+        message.setIcsContent(email.getIcsContent());
+        message.setIcsFileName(email.getIcsFileName());
+        return message;
+    }
 
-        if (!emailEnabled) {
-            simulateEmail(email, subject, body);
+    /**
+     * Renders subject and body of a queued message from its template inputs. Messages that were queued
+     * with their rendered content are left unchanged.
+     *
+     * @param message the queued message
+     * @throws TemplateProcessingException if the template cannot be rendered
+     */
+    public void render(OutboundEmail message) {
+        if (message.getBodyHtml() != null) {
             return;
         }
 
-        sendEmail(email, subject, body); // throws MailingException on failure
+        EmailContent content = null;
+        if (StringUtils.isEmpty(message.getCustomSubject()) && StringUtils.isEmpty(message.getCustomBody())) {
+            content = resolveContent(message);
+        }
+        message.setSubject(renderSubject(message, content));
+        message.setBodyHtml(renderBody(message, content));
     }
 
     /**
-     * Recovery method called when all retry attempts for sending an email fail.
+     * Delivers a batch of rendered messages. All messages are sent over a single SMTP connection.
+     * If email sending is disabled, the messages are logged instead.
      *
-     * @param ex    the cause of the failure
-     * @param email the email that failed to send
+     * @param messages the messages to deliver
+     * @return the IDs of the messages that could not be delivered, mapped to the failure reason
      */
-    @Recover
-    protected void recoverMailingException(MailingException ex, Email email) {
-        log.error("Email sending failed permanently after retries. To: {}", email.getRecipients());
+    public Map<UUID, String> deliver(List<OutboundEmail> messages) {
+        if (!emailEnabled) {
+            messages.forEach(this::simulateEmail);
+            return Map.of();
+        }
+
+        JavaMailSender mailSender = getMailSender();
+        Map<UUID, String> failures = new HashMap<>();
+        Map<MimeMessage, UUID> idsByMimeMessage = new IdentityHashMap<>();
+        for (OutboundEmail message : messages) {
+            try {
+                MimeMessage mimeMessage = createMimeMessage(mailSender, message);
+                if (mimeMessage != null) {
+                    idsByMimeMessage.put(mimeMessage, message.getOutboundEmailId());
+                }
+            } catch (IOException | MessagingException | RuntimeException e) {
+                failures.put(message.getOutboundEmailId(), e.getMessage());
+            }
+        }
+        if (idsByMimeMessage.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(idsByMimeMessage.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                // Connection-level failure: nothing was sent
+                idsByMimeMessage.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+            e.getFailedMessages().forEach((mimeMessage, cause) -> failures.put(idsByMimeMessage.get(mimeMessage), cause.getMessage()));
+        } catch (MailException e) {
+            idsByMimeMessage.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+        return failures;
     }
 
     /**
@@ -103,44 +204,42 @@ public class EmailService {
      * If a custom subject is set it will be rendered as-is
      * Otherwise, the subject of the template will be used
      *
-     * @param email   the email
+     * @param message the queued message
      * @param content the resolved email content
      * @return the rendered subject
      */
-    private String renderSubject(Email email, EmailContent content) {
-        if (StringUtils.isNotEmpty(email.getCustomSubject()) || content == null) {
-            return templateProcessingService.renderSubject(email.getCustomSubject(), email.getContent());
+    private String renderSubject(OutboundEmail message, EmailContent content) {
+        if (StringUtils.isNotEmpty(message.getCustomSubject()) || content == null) {
+            return templateProcessingService.renderSubject(message.getCustomSubject(), message.getTemplateData());
         }
-        return templateProcessingService.renderSubject(content.subject(), email.getContent());
+        return templateProcessingService.renderSubject(content.subject(), message.getTemplateData());
     }
 
     /**
      * Renders the email body.
-     * If an HTML body is already present in the email, it will be rendered as-is
+     * If a custom HTML body is set, it will be rendered as-is
      * Otherwise, the body is rendered using the template.
      *
-     * @param email   the email to render
+     * @param message the queued message
      * @param content the resolved email content
      * @return the rendered HTML body
      */
-    private String renderBody(Email email, EmailContent content) {
-        SignoffType signoff = email.getEmailType() != null ? email.getEmailType().getSignoffType() : SignoffType.NONE;
-        if (StringUtils.isNotEmpty(email.getCustomBody()) || content == null) {
-            return templateProcessingService.renderRawTemplate(email.getLanguage(), email.getCustomBody(), signoff);
+    private String renderBody(OutboundEmail message, EmailContent content) {
+        SignoffType signoff = message.getEmailType() != null ? message.getEmailType().getSignoffType() : SignoffType.NONE;
+        if (StringUtils.isNotEmpty(message.getCustomBody()) || content == null) {
+            return templateProcessingService.renderRawTemplate(message.getLanguage(), message.getCustomBody(), signoff);
         }
-        return templateProcessingService.renderTemplate(email.getLanguage(), content.bodyHtml(), email.getContent(), signoff);
+        return templateProcessingService.renderTemplate(message.getLanguage(), content.bodyHtml(), message.getTemplateData(), signoff);
     }
 
     /**
      * Logs the email instead of sending it. Used for local testing or when sending
      * is disabled.
      *
-     * @param email   the email
-     * @param subject the rendered subject
-     * @param body    the rendered HTML body
+     * @param message the rendered message
      */
-    private void simulateEmail(Email email, String subject, String body) {
-        org.jsoup.nodes.Document parsedBody = Jsoup.parse(body);
+    private void simulateEmail(OutboundEmail message) {
+        org.jsoup.nodes.Document parsedBody = Jsoup.parse(message.getBodyHtml());
         log.info(
             """
             >>>> Sending Simulated Email <<<<
@@ -151,86 +250,117 @@ public class EmailService {
               Anchor Hrefs: {}
               Body HTML: {}
             """,
-            getRecipientsToNotify(email.getTo(), email),
-            getRecipientsToNotify(email.getCc(), email),
-            getRecipientsToNotify(email.getBcc(), email),
-            subject,
+            message.getToAddresses(),
+            message.getCcAddresses(),
+            message.getBccAddresses(),
+            message.getSubject(),
             parsedBody.select("a[href]").eachAttr("href"),
-            body
+            message.getBodyHtml()
         );
     }
 
     /**
-     * Sends a fully constructed email using JavaMailSender.
-     * Includes optional CC, BCC, and file attachments.
+     * Returns the configured mail sender.
      *
-     * @param email   the email
-     * @param subject the rendered subject
-     * @param body    the rendered HTML body
-     * @throws MailingException if sending fails
+     * @return the mail sender
+     * @throws IllegalStateException if email sending is enabled but no mail sender is configured
      */
-    private void sendEmail(Email email, String subject, String body) {
-        try {
-            JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
-            if (mailSender == null) {
-                throw new IllegalStateException("Mail sender not configured but email sending is enabled");
-            }
-
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    private JavaMailSender getMailSender() {
+        JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null) {
+            throw new IllegalStateException("Mail sender not configured but email sending is enabled");
+        }
+        return mailSender;
+    }
 
-            Set<String> to = getRecipientsToNotify(email.getTo(), email);
-            if (to.isEmpty()) {
-                return;
-            }
+    /**
+     * Builds the MIME message for a rendered message, including CC, BCC and file attachments.
+     *
+     * @param mailSender the mail sender creating the message
+     * @param message    the rendered message
+     * @return the MIME message, or {@code null} if the message has no To recipients
+     * @throws IOException        if reading document content fails
+     * @throws MessagingException if building the message fails
+     */
+    private MimeMessage createMimeMessage(JavaMailSender mailSender, OutboundEmail message) throws IOException, MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
 
-            helper.setTo(to.toArray(new String[0]));
-            helper.setCc(getRecipientsToNotify(email.getCc(), email).toArray(new String[0]));
-            helper.setBcc(getRecipientsToNotify(email.getBcc(), email).toArray(new String[0]));
+        if (message.getToAddresses().isEmpty()) {
+            return null;
+        }
 
-            helper.setFrom(from, fromName);
-            helper.setSubject(subject);
-            helper.setText(body, true);
+        helper.setTo(message.getToAddresses().toArray(new String[0]));
+        helper.setCc(message.getCcAddresses().toArray(new String[0]));
+        helper.setBcc(message.getBccAddresses().toArray(new String[0]));
 
-            attachDocuments(email, helper);
-            attachIcsCalendar(email, helper);
+        helper.setFrom(from, fromName);
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBodyHtml(), true);
 
-            mailSender.send(message);
-        } catch (MailException | IOException | MessagingException e) {
-            log.error("Failed to send email to: {}. Reason: {}", email.getTo(), e.getMessage());
-            throw new MailingException(e.getMessage());
-        }
+        attachDocuments(message, helper);
+        attachIcsCalendar(message, helper);
+        return mimeMessage;
     }
 
     /**
-     * Loads custom or default content for an email based on its type, research group, and language.
+     * Loads custom or default content for a message based on its type, research group, and language.
      *
-     * @param email the email
+     * @param message the queued message
      * @return the resolved {@link EmailContent}, or {@code null} if no email type is set
      */
-    private EmailContent resolveContent(Email email) {
-        if (email.getEmailType() == null) {
-            log.warn("Cannot resolve email content: EmailType is null for email to recipients {}", email.getRecipients());
+    private EmailContent resolveContent(OutboundEmail message) {
+        if (message.getEmailType() == null) {
+            log.warn("Cannot resolve email content: EmailType is null for email to recipients {}", message.getToAddresses());
             return null;
         }
-        return emailTemplateService.resolveContent(email.getResearchGroup(), email.getEmailType(), email.getLanguage());
+        return emailTemplateService.resolveContent(message.getResearchGroupId(), message.getEmailType(), message.getLanguage());
+    }
+
+    /**
+     * Resolves, per email type, which recipients of the given emails have notifications enabled.
+     * All recipients (To, CC and BCC) of all emails sharing a type are resolved in one bulk lookup.
+     * Emails with {@code sendAlways} set do not need a lookup.
+     *
+     * @param emails the emails whose recipients should be resolved
+     * @return the IDs of notifiable users, keyed by email type
+     */
+    private Map<EmailType, Set<UUID>> resolveNotifiableRecipients(Collection<Email> emails) {
+        Map<EmailType, Map<UUID, User>> recipientsByType = new EnumMap<>(EmailType.class);
+        for (Email email : emails) {
+            if (email.isSendAlways() || email.getEmailType() == null) {
+                continue;
+            }
+            Map<UUID, User> recipients = recipientsByType.computeIfAbsent(email.getEmailType(), type -> new HashMap<>());
+            Stream.of(email.getTo(), email.getCc(), email.getBcc())
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .forEach(user -> recipients.putIfAbsent(user.getUserId(), user));
+        }
+
+        Map<EmailType, Set<UUID>> notifiableByType = new EnumMap<>(EmailType.class);
+        recipientsByType.forEach((type, recipients) ->
+            notifiableByType.put(type, emailSettingService.resolveNotifiableUserIds(type, recipients.values()))
+        );
+        return notifiableByType;
     }
 
     /**
      * Filters a list of users to those who have notification enabled for a given
      * email type.
      *
-     * @param users the users to filter
-     * @param email the email context
+     * @param users      the users to filter
+     * @param email      the email context
+     * @param notifiable the IDs of the users that have notifications enabled for the email type
      * @return a set of email addresses to notify
      */
-    private Set<String> getRecipientsToNotify(Set<User> users, Email email) {
+    private Set<String> getRecipientsToNotify(Set<User> users, Email email, Set<UUID> notifiable) {
         if (email.isSendAlways()) {
             return users.stream().map(User::getEmail).collect(Collectors.toSet());
         }
         return users
             .stream()
-            .filter(user -> emailSettingService.canNotify(email.getEmailType(), user))
+            .filter(user -> notifiable.contains(user.getUserId()))
             .map(User::getEmail)
             .collect(Collectors.toSet());
     }
@@ -238,19 +368,19 @@ public class EmailService {
     /**
      * Attaches documents to the outgoing email message.
      *
-     * @param email  the email containing document references
-     * @param helper the message helper
+     * @param message the rendered message containing document references
+     * @param helper  the message helper
      * @throws IOException        if reading document content fails
      * @throws MessagingException if attaching documents fails
      */
-    private void attachDocuments(Email email, MimeMessageHelper helper) throws IOException, MessagingException {
-        if (email.getDocumentIds() == null) {
+    private void attachDocuments(OutboundEmail message, MimeMessageHelper helper) throws IOException, MessagingException {
+        if (message.getDocumentIds() == null) {
             return;
         }
 
         int count = 1;
-        for (UUID documentId : email.getDocumentIds()) {
-            Resource content = documentService.downloadDocument(documentId);
+        for (String documentId : message.getDocumentIds()) {
+            Resource content = documentService.downloadDocument(UUID.fromString(documentId));
             InputStreamSource attachment = new ByteArrayResource(content.getContentAsByteArray());
             helper.addAttachment("document_" + count, attachment);
             count++;
@@ -262,20 +392,20 @@ public class EmailService {
      * If attaching fails, the error is logged but the email is still sent without
      * the attachment.
      *
-     * @param email  the email containing ICS content
-     * @param helper the message helper
+     * @param message the rendered message containing ICS content
+     * @param helper  the message helper
      */
-    private void attachIcsCalendar(Email email, MimeMessageHelper helper) {
-        if (email.getIcsContent() == null || email.getIcsFileName() == null) {
+    private void attachIcsCalendar(OutboundEmail message, MimeMessageHelper helper) {
+        if (message.getIcsContent() == null || message.getIcsFileName() == null) {
             return;
         }
 
         try {
-            byte[] icsBytes = email.getIcsContent().getBytes(StandardCharsets.UTF_8);
+            byte[] icsBytes = message.getIcsContent().getBytes(StandardCharsets.UTF_8);
             InputStreamSource icsSource = new ByteArrayResource(icsBytes);
-            helper.addAttachment(email.getIcsFileName(), icsSource, "text/calendar");
+            helper.addAttachment(message.getIcsFileName(), icsSource, "text/calendar");
         } catch (MessagingException e) {
-            log.warn("Failed to attach ICS calendar file '{}' to email: {}", email.getIcsFileName(), e.getMessage());
+            log.warn("Failed to attach ICS calendar file '{}' to email: {}", message.getIcsFileName(), e.getMessage());
         }
     }
 }
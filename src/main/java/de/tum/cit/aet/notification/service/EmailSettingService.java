@@ -4,17 +4,20 @@ import de.tum.cit.aet.core.exception.EmailSettingException;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.domain.EmailSetting;
 import de.tum.cit.aet.notification.dto.EmailSettingDTO;
+import de.tum.cit.aet.notification.dto.UserEmailTypeDTO;
 import de.tum.cit.aet.notification.repository.EmailSettingRepository;
 import de.tum.cit.aet.usermanagement.constants.UserRole;
 import de.tum.cit.aet.usermanagement.domain.User;
-import de.tum.cit.aet.usermanagement.domain.UserResearchGroupRole;
+import de.tum.cit.aet.usermanagement.dto.UserRoleDTO;
 import de.tum.cit.aet.usermanagement.repository.UserResearchGroupRoleRepository;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class EmailSettingService {
@@ -23,24 +26,36 @@ public class EmailSettingService {
     private final UserResearchGroupRoleRepository userResearchGroupRoleRepository;
 
     /**
-     * Checks if a user can be notified for a specific email type based on their settings.
-     * Updates user email settings before checking to ensure all required settings exist.
+     * Resolves which of the given users can be notified for a specific email type based on their settings.
+     * Missing default settings of all given users are created in one batch before the check, and the
+     * enabled subset is loaded with a single query.
+     * Users without a role that may receive this email type are never included.
      *
      * @param emailType the type of email to check notification permission for
-     * @param user      the user to check notification settings for
-     * @return true if the user has enabled notifications for this email type, false otherwise
-     * @throws IllegalStateException if the user doesn't have the required role to receive this email type
+     * @param users     the users to check notification settings for
+     * @return the IDs of the users that have enabled notifications for this email type
      */
     @Transactional // ensures new settings are persisted and visible in the same DB transaction
-    public boolean canNotify(EmailType emailType, User user) {
-        updateUserEmailSettings(user);
-
-        Optional<EmailSetting> emailSetting = emailSettingRepository.findByUserAndEmailType(user, emailType);
+    public Set<UUID> resolveNotifiableUserIds(EmailType emailType, Collection<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        Map<UUID, Set<UserRole>> rolesByUser = ensureDefaultSettings(users);
 
-        if (emailSetting.isPresent()) {
-            return emailSetting.get().isEnabled();
+        Set<UUID> eligibleUserIds = rolesByUser
+            .entrySet()
+            .stream()
+            .filter(entry -> !Collections.disjoint(entry.getValue(), emailType.getRoles()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+        if (eligibleUserIds.size() < rolesByUser.size()) {
+            int skipped = rolesByUser.size() - eligibleUserIds.size();
+            log.warn("Skipping {} recipient(s) without the required role to receive {}", skipped, emailType);
         }
-        throw new IllegalStateException(String.format("User %s has not the required role to receive this email", user.getUserId()));
+        if (eligibleUserIds.isEmpty()) {
+            return Set.of();
+        }
+        return emailSettingRepository.findUserIdsWithEnabledSetting(eligibleUserIds, emailType);
     }
 
     /**
@@ -112,46 +127,62 @@ public class EmailSettingService {
 
     /**
      * Updates user email settings by creating missing settings for email types the user is eligible for.
-     * Compares required email types based on user roles with existing settings and creates defaults for missing ones.
      *
      * @param user the user whose email settings should be updated with missing defaults
      */
     private void updateUserEmailSettings(User user) {
-        Set<EmailType> requiredTypes = getAvailableEmailTypesForUser(user);
+        ensureDefaultSettings(List.of(user));
+    }
+
+    /**
+     * Creates missing default settings for all given users in one batch.
+     * Compares the email types each user is eligible for (based on their roles) with their existing settings.
+     *
+     * @param users the users whose email settings should be completed
+     * @return the roles of each given user, keyed by user ID
+     */
+    private Map<UUID, Set<UserRole>> ensureDefaultSettings(Collection<User> users) {
+        Map<UUID, User> usersById = users.stream().collect(Collectors.toMap(User::getUserId, user -> user, (first, second) -> first));
 
-        Set<EmailType> existingTypes = emailSettingRepository.findAvailableEmailTypesForUser(user);
+        Map<UUID, Set<UserRole>> rolesByUser = new HashMap<>();
+        usersById.keySet().forEach(userId -> rolesByUser.put(userId, EnumSet.noneOf(UserRole.class)));
+        for (UserRoleDTO role : userResearchGroupRoleRepository.findRolesByUserIds(usersById.keySet())) {
+            rolesByUser.get(role.userId()).add(role.role());
+        }
 
-        Set<EmailSetting> missingSettings = requiredTypes
-            .stream()
-            .filter(type -> !existingTypes.contains(type))
-            .map(type -> {
-                EmailSetting setting = new EmailSetting();
-                setting.setUser(user);
-                setting.setEmailType(type);
-                setting.setEnabled(true);
-                return setting;
-            })
-            .collect(Collectors.toSet());
+        Map<UUID, Set<EmailType>> existingTypesByUser = new HashMap<>();
+        for (UserEmailTypeDTO existing : emailSettingRepository.findEmailTypesByUserIds(usersById.keySet())) {
+            existingTypesByUser.computeIfAbsent(existing.userId(), userId -> EnumSet.noneOf(EmailType.class)).add(existing.emailType());
+        }
+
+        List<EmailSetting> missingSettings = new ArrayList<>();
+        rolesByUser.forEach((userId, roles) -> {
+            Set<EmailType> existingTypes = existingTypesByUser.getOrDefault(userId, Set.of());
+            for (EmailType type : getAvailableEmailTypes(roles)) {
+                if (!existingTypes.contains(type)) {
+                    EmailSetting setting = new EmailSetting();
+                    setting.setUser(usersById.get(userId));
+                    setting.setEmailType(type);
+                    setting.setEnabled(true);
+                    missingSettings.add(setting);
+                }
+            }
+        });
 
         if (!missingSettings.isEmpty()) {
             emailSettingRepository.saveAll(missingSettings);
         }
+        return rolesByUser;
     }
 
     /**
      * Determines which email types a user is eligible to receive based on their roles.
-     * Filters all available email types to only include those matching the user's current roles.
+     * Filters all available email types to only include those matching the given roles.
      *
-     * @param user the user to determine available email types for
+     * @param userRoles the roles of the user
      * @return a set of EmailType values that the user is eligible to receive based on their roles
      */
-    private Set<EmailType> getAvailableEmailTypesForUser(User user) {
-        Set<UserRole> userRoles = userResearchGroupRoleRepository
-            .findAllByUser(user)
-            .stream()
-            .map(UserResearchGroupRole::getRole)
-            .collect(Collectors.toSet());
-
+    private static Set<EmailType> getAvailableEmailTypes(Set<UserRole> userRoles) {
         return Arrays.stream(EmailType.values())
             .filter(emailType -> !Collections.disjoint(userRoles, emailType.getRoles()))
             .collect(Collectors.toSet());
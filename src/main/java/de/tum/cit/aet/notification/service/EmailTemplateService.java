@@ -9,6 +9,7 @@ import de.tum.cit.aet.core.exception.ResourceAlreadyExistsException;
 import de.tum.cit.aet.core.service.CurrentUserService;
 import de.tum.cit.aet.core.util.HtmlSanitizer;
 import de.tum.cit.aet.core.util.TemplateUtil;
+import de.tum.cit.aet.core.util.TransactionUtil;
 import de.tum.cit.aet.notification.constants.EmailType;
 import de.tum.cit.aet.notification.domain.EmailTemplate;
 import de.tum.cit.aet.notification.dto.EmailTemplateDTO;
@@ -18,6 +19,7 @@ import de.tum.cit.aet.notification.repository.EmailTemplateRepository;
 import de.tum.cit.aet.notification.service.DefaultEmailTemplateProvider.DefaultContent;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -27,6 +29,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -34,27 +39,42 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class EmailTemplateService {
 
+    /**
+     * Name of the cache holding resolved {@link EmailContent} per (research group, email type, language).
+     * Hit/miss statistics are published through the actuator cache metrics ({@code cache_gets}).
+     */
+    public static final String RESOLVED_CONTENT_CACHE = "emailTemplateContent";
+
     /**
      * Resolved subject + body for a (group, type, language) lookup.
+     * Serializable because the JCache entries are stored by value.
      */
-    public record EmailContent(String subject, String bodyHtml) {}
+    public record EmailContent(String subject, String bodyHtml) implements Serializable {}
 
     private final EmailTemplateRepository emailTemplateRepository;
     private final DefaultEmailTemplateProvider defaultProvider;
     private final CurrentUserService currentUserService;
+    private final CacheManager cacheManager;
 
     /**
      * Resolves the subject + body to use for the given research group, email type, and language.
      * Returns the customised content if a row exists, otherwise the system default loaded from resource files.
+     * Results are cached until a custom template is created, updated or deleted.
      *
-     * @param researchGroup the research group whose customisations should be considered (may be {@code null} for system-wide emails)
-     * @param emailType     the email type whose content is needed
-     * @param language      the language to render
+     * @param researchGroupId the research group whose customisations should be considered (may be {@code null} for system-wide emails)
+     * @param emailType       the email type whose content is needed
+     * @param language        the language to render
      * @return the resolved subject and body
      */
-    public EmailContent resolveContent(ResearchGroup researchGroup, EmailType emailType, Language language) {
-        if (researchGroup != null) {
-            EmailTemplate custom = emailTemplateRepository.findByResearchGroupAndEmailType(researchGroup, emailType).orElse(null);
+    @Cacheable(
+        cacheNames = RESOLVED_CONTENT_CACHE,
+        key = "(#researchGroupId ?: 'default') + ':' + #emailType?.name() + ':' + #language?.name()"
+    )
+    public EmailContent resolveContent(UUID researchGroupId, EmailType emailType, Language language) {
+        if (researchGroupId != null) {
+            EmailTemplate custom = emailTemplateRepository
+                .findByResearchGroupResearchGroupIdAndEmailType(researchGroupId, emailType)
+                .orElse(null);
             if (custom != null) {
                 return contentFromCustom(custom, language);
             }
@@ -147,7 +167,9 @@ public class EmailTemplateService {
 
         // 4) Persist; the unique constraint guards against races that the existence check missed.
         try {
-            return toDTOForEditing(emailTemplateRepository.save(template));
+            EmailTemplate saved = emailTemplateRepository.save(template);
+            evictResolvedContent();
+            return toDTOForEditing(saved);
         } catch (DataIntegrityViolationException e) {
             throw new ResourceAlreadyExistsException(
                 String.format("Custom template for emailType %s already exists in this research group", dto.emailType())
@@ -188,7 +210,9 @@ public class EmailTemplateService {
 
         // 4) Persist; the unique constraint guards against races that the existence check missed.
         try {
-            return toDTOForEditing(emailTemplateRepository.save(template));
+            EmailTemplate saved = emailTemplateRepository.save(template);
+            evictResolvedContent();
+            return toDTOForEditing(saved);
         } catch (DataIntegrityViolationException e) {
             throw new ResourceAlreadyExistsException(
                 String.format("Custom template for emailType %s already exists in this research group", dto.emailType())
@@ -205,6 +229,18 @@ public class EmailTemplateService {
         EmailTemplate toDelete = findById(templateId);
         currentUserService.assertAccessTo(toDelete);
         emailTemplateRepository.delete(toDelete);
+        evictResolvedContent();
+    }
+
+    /**
+     * Clears the resolved content once the template change has committed. Clearing it earlier would let a
+     * concurrent lookup cache the previous content again until the cache expires.
+     */
+    private void evictResolvedContent() {
+        Cache cache = cacheManager.getCache(RESOLVED_CONTENT_CACHE);
+        if (cache != null) {
+            TransactionUtil.afterCommit(cache::clear);
+        }
     }
 
     /**
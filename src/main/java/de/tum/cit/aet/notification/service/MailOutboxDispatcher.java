@@ -0,0 +1,271 @@
+package de.tum.cit.aet.notification.service;
+
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
+import de.tum.cit.aet.notification.domain.OutboundEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers messages from the mail outbox on a dedicated, bounded worker pool.
+ * <p>
+ * Every poll claims a batch of due messages, applies a per-recipient-domain rate limit and hands
+ * the remaining messages to the workers in chunks. The workers render each message from its template
+ * inputs and send the chunk over a single SMTP connection.
+ * Failed messages are rescheduled with exponential backoff by {@link MailOutboxService}, so no
+ * thread ever sleeps between retries. Messages claimed by a node that dies are picked up again
+ * once their lease expires.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final EmailService emailService;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+    private final int batchSize;
+    private final int messagesPerConnection;
+    private final int perDomainLimit;
+    private final Duration perDomainWindow;
+    private final Duration retention;
+
+    private final AtomicInteger chunksInFlight = new AtomicInteger();
+    // Only accessed from the polling thread; fixed-delay polls never overlap
+    private final Map<String, DomainBudget> domainBudgets = new HashMap<>();
+
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final Timer deliveryLatency;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+
+    public MailOutboxDispatcher(
+        MailOutboxService mailOutboxService,
+        EmailService emailService,
+        MeterRegistry meterRegistry,
+        @Value("${aet.email.outbox.workers:2}") int workers,
+        @Value("${aet.email.outbox.batch-size:100}") int batchSize,
+        @Value("${aet.email.outbox.messages-per-connection:25}") int messagesPerConnection,
+        @Value("${aet.email.outbox.per-domain-limit:120}") int perDomainLimit,
+        @Value("${aet.email.outbox.per-domain-window:PT1M}") Duration perDomainWindow,
+        @Value("${aet.email.outbox.retention:P7D}") Duration retention
+    ) {
+        this.mailOutboxService = mailOutboxService;
+        this.emailService = emailService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.messagesPerConnection = messagesPerConnection;
+        this.perDomainLimit = perDomainLimit;
+        this.perDomainWindow = perDomainWindow;
+        this.retention = retention;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(Math.max(1, batchSize / Math.max(1, messagesPerConnection)));
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.initialize();
+
+        Gauge.builder("tumapply.mail.outbox.pending", pendingMessages, AtomicLong::get)
+            .description("Number of emails waiting in the outbox")
+            .register(meterRegistry);
+        Gauge.builder("tumapply.mail.outbox.chunks.in_flight", chunksInFlight, AtomicInteger::get)
+            .description("Number of email chunks queued or being sent by the outbox workers")
+            .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("tumapply.mail.outbox.delivery.latency")
+            .description("Time between queuing an email and its acceptance by the SMTP server")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("tumapply.mail.outbox.messages", "outcome", "sent");
+        this.retriedCounter = meterRegistry.counter("tumapply.mail.outbox.messages", "outcome", "retried");
+        this.failedCounter = meterRegistry.counter("tumapply.mail.outbox.messages", "outcome", "failed");
+        this.throttledCounter = meterRegistry.counter("tumapply.mail.outbox.messages", "outcome", "throttled");
+    }
+
+    /**
+     * Claims due messages and dispatches them to the worker pool.
+     * Polling is skipped while all workers are busy, so claimed messages never wait for a free worker
+     * longer than their lease.
+     */
+    @Scheduled(fixedDelayString = "${aet.email.outbox.poll-interval:PT5S}", initialDelayString = "${aet.email.outbox.poll-interval:PT5S}")
+    public void poll() {
+        try {
+            pendingMessages.set(mailOutboxService.countPending());
+            if (chunksInFlight.get() >= workers) {
+                return;
+            }
+
+            List<OutboundEmail> claimed = mailOutboxService.claimDueMessages(batchSize);
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            domainBudgets.values().removeIf(budget -> budget.isExpired(now, perDomainWindow));
+
+            Map<String, List<OutboundEmail>> byDomain = new LinkedHashMap<>();
+            for (OutboundEmail message : claimed) {
+                byDomain.computeIfAbsent(message.getRecipientDomain(), domain -> new ArrayList<>()).add(message);
+            }
+
+            for (Map.Entry<String, List<OutboundEmail>> entry : byDomain.entrySet()) {
+                List<OutboundEmail> messages = entry.getValue();
+                DomainBudget budget = domainBudgets.computeIfAbsent(entry.getKey(), domain -> new DomainBudget(now));
+                int granted = budget.acquire(messages.size(), perDomainLimit);
+                if (granted < messages.size()) {
+                    List<OutboundEmail> throttled = messages.subList(granted, messages.size());
+                    mailOutboxService.defer(ids(throttled), budget.windowStart.plus(perDomainWindow));
+                    throttledCounter.increment(throttled.size());
+                }
+                for (int from = 0; from < granted; from += messagesPerConnection) {
+                    submit(new ArrayList<>(messages.subList(from, Math.min(from + messagesPerConnection, granted))));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Mail outbox poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes delivered and permanently failed messages after {@code aet.email.outbox.retention}.
+     */
+    @Scheduled(cron = "${aet.email.outbox.purge-cron:0 43 4 * * *}", zone = "UTC")
+    @SchedulerLock(name = "mail-outbox-purge")
+    public void purge() {
+        int deleted = mailOutboxService.purgeCompletedBefore(LocalDateTime.now(ZoneOffset.UTC).minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} completed outbound emails", deleted);
+        }
+    }
+
+    /**
+     * Waits for in-flight chunks on shutdown; anything left is released again via the lease.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.shutdown();
+    }
+
+    private void submit(List<OutboundEmail> chunk) {
+        chunksInFlight.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(chunk);
+                } finally {
+                    chunksInFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            chunksInFlight.decrementAndGet();
+            mailOutboxService.defer(ids(chunk), LocalDateTime.now(ZoneOffset.UTC));
+        }
+    }
+
+    private void deliver(List<OutboundEmail> chunk) {
+        Map<UUID, String> failures = new LinkedHashMap<>();
+        List<OutboundEmail> rendered = new ArrayList<>(chunk.size());
+        for (OutboundEmail message : chunk) {
+            try {
+                emailService.render(message);
+                rendered.add(message);
+            } catch (RuntimeException e) {
+                // Counts as a failed attempt, so a broken template is retried with backoff like a rejected delivery
+                failures.put(message.getOutboundEmailId(), e.getMessage());
+            }
+        }
+
+        try {
+            if (!rendered.isEmpty()) {
+                failures.putAll(emailService.deliver(rendered));
+            }
+        } catch (RuntimeException e) {
+            for (OutboundEmail message : rendered) {
+                failures.put(message.getOutboundEmailId(), e.getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<UUID> sent = new ArrayList<>();
+        List<OutboundEmail> failed = new ArrayList<>();
+        for (OutboundEmail message : chunk) {
+            if (failures.containsKey(message.getOutboundEmailId())) {
+                failed.add(message);
+            } else {
+                sent.add(message.getOutboundEmailId());
+                deliveryLatency.record(Duration.between(message.getCreatedAt(), now));
+            }
+        }
+
+        // Delivered messages are recorded first, so a failing update below cannot get them re-sent once their lease expires
+        mailOutboxService.markSent(sent);
+        sentCounter.increment(sent.size());
+
+        for (OutboundEmail message : failed) {
+            String failure = failures.get(message.getOutboundEmailId());
+            try {
+                if (mailOutboxService.markFailed(message, failure)) {
+                    retriedCounter.increment();
+                    log.warn("Failed to send email to: {}, will retry. Reason: {}", message.getToAddresses(), failure);
+                } else {
+                    failedCounter.increment();
+                    log.error("Email sending failed permanently after retries. To: {}", message.getToAddresses());
+                }
+            } catch (RuntimeException e) {
+                // The message stays claimed and is retried once its lease expires
+                log.error("Failed to record the failed delivery of email {}: {}", message.getOutboundEmailId(), e.getMessage());
+            }
+        }
+    }
+
+    private static List<UUID> ids(List<OutboundEmail> messages) {
+        return messages.stream().map(OutboundEmail::getOutboundEmailId).toList();
+    }
+
+    /**
+     * Fixed-window send budget of one recipient domain on this node.
+     */
+    private static final class DomainBudget {
+
+        private LocalDateTime windowStart;
+        private int used;
+
+        private DomainBudget(LocalDateTime windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private boolean isExpired(LocalDateTime now, Duration window) {
+            return !now.isBefore(windowStart.plus(window));
+        }
+
+        private int acquire(int requested, int limit) {
+            int granted = Math.min(requested, Math.max(0, limit - used));
+            used += granted;
+            return granted;
+        }
+    }
+}
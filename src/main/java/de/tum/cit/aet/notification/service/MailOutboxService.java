@@ -0,0 +1,211 @@
+package de.tum.cit.aet.notification.service;
+
+import de.tum.cit.aet.notification.constants.OutboundEmailState;
+import de.tum.cit.aet.notification.domain.OutboundEmail;
+import de.tum.cit.aet.notification.repository.OutboundEmailRepository;
+import de.tum.cit.aet.notification.service.mail.Email;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persistence side of the mail outbox: queues emails and records delivery outcomes.
+ * <p>
+ * Emails are stored in the caller's transaction, so a message is queued if and only if the business
+ * change that triggered it commits. Only the recipients and the template inputs are resolved here;
+ * rendering and delivery are done by {@link MailOutboxDispatcher}.
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final EmailService emailService;
+
+    @Value("${aet.email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${aet.email.outbox.initial-backoff:PT30S}")
+    private Duration initialBackoff;
+
+    @Value("${aet.email.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @Value("${aet.email.outbox.lease:PT5M}")
+    private Duration lease;
+
+    public MailOutboxService(OutboundEmailRepository outboundEmailRepository, EmailService emailService) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.emailService = emailService;
+    }
+
+    /**
+     * Queues the given email for delivery within the caller's transaction.
+     * An email that cannot be prepared (e.g. because of an invalid address) is logged and skipped,
+     * so notifying users cannot break the calling workflow.
+     *
+     * @param email the email to queue
+     */
+    public void enqueue(Email email) {
+        OutboundEmail message;
+        try {
+            message = emailService.prepare(email);
+        } catch (RuntimeException e) {
+            log.error("Failed to queue email to: {}. Reason: {}", email.getRecipients(), e.getMessage());
+            return;
+        }
+        if (message.getToAddresses().isEmpty()) {
+            log.debug("Skipping email of type {}: no recipient wants to be notified", email.getEmailType());
+            return;
+        }
+        message.setState(OutboundEmailState.PENDING);
+        message.setNextAttemptAt(now());
+        outboundEmailRepository.save(message);
+    }
+
+    /**
+     * Queues a batch of emails (e.g. a notification fan-out) for delivery within the caller's transaction.
+     * Notification preferences of all recipients are resolved in bulk; messages are inserted in JDBC batches.
+     * Emails that cannot be prepared are logged and skipped.
+     *
+     * @param emails the emails to queue
+     */
+    public void enqueueAll(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = now();
+        List<OutboundEmail> messages = emailService
+            .prepareAll(emails)
+            .stream()
+            .filter(message -> !message.getToAddresses().isEmpty())
+            .toList();
+        for (OutboundEmail message : messages) {
+            message.setState(OutboundEmailState.PENDING);
+            message.setNextAttemptAt(now);
+        }
+        outboundEmailRepository.saveAll(messages);
+        log.debug("Queued {} of {} emails", messages.size(), emails.size());
+    }
+
+    /**
+     * Claims up to {@code limit} due messages for delivery by this node.
+     * Messages whose lease expired without an outcome are returned to the queue first.
+     *
+     * @param limit the maximum number of messages to claim
+     * @return the claimed messages, oldest first
+     */
+    @Transactional
+    public List<OutboundEmail> claimDueMessages(int limit) {
+        LocalDateTime now = now();
+        int released = outboundEmailRepository.releaseExpiredLeases(now);
+        if (released > 0) {
+            log.warn("Released {} outbound emails whose dispatcher lease expired", released);
+        }
+        List<OutboundEmail> due = outboundEmailRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+        LocalDateTime leaseExpiresAt = now.plus(lease);
+        for (OutboundEmail message : due) {
+            message.setState(OutboundEmailState.SENDING);
+            message.setLeaseExpiresAt(leaseExpiresAt);
+        }
+        return due;
+    }
+
+    /**
+     * Marks the given messages as delivered.
+     *
+     * @param ids the IDs of the delivered messages
+     */
+    @Transactional
+    public void markSent(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            outboundEmailRepository.markSent(ids, now());
+        }
+    }
+
+    /**
+     * Records a failed delivery attempt. The message is retried with exponential backoff
+     * until {@code aet.email.outbox.max-attempts} is reached.
+     *
+     * @param message the message that could not be delivered
+     * @param reason  the failure reason
+     * @return {@code true} if the message will be retried, {@code false} if it failed permanently
+     */
+    @Transactional
+    public boolean markFailed(OutboundEmail message, String reason) {
+        int attempts = message.getAttempts() + 1;
+        boolean retry = attempts < maxAttempts;
+        outboundEmailRepository.recordFailedAttempt(
+            message.getOutboundEmailId(),
+            retry ? OutboundEmailState.PENDING : OutboundEmailState.FAILED,
+            attempts,
+            now().plus(backoff(attempts)),
+            StringUtils.abbreviate(reason, MAX_ERROR_LENGTH)
+        );
+        return retry;
+    }
+
+    /**
+     * Returns claimed messages to the queue without counting a delivery attempt.
+     *
+     * @param ids           the IDs of the messages
+     * @param nextAttemptAt the earliest time of the next attempt (UTC)
+     */
+    @Transactional
+    public void defer(Collection<UUID> ids, LocalDateTime nextAttemptAt) {
+        if (!ids.isEmpty()) {
+            outboundEmailRepository.defer(ids, nextAttemptAt);
+        }
+    }
+
+    /**
+     * Counts the messages waiting for delivery.
+     *
+     * @return the number of pending messages
+     */
+    public long countPending() {
+        return outboundEmailRepository.countByState(OutboundEmailState.PENDING);
+    }
+
+    /**
+     * Deletes sent and permanently failed messages that reached their final state before the cutoff.
+     *
+     * @param cutoff the cutoff time (UTC)
+     * @return the number of deleted messages
+     */
+    @Transactional
+    public int purgeCompletedBefore(LocalDateTime cutoff) {
+        return outboundEmailRepository.deleteByStateInAndLastModifiedAtBefore(
+            Set.of(OutboundEmailState.SENT, OutboundEmailState.FAILED),
+            cutoff
+        );
+    }
+
+    /**
+     * Computes the delay before the next attempt: {@code initialBackoff * 2^(attempts - 1)}, capped at {@code maxBackoff}.
+     *
+     * @param attempts the number of failed attempts so far (at least 1)
+     * @return the delay before the next attempt
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
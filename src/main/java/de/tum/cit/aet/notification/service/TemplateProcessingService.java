@@ -1,5 +1,7 @@
 package de.tum.cit.aet.notification.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.exception.TemplateProcessingException;
@@ -22,7 +24,12 @@ import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,6 +42,30 @@ public class TemplateProcessingService {
     private static final String EMAIL_COMPONENTS_IMPORT = "<#import \"base/email-components.ftl\" as ui>" + System.lineSeparator();
     private final Configuration freemarkerConfig;
     private static final String BASE_RAW_TEMPLATE = "base/raw.ftl";
+    private static final int MAX_COMPILED_TEMPLATES = 500;
+
+    /**
+     * Kind of inline template; subject and body sources are compiled differently.
+     */
+    private enum TemplateKind {
+        SUBJECT,
+        BODY,
+    }
+
+    /**
+     * Cache key of a compiled inline template.
+     *
+     * @param kind        whether the source is a subject or a body
+     * @param contentHash the SHA-256 hash of the raw template source
+     */
+    private record CompiledTemplateKey(TemplateKind kind, String contentHash) {}
+
+    // Compiled templates are immutable and thread-safe, so one instance can serve every render of the same source.
+    // The language is part of the data model, not of the template, and an edited source hashes to a new key, so
+    // entries never need to be evicted; unused ones age out by size.
+    private final Cache<CompiledTemplateKey, Template> compiledTemplates = Caffeine.newBuilder()
+        .maximumSize(MAX_COMPILED_TEMPLATES)
+        .build();
 
     @Value("${aet.client.url}")
     private String url;
@@ -55,14 +86,25 @@ public class TemplateProcessingService {
      * @return the rendered and prefixed subject line
      */
     public String renderSubject(String rawSubject, Object content) {
+        return renderSubject(rawSubject, createTemplateData(content));
+    }
+
+    /**
+     * Renders a raw subject string with template variables extracted earlier by {@link #createTemplateData(Object)}.
+     *
+     * @param rawSubject   the raw subject string
+     * @param templateData the values of the template variables, or {@code null} if there are none
+     * @return the rendered and prefixed subject line
+     */
+    public String renderSubject(String rawSubject, Map<String, Object> templateData) {
         try {
-            Map<String, Object> dataModel = content == null ? new HashMap<>() : createDataModel(content);
+            Map<String, Object> dataModel = templateData == null ? new HashMap<>() : new HashMap<>(templateData);
             // Render subject through Freemarker string template
-            Template subjectTemplate = new Template("subject", new StringReader(rawSubject), freemarkerConfig);
+            Template subjectTemplate = getCompiledTemplate(TemplateKind.SUBJECT, rawSubject);
             String renderedSubject = render(subjectTemplate, dataModel);
             return "TUMApply - " + renderedSubject;
-        } catch (IOException ex) {
-            throw new TemplateProcessingException("Failed to render subject template", ex);
+        } catch (UncheckedIOException ex) {
+            throw new TemplateProcessingException("Failed to render subject template", ex.getCause());
         }
     }
 
@@ -97,17 +139,82 @@ public class TemplateProcessingService {
         @NonNull String bodyHtml,
         @NonNull Object content,
         @NonNull SignoffType signoff
+    ) {
+        return renderTemplate(language, bodyHtml, createDataModel(content), signoff);
+    }
+
+    /**
+     * Renders the HTML email body with template variables extracted earlier by {@link #createTemplateData(Object)},
+     * e.g. for an email that was queued in the mail outbox.
+     *
+     * @param language     the email language
+     * @param bodyHtml     the raw template body (FreeMarker source)
+     * @param templateData the values of the template variables
+     * @param signoff      which sign-off the layout should append after the body
+     * @return the fully rendered HTML email body
+     * @throws TemplateProcessingException if template parsing or rendering fails
+     */
+    public String renderTemplate(
+        @NonNull Language language,
+        @NonNull String bodyHtml,
+        @NonNull Map<String, Object> templateData,
+        @NonNull SignoffType signoff
     ) {
         try {
-            Map<String, Object> dataModel = createDataModel(content);
+            Map<String, Object> dataModel = new HashMap<>(templateData);
             addMetaData(language, dataModel);
 
-            Template inlineTemplate = new Template("inline", new StringReader(asHtmlTemplate(bodyHtml)), freemarkerConfig);
+            Template inlineTemplate = getCompiledTemplate(TemplateKind.BODY, bodyHtml);
 
             String htmlBody = render(inlineTemplate, dataModel);
             return renderLayout(language, htmlBody, false, signoff, dataModel);
-        } catch (IOException ex) {
-            throw new TemplateProcessingException("Failed to process inline FreeMarker template for language: " + language, ex);
+        } catch (UncheckedIOException ex) {
+            throw new TemplateProcessingException(
+                "Failed to process inline FreeMarker template for language: " + language,
+                ex.getCause()
+            );
+        }
+    }
+
+    /**
+     * Extracts the values of the template variables from a domain object. The result only holds plain values,
+     * so it can be stored with a queued email and rendered later without loading the domain object again.
+     *
+     * @param content the domain object (e.g. Application, Job), or {@code null}
+     * @return the values of the template variables; empty if no content is given
+     * @throws TemplateProcessingException if the content type is unsupported
+     */
+    public Map<String, Object> createTemplateData(Object content) {
+        return content == null ? new HashMap<>() : createDataModel(content);
+    }
+
+    /**
+     * Returns the compiled template for the given raw source, parsing it only on the first use.
+     *
+     * @param kind      whether the source is a subject or a body
+     * @param rawSource the raw FreeMarker source
+     * @return the compiled template
+     * @throws UncheckedIOException if the source cannot be parsed
+     */
+    private Template getCompiledTemplate(TemplateKind kind, String rawSource) {
+        return compiledTemplates.get(new CompiledTemplateKey(kind, hash(rawSource)), key -> {
+            try {
+                return switch (kind) {
+                    case SUBJECT -> new Template("subject", new StringReader(rawSource), freemarkerConfig);
+                    case BODY -> new Template("inline", new StringReader(asHtmlTemplate(rawSource)), freemarkerConfig);
+                };
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static String hash(String rawSource) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawSource.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
         }
     }
 
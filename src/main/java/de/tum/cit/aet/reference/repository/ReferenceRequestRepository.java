@@ -69,6 +69,17 @@ public interface ReferenceRequestRepository extends JpaRepository<ReferenceReque
     @Query("SELECT r FROM ReferenceRequest r WHERE r.application.applicationId IN :applicationIds")
     List<ReferenceRequest> findByApplicationIds(@Param("applicationIds") List<UUID> applicationIds);
 
+    /**
+     * Bulk-deletes the reference requests of the given applications. Used by retention, which
+     * removes the applications with bulk statements that bypass the JPA cascade.
+     *
+     * @param applicationIds the owning application ids
+     * @return the number of deleted rows
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ReferenceRequest r WHERE r.application.applicationId IN :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+
     /**
      * Finds candidates for a reminder email. Eagerly fetches the application graph the reminder
      * sender needs (applicant + job + research group) so it can build the email without an
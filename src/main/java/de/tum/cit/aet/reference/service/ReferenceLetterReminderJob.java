@@ -1,5 +1,6 @@
 package de.tum.cit.aet.reference.service;
 
+import de.tum.cit.aet.core.service.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,6 +23,7 @@ public class ReferenceLetterReminderJob {
      * 2) Send reminder emails for entries whose deadline is approaching.
      */
     @Scheduled(cron = "${aet.reference.reminder.cron:0 0 0 * * *}", zone = "UTC")
+    @SchedulerLock(name = "reference-letter-reminders")
     public void run() {
         int expired = referenceRequestService.expireOverdueRequests();
         if (expired > 0) {
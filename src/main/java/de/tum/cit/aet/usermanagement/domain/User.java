@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -49,9 +50,21 @@ public class User extends AbstractAuditingEntity {
     @Column(name = "email_verified", nullable = false)
     private boolean emailVerified = false;
 
+    /**
+     * URL of the original profile picture. Use {@link de.tum.cit.aet.core.util.ImageVariantUtil#avatarOf(String, String)}
+     * with {@link #avatarVariantWidths} to show the avatar-sized variant.
+     */
     @Column(name = "avatar", length = 512)
     private String avatar;
 
+    /**
+     * Stored variant widths of the profile picture referenced by {@link #avatar}, or {@code null} if there are none yet.
+     */
+    @Formula(
+        "(SELECT i.variant_widths FROM images i WHERE i.uploaded_by = user_id AND i.image_type = 'PROFILE_PICTURE' AND i.url = avatar)"
+    )
+    private String avatarVariantWidths;
+
     @Column(name = "first_name", nullable = false)
     private String firstName;
 
@@ -1,7 +1,9 @@
 package de.tum.cit.aet.usermanagement.dto;
 
 import de.tum.cit.aet.application.domain.Application;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.usermanagement.domain.Applicant;
+import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.validation.constraints.NotNull;
 
 public record ApplicantDTO(
@@ -63,10 +65,11 @@ public record ApplicantDTO(
         }
 
         // Build UserDTO from snapshot fields
+        User applicantUser = application.getApplicant().getUser();
         UserDTO userDTO = new UserDTO(
             application.getApplicant().getUserId(),
             application.getApplicantEmail(),
-            application.getApplicant().getUser().getAvatar(), // Avatar not snapshotted, get from current user
+            ImageVariantUtil.avatarOf(applicantUser.getAvatar(), applicantUser.getAvatarVariantWidths()), // Avatar not snapshotted
             application.getApplicantFirstName(),
             application.getApplicantLastName(),
             application.getApplicantGender(),
@@ -75,7 +78,7 @@ public record ApplicantDTO(
             application.getApplicantPhoneNumber(),
             application.getApplicantWebsite(),
             application.getApplicantLinkedinUrl(),
-            application.getApplicant().getUser().getSelectedLanguage(), // Language not snapshotted
+            applicantUser.getSelectedLanguage(), // Language not snapshotted
             null // Research group not relevant for application view
         );
 
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.usermanagement.dto;
 
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.usermanagement.constants.UserRole;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
@@ -24,6 +25,39 @@ public record UserDTO(
     String selectedLanguage,
     ResearchGroupShortDTO researchGroupShortDTO
 ) {
+    public UserDTO(
+        UUID userId,
+        String email,
+        String avatar,
+        String avatarVariantWidths,
+        String firstName,
+        String lastName,
+        String gender,
+        String nationality,
+        LocalDate birthday,
+        String phoneNumber,
+        String website,
+        String linkedinUrl,
+        String selectedLanguage,
+        ResearchGroupShortDTO researchGroupShortDTO
+    ) {
+        this(
+            userId,
+            email,
+            ImageVariantUtil.avatarOf(avatar, avatarVariantWidths),
+            firstName,
+            lastName,
+            gender,
+            nationality,
+            birthday,
+            phoneNumber,
+            website,
+            linkedinUrl,
+            selectedLanguage,
+            researchGroupShortDTO
+        );
+    }
+
     /**
      * @param user
      * @return The userDTO from the user
@@ -44,7 +78,7 @@ public record UserDTO(
         return new UserDTO(
             user.getUserId(),
             user.getEmail(),
-            user.getAvatar(),
+            ImageVariantUtil.avatarOf(user.getAvatar(), user.getAvatarVariantWidths()),
             user.getFirstName(),
             user.getLastName(),
             user.getGender(),
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.usermanagement.dto;
 
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.constraints.NotNull;
@@ -32,7 +33,7 @@ public record UserForApplicationDetailDTO(
         return new UserForApplicationDetailDTO(
             user.getUserId(),
             user.getEmail(),
-            user.getAvatar(),
+            ImageVariantUtil.avatarOf(user.getAvatar(), user.getAvatarVariantWidths()),
             String.format("%s %s", user.getFirstName(), user.getLastName()),
             user.getGender(),
             user.getNationality(),
@@ -0,0 +1,12 @@
+package de.tum.cit.aet.usermanagement.dto;
+
+import de.tum.cit.aet.usermanagement.constants.UserRole;
+import java.util.UUID;
+
+/**
+ * Minimal projection of a role assignment, used to resolve the roles of many users in one query.
+ *
+ * @param userId the ID of the user
+ * @param role   one of the user's roles
+ */
+public record UserRoleDTO(UUID userId, UserRole role) {}
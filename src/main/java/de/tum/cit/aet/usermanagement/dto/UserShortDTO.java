@@ -1,5 +1,6 @@
 package de.tum.cit.aet.usermanagement.dto;
 
+import de.tum.cit.aet.core.util.ImageVariantUtil;
 import de.tum.cit.aet.usermanagement.constants.UserRole;
 import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.domain.UserResearchGroupRole;
@@ -32,7 +33,7 @@ public class UserShortDTO {
         this.userId = user.getUserId();
         this.universityId = user.getUniversityId();
         this.email = user.getEmail();
-        this.avatar = user.getAvatar();
+        this.avatar = ImageVariantUtil.avatarOf(user.getAvatar(), user.getAvatarVariantWidths());
         this.firstName = user.getFirstName();
         this.lastName = user.getLastName();
         this.roles = user.getResearchGroupRoles().stream().map(UserResearchGroupRole::getRole).distinct().toList();
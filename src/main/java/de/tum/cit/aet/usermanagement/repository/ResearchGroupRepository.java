@@ -1,5 +1,6 @@
 package de.tum.cit.aet.usermanagement.repository;
 
+import de.tum.cit.aet.core.dto.exportdata.admin.AdminResearchGroupRefDTO;
 import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.usermanagement.constants.ResearchGroupState;
@@ -67,9 +68,37 @@ public interface ResearchGroupRepository extends TumApplyJpaRepository<ResearchG
             )
         """
     )
-    Page<ResearchGroupAdminDTO> findAllForAdmin(
+    List<ResearchGroupAdminDTO> findAllForAdmin(
         @Param("states") List<ResearchGroupState> states,
         @Param("searchQuery") String searchQuery,
         Pageable pageable
     );
+
+    @Query(
+        """
+            SELECT COUNT(rg)
+            FROM ResearchGroup rg
+            WHERE (:states IS NULL OR rg.state IN :states)
+            AND (:searchQuery IS NULL OR
+                 LOWER(rg.name) LIKE LOWER(CONCAT('%', :searchQuery, '%')) OR
+                 LOWER(rg.head) LIKE LOWER(CONCAT('%', :searchQuery, '%')) OR
+                 LOWER(rg.abbreviation) LIKE LOWER(CONCAT('%', :searchQuery, '%'))
+            )
+        """
+    )
+    long countAllForAdmin(@Param("states") List<ResearchGroupState> states, @Param("searchQuery") String searchQuery);
+
+    /**
+     * Returns a lightweight reference to every research group. Used by the admin bulk export
+     * to select and order groups before loading each one on its own.
+     *
+     * @return one reference per research group
+     */
+    @Query(
+        """
+            SELECT new de.tum.cit.aet.core.dto.exportdata.admin.AdminResearchGroupRefDTO(rg.researchGroupId, rg.name, rg.state)
+            FROM ResearchGroup rg
+        """
+    )
+    List<AdminResearchGroupRefDTO> findAllExportRefs();
 }
@@ -5,6 +5,7 @@ import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data JPA repository for the {@link Job} entity.
@@ -170,6 +172,32 @@ public interface UserRepository extends TumApplyJpaRepository<User, UUID> {
     @Query("DELETE FROM User u WHERE u.userId = :userId")
     void deleteByUserId(@Param("userId") UUID userId);
 
+    /**
+     * Advances the last activity timestamp of the given users in a single bulk update.
+     * Only rows whose timestamp is missing or older than the given cutoff are written, so
+     * recently active users do not cause row updates.
+     *
+     * @param userIds        the IDs of the users that were active
+     * @param lastActivityAt the activity timestamp to record
+     * @param staleBefore    rows with a timestamp at or after this cutoff are left untouched
+     * @return the number of updated users
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        """
+            UPDATE User u
+            SET u.lastActivityAt = :lastActivityAt
+            WHERE u.userId IN :userIds
+              AND (u.lastActivityAt IS NULL OR u.lastActivityAt < :staleBefore)
+        """
+    )
+    int advanceLastActivityAt(
+        @Param("userIds") Collection<UUID> userIds,
+        @Param("lastActivityAt") LocalDateTime lastActivityAt,
+        @Param("staleBefore") LocalDateTime staleBefore
+    );
+
     /**
      * Finds user IDs for users available to be added to a research group.
      * Returns only IDs without JOIN FETCH for safe pagination.
@@ -343,4 +371,15 @@ public interface UserRepository extends TumApplyJpaRepository<User, UUID> {
         """
     )
     List<User> findAllProfessors();
+
+    /**
+     * Returns the next chunk of users in id order, starting after the given id. Used by the
+     * admin bulk export to walk the whole table with keyset pagination.
+     *
+     * @param after    the id of the last user of the previous chunk, or {@code null} for the first chunk
+     * @param pageable the chunk size; the page number must be 0
+     * @return the users of the chunk, ordered by id
+     */
+    @Query("SELECT u FROM User u WHERE (:after IS NULL OR u.userId > :after) ORDER BY u.userId")
+    List<User> findExportChunkAfter(@Param("after") UUID after, Pageable pageable);
 }
@@ -4,6 +4,9 @@ import de.tum.cit.aet.core.repository.TumApplyJpaRepository;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
 import de.tum.cit.aet.usermanagement.domain.UserResearchGroupRole;
+import de.tum.cit.aet.usermanagement.dto.UserRoleDTO;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -24,6 +27,21 @@ public interface UserResearchGroupRoleRepository extends TumApplyJpaRepository<U
 
     Set<UserResearchGroupRole> findAllByResearchGroup(ResearchGroup researchGroup);
 
+    /**
+     * Returns the roles of all given users.
+     *
+     * @param userIds the IDs of the users
+     * @return one entry per role assignment of the given users
+     */
+    @Query(
+        """
+        SELECT new de.tum.cit.aet.usermanagement.dto.UserRoleDTO(urgr.user.userId, urgr.role)
+        FROM UserResearchGroupRole urgr
+        WHERE urgr.user.userId IN :userIds
+        """
+    )
+    List<UserRoleDTO> findRolesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     /**
      * Removes research group association from all roles for a specific user.
      *
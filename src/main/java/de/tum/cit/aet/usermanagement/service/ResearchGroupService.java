@@ -9,7 +9,9 @@ import de.tum.cit.aet.core.exception.AlreadyMemberOfResearchGroupException;
 import de.tum.cit.aet.core.exception.BadRequestException;
 import de.tum.cit.aet.core.exception.EntityNotFoundException;
 import de.tum.cit.aet.core.exception.ResourceAlreadyExistsException;
+import de.tum.cit.aet.core.security.PrincipalCache;
 import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.core.service.FilteredCountCache;
 import de.tum.cit.aet.core.util.HtmlSanitizer;
 import de.tum.cit.aet.core.util.PageUtil;
 import de.tum.cit.aet.core.util.StringUtil;
@@ -28,6 +30,7 @@ import de.tum.cit.aet.usermanagement.repository.DepartmentRepository;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.UserRepository;
 import de.tum.cit.aet.usermanagement.repository.UserResearchGroupRoleRepository;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -59,6 +62,8 @@ public class ResearchGroupService {
     private final UserResearchGroupRoleRepository userResearchGroupRoleRepository;
     private final KeycloakUserService keycloakUserService;
     private final AsyncEmailSender emailSender;
+    private final PrincipalCache principalCache;
+    private final FilteredCountCache filteredCountCache;
 
     @Value("${aet.contact-email:tum-apply.aet@xcit.tum.de}")
     private String supportEmail;
@@ -216,6 +221,7 @@ public class ResearchGroupService {
                     role.setRole(UserRole.APPLICANT);
                     role.setResearchGroup(null);
                     userResearchGroupRoleRepository.save(role);
+                    principalCache.evict(userId);
                 });
         }
     }
@@ -281,6 +287,7 @@ public class ResearchGroupService {
         ResearchGroup researchGroup = researchGroupRepository.findByIdElseThrow(researchGroupId);
         updateEntityFromDTO(researchGroup, researchGroupDTO);
         ResearchGroup updatedResearchGroup = researchGroupRepository.save(researchGroup);
+        filteredCountCache.invalidate(researchGroupId);
         return ResearchGroupDTO.getFromEntity(updatedResearchGroup);
     }
 
@@ -351,6 +358,7 @@ public class ResearchGroupService {
         }
         group.setState(ResearchGroupState.ACTIVE);
         ResearchGroup saved = researchGroupRepository.save(group);
+        filteredCountCache.invalidate(researchGroupId);
 
         Set<UserResearchGroupRole> roles = userResearchGroupRoleRepository.findAllByResearchGroup(group);
 
@@ -364,6 +372,7 @@ public class ResearchGroupService {
             .forEach(role -> {
                 role.setRole(UserRole.PROFESSOR);
                 userResearchGroupRoleRepository.save(role);
+                principalCache.evict(role.getUser().getUserId());
             });
 
         userRepository.findByUniversityIdIgnoreCase(saved.getUniversityId()).ifPresent(prof -> sendApprovedResearchGroupEmail(prof, group));
@@ -388,7 +397,9 @@ public class ResearchGroupService {
             throw new IllegalStateException("Only DRAFT groups can be denied");
         }
         group.setState(ResearchGroupState.DENIED);
-        return researchGroupRepository.save(group);
+        ResearchGroup saved = researchGroupRepository.save(group);
+        filteredCountCache.invalidate(researchGroupId);
+        return saved;
     }
 
     /**
@@ -408,11 +419,14 @@ public class ResearchGroupService {
             throw new IllegalStateException("Only ACTIVE groups can be withdrawn");
         }
         group.setState(ResearchGroupState.DRAFT);
-        return researchGroupRepository.save(group);
+        ResearchGroup saved = researchGroupRepository.save(group);
+        filteredCountCache.invalidate(researchGroupId);
+        return saved;
     }
 
     /**
      * Retrieves research groups for admin view with filtering, sorting, and pagination.
+     * The total is cached per filter until a research group changes.
      *
      * @param pageDTO the pagination parameters
      * @param filterDTO the filter parameters including status and search query
@@ -428,10 +442,15 @@ public class ResearchGroupService {
         Pageable pageable = PageUtil.createPageRequest(pageDTO, sortDTO, PageUtil.ColumnMapping.RESEARCH_GROUPS_ADMIN, true);
         String normalizedSearchQuery = StringUtil.normalizeSearchQuery(filterDTO.getSearchQuery());
 
-        Page<ResearchGroupAdminDTO> pageResult = researchGroupRepository.findAllForAdmin(
-            filterDTO.getStatus(),
-            normalizedSearchQuery,
-            pageable
+        List<ResearchGroupState> states = filterDTO.getStatus();
+
+        Page<ResearchGroupAdminDTO> pageResult = filteredCountCache.page(
+            researchGroupRepository.findAllForAdmin(states, normalizedSearchQuery, pageable),
+            pageable,
+            "admin-research-groups",
+            null,
+            Arrays.asList(states, normalizedSearchQuery),
+            () -> researchGroupRepository.countAllForAdmin(states, normalizedSearchQuery)
         );
         return new PageResponseDTO<>(pageResult.getContent(), pageResult.getTotalElements());
     }
@@ -484,6 +503,7 @@ public class ResearchGroupService {
         researchGroup.setState(ResearchGroupState.DRAFT);
 
         ResearchGroup saved = researchGroupRepository.save(researchGroup);
+        filteredCountCache.invalidate(saved.getResearchGroupId());
 
         currentUser.setUniversityId(request.universityId());
         userRepository.save(currentUser);
@@ -542,6 +562,8 @@ public class ResearchGroupService {
             throw new ResourceAlreadyExistsException("Research group with name '" + request.researchGroupName() + "' already exists");
         }
 
+        filteredCountCache.invalidate(saved.getResearchGroupId());
+
         // Update or create the PROFESSOR role
         ensureUserRoleInGroup(professor, saved, UserRole.PROFESSOR);
 
@@ -746,6 +768,7 @@ public class ResearchGroupService {
                 userResearchGroupRoleRepository.save(newRole);
             }
         }
+        principalCache.evict(user.getUserId());
     }
 
     private void notifySupportOfNewResearchGroupRequest(ResearchGroup rg) {
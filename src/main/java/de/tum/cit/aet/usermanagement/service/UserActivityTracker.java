@@ -0,0 +1,144 @@
+package de.tum.cit.aet.usermanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records user activity in memory and periodically writes it to {@code users.last_activity_at}.
+ * <p>
+ * Authenticated requests only {@link #touch(UUID)} the user, so they never open a write transaction
+ * on the users table. The timestamp is only advanced once it is older than
+ * {@link UserService#LAST_ACTIVITY_UPDATE_THRESHOLD}: the tracker remembers the last activity known
+ * to be persisted per user and only queues users whose timestamp is stale or unknown. {@link #flush()}
+ * drains the queue, sorts it by time and advances the stale timestamps in chunked bulk updates, each
+ * chunk using its latest touch. Active users therefore cause at most one row update per threshold,
+ * and the persisted timestamps lag behind the real activity by about the threshold, far less than the
+ * retention periods that read them.
+ */
+@Slf4j
+@Component
+public class UserActivityTracker {
+
+    private static final long KNOWN_USERS = 100_000;
+
+    private final UserRepository userRepository;
+    private final int batchSize;
+
+    private final Map<UUID, LocalDateTime> pendingTouches = new ConcurrentHashMap<>();
+
+    // Last activity known to be persisted per user; entries older than the threshold are useless and expire
+    private final Cache<UUID, LocalDateTime> persistedActivity = Caffeine.newBuilder()
+        .maximumSize(KNOWN_USERS)
+        .expireAfterWrite(UserService.LAST_ACTIVITY_UPDATE_THRESHOLD)
+        .build();
+
+    public UserActivityTracker(UserRepository userRepository, @Value("${aet.user-activity.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Records that the given user has been active just now. The touch is only queued if the
+     * persisted last activity of the user is unknown on this node or older than the threshold.
+     *
+     * @param userId the ID of the active user
+     */
+    public void touch(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime persisted = persistedActivity.getIfPresent(userId);
+        if (persisted != null && !isStale(persisted, now)) {
+            return;
+        }
+        pendingTouches.merge(userId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * Records that the given user has been active just now, together with the last activity
+     * currently persisted for the user, e.g. when the user was just loaded from the database.
+     *
+     * @param userId                  the ID of the active user
+     * @param persistedLastActivityAt the persisted last activity of the user, or {@code null} if none
+     */
+    public void touch(UUID userId, LocalDateTime persistedLastActivityAt) {
+        if (userId != null && persistedLastActivityAt != null) {
+            persistedActivity.asMap().merge(userId, persistedLastActivityAt, (known, loaded) -> loaded.isAfter(known) ? loaded : known);
+        }
+        touch(userId);
+    }
+
+    /**
+     * Writes all queued touches to the database. Touches of a failed chunk are re-queued
+     * unless a newer touch has been recorded in the meantime.
+     */
+    @Scheduled(
+        fixedDelayString = "${aet.user-activity.flush-interval:PT1M}",
+        initialDelayString = "${aet.user-activity.flush-interval:PT1M}"
+    )
+    public void flush() {
+        List<Map.Entry<UUID, LocalDateTime>> touches = drain();
+        if (touches.isEmpty()) {
+            return;
+        }
+        touches.sort(Map.Entry.comparingByValue());
+
+        int updated = 0;
+        for (int from = 0; from < touches.size(); from += batchSize) {
+            List<Map.Entry<UUID, LocalDateTime>> chunk = touches.subList(from, Math.min(from + batchSize, touches.size()));
+            LocalDateTime lastActivityAt = chunk.getLast().getValue();
+            List<UUID> userIds = chunk.stream().map(Map.Entry::getKey).toList();
+            try {
+                updated += userRepository.advanceLastActivityAt(
+                    userIds,
+                    lastActivityAt,
+                    lastActivityAt.minus(UserService.LAST_ACTIVITY_UPDATE_THRESHOLD)
+                );
+                // Rows that were skipped as fresh hold at least the cutoff; recording the touch for them too
+                // delays their next update by at most one more threshold
+                userIds.forEach(userId -> persistedActivity.put(userId, lastActivityAt));
+            } catch (Exception e) {
+                log.warn("Failed to record last activity of {} users, retrying with the next flush: {}", chunk.size(), e.getMessage());
+                chunk.forEach(touch -> pendingTouches.merge(touch.getKey(), touch.getValue(), (current, failed) -> current));
+            }
+        }
+        log.debug("Recorded last activity of {} users ({} rows updated)", touches.size(), updated);
+    }
+
+    /**
+     * Writes outstanding touches before the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static boolean isStale(LocalDateTime lastActivityAt, LocalDateTime now) {
+        return lastActivityAt.isBefore(now.minus(UserService.LAST_ACTIVITY_UPDATE_THRESHOLD));
+    }
+
+    private List<Map.Entry<UUID, LocalDateTime>> drain() {
+        List<Map.Entry<UUID, LocalDateTime>> touches = new ArrayList<>();
+        for (UUID userId : pendingTouches.keySet()) {
+            LocalDateTime touchedAt = pendingTouches.remove(userId);
+            if (touchedAt != null) {
+                touches.add(Map.entry(userId, touchedAt));
+            }
+        }
+        return touches;
+    }
+}
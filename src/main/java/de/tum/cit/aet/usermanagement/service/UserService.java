@@ -3,6 +3,7 @@ package de.tum.cit.aet.usermanagement.service;
 import de.tum.cit.aet.core.dto.PageDTO;
 import de.tum.cit.aet.core.dto.PageResponseDTO;
 import de.tum.cit.aet.core.exception.EntityNotFoundException;
+import de.tum.cit.aet.core.security.PrincipalCache;
 import de.tum.cit.aet.core.service.ImageService;
 import de.tum.cit.aet.core.util.StringUtil;
 import de.tum.cit.aet.usermanagement.constants.UserRole;
@@ -34,18 +35,24 @@ public class UserService {
     private final UserResearchGroupRoleRepository userResearchGroupRoleRepository;
     private final ImageService imageService;
     private final PasswordEncoder passwordEncoder;
-    private static final Duration LAST_ACTIVITY_UPDATE_THRESHOLD = Duration.ofHours(24);
+    private final PrincipalCache principalCache;
+    private final UserActivityTracker userActivityTracker;
+    public static final Duration LAST_ACTIVITY_UPDATE_THRESHOLD = Duration.ofHours(24);
 
     public UserService(
         UserRepository userRepository,
         UserResearchGroupRoleRepository userResearchGroupRoleRepository,
         ImageService imageService,
-        PasswordEncoder passwordEncoder
+        PasswordEncoder passwordEncoder,
+        PrincipalCache principalCache,
+        UserActivityTracker userActivityTracker
     ) {
         this.userRepository = userRepository;
         this.userResearchGroupRoleRepository = userResearchGroupRoleRepository;
         this.imageService = imageService;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.userActivityTracker = userActivityTracker;
     }
 
     /**
@@ -121,7 +128,8 @@ public class UserService {
      * (never null, may be blank); a missing user is created, otherwise only changed fields are
      * updated. firstName and lastName are set once during the initial Keycloak-driven creation
      * and then managed in the database independently of Keycloak. lastActivityAt is refreshed
-     * when older than 24 hours, and the APPLICANT role is assigned when no roles are present.
+     * through the {@link UserActivityTracker} when older than 24 hours, and the APPLICANT role
+     * is assigned when no roles are present.
      * Does not throw for blank names/emails — callers may validate earlier.
      *
      * @param keycloakUserId the Keycloak user ID to associate with the user
@@ -147,17 +155,11 @@ public class UserService {
         // firstName and lastName are only set on user creation (from Keycloak initial values)
         // After that, they are managed independently in the database and not synced with Keycloak
 
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        LocalDateTime cutoff = now.minus(LAST_ACTIVITY_UPDATE_THRESHOLD);
-
-        if (user.getLastActivityAt() == null || user.getLastActivityAt().isBefore(cutoff)) {
-            user.setLastActivityAt(now);
-            updated = true;
-        }
-
         if (updated) {
             user = userRepository.save(user);
         }
+        // Recorded asynchronously so that logins do not lock the user row
+        userActivityTracker.touch(userId, user.getLastActivityAt());
 
         assignApplicantRoleIfEmpty(user);
         return user;
@@ -186,6 +188,7 @@ public class UserService {
         }
 
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
     }
 
     /**
@@ -321,6 +324,7 @@ public class UserService {
         newUser.setEmail(email);
         newUser.setFirstName(firstName);
         newUser.setLastName(lastName);
+        newUser.setLastActivityAt(LocalDateTime.now(ZoneOffset.UTC));
         return newUser;
     }
 
@@ -277,7 +277,7 @@ export class ApplicationDetailComponent {
 
     if (this.currentIndex() + this.half < this.totalRecords()) {
       // Load next item if within bounds
-      void this.loadNext(this.currentIndex() + this.half);
+      void this.loadNext();
     } else {
       // Otherwise update the visible carousel
       this.updateApplications();
@@ -298,7 +298,7 @@ export class ApplicationDetailComponent {
 
     if (this.currentIndex() - this.half >= 0) {
       // Load previous item if within bounds
-      void this.loadPrev(this.currentIndex() - this.half);
+      void this.loadPrev();
     } else {
       // Otherwise update the visible carousel
       this.updateApplications();
@@ -467,6 +467,7 @@ export class ApplicationDetailComponent {
         this.evaluationApi.getApplicationsDetailsWindow(
           id,
           1, // windowSize = 1 to get just this application
+          false,
           this.sortBy(),
           this.sortDirection(),
           this.selectedStatusFilters().length ? this.selectedStatusFilters() : undefined,
@@ -555,6 +556,7 @@ export class ApplicationDetailComponent {
         this.evaluationApi.getApplicationsDetailsWindow(
           applicationId,
           CAROUSEL_SIZE,
+          true,
           this.sortBy(),
           this.sortDirection(),
           statusFilters.length ? statusFilters : undefined,
@@ -575,12 +577,46 @@ export class ApplicationDetailComponent {
     }
   }
 
+  /**
+   * Loads the application following the given cursor (or preceding it for 'PREVIOUS').
+   * The server seeks from the cursor's sort key, so no offset or total count is needed.
+   */
+  private async loadAdjacent(
+    cursor: string | undefined,
+    seekDirection: 'NEXT' | 'PREVIOUS',
+  ): Promise<ApplicationEvaluationDetailDTO[] | undefined> {
+    if (cursor === undefined) {
+      return undefined;
+    }
+    try {
+      const statusFilters = this.selectedStatusFilters().length > 0 ? this.selectedStatusFilters() : [];
+      const jobFilters = this.selectedJobFilters().length > 0 ? this.selectedJobFilters() : [];
+      const search = this.searchQuery();
+      const res: ApplicationEvaluationDetailListDTO = await firstValueFrom(
+        this.evaluationApi.getAdjacentApplicationsDetails(
+          cursor,
+          seekDirection,
+          1,
+          this.sortBy(),
+          this.sortDirection(),
+          statusFilters.length ? statusFilters : undefined,
+          jobFilters.length ? jobFilters : undefined,
+          search || undefined,
+        ),
+      );
+      return res.applications?.length ? res.applications : undefined;
+    } catch {
+      this.toastService.showErrorKey('evaluation.errors.loadApplications');
+      return undefined;
+    }
+  }
+
   /**
    * Loads the next application and appends it to the right side of the current carousel.
    * Adjusts carousel to keep the size fixed (CAROUSEL_SIZE).
    */
-  private async loadNext(i: number): Promise<void> {
-    const newEntry = await this.loadPage(i, 1);
+  private async loadNext(): Promise<void> {
+    const newEntry = await this.loadAdjacent(this.applications().at(-1)?.cursor, 'NEXT');
     if (newEntry) {
       let apps = [...this.applications(), ...newEntry];
       // Keep carousel size fixed
@@ -597,8 +633,8 @@ export class ApplicationDetailComponent {
    * Loads the previous application and prepends it to the left side of the carousel.
    * Adjusts carousel to keep the size fixed (CAROUSEL_SIZE).
    */
-  private async loadPrev(i: number): Promise<void> {
-    const newEntry = await this.loadPage(i, 1);
+  private async loadPrev(): Promise<void> {
+    const newEntry = await this.loadAdjacent(this.applications()[0]?.cursor, 'PREVIOUS');
     if (newEntry) {
       let apps = [...newEntry, ...this.applications()];
       if (apps.length > CAROUSEL_SIZE) {
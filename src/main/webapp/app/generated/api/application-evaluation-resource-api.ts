@@ -48,6 +48,60 @@ export class ApplicationEvaluationResourceApi {
         return this.http.get(url, { responseType: 'blob', observe: 'response' });
     }
 
+    /**
+     * 
+     * 
+     * @param jobId 
+     */
+    downloadAllForJob(jobId: string): Observable<HttpResponse<Blob>> {
+        const jobIdPath = encodeURIComponent(String(jobId));
+        const url = `${this.basePath}/api/evaluation/jobs/${jobIdPath}/documents-download`;
+        return this.http.get(url, { responseType: 'blob', observe: 'response' });
+    }
+
+    /**
+     * 
+     * 
+     * @param cursor 
+     * @param seekDirection 
+     * @param limit 
+     * @param sortBy 
+     * @param direction 
+     * @param status 
+     * @param job 
+     * @param search 
+     */
+    getAdjacentApplicationsDetails(cursor: string, seekDirection: 'NEXT' | 'PREVIOUS', limit?: number, sortBy?: string, direction?: 'ASC' | 'DESC', status?: Array<string>, job?: Array<string>, search?: string): Observable<ApplicationEvaluationDetailListDTO> {
+        const queryParams = new URLSearchParams();
+        if (cursor !== undefined && cursor !== null) {
+            queryParams.set('cursor', String(cursor));
+        }
+        if (seekDirection !== undefined && seekDirection !== null) {
+            queryParams.set('seekDirection', String(seekDirection));
+        }
+        if (limit !== undefined && limit !== null) {
+            queryParams.set('limit', String(limit));
+        }
+        if (sortBy !== undefined && sortBy !== null) {
+            queryParams.set('sortBy', String(sortBy));
+        }
+        if (direction !== undefined && direction !== null) {
+            queryParams.set('direction', String(direction));
+        }
+        if (status !== undefined && status !== null) {
+            status.forEach(item => queryParams.append('status', String(item)));
+        }
+        if (job !== undefined && job !== null) {
+            job.forEach(item => queryParams.append('job', String(item)));
+        }
+        if (search !== undefined && search !== null) {
+            queryParams.set('search', String(search));
+        }
+        const queryString = queryParams.toString();
+        const url = `${this.basePath}/api/evaluation/application-details/adjacent${queryString ? `?${queryString}` : ''}`;
+        return this.http.get<ApplicationEvaluationDetailListDTO>(url);
+    }
+
     /**
      * 
      * 
@@ -101,13 +155,14 @@ export class ApplicationEvaluationResourceApi {
      * 
      * @param applicationId 
      * @param windowSize 
+     * @param includeTotal 
      * @param sortBy 
      * @param direction 
      * @param status 
      * @param job 
      * @param search 
      */
-    getApplicationsDetailsWindow(applicationId: string, windowSize: number, sortBy?: string, direction?: 'ASC' | 'DESC', status?: Array<string>, job?: Array<string>, search?: string): Observable<ApplicationEvaluationDetailListDTO> {
+    getApplicationsDetailsWindow(applicationId: string, windowSize: number, includeTotal?: boolean, sortBy?: string, direction?: 'ASC' | 'DESC', status?: Array<string>, job?: Array<string>, search?: string): Observable<ApplicationEvaluationDetailListDTO> {
         const queryParams = new URLSearchParams();
         if (applicationId !== undefined && applicationId !== null) {
             queryParams.set('applicationId', String(applicationId));
@@ -115,6 +170,9 @@ export class ApplicationEvaluationResourceApi {
         if (windowSize !== undefined && windowSize !== null) {
             queryParams.set('windowSize', String(windowSize));
         }
+        if (includeTotal !== undefined && includeTotal !== null) {
+            queryParams.set('includeTotal', String(includeTotal));
+        }
         if (sortBy !== undefined && sortBy !== null) {
             queryParams.set('sortBy', String(sortBy));
         }
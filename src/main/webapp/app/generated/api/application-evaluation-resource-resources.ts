@@ -33,6 +33,73 @@ export function downloadAllResource(applicationId: Signal<string> | string): Htt
     });
 }
 
+/**
+ * 
+ * 
+ * Creates a reactive HTTP resource that automatically refetches when signals change.
+ * @param jobId 
+ */
+export function downloadAllForJobResource(jobId: Signal<string> | string): HttpResourceRef<Blob | undefined> {
+    return httpResource<Blob>(() => {
+        const jobIdValue = typeof jobId === 'function' ? jobId() : jobId;
+        const jobIdPath = encodeURIComponent(String(jobIdValue));
+        return `${BASE_PATH}/api/evaluation/jobs/${jobIdPath}/documents-download`;
+    });
+}
+
+/**
+ * Query parameters for getAdjacentApplicationsDetails
+ */
+export interface GetAdjacentApplicationsDetailsParams {
+    cursor: string;
+    seekDirection: 'NEXT' | 'PREVIOUS';
+    limit?: number;
+    sortBy?: string;
+    direction?: 'ASC' | 'DESC';
+    status?: Array<string>;
+    job?: Array<string>;
+    search?: string;
+}
+
+/**
+ * 
+ * 
+ * Creates a reactive HTTP resource that automatically refetches when signals change.
+ * @param params Optional signal containing query parameters
+ */
+export function getAdjacentApplicationsDetailsResource(params: Signal<GetAdjacentApplicationsDetailsParams>): HttpResourceRef<ApplicationEvaluationDetailListDTO | undefined> {
+    return httpResource<ApplicationEvaluationDetailListDTO>(() => {
+        const queryParams = params();
+        const searchParams = new URLSearchParams();
+        if (queryParams.cursor !== undefined && queryParams.cursor !== null) {
+            searchParams.set('cursor', String(queryParams.cursor));
+        }
+        if (queryParams.seekDirection !== undefined && queryParams.seekDirection !== null) {
+            searchParams.set('seekDirection', String(queryParams.seekDirection));
+        }
+        if (queryParams.limit !== undefined && queryParams.limit !== null) {
+            searchParams.set('limit', String(queryParams.limit));
+        }
+        if (queryParams.sortBy !== undefined && queryParams.sortBy !== null) {
+            searchParams.set('sortBy', String(queryParams.sortBy));
+        }
+        if (queryParams.direction !== undefined && queryParams.direction !== null) {
+            searchParams.set('direction', String(queryParams.direction));
+        }
+        if (queryParams.status?.length) {
+            queryParams.status.forEach(value => searchParams.append('status', String(value)));
+        }
+        if (queryParams.job?.length) {
+            queryParams.job.forEach(value => searchParams.append('job', String(value)));
+        }
+        if (queryParams.search !== undefined && queryParams.search !== null) {
+            searchParams.set('search', String(queryParams.search));
+        }
+        const query = searchParams.toString();
+        return `${BASE_PATH}/api/evaluation/application-details/adjacent${query ? `?${query}` : ''}`;
+    });
+}
+
 /**
  * 
  * 
@@ -99,6 +166,7 @@ export function getApplicationsDetailsResource(params?: Signal<GetApplicationsDe
 export interface GetApplicationsDetailsWindowParams {
     applicationId: string;
     windowSize: number;
+    includeTotal?: boolean;
     sortBy?: string;
     direction?: 'ASC' | 'DESC';
     status?: Array<string>;
@@ -122,6 +190,9 @@ export function getApplicationsDetailsWindowResource(params: Signal<GetApplicati
         if (queryParams.windowSize !== undefined && queryParams.windowSize !== null) {
             searchParams.set('windowSize', String(queryParams.windowSize));
         }
+        if (queryParams.includeTotal !== undefined && queryParams.includeTotal !== null) {
+            searchParams.set('includeTotal', String(queryParams.includeTotal));
+        }
         if (queryParams.sortBy !== undefined && queryParams.sortBy !== null) {
             searchParams.set('sortBy', String(queryParams.sortBy));
         }
@@ -15,6 +15,7 @@ export interface ApplicationEvaluationDetailDTO {
     readonly applicationDetailDTO: ApplicationDetailDTO;
     readonly appliedAt?: string;
     readonly averageRating?: number;
+    readonly cursor?: string;
     readonly jobId?: string;
     readonly professor?: ProfessorDTO;
     readonly ratingCount?: number;
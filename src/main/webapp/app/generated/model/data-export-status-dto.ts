@@ -14,6 +14,8 @@ export interface DataExportStatusDTO {
     readonly downloadToken?: string;
     readonly lastRequestedAt?: string;
     readonly nextAllowedAt?: string;
+    readonly progressDone?: number;
+    readonly progressTotal?: number;
     readonly status?: DataExportStatusDTOStatusEnum;
 }
 
@@ -18,6 +18,7 @@ export interface ImageDTO {
     readonly sizeBytes?: number;
     readonly uploadedById?: string;
     readonly url?: string;
+    readonly variants?: { [key: string]: string; };
 }
 
 export type ImageDTOImageTypeEnum = 'JOB_BANNER' | 'PROFILE_PICTURE' | 'DEFAULT_JOB_BANNER';
@@ -16,6 +16,7 @@ export interface JobCardDTO {
     readonly avatar?: string;
     readonly contractDuration?: number;
     readonly imageUrl?: string;
+    readonly imageVariants?: { [key: string]: string; };
     readonly jobId: string;
     readonly location: JobCardDTOLocationEnum;
     readonly professorName: string;
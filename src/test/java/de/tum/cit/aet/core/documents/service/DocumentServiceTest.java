@@ -0,0 +1,127 @@
+package de.tum.cit.aet.core.documents.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.core.constants.DocumentType;
+import de.tum.cit.aet.core.documents.domain.ApplicantDocument;
+import de.tum.cit.aet.core.documents.repository.DocumentRepository;
+import de.tum.cit.aet.core.exception.UploadException;
+import de.tum.cit.aet.core.service.CurrentUserService;
+import de.tum.cit.aet.usermanagement.domain.Applicant;
+import de.tum.cit.aet.utility.testdata.UserTestData;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentServiceTest {
+
+    private static final long MAX_FILE_SIZE = 1024;
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private MultipartFile oversizedUpload;
+
+    private DocumentService documentService;
+
+    private final Applicant applicant = new Applicant();
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        documentService = new DocumentService(documentRepository, currentUserService, root.toString(), MAX_FILE_SIZE);
+    }
+
+    @Test
+    void storesUploadUnderTheHashOfItsContent() throws Exception {
+        stubSave();
+        byte[] content = "%PDF-1.7 curriculum vitae".getBytes(StandardCharsets.UTF_8);
+
+        ApplicantDocument document = upload("cv.pdf", content);
+
+        Path expected = root.resolve(sha256(content) + ".pdf").toAbsolutePath().normalize();
+        assertThat(document.getPath()).isEqualTo(expected.toString());
+        assertThat(document.getSizeBytes()).isEqualTo((long) content.length);
+        assertThat(document.getMimeType()).isEqualTo("application/pdf");
+        assertThat(Files.readAllBytes(expected)).isEqualTo(content);
+        assertThat(storedFiles()).containsExactly(expected);
+    }
+
+    @Test
+    void identicalUploadsShareOneFile() throws Exception {
+        stubSave();
+        byte[] content = "%PDF-1.7 transcript".getBytes(StandardCharsets.UTF_8);
+
+        ApplicantDocument first = upload("transcript.pdf", content);
+        ApplicantDocument second = upload("transcript-copy.pdf", content);
+        ApplicantDocument other = upload("other.pdf", "%PDF-1.7 other".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(other.getPath()).isNotEqualTo(first.getPath());
+        assertThat(storedFiles()).containsExactlyInAnyOrder(Path.of(first.getPath()), Path.of(other.getPath()));
+    }
+
+    @Test
+    void uploadLargerThanDeclaredIsRejectedWithoutLeavingFiles() throws Exception {
+        // The declared size passes validation; the limit is enforced on the bytes actually received
+        when(oversizedUpload.isEmpty()).thenReturn(false);
+        when(oversizedUpload.getOriginalFilename()).thenReturn("large.pdf");
+        when(oversizedUpload.getSize()).thenReturn(10L);
+        when(oversizedUpload.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[(int) MAX_FILE_SIZE + 1]));
+
+        assertThatThrownBy(() -> documentService.uploadApplicantDocument(oversizedUpload, DocumentType.CV, "large", applicant))
+            .isInstanceOf(UploadException.class);
+
+        assertThat(storedFiles()).isEmpty();
+        verify(documentRepository, never()).save(any());
+    }
+
+    private ApplicantDocument upload(String filename, byte[] content) {
+        MockMultipartFile file = new MockMultipartFile("file", filename, "application/pdf", content);
+        return documentService.uploadApplicantDocument(file, DocumentType.CV, filename, applicant);
+    }
+
+    private void stubSave() {
+        when(currentUserService.getUser()).thenReturn(UserTestData.newUser());
+        when(documentRepository.save(any())).then(AdditionalAnswers.returnsFirstArg());
+    }
+
+    /** All files in the storage root, including leftover temporary uploads. */
+    private List<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.map(path -> path.toAbsolutePath().normalize()).toList();
+        }
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -124,6 +124,23 @@ class ApplicantRetentionServiceIntegrationTest {
             assertThat(intervieweeRepository.findById(fixtures.interviewee.getId())).isNotPresent();
         }
 
+        @Test
+        void shouldDeleteWholeSliceWithRelatedData() {
+            TestFixtures first = createApplicationWithRelations(null);
+            TestFixtures second = createApplicationWithRelations(null);
+
+            Page<UUID> page = new PageImpl<>(List.of(first.application.getApplicationId(), second.application.getApplicationId()));
+            applicantRetentionService.processApplications(page, false, LocalDateTime.now());
+
+            for (TestFixtures fixtures : List.of(first, second)) {
+                assertThat(applicationRepository.findById(fixtures.application.getApplicationId())).isNotPresent();
+                assertThat(applicationReviewRepository.findById(fixtures.review.getApplicationReviewId())).isNotPresent();
+                assertThat(internalCommentRepository.findById(fixtures.comment.getInternalCommentId())).isNotPresent();
+                assertThat(documentRepository.findById(fixtures.dictionary.getDocumentId())).isNotPresent();
+                assertThat(intervieweeRepository.findById(fixtures.interviewee.getId())).isNotPresent();
+            }
+        }
+
         @Test
         void shouldNotDeleteAnythingInDryRun() {
             TestFixtures fixtures = createApplicationWithRelations(null);
@@ -35,6 +35,7 @@ import de.tum.cit.aet.utility.testdata.UserTestData;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -120,10 +121,11 @@ class ApplicantRetentionWarningIntegrationTest {
 
         applicantRetentionJob.warnApplicantOfDataDeletion();
 
-        ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-        verify(mockSender, times(1)).sendAsync(emailCaptor.capture());
+        ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+        verify(mockSender, times(1)).sendAllAsync(emailCaptor.capture());
 
-        Email sentEmail = emailCaptor.getValue();
+        assertThat(emailCaptor.getValue()).hasSize(1);
+        Email sentEmail = emailCaptor.getValue().iterator().next();
         assertThat(sentEmail.getEmailType()).isEqualTo(EmailType.APPLICANT_DATA_DELETION_WARNING);
         assertThat(sentEmail.getTo()).extracting(User::getUserId).contains(warnedApplicantUser.getUserId());
     }
@@ -161,6 +163,9 @@ class ApplicantRetentionWarningIntegrationTest {
 
         applicantRetentionJob.warnApplicantOfDataDeletion();
 
+        ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+        verify(mockSender, times(1)).sendAllAsync(emailCaptor.capture());
+        assertThat(emailCaptor.getValue()).isEmpty();
         verify(mockSender, never()).sendAsync(Mockito.any());
     }
 
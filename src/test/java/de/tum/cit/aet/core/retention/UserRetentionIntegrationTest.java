@@ -63,6 +63,7 @@ import de.tum.cit.aet.utility.testdata.UserTestData;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -440,10 +441,11 @@ class UserRetentionIntegrationTest {
 
             userRetentionService.warnUserOfDataDeletion(warningDate);
 
-            ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-            verify(mockSender, times(1)).sendAsync(emailCaptor.capture());
+            ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+            verify(mockSender, times(1)).sendAllAsync(emailCaptor.capture());
 
-            Email sentEmail = emailCaptor.getValue();
+            assertThat(emailCaptor.getValue()).hasSize(1);
+            Email sentEmail = emailCaptor.getValue().iterator().next();
             assertThat(sentEmail.getEmailType()).isEqualTo(EmailType.USER_DATA_DELETION_WARNING);
             assertThat(sentEmail.getLanguage()).isEqualTo(Language.fromCode(userToWarn.getSelectedLanguage()));
             assertThat(sentEmail.getTo()).extracting(User::getUserId).containsExactly(userToWarn.getUserId());
@@ -0,0 +1,83 @@
+package de.tum.cit.aet.core.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.usermanagement.constants.UserRole;
+import de.tum.cit.aet.usermanagement.domain.User;
+import de.tum.cit.aet.usermanagement.domain.UserResearchGroupRole;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "user@tum.de";
+
+    private PrincipalCache principalCache;
+    private User user;
+    private String subject;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(Duration.ofMinutes(1), 100);
+
+        user = new User();
+        user.setUserId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        UserResearchGroupRole role = new UserResearchGroupRole();
+        role.setUser(user);
+        role.setRole(UserRole.PROFESSOR);
+        user.getResearchGroupRoles().add(role);
+
+        subject = user.getUserId().toString();
+    }
+
+    @Test
+    void putExposesSnapshotAndAuthorities() {
+        principalCache.put(subject, principalCache.currentVersion(subject), EMAIL, user);
+
+        PrincipalCache.CachedPrincipal cached = principalCache.getForAuthentication(subject, EMAIL).orElseThrow();
+        assertThat(cached.currentUser().userId()).isEqualTo(user.getUserId());
+        assertThat(cached.currentUser().isProfessor()).isTrue();
+        assertThat(cached.authorities()).extracting(Object::toString).containsExactly("ROLE_PROFESSOR");
+    }
+
+    @Test
+    void changedEmailClaimIsAMiss() {
+        principalCache.put(subject, principalCache.currentVersion(subject), EMAIL, user);
+
+        assertThat(principalCache.getForAuthentication(subject, "other@tum.de")).isEmpty();
+        assertThat(principalCache.find(subject)).isPresent();
+    }
+
+    @Test
+    void evictDropsSnapshotsLoadedBeforeTheChange() {
+        long versionBeforeLoad = principalCache.currentVersion(subject);
+        principalCache.put(subject, versionBeforeLoad, EMAIL, user);
+
+        principalCache.evict(user.getUserId());
+        assertThat(principalCache.find(subject)).isEmpty();
+
+        // A load that started before the eviction must not repopulate the cache
+        principalCache.put(subject, versionBeforeLoad, EMAIL, user);
+        assertThat(principalCache.find(subject)).isEmpty();
+    }
+
+    @Test
+    void evictionsOfManyOtherUsersDoNotReviveStaleSnapshots() {
+        long versionBeforeLoad = principalCache.currentVersion(subject);
+        principalCache.evict(user.getUserId());
+        principalCache.put(subject, versionBeforeLoad, EMAIL, user);
+
+        // More evicted users than the cache holds principals
+        for (int i = 0; i < 500; i++) {
+            principalCache.evict(UUID.randomUUID());
+        }
+
+        assertThat(principalCache.currentVersion(subject)).isGreaterThan(versionBeforeLoad);
+        assertThat(principalCache.find(subject)).isEmpty();
+    }
+}
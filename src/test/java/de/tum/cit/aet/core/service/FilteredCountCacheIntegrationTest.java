@@ -0,0 +1,103 @@
+package de.tum.cit.aet.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.AbstractResourceTest;
+import de.tum.cit.aet.job.constants.JobState;
+import de.tum.cit.aet.job.domain.Job;
+import de.tum.cit.aet.job.dto.AdminCreatedJobDTO;
+import de.tum.cit.aet.job.repository.JobRepository;
+import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import de.tum.cit.aet.usermanagement.domain.User;
+import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
+import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import de.tum.cit.aet.utility.DatabaseCleaner;
+import de.tum.cit.aet.utility.MvcTestClient;
+import de.tum.cit.aet.utility.PageResponse;
+import de.tum.cit.aet.utility.security.JwtPostProcessors;
+import de.tum.cit.aet.utility.testdata.JobTestData;
+import de.tum.cit.aet.utility.testdata.ResearchGroupTestData;
+import de.tum.cit.aet.utility.testdata.UserTestData;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import tools.jackson.core.type.TypeReference;
+
+@TestPropertySource(properties = "aet.count-cache.ttl=PT5M")
+class FilteredCountCacheIntegrationTest extends AbstractResourceTest {
+
+    @Autowired
+    private FilteredCountCache filteredCountCache;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResearchGroupRepository researchGroupRepository;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private MvcTestClient api;
+
+    private ResearchGroup researchGroup;
+    private User professor;
+
+    @BeforeEach
+    void setup() {
+        databaseCleaner.clean();
+        // Counts outlive a single test, while the database does not
+        filteredCountCache.invalidateAll();
+
+        researchGroup = ResearchGroupTestData.saved(researchGroupRepository);
+        professor = UserTestData.savedProfessor(userRepository, researchGroup);
+        saveJob("First Role");
+        saveJob("Second Role");
+    }
+
+    @Test
+    void adminJobCountIsServedFromCacheUntilAJobChanges() {
+        assertThat(adminJobTotal()).isEqualTo(2);
+
+        // Writes through the repository bypass the services, so the cached count is kept
+        Job third = saveJob("Third Role");
+        saveJob("Fourth Role");
+        assertThat(adminJobTotal()).isEqualTo(2);
+
+        api
+            .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+            .deleteAndRead("/api/jobs/" + third.getJobId(), null, Void.class, 204);
+
+        assertThat(adminJobTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidateAllRefreshesTheCount() {
+        assertThat(adminJobTotal()).isEqualTo(2);
+        saveJob("Third Role");
+
+        filteredCountCache.invalidateAll();
+
+        assertThat(adminJobTotal()).isEqualTo(3);
+    }
+
+    private Job saveJob(String title) {
+        return JobTestData.saved(jobRepository, professor, researchGroup, title, JobState.DRAFT, LocalDate.of(2025, 10, 1));
+    }
+
+    /** Fetches the first admin job page with a page size of one, so the total has to come from the count. */
+    private long adminJobTotal() {
+        PageResponse<AdminCreatedJobDTO> page = api
+            .with(JwtPostProcessors.jwtUser(UUID.randomUUID(), "ROLE_ADMIN"))
+            .getAndRead("/api/jobs/all", Map.of("pageNumber", "0", "pageSize", "1"), new TypeReference<>() {}, 200);
+        return page.totalElements();
+    }
+}
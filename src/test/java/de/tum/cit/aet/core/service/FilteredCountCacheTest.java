@@ -0,0 +1,126 @@
+package de.tum.cit.aet.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FilteredCountCacheTest {
+
+    private static final UUID RESEARCH_GROUP_ID = UUID.randomUUID();
+    private static final UUID OTHER_RESEARCH_GROUP_ID = UUID.randomUUID();
+
+    private FilteredCountCache filteredCountCache;
+    private AtomicInteger counterCalls;
+
+    @BeforeEach
+    void setUp() {
+        filteredCountCache = new FilteredCountCache(100, Duration.ofMinutes(1));
+        counterCalls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sameSignatureInAnyOrderIsCountedOnce() {
+        long first = count(RESEARCH_GROUP_ID, Arrays.asList(Map.of("status", List.of("SENT", "IN_REVIEW")), "ada"));
+        long second = count(RESEARCH_GROUP_ID, Arrays.asList(Map.of("status", List.of("IN_REVIEW", "SENT")), "ada"));
+
+        assertThat(first).isEqualTo(42);
+        assertThat(second).isEqualTo(42);
+        assertThat(counterCalls).hasValue(1);
+    }
+
+    @Test
+    void differentSignatureIsCountedSeparately() {
+        count(RESEARCH_GROUP_ID, Arrays.asList(List.of("SENT"), null));
+        count(RESEARCH_GROUP_ID, Arrays.asList(List.of("SENT"), "ada"));
+
+        assertThat(counterCalls).hasValue(2);
+    }
+
+    @Test
+    void invalidateOnlyAffectsItsResearchGroupAndGlobalCounts() {
+        List<String> signature = List.of("SENT");
+        count(RESEARCH_GROUP_ID, signature);
+        count(OTHER_RESEARCH_GROUP_ID, signature);
+        count(null, signature);
+
+        filteredCountCache.invalidate(RESEARCH_GROUP_ID);
+
+        count(RESEARCH_GROUP_ID, signature);
+        count(OTHER_RESEARCH_GROUP_ID, signature);
+        count(null, signature);
+        assertThat(counterCalls).hasValue(5);
+    }
+
+    @Test
+    void invalidateWithoutResearchGroupDropsEverything() {
+        List<String> signature = List.of("SENT");
+        count(RESEARCH_GROUP_ID, signature);
+        count(OTHER_RESEARCH_GROUP_ID, signature);
+
+        filteredCountCache.invalidate(null);
+
+        count(RESEARCH_GROUP_ID, signature);
+        count(OTHER_RESEARCH_GROUP_ID, signature);
+        assertThat(counterCalls).hasValue(4);
+    }
+
+    @Test
+    void invalidateInsideTransactionAlsoDropsCountsCachedBeforeCommit() {
+        List<String> signature = List.of("SENT");
+        TransactionSynchronizationManager.initSynchronization();
+
+        filteredCountCache.invalidate(RESEARCH_GROUP_ID);
+        // A concurrent request still sees the uncommitted state and caches its count
+        count(RESEARCH_GROUP_ID, signature);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        count(RESEARCH_GROUP_ID, signature);
+        assertThat(counterCalls).hasValue(2);
+    }
+
+    @Test
+    void pageSkipsCountWhenTotalFollowsFromContent() {
+        Page<String> page = filteredCountCache.page(List.of("a", "b"), PageRequest.of(0, 10), "test", null, List.of(), this::countQuery);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(counterCalls).hasValue(0);
+    }
+
+    @Test
+    void pageUsesCachedCountForFullPages() {
+        Page<String> first = filteredCountCache.page(List.of("a", "b"), PageRequest.of(0, 2), "test", null, List.of(), this::countQuery);
+        Page<String> second = filteredCountCache.page(List.of("c", "d"), PageRequest.of(1, 2), "test", null, List.of(), this::countQuery);
+
+        assertThat(first.getTotalElements()).isEqualTo(42);
+        assertThat(second.getTotalElements()).isEqualTo(42);
+        assertThat(counterCalls).hasValue(1);
+    }
+
+    private long count(UUID researchGroupId, List<?> signature) {
+        return filteredCountCache.count("test", researchGroupId, signature, this::countQuery);
+    }
+
+    private long countQuery() {
+        counterCalls.incrementAndGet();
+        return 42;
+    }
+}
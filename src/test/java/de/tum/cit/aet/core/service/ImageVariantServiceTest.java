@@ -0,0 +1,213 @@
+package de.tum.cit.aet.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.core.domain.Image;
+import de.tum.cit.aet.core.domain.ProfileImage;
+import de.tum.cit.aet.core.domain.ResearchGroupImage;
+import de.tum.cit.aet.core.repository.ImageRepository;
+import de.tum.cit.aet.core.util.ImageVariantUtil;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path imageRoot;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(imageRoot.resolve("jobs"));
+        Files.createDirectories(imageRoot.resolve("profiles"));
+        imageVariantService = new ImageVariantService(
+            imageRepository,
+            imageRoot.toString(),
+            List.of(1200, 160, 480),
+            0.8f,
+            10,
+            3,
+            1,
+            10
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Test
+    void generatesOnlyVariantsNarrowerThanTheOriginal() throws IOException {
+        writeImage("jobs/banner.jpg", 800, 400, "jpg");
+
+        String widths = imageVariantService.generateVariants("jobs/banner.jpg");
+
+        assertThat(widths).isEqualTo("160,480");
+        BufferedImage small = ImageIO.read(imageRoot.resolve("jobs/banner_w160.jpg").toFile());
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isEqualTo(80);
+        assertThat(ImageIO.read(imageRoot.resolve("jobs/banner_w480.jpg").toFile()).getWidth()).isEqualTo(480);
+        assertThat(imageRoot.resolve("jobs/banner_w1200.jpg")).doesNotExist();
+    }
+
+    @Test
+    void keepsPngTransparency() throws IOException {
+        writeImage("jobs/logo.png", 500, 500, "png");
+
+        imageVariantService.generateVariants("jobs/logo.png");
+
+        BufferedImage variant = ImageIO.read(imageRoot.resolve("jobs/logo_w160.png").toFile());
+        assertThat(variant.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    void deletesVariantsAndFallsBackToOriginal() throws IOException {
+        writeImage("jobs/banner.jpg", 800, 400, "jpg");
+        Image image = new ResearchGroupImage();
+        image.setUrl("/images/jobs/banner.jpg");
+        image.setVariantWidths(imageVariantService.generateVariants("jobs/banner.jpg"));
+
+        assertThat(imageVariantService.resolveWidestVariant(image)).isEqualTo(imageRoot.resolve("jobs/banner_w480.jpg"));
+
+        imageVariantService.deleteVariants(image);
+
+        assertThat(imageRoot.resolve("jobs/banner_w160.jpg")).doesNotExist();
+        assertThat(imageRoot.resolve("jobs/banner_w480.jpg")).doesNotExist();
+        assertThat(imageVariantService.resolveWidestVariant(image)).isEqualTo(imageRoot.resolve("jobs/banner.jpg"));
+    }
+
+    @Test
+    void subsampledDecodeKeepsTheAspectRatioOfTheOriginal() throws IOException {
+        writeImage("jobs/large.jpg", 3000, 1001, "jpg");
+
+        assertThat(imageVariantService.generateVariants("jobs/large.jpg")).isEqualTo("160,480,1200");
+
+        BufferedImage widest = ImageIO.read(imageRoot.resolve("jobs/large_w1200.jpg").toFile());
+        assertThat(widest.getWidth()).isEqualTo(1200);
+        assertThat(widest.getHeight()).isEqualTo(400);
+        assertThat(ImageIO.read(imageRoot.resolve("jobs/large_w160.jpg").toFile()).getHeight()).isEqualTo(53);
+    }
+
+    @Test
+    void backfillKeepsFailedImagesPendingForRetry() {
+        Image missing = image(new ResearchGroupImage(), "/images/jobs/missing.jpg", 0);
+        when(imageRepository.findWithoutVariants(any(), any())).thenReturn(List.of(missing));
+
+        imageVariantService.backfill();
+
+        verify(imageRepository).recordFailedVariantAttempt(eq(missing.getImageId()), any());
+        verify(imageRepository, never()).updateVariantWidths(any(), anyString());
+    }
+
+    @Test
+    void backfillGivesUpAfterTheLastAttempt() {
+        Image missing = image(new ResearchGroupImage(), "/images/jobs/missing.jpg", 2);
+        when(imageRepository.findWithoutVariants(any(), any())).thenReturn(List.of(missing));
+
+        imageVariantService.backfill();
+
+        verify(imageRepository).updateVariantWidths(missing.getImageId(), "");
+    }
+
+    @Test
+    void backfillGivesUpUndecodableImagesImmediately() throws IOException {
+        Files.writeString(imageRoot.resolve("jobs/corrupt.jpg"), "not an image");
+        Image corrupt = image(new ResearchGroupImage(), "/images/jobs/corrupt.jpg", 0);
+        when(imageRepository.findWithoutVariants(any(), any())).thenReturn(List.of(corrupt));
+
+        imageVariantService.backfill();
+
+        verify(imageRepository).updateVariantWidths(corrupt.getImageId(), "");
+        verify(imageRepository, never()).recordFailedVariantAttempt(any(), any());
+    }
+
+    @Test
+    void backfilledProfilePictureKeepsTheAvatarOnTheOriginal() throws IOException {
+        writeImage("profiles/me.jpg", 800, 800, "jpg");
+        Image picture = image(new ProfileImage(), "/images/profiles/me.jpg", 0);
+        when(imageRepository.findWithoutVariants(any(), any())).thenReturn(List.of(picture));
+
+        imageVariantService.backfill();
+
+        verify(imageRepository).updateVariantWidths(picture.getImageId(), "160,480");
+        assertThat(ImageVariantUtil.avatarOf(picture.getUrl(), "160,480")).isEqualTo("/images/profiles/me_w160.jpg");
+    }
+
+    @Test
+    void avatarFallsBackToTheOriginalWithoutAWideEnoughVariant() {
+        assertThat(ImageVariantUtil.avatarOf("/images/profiles/me.jpg", null)).isEqualTo("/images/profiles/me.jpg");
+        assertThat(ImageVariantUtil.avatarOf("/images/profiles/me.jpg", "")).isEqualTo("/images/profiles/me.jpg");
+        assertThat(ImageVariantUtil.avatarOf("/images/profiles/me.jpg", "120,480")).isEqualTo("/images/profiles/me_w480.jpg");
+        assertThat(ImageVariantUtil.avatarOf(null, "160")).isNull();
+    }
+
+    @Test
+    void uploadedImageVariantsAreGeneratedOnlyAfterCommit() throws IOException {
+        writeImage("profiles/new.jpg", 800, 800, "jpg");
+        Image picture = image(new ProfileImage(), "/images/profiles/new.jpg", 0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            imageVariantService.generateAfterCommit(picture);
+
+            assertThat(imageRoot.resolve("profiles/new_w160.jpg")).doesNotExist();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        // Waits for the variant workers
+        imageVariantService.shutdown();
+
+        assertThat(imageRoot.resolve("profiles/new_w160.jpg")).exists();
+        verify(imageRepository).updateVariantWidths(picture.getImageId(), "160,480");
+    }
+
+    @Test
+    void failedUploadVariantsAreLeftToTheBackfill() {
+        Image missing = image(new ResearchGroupImage(), "/images/jobs/gone.jpg", 0);
+
+        imageVariantService.generateAfterCommit(missing);
+        imageVariantService.shutdown();
+
+        verify(imageRepository, never()).updateVariantWidths(any(), anyString());
+        verify(imageRepository, never()).recordFailedVariantAttempt(any(), any());
+    }
+
+    private static Image image(Image image, String url, int variantAttempts) {
+        image.setImageId(UUID.randomUUID());
+        image.setUrl(url);
+        image.setVariantAttempts(variantAttempts);
+        return image;
+    }
+
+    private void writeImage(String relativePath, int width, int height, String format) throws IOException {
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        ImageIO.write(new BufferedImage(width, height, type), format, imageRoot.resolve(relativePath).toFile());
+    }
+}
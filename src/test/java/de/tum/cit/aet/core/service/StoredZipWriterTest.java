@@ -0,0 +1,96 @@
+package de.tum.cit.aet.core.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StoredZipWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesArchiveReadableByZipFile() throws IOException {
+        byte[] pdf = "%PDF-1.7 stored content".getBytes(UTF_8);
+        Path source = Files.write(tempDir.resolve("source.pdf"), pdf);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (
+            StoredZipWriter zip = new StoredZipWriter(Channels.newChannel(bytes), true);
+            FileChannel channel = FileChannel.open(source)
+        ) {
+            zip.putFile("Müller Anna/cv.pdf", channel, pdf.length, crc32(pdf));
+            zip.putBytes("summary.txt", "two entries".getBytes(UTF_8));
+        }
+        Path archive = Files.write(tempDir.resolve("archive.zip"), bytes.toByteArray());
+
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<String> names = new ArrayList<>();
+            Collections.list(zipFile.entries()).forEach(entry -> names.add(entry.getName()));
+            assertThat(names).containsExactly("Müller Anna/cv.pdf", "summary.txt");
+
+            ZipEntry cv = zipFile.getEntry("Müller Anna/cv.pdf");
+            assertThat(cv.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(cv.getSize()).isEqualTo(pdf.length);
+            assertThat(zipFile.getInputStream(cv).readAllBytes()).isEqualTo(pdf);
+            assertThat(zipFile.getInputStream(zipFile.getEntry("summary.txt")).readAllBytes()).asString(UTF_8).isEqualTo("two entries");
+        }
+    }
+
+    @Test
+    void deterministicArchivesAreIdentical() throws IOException {
+        assertThat(deterministicArchive()).isEqualTo(deterministicArchive());
+    }
+
+    @Test
+    void rejectsDuplicateEntries() throws IOException {
+        try (StoredZipWriter zip = new StoredZipWriter(Channels.newChannel(new ByteArrayOutputStream()), true)) {
+            zip.putBytes("cv.pdf", new byte[] { 1 });
+
+            assertThatThrownBy(() -> zip.putBytes("cv.pdf", new byte[] { 2 })).isInstanceOf(ZipException.class);
+        }
+    }
+
+    @Test
+    void failsIfFileIsShorterThanDeclared() throws IOException {
+        Path source = Files.write(tempDir.resolve("short.pdf"), new byte[] { 1, 2, 3 });
+
+        try (
+            StoredZipWriter zip = new StoredZipWriter(Channels.newChannel(new ByteArrayOutputStream()), true);
+            FileChannel channel = FileChannel.open(source)
+        ) {
+            assertThatThrownBy(() -> zip.putFile("short.pdf", channel, 10, 0)).isInstanceOf(EOFException.class);
+        }
+    }
+
+    private static byte[] deterministicArchive() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (StoredZipWriter zip = new StoredZipWriter(Channels.newChannel(bytes), true)) {
+            zip.putBytes("a.txt", "a".getBytes(UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long crc32(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+}
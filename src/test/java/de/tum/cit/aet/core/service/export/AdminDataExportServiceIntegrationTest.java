@@ -0,0 +1,202 @@
+package de.tum.cit.aet.core.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.IntegrationTest;
+import de.tum.cit.aet.core.constants.AdminExportStatus;
+import de.tum.cit.aet.core.constants.AdminExportType;
+import de.tum.cit.aet.core.domain.AdminExportRun;
+import de.tum.cit.aet.core.repository.AdminExportRunRepository;
+import de.tum.cit.aet.core.repository.ScheduledJobLockRepository;
+import de.tum.cit.aet.core.service.export.admin.AdminExportTask;
+import de.tum.cit.aet.core.service.export.admin.ExportCheckpoint;
+import de.tum.cit.aet.core.service.export.admin.ExportManifest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+import tools.jackson.databind.ObjectMapper;
+
+@IntegrationTest
+class AdminDataExportServiceIntegrationTest {
+
+    private static final AdminExportType TYPE = AdminExportType.USERS_AND_ORGS;
+    private static final String SECTION = "users-and-orgs";
+
+    @Autowired
+    private AdminDataExportService adminDataExportService;
+
+    @Autowired
+    private AdminExportRunRepository adminExportRunRepository;
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${aet.storage.root}")
+    private String storageRoot;
+
+    private final UUID requestedBy = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        scheduledJobLockRepository.deleteById("admin-export-resume");
+        for (AdminExportRun run : adminExportRunRepository.findAllByRequestedByOrderByCreatedAtDesc(requestedBy)) {
+            FileSystemUtils.deleteRecursively(storageDir().resolve(run.getAdminExportRunId() + ".zip"));
+            FileSystemUtils.deleteRecursively(storageDir().resolve(run.getAdminExportRunId() + ".parts"));
+            adminExportRunRepository.deleteById(run.getAdminExportRunId());
+        }
+    }
+
+    @Test
+    void startedExportIsBuiltAndReleasesTheActiveSlot() throws IOException {
+        AdminExportTask task = adminDataExportService.startExport(TYPE, requestedBy);
+
+        AdminExportRun run = adminExportRunRepository.findById(task.taskId()).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(AdminExportStatus.READY);
+        assertThat(run.getActiveRequestedBy()).isNull();
+        assertThat(run.getOwnerNode()).isNull();
+        assertThat(entryNames(adminDataExportService.getDownloadPath(task.taskId()))).contains("manifest.json");
+        assertThat(storageDir().resolve(task.taskId() + ".parts")).doesNotExist();
+
+        AdminExportTask second = adminDataExportService.startExport(TYPE, requestedBy);
+        assertThat(second.taskId()).isNotEqualTo(task.taskId());
+    }
+
+    @Test
+    void secondStartWhileARunIsInProgressIsRejected() {
+        AdminExportRun running = saveRun("other-node", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5), null);
+
+        assertThatThrownBy(() -> adminDataExportService.startExport(TYPE, requestedBy))
+            .isInstanceOf(AdminDataExportService.ExportAlreadyRunningException.class)
+            .satisfies(e ->
+                assertThat(((AdminDataExportService.ExportAlreadyRunningException) e).existing().taskId()).isEqualTo(
+                    running.getAdminExportRunId()
+                )
+            );
+        assertThat(adminExportRunRepository.findAllByRequestedByOrderByCreatedAtDesc(requestedBy)).hasSize(1);
+    }
+
+    @Test
+    void runWithLiveLeaseIsNotTakenOver() {
+        AdminExportRun running = saveRun("other-node", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5), null);
+
+        adminDataExportService.resumeAbandoned();
+
+        AdminExportRun reloaded = adminExportRunRepository.findById(running.getAdminExportRunId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(AdminExportStatus.IN_PROGRESS);
+        assertThat(reloaded.getOwnerNode()).isEqualTo("other-node");
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void runWithExpiredLeaseIsTakenOverAndBuilt() throws IOException {
+        AdminExportRun abandoned = saveRun("crashed-node", LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1), null);
+
+        adminDataExportService.resumeAbandoned();
+
+        AdminExportRun reloaded = adminExportRunRepository.findById(abandoned.getAdminExportRunId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(AdminExportStatus.READY);
+        assertThat(reloaded.getAttempts()).isEqualTo(2);
+        assertThat(reloaded.getOwnerNode()).isNull();
+        assertThat(reloaded.getActiveRequestedBy()).isNull();
+        assertThat(entryNames(adminDataExportService.getDownloadPath(abandoned.getAdminExportRunId()))).contains("manifest.json");
+    }
+
+    @Test
+    void resumedRunReplaysCompletedPartsInsteadOfRewritingThem() throws IOException {
+        String part = SECTION + ".earlier.zip";
+        ExportManifest empty = new ExportManifest(TYPE, requestedBy);
+        String checkpoints = objectMapper.writeValueAsString(
+            List.of(new ExportCheckpoint(SECTION, part, empty.contributionSince(empty.snapshot())))
+        );
+        AdminExportRun abandoned = saveRun("crashed-node", LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1), checkpoints);
+
+        // Only the earlier attempt's part holds this entry, so it can only reach the final ZIP through the replay
+        Path partsDir = Files.createDirectories(storageDir().resolve(abandoned.getAdminExportRunId() + ".parts"));
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(partsDir.resolve(part)))) {
+            zos.putNextEntry(new ZipEntry("from-earlier-attempt.txt"));
+            zos.write("written before the crash".getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        // Files of the crashed attempt that were never checkpointed must not be assembled
+        try (OutputStream out = Files.newOutputStream(partsDir.resolve(SECTION + ".crashed.zip"))) {
+            out.write("truncated".getBytes(StandardCharsets.UTF_8));
+        }
+
+        adminDataExportService.resumeAbandoned();
+
+        AdminExportRun reloaded = adminExportRunRepository.findById(abandoned.getAdminExportRunId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(AdminExportStatus.READY);
+        assertThat(entryNames(adminDataExportService.getDownloadPath(abandoned.getAdminExportRunId()))).containsExactly(
+            "from-earlier-attempt.txt",
+            "manifest.json"
+        );
+        assertThat(partsDir).doesNotExist();
+    }
+
+    @Test
+    void cleanupKeepsExpiredRunsThatAreStillBuildingOnALiveNode() {
+        AdminExportRun abandoned = saveRun("crashed-node", LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1), null);
+        // Frees the admin's active slot for the second run
+        abandoned.setActiveRequestedBy(null);
+        adminExportRunRepository.saveAndFlush(abandoned);
+        AdminExportRun building = saveRun("other-node", LocalDateTime.now(ZoneOffset.UTC).plusMinutes(5), null);
+        // Both runs were created before the TTL
+        jdbcTemplate.update(
+            "UPDATE admin_export_runs SET created_at = ? WHERE requested_by = ?",
+            LocalDateTime.now(ZoneOffset.UTC).minusDays(2),
+            requestedBy.toString()
+        );
+
+        adminDataExportService.cleanupExpired();
+
+        assertThat(adminExportRunRepository.findById(building.getAdminExportRunId())).isPresent();
+        assertThat(adminExportRunRepository.findById(abandoned.getAdminExportRunId())).isEmpty();
+    }
+
+    private AdminExportRun saveRun(String ownerNode, LocalDateTime leaseExpiresAt, String checkpoints) {
+        AdminExportRun run = new AdminExportRun();
+        run.setExportType(TYPE);
+        run.setRequestedBy(requestedBy);
+        run.setActiveRequestedBy(requestedBy);
+        run.setOwnerNode(ownerNode);
+        run.setLeaseExpiresAt(leaseExpiresAt);
+        run.setAttempts(1);
+        run.setCheckpoints(checkpoints);
+        return adminExportRunRepository.saveAndFlush(run);
+    }
+
+    private Path storageDir() {
+        return Paths.get(storageRoot, "admin-exports");
+    }
+
+    private static List<String> entryNames(Path zip) throws IOException {
+        assertThat(zip).isNotNull();
+        try (ZipFile file = new ZipFile(zip.toFile())) {
+            return Collections.list(file.entries()).stream().map(ZipEntry::getName).toList();
+        }
+    }
+}
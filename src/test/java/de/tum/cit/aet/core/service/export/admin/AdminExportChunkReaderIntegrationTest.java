@@ -0,0 +1,155 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.IntegrationTest;
+import de.tum.cit.aet.core.service.ZipExportService;
+import de.tum.cit.aet.usermanagement.domain.User;
+import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import de.tum.cit.aet.utility.DatabaseCleaner;
+import de.tum.cit.aet.utility.testdata.UserTestData;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+@IntegrationTest
+class AdminExportChunkReaderIntegrationTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ZipExportService zipExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private AdminExportChunkReader reader;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clean();
+        reader = new AdminExportChunkReader(CHUNK_SIZE, zipExportService, objectMapper);
+        ReflectionTestUtils.setField(reader, "entityManager", entityManager);
+    }
+
+    @Test
+    void partialLastChunkEndsTheWalkWithoutAnotherQuery() {
+        Set<UUID> userIds = savedUsers(7);
+
+        Walk walk = walkUsers();
+
+        assertThat(walk.chunkSizes).containsExactly(3, 3, 1);
+        assertThat(walk.visited).hasSize(7).doesNotHaveDuplicates();
+        assertThat(Set.copyOf(walk.visited)).isEqualTo(userIds);
+    }
+
+    @Test
+    void fullLastChunkIsFollowedByAnEmptyChunk() {
+        Set<UUID> userIds = savedUsers(6);
+
+        Walk walk = walkUsers();
+
+        assertThat(walk.chunkSizes).containsExactly(3, 3, 0);
+        assertThat(walk.visited).hasSize(6).doesNotHaveDuplicates();
+        assertThat(Set.copyOf(walk.visited)).isEqualTo(userIds);
+    }
+
+    @Test
+    void everyChunkStartsAfterTheLastIdOfThePreviousOne() {
+        savedUsers(8);
+
+        Walk walk = walkUsers();
+
+        // The first chunk starts without a bound, every later one right after the previous chunk
+        assertThat(walk.afters.getFirst()).isNull();
+        for (int chunk = 1; chunk < walk.afters.size(); chunk++) {
+            assertThat(walk.afters.get(chunk)).isEqualTo(walk.visited.get(chunk * CHUNK_SIZE - 1));
+        }
+    }
+
+    @Test
+    void rowsThatTieOnEveryOtherColumnAreVisitedExactlyOnce() {
+        // Same name and language, so only the unique id orders them
+        Set<UUID> userIds = IntStream.range(0, 5)
+            .mapToObj(i -> {
+                User user = UserTestData.newUser();
+                user.setEmail("tie-" + i + "@example.com");
+                user.setSelectedLanguage("en");
+                return userRepository.saveAndFlush(user).getUserId();
+            })
+            .collect(Collectors.toSet());
+
+        Walk walk = walkUsers();
+
+        assertThat(walk.visited).hasSize(5).doesNotHaveDuplicates();
+        assertThat(Set.copyOf(walk.visited)).isEqualTo(userIds);
+    }
+
+    @Test
+    void emptyTableRunsASingleQuery() {
+        Walk walk = walkUsers();
+
+        assertThat(walk.chunkSizes).containsExactly(0);
+        assertThat(walk.visited).isEmpty();
+    }
+
+    private Set<UUID> savedUsers(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                User user = UserTestData.newUser();
+                user.setEmail("chunk-" + i + "@example.com");
+                return userRepository.saveAndFlush(user).getUserId();
+            })
+            .collect(Collectors.toSet());
+    }
+
+    private Walk walkUsers() {
+        Walk walk = new Walk();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status ->
+            reader.forEach(
+                (after, chunk) -> {
+                    walk.afters.add(after);
+                    List<User> users = userRepository.findExportChunkAfter(after, chunk);
+                    walk.chunkSizes.add(users.size());
+                    return users;
+                },
+                User::getUserId,
+                user -> walk.visited.add(user.getUserId())
+            )
+        );
+        return walk;
+    }
+
+    /** The arguments and results of every chunk query of a walk. */
+    private static class Walk {
+
+        private final List<UUID> afters = new ArrayList<>();
+        private final List<Integer> chunkSizes = new ArrayList<>();
+        private final List<UUID> visited = new ArrayList<>();
+    }
+}
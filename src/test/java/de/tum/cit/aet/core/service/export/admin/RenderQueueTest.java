@@ -0,0 +1,178 @@
+package de.tum.cit.aet.core.service.export.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.core.constants.AdminExportType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class RenderQueueTest {
+
+    private final ExportManifest manifest = new ExportManifest(AdminExportType.JOBS_OPEN, UUID.randomUUID());
+
+    private ThreadPoolTaskExecutor pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void resultsAreReturnedInSubmissionOrderRegardlessOfCompletionOrder() throws Exception {
+        pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(3);
+        pool.initialize();
+        CountDownLatch lastFinished = new CountDownLatch(1);
+        List<Callable<Resource>> inputs = List.of(
+            () -> {
+                // The first render only finishes after the last one
+                assertThat(lastFinished.await(10, TimeUnit.SECONDS)).isTrue();
+                return pdf("first");
+            },
+            () -> pdf("second"),
+            () -> {
+                lastFinished.countDown();
+                return pdf("third");
+            }
+        );
+
+        try (RenderQueue renders = new RenderQueue(pool, new Semaphore(3, true), manifest, inputs.iterator())) {
+            assertThat(text(renders.next())).isEqualTo("first");
+            assertThat(text(renders.next())).isEqualTo("second");
+            assertThat(text(renders.next())).isEqualTo("third");
+        }
+    }
+
+    @Test
+    void onlyTheWindowIsPreparedAndSubmittedUntilResultsAreTaken() throws Exception {
+        // Runs every render on submission, so the number of started renders is the number submitted
+        AtomicInteger prepared = new AtomicInteger();
+        AtomicInteger started = new AtomicInteger();
+        Iterator<Callable<Resource>> inputs = IntStream.range(0, 5)
+            .mapToObj(i -> {
+                prepared.incrementAndGet();
+                return (Callable<Resource>) () -> {
+                    started.incrementAndGet();
+                    return pdf("render-" + i);
+                };
+            })
+            .iterator();
+        Semaphore window = new Semaphore(2, true);
+
+        try (RenderQueue renders = new RenderQueue(direct(), window, manifest, inputs)) {
+            assertThat(prepared).hasValue(2);
+            assertThat(started).hasValue(2);
+
+            assertThat(text(renders.next())).isEqualTo("render-0");
+            assertThat(prepared).hasValue(3);
+            assertThat(started).hasValue(3);
+
+            assertThat(text(renders.next())).isEqualTo("render-1");
+            assertThat(text(renders.next())).isEqualTo("render-2");
+            assertThat(started).hasValue(5);
+        }
+        assertThat(window.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void windowIsSharedBetweenQueues() throws Exception {
+        Semaphore window = new Semaphore(2, true);
+        AtomicInteger startedA = new AtomicInteger();
+        AtomicInteger startedB = new AtomicInteger();
+
+        try (
+            RenderQueue first = new RenderQueue(direct(), window, manifest, counting(startedA, 3));
+            RenderQueue second = new RenderQueue(direct(), window, manifest, counting(startedB, 1))
+        ) {
+            assertThat(startedA).hasValue(2);
+            assertThat(startedB).hasValue(0);
+
+            // Taking a result frees a slot, which the queue that still has renders refills
+            first.next();
+            assertThat(startedA).hasValue(3);
+            first.next();
+            first.next();
+            assertThat(window.availablePermits()).isEqualTo(2);
+
+            assertThat(text(second.next())).isEqualTo("render-0");
+            assertThat(startedB).hasValue(1);
+        }
+        assertThat(window.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void closeFreesTheSlotsOfRendersThatWereNotTaken() {
+        Semaphore window = new Semaphore(2, true);
+
+        try (RenderQueue renders = new RenderQueue(direct(), window, manifest, counting(new AtomicInteger(), 5))) {
+            assertThat(window.availablePermits()).isZero();
+        }
+        assertThat(window.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void failuresSurfaceAtTheirPositionWithoutAffectingLaterEntries() throws Exception {
+        IOException renderFailure = new IOException("render failed");
+        List<Callable<Resource>> inputs = List.of(
+            () -> {
+                throw renderFailure;
+            },
+            () -> pdf("after")
+        );
+
+        try (RenderQueue renders = new RenderQueue(direct(), new Semaphore(2, true), manifest, inputs.iterator())) {
+            assertThatThrownBy(renders::next).isSameAs(renderFailure);
+            assertThat(text(renders.next())).isEqualTo("after");
+        }
+    }
+
+    @Test
+    void nextWithoutRemainingRenderFails() {
+        try (RenderQueue renders = new RenderQueue(direct(), new Semaphore(2, true), manifest, Collections.emptyIterator())) {
+            assertThatThrownBy(renders::next).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /** Runs every render on submission. */
+    private static TaskExecutorAdapter direct() {
+        return new TaskExecutorAdapter(Runnable::run);
+    }
+
+    private static Iterator<Callable<Resource>> counting(AtomicInteger started, int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i ->
+                (Callable<Resource>) () -> {
+                    started.incrementAndGet();
+                    return pdf("render-" + i);
+                }
+            )
+            .iterator();
+    }
+
+    private static Resource pdf(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
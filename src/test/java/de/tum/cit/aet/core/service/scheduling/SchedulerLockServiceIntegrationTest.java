@@ -0,0 +1,74 @@
+package de.tum.cit.aet.core.service.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.IntegrationTest;
+import de.tum.cit.aet.core.domain.ScheduledJobLock;
+import de.tum.cit.aet.core.repository.ScheduledJobLockRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class SchedulerLockServiceIntegrationTest {
+
+    private static final String LOCK_NAME = "scheduler-lock-test";
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        scheduledJobLockRepository.deleteById(LOCK_NAME);
+    }
+
+    @Test
+    void secondAcquisitionIsSkippedWhileTheLockIsHeld() {
+        Optional<SchedulerLockService.HeldLock> first = schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO);
+        Optional<SchedulerLockService.HeldLock> second = schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO);
+
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        first.get().close();
+    }
+
+    @Test
+    void releasedLockCanBeAcquiredAgain() {
+        schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO).orElseThrow().close();
+
+        Optional<SchedulerLockService.HeldLock> again = schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO);
+
+        assertThat(again).isPresent();
+        again.get().close();
+    }
+
+    @Test
+    void releasedLockIsKeptForTheMinimumHoldTime() {
+        schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMinutes(5)).orElseThrow().close();
+
+        ScheduledJobLock lock = scheduledJobLockRepository.findById(LOCK_NAME).orElseThrow();
+        assertThat(lock.getOwnerNode()).isNull();
+        assertThat(lock.getLockedUntil()).isAfter(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(4));
+        assertThat(schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO)).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseOfAnotherNodeIsTakenOver() {
+        ScheduledJobLock stale = new ScheduledJobLock(LOCK_NAME, LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        stale.setOwnerNode("crashed-node");
+        scheduledJobLockRepository.saveAndFlush(stale);
+
+        Optional<SchedulerLockService.HeldLock> acquired = schedulerLockService.tryAcquire(LOCK_NAME, Duration.ZERO);
+
+        assertThat(acquired).isPresent();
+        assertThat(scheduledJobLockRepository.findById(LOCK_NAME).orElseThrow().getOwnerNode()).isNotEqualTo("crashed-node");
+        acquired.get().close();
+    }
+}
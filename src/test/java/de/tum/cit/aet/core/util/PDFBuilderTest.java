@@ -0,0 +1,59 @@
+package de.tum.cit.aet.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+class PDFBuilderTest {
+
+    @Test
+    void shouldStreamMultiPagePdfWithTotalPageCountOnEveryPage() throws IOException {
+        PDFBuilder builder = new PDFBuilder("Heading").setMetadata("Generated by ").setPageLabels("Page", "of");
+        builder.startSectionGroup("Group");
+        for (int i = 0; i < 40; i++) {
+            builder.startInfoSection("Section " + i).addSectionContent("<p>" + "Lorem ipsum dolor sit amet. ".repeat(40) + "</p>");
+        }
+
+        TrackingOutputStream out = new TrackingOutputStream();
+        builder.build(out);
+
+        assertThat(out.closed).isFalse();
+        try (PDDocument doc = Loader.loadPDF(new RandomAccessReadBuffer(out.toByteArray()))) {
+            int pages = doc.getNumberOfPages();
+            assertThat(pages).isGreaterThan(1);
+
+            PDFTextStripper stripper = new PDFTextStripper();
+            for (int page = 1; page <= pages; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                String text = stripper.getText(doc);
+                assertThat(text).contains("Generated by TUMApply");
+                assertThat(text.replaceAll("\\s+", " ")).contains("Page " + page + " of " + pages);
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnBufferedPdfAsResource() throws IOException {
+        byte[] pdf = new PDFBuilder("Heading").startInfoSection("Section").addSectionData("Label", "Value").build().getContentAsByteArray();
+
+        assertThat(new String(pdf, 0, 5)).isEqualTo("%PDF-");
+    }
+
+    private static class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -466,6 +466,20 @@ public class ImageResourceTest extends AbstractResourceTest {
                 .multipartPostAndRead(API_BASE_PATH + "/upload/job-banner", List.of(largeImageFile), new TypeReference<ImageDTO>() {}, 400);
         }
 
+        @Test
+        void uploadJobBannerRejectsContentNotMatchingDeclaredType() throws Exception {
+            // Arrange - PNG bytes declared as JPEG
+            BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", baos);
+            MockMultipartFile mismatchedFile = new MockMultipartFile("file", "test.jpg", "image/jpeg", baos.toByteArray());
+
+            // Act & Assert
+            api
+                .with(JwtPostProcessors.jwtUser(professorUser.getUserId(), "ROLE_PROFESSOR"))
+                .multipartPostAndRead(API_BASE_PATH + "/upload/job-banner", List.of(mismatchedFile), new TypeReference<ImageDTO>() {}, 400);
+        }
+
         @Test
         void uploadJobBannerSuccessfullyUploadsPngImage() throws Exception {
             // Arrange - Create a valid PNG image
@@ -1,7 +1,11 @@
 package de.tum.cit.aet.core.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.AbstractResourceTest;
 import de.tum.cit.aet.application.constants.ApplicationState;
@@ -18,6 +22,8 @@ import de.tum.cit.aet.core.domain.export.UserDataExportProviderType;
 import de.tum.cit.aet.core.dto.DataExportStatusDTO;
 import de.tum.cit.aet.core.repository.DataExportRequestRepository;
 import de.tum.cit.aet.core.service.UserDataExportService;
+import de.tum.cit.aet.core.service.UserDataExportWorker;
+import de.tum.cit.aet.core.service.export.UserExportZipWriter;
 import de.tum.cit.aet.job.constants.JobState;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.repository.JobRepository;
@@ -37,6 +43,7 @@ import de.tum.cit.aet.utility.testdata.DocumentTestData;
 import de.tum.cit.aet.utility.testdata.JobTestData;
 import de.tum.cit.aet.utility.testdata.ResearchGroupTestData;
 import de.tum.cit.aet.utility.testdata.UserTestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -45,6 +52,7 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -69,7 +77,6 @@ import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Integration tests for {@link UserDataExportResource}.
@@ -155,6 +162,30 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
             assertThat(status.lastRequestedAt()).isEqualTo(reloadedRequest.getLastRequestedAt());
             assertThat(status.nextAllowedAt()).isEqualTo(reloadedRequest.getLastRequestedAt().plusDays(7));
             assertThat(status.cooldownSeconds()).isGreaterThan(0);
+            assertThat(status.progressDone()).isNull();
+            assertThat(status.progressTotal()).isNull();
+        }
+
+        @Test
+        void statusReportsProgressOfExportInCreation() {
+            User user = savedUser("progress-user@tum.de");
+
+            DataExportRequest request = new DataExportRequest();
+            request.setUser(user);
+            request.setStatus(DataExportState.IN_CREATION);
+            request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
+            request.setLeaseExpiresAt(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(10));
+            request.setProgressDone(2);
+            request.setProgressTotal(5);
+            dataExportRequestRepository.saveAndFlush(request);
+
+            DataExportStatusDTO status = api
+                .with(JwtPostProcessors.jwtUser(user.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(STATUS_URL, Map.of(), DataExportStatusDTO.class, 200, MediaType.APPLICATION_JSON);
+
+            assertThat(status.status()).isEqualTo(DataExportState.IN_CREATION);
+            assertThat(status.progressDone()).isEqualTo(2);
+            assertThat(status.progressTotal()).isEqualTo(5);
         }
     }
 
@@ -226,12 +257,15 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
             request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
             request = dataExportRequestRepository.saveAndFlush(request);
 
-            userDataExportService.processPendingDataExports();
+            buildRequestedExports();
 
             DataExportRequest updated = dataExportRequestRepository.findById(request.getExportRequestId()).orElseThrow();
             assertThat(updated.getStatus()).isEqualTo(DataExportState.EMAIL_SENT);
             assertThat(updated.getFilePath()).startsWith(exportRootConfig);
             assertThat(updated.getDownloadToken()).matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+            assertThat(updated.getLeaseExpiresAt()).isNull();
+            assertThat(updated.getProgressTotal()).isEqualTo(1);
+            assertThat(updated.getProgressDone()).isEqualTo(1);
 
             Path zipPath = Path.of(updated.getFilePath());
             assertThat(Files.exists(zipPath)).isTrue();
@@ -246,6 +280,105 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
             assertThat(readmeEn).contains("data/profile.csv").contains("Data Export");
         }
 
+        @Test
+        void exportWithExpiredLeaseIsClaimedAgain() {
+            User abandonedUser = savedUser("abandoned-export@tum.de");
+            User activeUser = savedUser("active-export@tum.de");
+
+            DataExportRequest abandoned = new DataExportRequest();
+            abandoned.setUser(abandonedUser);
+            abandoned.setStatus(DataExportState.IN_CREATION);
+            abandoned.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
+            abandoned.setLeaseExpiresAt(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+            abandoned = dataExportRequestRepository.saveAndFlush(abandoned);
+
+            DataExportRequest active = new DataExportRequest();
+            active.setUser(activeUser);
+            active.setStatus(DataExportState.IN_CREATION);
+            active.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
+            active.setLeaseExpiresAt(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(10));
+            active = dataExportRequestRepository.saveAndFlush(active);
+
+            buildRequestedExports();
+
+            assertThat(dataExportRequestRepository.findById(abandoned.getExportRequestId()).orElseThrow().getStatus()).isEqualTo(
+                DataExportState.EMAIL_SENT
+            );
+            assertThat(dataExportRequestRepository.findById(active.getExportRequestId()).orElseThrow().getStatus()).isEqualTo(
+                DataExportState.IN_CREATION
+            );
+        }
+
+        @Test
+        void exportTakenOverByAnotherWorkerIsAbortedAndNotCompleted() throws Exception {
+            User user = savedUser("taken-over-export@tum.de");
+            DataExportRequest request = new DataExportRequest();
+            request.setUser(user);
+            request.setStatus(DataExportState.REQUESTED);
+            request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
+            UUID exportRequestId = dataExportRequestRepository.saveAndFlush(request).getExportRequestId();
+            assertThat(userDataExportService.claimPendingExports(10)).containsExactly(exportRequestId);
+
+            // Another worker claims the request while this one is still writing the archive
+            LocalDateTime otherLease = LocalDateTime.now(ZoneOffset.UTC).plusMinutes(30).truncatedTo(ChronoUnit.MILLIS);
+            UserExportZipWriter writer = mock(UserExportZipWriter.class);
+            when(writer.writeExport(any(), any(), any(), any())).thenAnswer(invocation -> {
+                DataExportRequest takenOver = dataExportRequestRepository.findById(exportRequestId).orElseThrow();
+                takenOver.setLeaseExpiresAt(otherLease);
+                dataExportRequestRepository.saveAndFlush(takenOver);
+                invocation.<UserExportZipWriter.ProgressListener>getArgument(3).onProgress(1, 2);
+                return Path.of(exportRootConfig, "never-completed.zip");
+            });
+            Object realWriter = ReflectionTestUtils.getField(userDataExportService, "userExportZipWriter");
+            ReflectionTestUtils.setField(userDataExportService, "userExportZipWriter", writer);
+            try {
+                assertThat(userDataExportService.processClaimedExport(exportRequestId)).isFalse();
+            } finally {
+                ReflectionTestUtils.setField(userDataExportService, "userExportZipWriter", realWriter);
+            }
+
+            DataExportRequest reloaded = dataExportRequestRepository.findById(exportRequestId).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(DataExportState.IN_CREATION);
+            assertThat(reloaded.getLeaseExpiresAt()).isEqualTo(otherLease);
+            assertThat(reloaded.getFilePath()).isNull();
+            AsyncEmailSender sender = (AsyncEmailSender) ReflectionTestUtils.getField(userDataExportService, "sender");
+            verify(sender, never()).sendAsync(any());
+        }
+
+        @Test
+        void exportWhoseClaimIsLostBeforeCompletionDeletesItsArchive() throws Exception {
+            User user = savedUser("lost-claim-export@tum.de");
+            DataExportRequest request = new DataExportRequest();
+            request.setUser(user);
+            request.setStatus(DataExportState.REQUESTED);
+            request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
+            UUID exportRequestId = dataExportRequestRepository.saveAndFlush(request).getExportRequestId();
+            assertThat(userDataExportService.claimPendingExports(10)).containsExactly(exportRequestId);
+
+            // Another worker claims the request after this one wrote the whole archive
+            Path archive = Files.createDirectories(Path.of(exportRootConfig)).resolve("lost-claim.zip");
+            UserExportZipWriter writer = mock(UserExportZipWriter.class);
+            when(writer.writeExport(any(), any(), any(), any())).thenAnswer(invocation -> {
+                DataExportRequest takenOver = dataExportRequestRepository.findById(exportRequestId).orElseThrow();
+                takenOver.setLeaseExpiresAt(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(30));
+                dataExportRequestRepository.saveAndFlush(takenOver);
+                Files.writeString(archive, "complete archive");
+                return archive;
+            });
+            Object realWriter = ReflectionTestUtils.getField(userDataExportService, "userExportZipWriter");
+            ReflectionTestUtils.setField(userDataExportService, "userExportZipWriter", writer);
+            try {
+                assertThat(userDataExportService.processClaimedExport(exportRequestId)).isFalse();
+            } finally {
+                ReflectionTestUtils.setField(userDataExportService, "userExportZipWriter", realWriter);
+            }
+
+            DataExportRequest reloaded = dataExportRequestRepository.findById(exportRequestId).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(DataExportState.IN_CREATION);
+            assertThat(reloaded.getFilePath()).isNull();
+            assertThat(archive).doesNotExist();
+        }
+
         @Test
         void exportIncludesUploadedDocumentsWithPdfExtension() throws Exception {
             User user = savedUser("documents-user@tum.de");
@@ -269,7 +402,7 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
             request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
             request = dataExportRequestRepository.saveAndFlush(request);
 
-            userDataExportService.processPendingDataExports();
+            buildRequestedExports();
 
             DataExportRequest updated = dataExportRequestRepository.findById(request.getExportRequestId()).orElseThrow();
             Set<String> entries = readZipEntries(Path.of(updated.getFilePath()));
@@ -307,7 +440,6 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
         }
 
         @Test
-        @Transactional
         void exportIncludesApplicantDataWhenApplicantRoleExists() throws Exception {
             User user = savedUser("applicant-export@tum.de");
             ApplicantTestData.attachApplicantRole(user);
@@ -362,7 +494,7 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
             request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
             request = dataExportRequestRepository.saveAndFlush(request);
 
-            userDataExportService.processPendingDataExports();
+            buildRequestedExports();
 
             DataExportRequest ready = dataExportRequestRepository.findById(request.getExportRequestId()).orElseThrow();
             String url = String.format(DOWNLOAD_URL, ready.getDownloadToken());
@@ -568,6 +700,21 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
         );
     }
 
+    /**
+     * Builds all requested exports on a worker of its own, like the scheduled worker does, and waits
+     * until they are done.
+     */
+    private void buildRequestedExports() {
+        UserDataExportWorker worker = new UserDataExportWorker(
+            userDataExportService,
+            dataExportRequestRepository,
+            new SimpleMeterRegistry(),
+            10
+        );
+        worker.poll();
+        worker.shutdown();
+    }
+
     private Set<String> runExportFor(User user) throws Exception {
         DataExportRequest request = new DataExportRequest();
         request.setUser(user);
@@ -575,7 +722,7 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
         request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
         request = dataExportRequestRepository.saveAndFlush(request);
 
-        userDataExportService.processPendingDataExports();
+        buildRequestedExports();
 
         DataExportRequest updated = dataExportRequestRepository.findById(request.getExportRequestId()).orElseThrow();
         return readZipEntries(Path.of(updated.getFilePath()));
@@ -626,7 +773,7 @@ public class UserDataExportResourceTest extends AbstractResourceTest {
         request.setLastRequestedAt(LocalDateTime.now(ZoneOffset.UTC));
         request = dataExportRequestRepository.saveAndFlush(request);
 
-        userDataExportService.processPendingDataExports();
+        buildRequestedExports();
 
         DataExportRequest updated = dataExportRequestRepository.findById(request.getExportRequestId()).orElseThrow();
         return Path.of(updated.getFilePath());
@@ -1,6 +1,10 @@
 package de.tum.cit.aet.core.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
 
 import de.tum.cit.aet.AbstractResourceTest;
 import de.tum.cit.aet.application.constants.ApplicationState;
@@ -8,6 +12,8 @@ import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.application.domain.dto.ApplicationDetailDTO;
 import de.tum.cit.aet.application.domain.dto.ApplicationPDFRequest;
 import de.tum.cit.aet.application.repository.ApplicationRepository;
+import de.tum.cit.aet.core.exception.PDFGenerationException;
+import de.tum.cit.aet.core.service.PDFExportService;
 import de.tum.cit.aet.job.constants.*;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.dto.JobFormDTO;
@@ -27,9 +33,11 @@ import de.tum.cit.aet.utility.testdata.ApplicationTestData;
 import de.tum.cit.aet.utility.testdata.JobTestData;
 import de.tum.cit.aet.utility.testdata.ResearchGroupTestData;
 import de.tum.cit.aet.utility.testdata.UserTestData;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.io.RandomAccessReadBuffer;
@@ -44,8 +52,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -77,6 +88,9 @@ class PDFExportResourceTest extends AbstractResourceTest {
     @Autowired
     MvcTestClient api;
 
+    @MockitoSpyBean
+    PDFExportService pdfExportService;
+
     User professor;
     ResearchGroup group;
     Applicant applicant;
@@ -299,6 +313,60 @@ class PDFExportResourceTest extends AbstractResourceTest {
             );
             assertValidPdf(result);
         }
+
+        @Test
+        void failureBeforeTheResponseIsCommittedIsReportedAsError() {
+            ApplicationPDFRequest request = createApplicationPdfRequest(application, job);
+
+            MockHttpServletResponse response = withFailingApplicationExport(1024, () ->
+                asApplicant(applicant).postAndReturnResponse(
+                    BASE_URL + "/application/pdf",
+                    request,
+                    500,
+                    MediaType.APPLICATION_PDF,
+                    MediaType.APPLICATION_JSON
+                )
+            );
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isNull();
+            assertThat(response.getContentType()).doesNotContain(MediaType.APPLICATION_PDF_VALUE);
+            assertThat(response.getContentAsByteArray()).doesNotStartWith(PDF_MAGIC_NUMBER);
+        }
+
+        @Test
+        void failureAfterTheResponseIsCommittedAbortsTheResponse() {
+            ApplicationPDFRequest request = createApplicationPdfRequest(application, job);
+
+            // More than the response buffer, so the status and the first bytes have been sent
+            assertThatThrownBy(() ->
+                withFailingApplicationExport(1024 * 1024, () ->
+                    asApplicant(applicant).postAndReturnResponse(
+                        BASE_URL + "/application/pdf",
+                        request,
+                        200,
+                        MediaType.APPLICATION_PDF,
+                        MediaType.APPLICATION_JSON
+                    )
+                )
+            ).hasRootCauseInstanceOf(PDFGenerationException.class);
+        }
+
+        /**
+         * Runs the call with an export service that writes the given number of bytes and then fails.
+         * The spy is reset after each test, so other tests render real PDFs.
+         */
+        private <T> T withFailingApplicationExport(int bytesBeforeFailure, Supplier<T> call) {
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(2);
+                out.write(PDF_MAGIC_NUMBER);
+                out.write(new byte[bytesBeforeFailure]);
+                throw new PDFGenerationException("Failed to generate PDF", null);
+            })
+                .when(pdfExportService)
+                .exportApplicationToPDF(any(ApplicationDetailDTO.class), anyMap(), any(OutputStream.class));
+
+            return call.get();
+        }
     }
 
     @Nested
@@ -315,6 +383,44 @@ class PDFExportResourceTest extends AbstractResourceTest {
             assertValidPdf(result);
         }
 
+        @Test
+        void exportJobToPDFServesCachedRenderingUntilJobChanges() {
+            Map<String, String> labels = createCompleteLabelsMap();
+            String url = BASE_URL + "/job/" + job.getJobId() + "/pdf";
+
+            MockHttpServletResponse first = api.withoutPostProcessors().postAndReturnResponse(url, labels, 200, MediaType.APPLICATION_PDF);
+            MockHttpServletResponse second = api.withoutPostProcessors().postAndReturnResponse(url, labels, 200, MediaType.APPLICATION_PDF);
+
+            assertThat(first.getHeader(HttpHeaders.ETAG)).isNotBlank().isEqualTo(second.getHeader(HttpHeaders.ETAG));
+            assertValidPdf(second.getContentAsByteArray());
+            assertThat(second.getContentLength()).isEqualTo(second.getContentAsByteArray().length);
+
+            job.setTitle("Renamed unique-title-xyz");
+            job = jobRepository.saveAndFlush(job);
+
+            MockHttpServletResponse third = api.withoutPostProcessors().postAndReturnResponse(url, labels, 200, MediaType.APPLICATION_PDF);
+
+            assertThat(third.getHeader(HttpHeaders.ETAG)).isNotEqualTo(first.getHeader(HttpHeaders.ETAG));
+            assertThat(extractTextFromPdf(third.getContentAsByteArray())).contains("unique-title-xyz");
+        }
+
+        @Test
+        void exportJobToPDFSharesCachedRenderingBetweenViewersAndStampsTheirFooter() {
+            Map<String, String> labels = createCompleteLabelsMap();
+            String url = BASE_URL + "/job/" + job.getJobId() + "/pdf";
+
+            MockHttpServletResponse anonymous = api
+                .withoutPostProcessors()
+                .postAndReturnResponse(url, labels, 200, MediaType.APPLICATION_PDF);
+            MockHttpServletResponse signedIn = asApplicant(applicant).postAndReturnResponse(url, labels, 200, MediaType.APPLICATION_PDF);
+
+            assertThat(signedIn.getHeader(HttpHeaders.ETAG)).isEqualTo(anonymous.getHeader(HttpHeaders.ETAG));
+            assertThat(extractTextFromPdf(anonymous.getContentAsByteArray()))
+                .contains("This document was generated on")
+                .doesNotContain(" by user ");
+            assertThat(extractTextFromPdf(signedIn.getContentAsByteArray())).contains("This document was generated on", " by user ");
+        }
+
         @Test
         void shouldExportJobForEmployee() {
             User employee = UserTestData.savedEmployee(userRepository, group);
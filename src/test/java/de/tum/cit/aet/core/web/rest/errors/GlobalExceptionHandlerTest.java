@@ -51,7 +51,6 @@ class GlobalExceptionHandlerTest {
                 "/test/forbidden,        403, ACCESS_DENIED,            Access denied",
                 "/test/not-allowed,      400, OPERATION_NOT_ALLOWED,    Operation not allowed",
                 "/test/upload,           400, UPLOAD_FAILED,            Upload failed",
-                "/test/mailing,          500, MAILING_ERROR,            Mailing failed",
                 "/test/internal-error,   500, INTERNAL_ERROR,           Internal server error",
             }
         )
@@ -51,11 +51,6 @@ public class TestExceptionController {
         throw new UploadException("Upload failed");
     }
 
-    @GetMapping("/mailing")
-    public String triggerMailingException() {
-        throw new MailingException("Mailing failed");
-    }
-
     @GetMapping("/internal-error")
     public String triggerInternalServerError() {
         throw new InternalServerException("Internal server error");
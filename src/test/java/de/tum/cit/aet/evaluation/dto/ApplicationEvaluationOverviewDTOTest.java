@@ -0,0 +1,36 @@
+package de.tum.cit.aet.evaluation.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.application.constants.ApplicationState;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ApplicationEvaluationOverviewDTOTest {
+
+    @Test
+    void shouldJoinFirstAndLastName() {
+        assertThat(overview("Alice", "Smith").name()).isEqualTo("Alice Smith");
+    }
+
+    @Test
+    void shouldSkipMissingNameParts() {
+        assertThat(overview("Alice", null).name()).isEqualTo("Alice");
+        assertThat(overview(null, "Smith").name()).isEqualTo("Smith");
+        assertThat(overview(null, null).name()).isEmpty();
+    }
+
+    private static ApplicationEvaluationOverviewDTO overview(String firstName, String lastName) {
+        return new ApplicationEvaluationOverviewDTO(
+            UUID.randomUUID(),
+            null,
+            null,
+            firstName,
+            lastName,
+            ApplicationState.SENT,
+            "Job",
+            LocalDateTime.now()
+        );
+    }
+}
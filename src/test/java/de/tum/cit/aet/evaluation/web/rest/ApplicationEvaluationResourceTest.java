@@ -147,6 +147,25 @@ class ApplicationEvaluationResourceTest extends AbstractResourceTest {
             assertThat(dto.applications()).extracting("applicationId").contains(sentApp.getApplicationId(), inReviewApp.getApplicationId());
         }
 
+        @Test
+        void overviewsProjectApplicantAndJobColumns() {
+            ApplicationEvaluationOverviewListDTO dto = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/applications",
+                    Map.of("offset", "0", "limit", "10", "sortBy", "appliedAt", "direction", "DESC"),
+                    ApplicationEvaluationOverviewListDTO.class,
+                    200
+                );
+
+            assertThat(dto.totalRecords()).isEqualTo(2);
+            assertThat(dto.applications()).allSatisfy(overview -> {
+                assertThat(overview.name()).isEqualTo(applicant.getUser().getFirstName() + " " + applicant.getUser().getLastName());
+                assertThat(overview.jobName()).isEqualTo(publishedJob.getTitle());
+                assertThat(overview.state()).isIn(ApplicationState.SENT, ApplicationState.IN_REVIEW);
+            });
+        }
+
         @Test
         void detailsReturnsDetails() {
             ApplicationEvaluationDetailListDTO details = api
@@ -185,6 +204,141 @@ class ApplicationEvaluationResourceTest extends AbstractResourceTest {
             assertThat(win.applications()).anyMatch(application ->
                 application.applicationDetailDTO().applicationId().equals(inReviewApp.getApplicationId())
             );
+            assertThat(win.totalRecords()).isNull();
+            assertThat(win.currentIndex()).isNull();
+        }
+
+        @Test
+        void detailsWindowIncludesTotalAndIndexWhenRequested() {
+            List<UUID> order = fetchDetailIdsSortedByName();
+
+            ApplicationEvaluationDetailListDTO win = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details/window",
+                    Map.of(
+                        "applicationId",
+                        order.get(1).toString(),
+                        "windowSize",
+                        "3",
+                        "includeTotal",
+                        "true",
+                        "sortBy",
+                        "name",
+                        "direction",
+                        "ASC"
+                    ),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+
+            assertThat(win.totalRecords()).isEqualTo(2L);
+            assertThat(win.currentIndex()).isEqualTo(1);
+            assertThat(win.windowIndex()).isEqualTo(1);
+            assertThat(win.applications()).extracting(application -> application.applicationDetailDTO().applicationId()).isEqualTo(order);
+        }
+
+        @Test
+        void adjacentSeeksFromCursorInBothDirections() {
+            ApplicationEvaluationDetailListDTO first = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details",
+                    Map.of("offset", "0", "limit", "1", "sortBy", "name", "direction", "ASC"),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+            List<UUID> order = fetchDetailIdsSortedByName();
+
+            ApplicationEvaluationDetailListDTO next = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details/adjacent",
+                    Map.of(
+                        "cursor",
+                        first.applications().getFirst().cursor(),
+                        "seekDirection",
+                        "NEXT",
+                        "sortBy",
+                        "name",
+                        "direction",
+                        "ASC"
+                    ),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+
+            assertThat(next.applications()).hasSize(1);
+            assertThat(next.applications().getFirst().applicationDetailDTO().applicationId()).isEqualTo(order.get(1));
+
+            ApplicationEvaluationDetailListDTO previous = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details/adjacent",
+                    Map.of(
+                        "cursor",
+                        next.applications().getFirst().cursor(),
+                        "seekDirection",
+                        "PREVIOUS",
+                        "sortBy",
+                        "name",
+                        "direction",
+                        "ASC"
+                    ),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+
+            assertThat(previous.applications()).hasSize(1);
+            assertThat(previous.applications().getFirst().applicationDetailDTO().applicationId()).isEqualTo(order.get(0));
+        }
+
+        @Test
+        void adjacentRejectsCursorOfDifferentSortOrder() {
+            ApplicationEvaluationDetailListDTO first = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details",
+                    Map.of("offset", "0", "limit", "1", "sortBy", "name", "direction", "ASC"),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+
+            Void result = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details/adjacent",
+                    Map.of(
+                        "cursor",
+                        first.applications().getFirst().cursor(),
+                        "seekDirection",
+                        "NEXT",
+                        "sortBy",
+                        "job",
+                        "direction",
+                        "ASC"
+                    ),
+                    Void.class,
+                    400
+                );
+
+            assertThat(result).isNull();
+        }
+
+        private List<UUID> fetchDetailIdsSortedByName() {
+            ApplicationEvaluationDetailListDTO details = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/application-details",
+                    Map.of("offset", "0", "limit", "10", "sortBy", "name", "direction", "ASC"),
+                    ApplicationEvaluationDetailListDTO.class,
+                    200
+                );
+            return details
+                .applications()
+                .stream()
+                .map(application -> application.applicationDetailDTO().applicationId())
+                .toList();
         }
 
         @Test
@@ -286,6 +440,21 @@ class ApplicationEvaluationResourceTest extends AbstractResourceTest {
             assertThat(target.ratingCount()).isEqualTo(2);
         }
 
+        @Test
+        void shouldKeepSummariesOfApplicationsInSamePageSeparate() {
+            RatingTestData.saved(ratingRepository, sentApp, professor, 2);
+            RatingTestData.saved(ratingRepository, inReviewApp, professor, -1);
+            saveInterviewRating(inReviewApp, AssessmentRating.GOOD);
+
+            ApplicationEvaluationDetailDTO sent = fetchDetail(sentApp.getApplicationId());
+            ApplicationEvaluationDetailDTO inReview = fetchDetail(inReviewApp.getApplicationId());
+
+            assertThat(sent.averageRating()).isEqualTo(2.0);
+            assertThat(sent.ratingCount()).isEqualTo(1);
+            assertThat(inReview.averageRating()).isEqualTo(0.0);
+            assertThat(inReview.ratingCount()).isEqualTo(2);
+        }
+
         private ApplicationEvaluationDetailDTO fetchDetail(UUID applicationId) {
             ApplicationEvaluationDetailListDTO details = api
                 .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
@@ -598,6 +767,68 @@ class ApplicationEvaluationResourceTest extends AbstractResourceTest {
 
             assertThat(result).isNull();
         }
+
+        @Test
+        void jobDownloadStoresDocumentsInOneFolderPerApplication() throws Exception {
+            DocumentTestData.savedDocumentWithFile(
+                storageRootConfig,
+                documentRepository,
+                professor,
+                sentApp,
+                null,
+                "/testdocs/test-doc1.pdf",
+                "cv1.pdf",
+                DocumentType.CV,
+                "cv"
+            );
+            DocumentTestData.savedDocumentWithFile(
+                storageRootConfig,
+                documentRepository,
+                professor,
+                inReviewApp,
+                null,
+                "/testdocs/test-doc2.pdf",
+                "cv2.pdf",
+                DocumentType.CV,
+                "cv"
+            );
+
+            byte[] zipBytes = api
+                .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+                .getAndReturnBytes(
+                    "/api/evaluation/jobs/" + publishedJob.getJobId() + "/documents-download",
+                    Map.of(),
+                    200,
+                    MediaType.valueOf("application/zip")
+                );
+
+            Map<String, byte[]> entries = new HashMap<>();
+            try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+                ZipEntry entry;
+                while ((entry = zis.getNextEntry()) != null) {
+                    assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                    entries.put(entry.getName(), zis.readAllBytes());
+                }
+            }
+
+            User applicantUser = applicant.getUser();
+            String folder = applicantUser.getLastName() + " " + applicantUser.getFirstName();
+            assertThat(entries).containsOnlyKeys(folder + "/cv.pdf", folder + " (2)/cv.pdf");
+            assertThat(entries.values()).allSatisfy(content -> assertThat(content).startsWith("%PDF".getBytes()));
+        }
+
+        @Test
+        void jobDownloadOfOtherResearchGroupIsForbidden() {
+            api
+                .with(JwtPostProcessors.jwtUser(professorUnauthorized.getUserId(), "ROLE_PROFESSOR"))
+                .getAndRead(
+                    "/api/evaluation/jobs/" + publishedJob.getJobId() + "/documents-download",
+                    Map.of(),
+                    Void.class,
+                    403,
+                    MediaType.ALL
+                );
+        }
     }
 
     @Nested
@@ -54,6 +54,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -1064,10 +1065,10 @@ class InterviewResourceTest extends AbstractResourceTest {
                 .as("Failed emails should be null or empty")
                 .isTrue();
 
-            ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-            verify(asyncEmailSenderMock, times(3)).sendAsync(emailCaptor.capture());
+            ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+            verify(asyncEmailSenderMock, times(1)).sendAllAsync(emailCaptor.capture());
 
-            List<Email> sentEmails = emailCaptor.getAllValues();
+            Collection<Email> sentEmails = emailCaptor.getValue();
             assertThat(sentEmails).hasSize(3);
             assertThat(sentEmails).allMatch(email -> email.getEmailType() == EmailType.INTERVIEW_SELF_SCHEDULING_INVITATION);
         }
@@ -1093,13 +1094,15 @@ class InterviewResourceTest extends AbstractResourceTest {
             // Assert
             assertThat(result.sentCount()).isEqualTo(2);
 
-            ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-            verify(asyncEmailSenderMock, times(2)).sendAsync(emailCaptor.capture());
+            ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+            verify(asyncEmailSenderMock, times(1)).sendAllAsync(emailCaptor.capture());
 
-            Email sentEmail = emailCaptor.getValue();
-            assertThat(sentEmail.getEmailType()).isEqualTo(EmailType.INTERVIEW_SELF_SCHEDULING_INVITATION);
-            assertThat(sentEmail.getTo()).hasSize(1);
-            assertThat(sentEmail.getTo().iterator().next().getEmail()).isEqualTo(applicant2.getUser().getEmail());
+            assertThat(emailCaptor.getValue()).hasSize(2);
+            assertThat(emailCaptor.getValue()).allMatch(email -> email.getEmailType() == EmailType.INTERVIEW_SELF_SCHEDULING_INVITATION);
+            assertThat(emailCaptor.getValue())
+                .extracting(email -> email.getTo().iterator().next().getEmail())
+                .contains(applicant2.getUser().getEmail())
+                .doesNotContain(applicant1.getUser().getEmail());
         }
 
         @Test
@@ -1120,10 +1123,11 @@ class InterviewResourceTest extends AbstractResourceTest {
             // Assert
             assertThat(result.sentCount()).isEqualTo(1);
 
-            ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-            verify(asyncEmailSenderMock, times(1)).sendAsync(emailCaptor.capture());
+            ArgumentCaptor<Collection<Email>> emailCaptor = ArgumentCaptor.captor();
+            verify(asyncEmailSenderMock, times(1)).sendAllAsync(emailCaptor.capture());
 
-            Email sentEmail = emailCaptor.getValue();
+            assertThat(emailCaptor.getValue()).hasSize(1);
+            Email sentEmail = emailCaptor.getValue().iterator().next();
             assertThat(sentEmail.getTo()).hasSize(1);
             assertThat(sentEmail.getTo().iterator().next().getEmail()).isEqualTo(applicant1.getUser().getEmail());
         }
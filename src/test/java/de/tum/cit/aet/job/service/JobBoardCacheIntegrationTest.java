@@ -0,0 +1,88 @@
+package de.tum.cit.aet.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.IntegrationTest;
+import de.tum.cit.aet.core.repository.CacheVersionRepository;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@TestPropertySource(properties = "aet.job-board-cache.ttl=PT5M")
+class JobBoardCacheIntegrationTest {
+
+    @Autowired
+    private JobBoardCache jobBoardCache;
+
+    @Autowired
+    private CacheVersionRepository cacheVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Snapshots outlive a single test, so every test caches under its own key
+    private final UUID key = UUID.randomUUID();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void snapshotIsServedFromCacheUntilInvalidated() {
+        String etag = jobBoardCache.currentETag();
+        assertThat(load()).isEqualTo(1);
+        assertThat(load()).isEqualTo(1);
+
+        jobBoardCache.invalidate();
+
+        assertThat(load()).isEqualTo(2);
+        assertThat(jobBoardCache.currentETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void versionBumpedByAnotherNodeIsPickedUp() {
+        String etag = jobBoardCache.currentETag();
+        assertThat(load()).isEqualTo(1);
+
+        // Another node only shares the database row, not this node's snapshots
+        cacheVersionRepository.bump(JobBoardCache.VERSION_NAME);
+
+        assertThat(load()).isEqualTo(2);
+        assertThat(jobBoardCache.currentETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void invalidationOfRolledBackTransactionKeepsSnapshots() {
+        long version = jobBoardCache.currentVersion();
+        assertThat(load()).isEqualTo(1);
+
+        assertThatThrownBy(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jobBoardCache.invalidate();
+                throw new IllegalStateException("job change failed");
+            })
+        ).isInstanceOf(IllegalStateException.class);
+
+        assertThat(jobBoardCache.currentVersion()).isEqualTo(version);
+        assertThat(load()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationInsideTransactionTakesEffectOnCommit() {
+        long version = jobBoardCache.currentVersion();
+        assertThat(load()).isEqualTo(1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jobBoardCache.invalidate());
+
+        assertThat(jobBoardCache.currentVersion()).isEqualTo(version + 1);
+        assertThat(load()).isEqualTo(2);
+    }
+
+    private int load() {
+        return jobBoardCache.get("test", key, loads::incrementAndGet);
+    }
+}
@@ -0,0 +1,112 @@
+package de.tum.cit.aet.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.job.constants.JobState;
+import de.tum.cit.aet.job.domain.Job;
+import de.tum.cit.aet.job.dto.JobSearchDocumentDTO;
+import de.tum.cit.aet.job.repository.JobRepository;
+import de.tum.cit.aet.usermanagement.domain.User;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchIndexTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobSearchIndex index;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void init() {
+        index = new JobSearchIndex(jobRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void queryWordsMatchAsPrefixesOfIndexedWords() {
+        buildWith(document("Machine Learning for Robotics"));
+
+        assertThat(index.search("mach lear")).contains(Set.of(jobId));
+        assertThat(index.search("learning robot")).contains(Set.of(jobId));
+        assertThat(index.search("earning")).contains(Set.of());
+    }
+
+    @Test
+    void updateCommittedDuringRebuildIsNotReverted() {
+        when(jobRepository.findAllSearchDocumentsByState(JobState.PUBLISHED)).thenAnswer(invocation -> {
+            // The rename commits after the rebuild has read the old title
+            index.update(publishedJob("Quantum Computing"));
+            return List.of(document("Classical Mechanics"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("quantum")).contains(Set.of(jobId));
+        assertThat(index.search("classical")).contains(Set.of());
+    }
+
+    @Test
+    void removalCommittedDuringRebuildIsNotReverted() {
+        when(jobRepository.findAllSearchDocumentsByState(JobState.PUBLISHED)).thenAnswer(invocation -> {
+            index.remove(jobId);
+            return List.of(document("Classical Mechanics"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("classical")).contains(Set.of());
+    }
+
+    @Test
+    void updateInsideTransactionIsAppliedOnlyAfterCommit() {
+        buildWith();
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.update(publishedJob("Quantum Computing"));
+        assertThat(index.search("quantum")).contains(Set.of());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(index.search("quantum")).contains(Set.of(jobId));
+    }
+
+    private void buildWith(JobSearchDocumentDTO... documents) {
+        when(jobRepository.findAllSearchDocumentsByState(JobState.PUBLISHED)).thenReturn(List.of(documents));
+        index.rebuild();
+    }
+
+    private JobSearchDocumentDTO document(String title) {
+        return new JobSearchDocumentDTO(jobId, title, null, "Ada Lovelace", null);
+    }
+
+    private Job publishedJob(String title) {
+        User professor = new User();
+        professor.setFirstName("Ada");
+        professor.setLastName("Lovelace");
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setTitle(title);
+        job.setState(JobState.PUBLISHED);
+        job.setSupervisingProfessor(professor);
+        return job;
+    }
+}
@@ -4,16 +4,22 @@ import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import de.tum.cit.aet.AbstractResourceTest;
+import de.tum.cit.aet.application.constants.ApplicationState;
+import de.tum.cit.aet.application.domain.Application;
+import de.tum.cit.aet.application.repository.ApplicationRepository;
 import de.tum.cit.aet.core.domain.Image;
 import de.tum.cit.aet.core.repository.ImageRepository;
 import de.tum.cit.aet.job.constants.*;
 import de.tum.cit.aet.job.domain.Job;
 import de.tum.cit.aet.job.dto.*;
 import de.tum.cit.aet.job.repository.JobRepository;
+import de.tum.cit.aet.job.service.JobSearchIndex;
+import de.tum.cit.aet.usermanagement.domain.Applicant;
 import de.tum.cit.aet.usermanagement.domain.Department;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.School;
 import de.tum.cit.aet.usermanagement.domain.User;
+import de.tum.cit.aet.usermanagement.repository.ApplicantRepository;
 import de.tum.cit.aet.usermanagement.repository.DepartmentRepository;
 import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
 import de.tum.cit.aet.usermanagement.repository.SchoolRepository;
@@ -23,6 +29,7 @@ import de.tum.cit.aet.utility.MvcTestClient;
 import de.tum.cit.aet.utility.PageResponse;
 import de.tum.cit.aet.utility.security.JwtPostProcessors;
 import de.tum.cit.aet.utility.testdata.ApplicantTestData;
+import de.tum.cit.aet.utility.testdata.ApplicationTestData;
 import de.tum.cit.aet.utility.testdata.DepartmentTestData;
 import de.tum.cit.aet.utility.testdata.ImageTestData;
 import de.tum.cit.aet.utility.testdata.JobTestData;
@@ -39,6 +46,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
 import tools.jackson.core.type.TypeReference;
 
 class JobResourceTest extends AbstractResourceTest {
@@ -67,6 +76,15 @@ class JobResourceTest extends AbstractResourceTest {
     @Autowired
     MvcTestClient api;
 
+    @Autowired
+    JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    ApplicantRepository applicantRepository;
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
     ResearchGroup researchGroup;
     User professor;
     User applicantUser;
@@ -181,6 +199,65 @@ class JobResourceTest extends AbstractResourceTest {
             assertThat(card.startDate()).isEqualTo(LocalDate.of(2025, 9, 1));
         }
 
+        @Test
+        void getAvailableJobsSearchMatchesTokenPrefixesAcrossFields() {
+            jobSearchIndex.rebuild();
+
+            PageResponse<JobCardDTO> byTitleAndSupervisor = api.getAndRead(
+                "/api/jobs/available",
+                Map.of("pageNumber", "0", "pageSize", "10", "searchQuery", "publ doe"),
+                new TypeReference<>() {},
+                200
+            );
+            assertThat(byTitleAndSupervisor.content()).extracting(JobCardDTO::title).containsExactly("Published Role");
+
+            PageResponse<JobCardDTO> noMatch = api.getAndRead(
+                "/api/jobs/available",
+                Map.of("pageNumber", "0", "pageSize", "10", "searchQuery", "draft"),
+                new TypeReference<>() {},
+                200
+            );
+            assertThat(noMatch.totalElements()).isZero();
+        }
+
+        @Test
+        void getAvailableJobsAnonymousReturnsNotModifiedForMatchingETag() {
+            MockHttpServletResponse first = api
+                .withoutPostProcessors()
+                .getAndReturnResponse("/api/jobs/available", Map.of("pageNumber", "0", "pageSize", "10"), 200);
+            String eTag = first.getHeader(HttpHeaders.ETAG);
+            assertThat(eTag).isNotBlank();
+
+            api
+                .with(request -> {
+                    request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+                    return request;
+                })
+                .getAndReturnResponse("/api/jobs/available", Map.of("pageNumber", "0", "pageSize", "10"), 304);
+            api.withoutPostProcessors();
+        }
+
+        @Test
+        void getAvailableJobsMergesOwnApplicationStateForLoggedInApplicant() {
+            Job publishedJob = jobRepository
+                .findAll()
+                .stream()
+                .filter(job -> job.getState() == JobState.PUBLISHED)
+                .findFirst()
+                .orElseThrow();
+            Applicant applicant = ApplicantTestData.savedWithExistingUser(applicantRepository, applicantUser);
+            Application application = ApplicationTestData.savedSent(applicationRepository, publishedJob, applicant);
+
+            PageResponse<JobCardDTO> page = api
+                .with(JwtPostProcessors.jwtUser(applicantUser.getUserId(), "ROLE_APPLICANT"))
+                .getAndRead("/api/jobs/available", Map.of("pageNumber", "0", "pageSize", "10"), new TypeReference<>() {}, 200);
+            api.withoutPostProcessors();
+
+            JobCardDTO card = page.content().getFirst();
+            assertThat(card.applicationId()).isEqualTo(application.getApplicationId());
+            assertThat(card.applicationState()).isEqualTo(ApplicationState.SENT);
+        }
+
         @Test
         void getAvailableJobsInvalidPaginationReturnsError() {
             api.getAndRead("/api/jobs/available", Map.of("pageNumber", "-1", "pageSize", "10"), new TypeReference<>() {}, 400);
@@ -1,21 +1,28 @@
 package de.tum.cit.aet.notification.service;
 
-import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.documents.service.DocumentService;
 import de.tum.cit.aet.notification.constants.EmailType;
+import de.tum.cit.aet.notification.domain.OutboundEmail;
 import de.tum.cit.aet.notification.service.EmailTemplateService.EmailContent;
 import de.tum.cit.aet.notification.service.mail.Email;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
 import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,63 +60,125 @@ class EmailServiceTest {
 
     private Email.EmailBuilder baseEmail;
 
+    private User recipient;
+
+    private UUID researchGroupId;
+
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(emailService, "from", "noreply@test.local");
         ReflectionTestUtils.setField(emailService, "fromName", "Test");
-        baseEmail = Email.builder().to(user("to@test.local")).emailType(EmailType.APPLICATION_SENT).researchGroup(new ResearchGroup());
+        recipient = user("to@test.local");
+        researchGroupId = UUID.randomUUID();
+        ResearchGroup researchGroup = new ResearchGroup();
+        researchGroup.setResearchGroupId(researchGroupId);
+        baseEmail = Email.builder().to(recipient).emailType(EmailType.APPLICATION_SENT).researchGroup(researchGroup);
+    }
+
+    @Test
+    void prepare_storesTemplateInputsWithoutRendering() {
+        Object content = new Object();
+        Map<String, Object> templateData = Map.of("JOB_TITLE", "Doctoral Researcher");
+        when(templateProcessingService.createTemplateData(content)).thenReturn(templateData);
+        when(emailSettingService.resolveNotifiableUserIds(any(), any())).thenReturn(Set.of(recipient.getUserId()));
+
+        OutboundEmail message = emailService.prepare(baseEmail.content(content).build());
+
+        assertThat(message.getEmailType()).isEqualTo(EmailType.APPLICATION_SENT);
+        assertThat(message.getLanguage()).isEqualTo(Language.ENGLISH);
+        assertThat(message.getResearchGroupId()).isEqualTo(researchGroupId);
+        assertThat(message.getTemplateData()).isEqualTo(templateData);
+        assertThat(message.getToAddresses()).containsExactly("to@test.local");
+        assertThat(message.getSubject()).isNull();
+        assertThat(message.getBodyHtml()).isNull();
+        verify(emailTemplateService, never()).resolveContent(any(), any(), any());
     }
 
     @Test
-    void send_resolvesContentFromTemplateService_whenNoCustomBodyOrSubject() {
-        ReflectionTestUtils.setField(emailService, "emailEnabled", false);
+    void render_resolvesContentFromTemplateService_whenNoCustomBodyOrSubject() {
         EmailContent content = new EmailContent("Hello", "<p>body</p>");
-        when(
-            emailTemplateService.resolveContent(any(ResearchGroup.class), eq(EmailType.APPLICATION_SENT), eq(Language.ENGLISH))
-        ).thenReturn(content);
-        when(templateProcessingService.renderSubject(eq("Hello"), any())).thenReturn("rendered-subject");
-        when(templateProcessingService.renderTemplate(eq(Language.ENGLISH), eq("<p>body</p>"), any(), any())).thenReturn("rendered-body");
-        lenient().when(emailSettingService.canNotify(any(), any())).thenReturn(true);
-
-        Email email = baseEmail.content(new Object()).build();
-        ReflectionTestUtils.invokeMethod(emailService, "send", email);
-
-        verify(emailTemplateService).resolveContent(any(ResearchGroup.class), eq(EmailType.APPLICATION_SENT), eq(Language.ENGLISH));
-        verify(templateProcessingService).renderSubject(eq("Hello"), any());
-        verify(templateProcessingService).renderTemplate(eq(Language.ENGLISH), eq("<p>body</p>"), any(), any());
+        when(emailTemplateService.resolveContent(researchGroupId, EmailType.APPLICATION_SENT, Language.ENGLISH)).thenReturn(content);
+        when(templateProcessingService.renderSubject(eq("Hello"), anyMap())).thenReturn("rendered-subject");
+        when(templateProcessingService.renderTemplate(eq(Language.ENGLISH), eq("<p>body</p>"), anyMap(), any())).thenReturn(
+            "rendered-body"
+        );
+
+        OutboundEmail message = queued();
+        emailService.render(message);
+
+        assertThat(message.getSubject()).isEqualTo("rendered-subject");
+        assertThat(message.getBodyHtml()).isEqualTo("rendered-body");
     }
 
     @Test
-    void send_skipsTemplateLookup_whenCustomSubjectAndBodyAreSet() {
-        ReflectionTestUtils.setField(emailService, "emailEnabled", false);
-        when(templateProcessingService.renderSubject(eq("Custom"), any())).thenReturn("Custom");
+    void render_skipsTemplateLookup_whenCustomSubjectAndBodyAreSet() {
+        when(templateProcessingService.renderSubject(eq("Custom"), anyMap())).thenReturn("Custom");
         when(templateProcessingService.renderRawTemplate(eq(Language.ENGLISH), anyString(), any())).thenReturn("body");
-        lenient().when(emailSettingService.canNotify(any(), any())).thenReturn(true);
 
-        Email email = baseEmail.customSubject("Custom").customBody("<p>x</p>").build();
-        ReflectionTestUtils.invokeMethod(emailService, "send", email);
+        OutboundEmail message = queued();
+        message.setCustomSubject("Custom");
+        message.setCustomBody("<p>x</p>");
+        emailService.render(message);
 
-        verify(emailTemplateService, org.mockito.Mockito.never()).resolveContent(any(), any(), any());
+        verify(emailTemplateService, never()).resolveContent(any(), any(), any());
     }
 
     @Test
-    void send_doesNotThrow_whenNoRecipients() {
+    void render_keepsContentOfMessagesQueuedAlreadyRendered() {
+        OutboundEmail message = queued();
+        message.setSubject("subject");
+        message.setBodyHtml("<p>body</p>");
+
+        emailService.render(message);
+
+        assertThat(message.getBodyHtml()).isEqualTo("<p>body</p>");
+        verify(emailTemplateService, never()).resolveContent(any(), any(), any());
+        verify(templateProcessingService, never()).renderSubject(anyString(), anyMap());
+    }
+
+    @Test
+    void deliver_skipsMessagesWithoutRecipients() {
         ReflectionTestUtils.setField(emailService, "emailEnabled", true);
         when(mailSenderProvider.getIfAvailable()).thenReturn(mailSender);
-        MimeMessage message = new JavaMailSenderImpl().createMimeMessage();
-        when(mailSender.createMimeMessage()).thenReturn(message);
-        lenient().when(emailSettingService.canNotify(any(), any())).thenReturn(false);
-        when(emailTemplateService.resolveContent(any(), any(), any())).thenReturn(new EmailContent("s", "b"));
-        when(templateProcessingService.renderSubject(eq("s"), any())).thenReturn("s");
-        when(templateProcessingService.renderTemplate(eq(Language.ENGLISH), eq("b"), any(), any())).thenReturn("b");
+        when(mailSender.createMimeMessage()).thenReturn(new JavaMailSenderImpl().createMimeMessage());
+        OutboundEmail message = new OutboundEmail();
+        message.setOutboundEmailId(UUID.randomUUID());
+        message.setSubject("s");
+        message.setBodyHtml("b");
+
+        Map<UUID, String> failures = emailService.deliver(List.of(message));
 
-        Email email = baseEmail.content(new Object()).build();
+        assertThat(failures).isEmpty();
+        verify(mailSender, never()).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    void prepareAll_resolvesPreferencesOnceForAllRecipientsOfAType() {
+        User other = user("other@test.local");
+        when(emailSettingService.resolveNotifiableUserIds(eq(EmailType.APPLICATION_SENT), any())).thenReturn(Set.of(recipient.getUserId()));
+        List<OutboundEmail> messages = emailService.prepareAll(
+            List.of(
+                baseEmail.customSubject("Custom").customBody("<p>x</p>").build(),
+                Email.builder().to(other).emailType(EmailType.APPLICATION_SENT).customSubject("Custom").customBody("<p>x</p>").build()
+            )
+        );
+
+        verify(emailSettingService, times(1)).resolveNotifiableUserIds(eq(EmailType.APPLICATION_SENT), any());
+        assertThat(messages).extracting(OutboundEmail::getToAddresses).containsExactly(List.of("to@test.local"), List.of());
+    }
 
-        assertThatNoException().isThrownBy(() -> ReflectionTestUtils.invokeMethod(emailService, "send", email));
+    private OutboundEmail queued() {
+        OutboundEmail message = new OutboundEmail();
+        message.setEmailType(EmailType.APPLICATION_SENT);
+        message.setLanguage(Language.ENGLISH);
+        message.setResearchGroupId(researchGroupId);
+        message.setTemplateData(Map.of());
+        return message;
     }
 
     private static User user(String email) {
         User u = new User();
+        u.setUserId(UUID.randomUUID());
         u.setEmail(email);
         return u;
     }
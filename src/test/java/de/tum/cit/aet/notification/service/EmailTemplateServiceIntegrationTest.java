@@ -0,0 +1,90 @@
+package de.tum.cit.aet.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.AbstractResourceTest;
+import de.tum.cit.aet.core.constants.Language;
+import de.tum.cit.aet.notification.constants.EmailType;
+import de.tum.cit.aet.notification.domain.EmailTemplate;
+import de.tum.cit.aet.notification.dto.EmailTemplateDTO;
+import de.tum.cit.aet.notification.dto.EmailTemplateTranslationDTO;
+import de.tum.cit.aet.notification.repository.EmailTemplateRepository;
+import de.tum.cit.aet.notification.service.EmailTemplateService.EmailContent;
+import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
+import de.tum.cit.aet.usermanagement.domain.User;
+import de.tum.cit.aet.usermanagement.repository.ResearchGroupRepository;
+import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import de.tum.cit.aet.utility.DatabaseCleaner;
+import de.tum.cit.aet.utility.MvcTestClient;
+import de.tum.cit.aet.utility.security.JwtPostProcessors;
+import de.tum.cit.aet.utility.testdata.EmailTemplateTestData;
+import de.tum.cit.aet.utility.testdata.ResearchGroupTestData;
+import de.tum.cit.aet.utility.testdata.UserTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class EmailTemplateServiceIntegrationTest extends AbstractResourceTest {
+
+    private static final String BASE_URL = "/api/email-templates";
+
+    @Autowired
+    EmailTemplateService emailTemplateService;
+
+    @Autowired
+    EmailTemplateRepository emailTemplateRepository;
+
+    @Autowired
+    ResearchGroupRepository researchGroupRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    MvcTestClient api;
+
+    ResearchGroup researchGroup;
+    User professor;
+    EmailTemplate template;
+
+    @BeforeEach
+    void setup() {
+        databaseCleaner.clean();
+
+        researchGroup = ResearchGroupTestData.saved(researchGroupRepository);
+        professor = UserTestData.savedProfessor(userRepository, researchGroup);
+        template = EmailTemplateTestData.saved(emailTemplateRepository, researchGroup, professor, EmailType.APPLICATION_SENT);
+    }
+
+    @Test
+    void resolvedContentIsCachedUntilTheTemplateIsEdited() {
+        EmailContent first = resolve();
+        assertThat(first.subject()).isEqualTo("Test Subject EN");
+
+        // Changes that bypass the service are not seen while the content is cached
+        template.setSubjectEn("Changed behind the cache");
+        emailTemplateRepository.save(template);
+        assertThat(resolve()).isEqualTo(first);
+
+        EmailTemplateDTO edit = new EmailTemplateDTO(
+            template.getEmailTemplateId(),
+            EmailType.APPLICATION_SENT,
+            new EmailTemplateTranslationDTO("Edited subject", "<p>Edited body</p>"),
+            new EmailTemplateTranslationDTO("Bearbeiteter Betreff", "<p>Bearbeiteter Text</p>")
+        );
+        api
+            .with(JwtPostProcessors.jwtUser(professor.getUserId(), "ROLE_PROFESSOR"))
+            .putAndRead(BASE_URL, edit, EmailTemplateDTO.class, 200);
+
+        EmailContent edited = resolve();
+        assertThat(edited.subject()).isEqualTo("Edited subject");
+        assertThat(edited.bodyHtml()).contains("Edited body");
+    }
+
+    private EmailContent resolve() {
+        return emailTemplateService.resolveContent(researchGroup.getResearchGroupId(), EmailType.APPLICATION_SENT, Language.ENGLISH);
+    }
+}
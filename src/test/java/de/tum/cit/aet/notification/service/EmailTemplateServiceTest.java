@@ -36,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class EmailTemplateServiceTest {
@@ -49,6 +50,9 @@ class EmailTemplateServiceTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private EmailTemplateService service;
 
@@ -66,9 +70,11 @@ class EmailTemplateServiceTest {
     @Test
     void resolveContent_returnsCustom_whenRowExists() {
         EmailTemplate custom = EmailTemplateTestData.newTemplate(researchGroup, user, EmailType.APPLICATION_SENT);
-        when(repository.findByResearchGroupAndEmailType(researchGroup, EmailType.APPLICATION_SENT)).thenReturn(Optional.of(custom));
+        when(
+            repository.findByResearchGroupResearchGroupIdAndEmailType(researchGroup.getResearchGroupId(), EmailType.APPLICATION_SENT)
+        ).thenReturn(Optional.of(custom));
 
-        EmailContent content = service.resolveContent(researchGroup, EmailType.APPLICATION_SENT, Language.ENGLISH);
+        EmailContent content = service.resolveContent(researchGroup.getResearchGroupId(), EmailType.APPLICATION_SENT, Language.ENGLISH);
 
         assertThat(content.subject()).isEqualTo(custom.getSubjectEn());
         assertThat(content.bodyHtml()).isEqualTo(custom.getBodyHtmlEn());
@@ -77,12 +83,14 @@ class EmailTemplateServiceTest {
 
     @Test
     void resolveContent_fallsBackToDefault_whenNoCustom() {
-        when(repository.findByResearchGroupAndEmailType(researchGroup, EmailType.APPLICATION_SENT)).thenReturn(Optional.empty());
+        when(
+            repository.findByResearchGroupResearchGroupIdAndEmailType(researchGroup.getResearchGroupId(), EmailType.APPLICATION_SENT)
+        ).thenReturn(Optional.empty());
         when(defaultProvider.load(EmailType.APPLICATION_SENT, Language.ENGLISH)).thenReturn(
             new DefaultContent("Default", "<p>Default</p>")
         );
 
-        EmailContent content = service.resolveContent(researchGroup, EmailType.APPLICATION_SENT, Language.ENGLISH);
+        EmailContent content = service.resolveContent(researchGroup.getResearchGroupId(), EmailType.APPLICATION_SENT, Language.ENGLISH);
 
         assertThat(content.subject()).isEqualTo("Default");
         assertThat(content.bodyHtml()).isEqualTo("<p>Default</p>");
@@ -0,0 +1,152 @@
+package de.tum.cit.aet.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.notification.domain.OutboundEmail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private EmailService emailService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new MailOutboxDispatcher(
+            mailOutboxService,
+            emailService,
+            meterRegistry,
+            1,
+            10,
+            10,
+            2,
+            Duration.ofMinutes(1),
+            Duration.ofDays(7)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void poll_defersMessagesBeyondPerDomainLimit() {
+        OutboundEmail first = message("tum.de");
+        OutboundEmail second = message("tum.de");
+        OutboundEmail third = message("tum.de");
+        when(mailOutboxService.claimDueMessages(10)).thenReturn(List.of(first, second, third));
+        when(emailService.deliver(anyList())).thenReturn(Map.of());
+
+        dispatcher.poll();
+
+        verify(mailOutboxService).defer(eq(List.of(third.getOutboundEmailId())), any(LocalDateTime.class));
+        verify(mailOutboxService, timeout(5000)).markSent(List.of(first.getOutboundEmailId(), second.getOutboundEmailId()));
+        assertThat(meterRegistry.counter("tumapply.mail.outbox.messages", "outcome", "throttled").count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void poll_reschedulesFailedMessagesAndMarksOthersSent() {
+        OutboundEmail delivered = message("tum.de");
+        OutboundEmail rejected = message("example.org");
+        when(mailOutboxService.claimDueMessages(10)).thenReturn(List.of(delivered, rejected));
+        when(emailService.deliver(anyList()))
+            .thenReturn(Map.of())
+            .thenReturn(Map.of(rejected.getOutboundEmailId(), "550 mailbox unavailable"));
+        when(mailOutboxService.markFailed(rejected, "550 mailbox unavailable")).thenReturn(true);
+
+        dispatcher.poll();
+
+        verify(mailOutboxService, timeout(5000)).markFailed(rejected, "550 mailbox unavailable");
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(mailOutboxService, timeout(5000).times(2)).markSent(sent.capture());
+        assertThat(sent.getAllValues()).containsExactlyInAnyOrder(List.of(delivered.getOutboundEmailId()), List.of());
+        verify(mailOutboxService, never()).markFailed(eq(delivered), anyString());
+    }
+
+    @Test
+    void poll_marksDeliveredMessagesSentEvenIfRecordingAFailureThrows() {
+        OutboundEmail delivered = message("tum.de");
+        OutboundEmail rejected = message("tum.de");
+        OutboundEmail alsoRejected = message("tum.de");
+        when(mailOutboxService.claimDueMessages(10)).thenReturn(List.of(delivered, rejected, alsoRejected));
+        when(emailService.deliver(anyList())).thenReturn(
+            Map.of(rejected.getOutboundEmailId(), "550 mailbox unavailable", alsoRejected.getOutboundEmailId(), "550 mailbox unavailable")
+        );
+        when(mailOutboxService.markFailed(rejected, "550 mailbox unavailable")).thenThrow(new IllegalStateException("connection lost"));
+        when(mailOutboxService.markFailed(alsoRejected, "550 mailbox unavailable")).thenReturn(true);
+
+        // All three messages go to one domain, so they need a higher per-domain limit
+        dispatcher.shutdown();
+        dispatcher = new MailOutboxDispatcher(
+            mailOutboxService,
+            emailService,
+            meterRegistry,
+            1,
+            10,
+            10,
+            10,
+            Duration.ofMinutes(1),
+            Duration.ofDays(7)
+        );
+        dispatcher.poll();
+
+        verify(mailOutboxService, timeout(5000)).markFailed(alsoRejected, "550 mailbox unavailable");
+        verify(mailOutboxService).markSent(List.of(delivered.getOutboundEmailId()));
+    }
+
+    @Test
+    void poll_recordsRenderingFailureAndDeliversTheOtherMessages() {
+        OutboundEmail rendered = message("tum.de");
+        OutboundEmail broken = message("tum.de");
+        when(mailOutboxService.claimDueMessages(10)).thenReturn(List.of(rendered, broken));
+        doThrow(new IllegalStateException("template missing")).when(emailService).render(broken);
+        when(emailService.deliver(List.of(rendered))).thenReturn(Map.of());
+        when(mailOutboxService.markFailed(broken, "template missing")).thenReturn(true);
+
+        dispatcher.poll();
+
+        verify(mailOutboxService, timeout(5000)).markFailed(broken, "template missing");
+        verify(mailOutboxService).markSent(List.of(rendered.getOutboundEmailId()));
+    }
+
+    private static OutboundEmail message(String domain) {
+        OutboundEmail message = new OutboundEmail();
+        message.setOutboundEmailId(UUID.randomUUID());
+        message.setRecipientDomain(domain);
+        message.setToAddresses(List.of("someone@" + domain));
+        return message;
+    }
+}
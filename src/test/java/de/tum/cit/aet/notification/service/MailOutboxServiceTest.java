@@ -0,0 +1,89 @@
+package de.tum.cit.aet.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.notification.domain.OutboundEmail;
+import de.tum.cit.aet.notification.repository.OutboundEmailRepository;
+import de.tum.cit.aet.notification.service.mail.Email;
+import de.tum.cit.aet.usermanagement.domain.User;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private MailOutboxService mailOutboxService;
+
+    private final Email email = Email.builder().to(new User()).customSubject("Subject").customBody("Body").build();
+
+    @BeforeEach
+    void init() {
+        mailOutboxService = new MailOutboxService(outboundEmailRepository, emailService);
+    }
+
+    @Test
+    void emailIsQueuedInTheCallersTransaction() {
+        OutboundEmail message = message("applicant@example.org");
+        when(emailService.prepare(email)).thenReturn(message);
+
+        mailOutboxService.enqueue(email);
+
+        verify(outboundEmailRepository).save(message);
+        assertThat(message.getNextAttemptAt()).isNotNull();
+        verify(emailService, never()).render(any());
+    }
+
+    @Test
+    void preparationFailureIsLoggedAndNothingIsQueued() {
+        when(emailService.prepare(email)).thenThrow(new IllegalArgumentException("invalid address"));
+
+        assertThatCode(() -> mailOutboxService.enqueue(email)).doesNotThrowAnyException();
+
+        verify(outboundEmailRepository, never()).save(any(OutboundEmail.class));
+    }
+
+    @Test
+    void emailWithoutRecipientsIsNotQueued() {
+        when(emailService.prepare(email)).thenReturn(new OutboundEmail());
+
+        mailOutboxService.enqueue(email);
+
+        verify(outboundEmailRepository, never()).save(any(OutboundEmail.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueAllQueuesOnlyMessagesWithRecipients() {
+        OutboundEmail withRecipient = message("applicant@example.org");
+        when(emailService.prepareAll(List.of(email, email))).thenReturn(List.of(withRecipient, new OutboundEmail()));
+
+        mailOutboxService.enqueueAll(List.of(email, email));
+
+        ArgumentCaptor<List<OutboundEmail>> saved = ArgumentCaptor.forClass(List.class);
+        verify(outboundEmailRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(withRecipient);
+        assertThat(withRecipient.getNextAttemptAt()).isNotNull();
+    }
+
+    private static OutboundEmail message(String to) {
+        OutboundEmail message = new OutboundEmail();
+        message.setToAddresses(List.of(to));
+        return message;
+    }
+}
@@ -3,6 +3,7 @@ package de.tum.cit.aet.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import de.tum.cit.aet.application.domain.Application;
 import de.tum.cit.aet.core.constants.Language;
 import de.tum.cit.aet.core.exception.TemplateProcessingException;
@@ -12,6 +13,7 @@ import de.tum.cit.aet.usermanagement.domain.Applicant;
 import de.tum.cit.aet.usermanagement.domain.ResearchGroup;
 import de.tum.cit.aet.usermanagement.domain.User;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -65,6 +67,33 @@ class TemplateProcessingServiceTest {
             assertThat(rendered).contains("Hi Bob");
         }
 
+        @Test
+        void renderTemplate_reusesCompiledTemplateWithFreshDataModel() {
+            String body = "<p>Hi ${APPLICANT_FIRST_NAME}</p>";
+
+            String first = service.renderTemplate(Language.ENGLISH, body, sampleApplication("Bob", "Smith"));
+            Template compiled = singleCompiledTemplate();
+            String second = service.renderTemplate(Language.ENGLISH, body, sampleApplication("Carol", "Smith"));
+            String german = service.renderTemplate(Language.GERMAN, body, sampleApplication("Dave", "Smith"));
+
+            assertThat(first).contains("Hi Bob");
+            assertThat(second).contains("Hi Carol").doesNotContain("Hi Bob");
+            assertThat(german).contains("Hi Dave");
+            // Both languages are rendered from the template compiled for the first render
+            assertThat(singleCompiledTemplate()).isSameAs(compiled);
+        }
+
+        @Test
+        void renderTemplate_compilesEditedSourceSeparately() {
+            Application application = sampleApplication("Bob", "Smith");
+            service.renderTemplate(Language.ENGLISH, "<p>Hi ${APPLICANT_FIRST_NAME}</p>", application);
+
+            String edited = service.renderTemplate(Language.ENGLISH, "<p>Hello ${APPLICANT_FIRST_NAME}</p>", application);
+
+            assertThat(edited).contains("Hello Bob");
+            assertThat(compiledTemplates().asMap()).hasSize(2);
+        }
+
         @Test
         void renderTemplate_throwsOnUnsupportedContentType() {
             assertThatThrownBy(() -> service.renderTemplate(Language.ENGLISH, "<p>Hi</p>", "unsupported")).isInstanceOf(
@@ -112,6 +141,16 @@ class TemplateProcessingServiceTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Template> compiledTemplates() {
+        return (Cache<Object, Template>) ReflectionTestUtils.getField(service, "compiledTemplates");
+    }
+
+    private Template singleCompiledTemplate() {
+        assertThat(compiledTemplates().asMap()).hasSize(1);
+        return compiledTemplates().asMap().values().iterator().next();
+    }
+
     private Application sampleApplication(String firstName, String lastName) {
         User user = new User();
         user.setFirstName(firstName);
@@ -0,0 +1,71 @@
+package de.tum.cit.aet.usermanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import de.tum.cit.aet.usermanagement.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserActivityTrackerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserActivityTracker tracker;
+
+    @BeforeEach
+    void init() {
+        tracker = new UserActivityTracker(userRepository, 500);
+    }
+
+    @Test
+    void recentlyPersistedActivityIsNotQueued() {
+        tracker.touch(UUID.randomUUID(), LocalDateTime.now(ZoneOffset.UTC).minusHours(1));
+
+        tracker.flush();
+
+        verify(userRepository, never()).advanceLastActivityAt(anyCollection(), any(), any());
+    }
+
+    @Test
+    void staleOrUnknownActivityIsAdvancedOnlyWhenOlderThanTheThreshold() {
+        UUID stale = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        tracker.touch(stale, LocalDateTime.now(ZoneOffset.UTC).minusDays(2));
+        tracker.touch(unknown);
+
+        tracker.flush();
+
+        ArgumentCaptor<Collection<UUID>> userIds = ArgumentCaptor.captor();
+        ArgumentCaptor<LocalDateTime> lastActivityAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(userRepository).advanceLastActivityAt(userIds.capture(), lastActivityAt.capture(), staleBefore.capture());
+        assertThat(userIds.getValue()).containsExactlyInAnyOrder(stale, unknown);
+        assertThat(staleBefore.getValue()).isEqualTo(lastActivityAt.getValue().minus(UserService.LAST_ACTIVITY_UPDATE_THRESHOLD));
+    }
+
+    @Test
+    void flushedUsersAreNotQueuedAgainWithinTheThreshold() {
+        UUID userId = UUID.randomUUID();
+        tracker.touch(userId);
+        tracker.flush();
+
+        tracker.touch(userId);
+        tracker.flush();
+
+        verify(userRepository).advanceLastActivityAt(anyCollection(), any(), any());
+    }
+}
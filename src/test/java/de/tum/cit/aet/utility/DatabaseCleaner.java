@@ -28,6 +28,7 @@ public class DatabaseCleaner {
         "interview_processes",
         "interview_slots",
         "jobs",
+        "outbound_emails",
         "applicant_subject_area_subscriptions",
         "ratings",
         "reference_requests",
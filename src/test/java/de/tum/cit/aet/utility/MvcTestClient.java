@@ -215,6 +215,7 @@ public class MvcTestClient {
             return switch (expectedStatus) {
                 case 200 -> action.andExpect(status().isOk()).andReturn().getResponse();
                 case 204 -> action.andExpect(status().isNoContent()).andReturn().getResponse();
+                case 304 -> action.andExpect(status().isNotModified()).andReturn().getResponse();
                 case 400 -> action.andExpect(status().isBadRequest()).andReturn().getResponse();
                 case 401 -> action.andExpect(status().isUnauthorized()).andReturn().getResponse();
                 case 403 -> action.andExpect(status().isForbidden()).andReturn().getResponse();
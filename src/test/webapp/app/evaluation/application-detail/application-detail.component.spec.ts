@@ -53,6 +53,7 @@ describe('ApplicationDetailComponent', () => {
       getAllJobNames: vi.fn().mockReturnValue(of(['Job B', 'Job A'])),
       getApplicationsDetails: vi.fn().mockReturnValue(of({ applications: [makeDetailApp('1')], totalRecords: 10 })),
       getApplicationsDetailsWindow: vi.fn().mockReturnValue(of({ applications: [makeDetailApp('1')], totalRecords: 10 })),
+      getAdjacentApplicationsDetails: vi.fn().mockReturnValue(of({ applications: [makeDetailApp('4')] })),
       acceptApplication: vi.fn().mockReturnValue(of({})),
       rejectApplication: vi.fn().mockReturnValue(of({})),
       markApplicationAsInReview: vi.fn().mockReturnValue(of({})),
@@ -227,7 +228,7 @@ describe('ApplicationDetailComponent', () => {
     });
 
     it('should call loadNext when currentIndex + half < totalRecords', () => {
-      const spy = vi.spyOn(component as unknown as { loadNext: (i: number) => Promise<void> }, 'loadNext').mockResolvedValue(undefined);
+      const spy = vi.spyOn(component as unknown as { loadNext: () => Promise<void> }, 'loadNext').mockResolvedValue(undefined);
 
       component.applications.set([makeDetailApp('1'), makeDetailApp('2'), makeDetailApp('3')]);
       component.totalRecords.set(10);
@@ -235,11 +236,11 @@ describe('ApplicationDetailComponent', () => {
       component.carouselIndex.set(0);
       component.currentApplication.set(component.applications()[0]);
       component.onNext();
-      expect(spy).toHaveBeenCalledWith(component.currentIndex() + component.half);
+      expect(spy).toHaveBeenCalledOnce();
     });
 
     it('should call loadPrev when currentIndex - half >= 0', () => {
-      const spy = vi.spyOn(component as unknown as { loadPrev: (i: number) => Promise<void> }, 'loadPrev').mockResolvedValue(undefined);
+      const spy = vi.spyOn(component as unknown as { loadPrev: () => Promise<void> }, 'loadPrev').mockResolvedValue(undefined);
 
       component.applications.set(Array.from({ length: 7 }, (_, i) => makeDetailApp(`${i}`)));
       component.totalRecords.set(7);
@@ -247,7 +248,40 @@ describe('ApplicationDetailComponent', () => {
       component.carouselIndex.set(4);
       component.currentApplication.set(component.applications()[4]);
       component.onPrev();
-      expect(spy).toHaveBeenCalledWith(component.currentIndex() - component.half);
+      expect(spy).toHaveBeenCalledOnce();
+    });
+
+    it('should load the next application from the cursor of the last carousel entry', async () => {
+      const last = { ...makeDetailApp('3'), cursor: 'cursor-3' };
+      component.applications.set([makeDetailApp('1'), makeDetailApp('2'), last]);
+      component.carouselIndex.set(1);
+      const testComp = component as unknown as {
+        loadNext: () => Promise<void>;
+        updateDocumentInformation: (id: string) => void;
+      };
+      vi.spyOn(testComp, 'updateDocumentInformation').mockImplementation(() => {});
+
+      await testComp.loadNext();
+
+      expect(evaluationApi.getAdjacentApplicationsDetails).toHaveBeenCalledWith(
+        'cursor-3',
+        'NEXT',
+        1,
+        component.sortBy(),
+        component.sortDirection(),
+        undefined,
+        undefined,
+        undefined,
+      );
+      expect(component.applications().map(app => app.applicationDetailDTO.applicationId)).toEqual(['1', '2', '3', '4']);
+    });
+
+    it('should not request a previous application without a cursor', async () => {
+      component.applications.set([makeDetailApp('1')]);
+
+      await (component as unknown as { loadPrev: () => Promise<void> }).loadPrev();
+
+      expect(evaluationApi.getAdjacentApplicationsDetails).not.toHaveBeenCalled();
     });
   });
 